@@ -17,10 +17,13 @@
 
 package io.kikwiflow.api.command;
 
+import io.kikwiflow.api.dto.BatchCorrelateEventRequest;
 import io.kikwiflow.api.dto.CorrelateEventRequest;
+import io.kikwiflow.model.execution.CorrelationBatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 
 public interface EventCorrelationOperationsApi {
     ProcessInstance correlateEvent(String correlationKey, CorrelateEventRequest correlateEventRequest, IdentityContext identityContext);
+    CorrelationBatchResult correlateEvents(BatchCorrelateEventRequest batchCorrelateEventRequest, IdentityContext identityContext);
 }
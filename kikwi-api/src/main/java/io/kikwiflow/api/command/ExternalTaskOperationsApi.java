@@ -17,7 +17,9 @@
 
 package io.kikwiflow.api.command;
 
+import io.kikwiflow.api.dto.BulkCompleteExternalTasksRequest;
 import io.kikwiflow.api.dto.CompleteExternalTaskRequest;
+import io.kikwiflow.model.execution.BatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 
@@ -25,5 +27,6 @@ public interface ExternalTaskOperationsApi {
     void claim(String id, String assignee, IdentityContext identityContext);
     void unclaim(String id, IdentityContext identityContext);
     ProcessInstance completeExternalTask(String id, CompleteExternalTaskRequest completeExternalTaskRequest, IdentityContext identityContext);
+    BatchResult completeExternalTasks(BulkCompleteExternalTasksRequest bulkCompleteExternalTasksRequest, IdentityContext identityContext);
 
 }
@@ -30,12 +30,15 @@ import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.model.stats.KKFMetrics;
 import io.kikwiflow.persistence.InMemoryKikwiEngineRepository;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
 import io.kikwiflow.persistence.api.query.ExternalTaskQuery;
 import io.kikwiflow.persistence.api.query.ProcessInstanceQuery;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -122,6 +125,11 @@ public class AssertableKikwiEngine implements KikwiEngineRepository {
         return inMemoryKikwiEngineRepository.findProcessInstancesByIdIn(ids);
     }
 
+    @Override
+    public List<ExternalTask> findExternalTasksByIdIn(List<String> ids) {
+        return inMemoryKikwiEngineRepository.findExternalTasksByIdIn(ids);
+    }
+
     @Override
     public List<ExternalTask> findExternalTasksByProcessInstanceId(String processInstanceId) {
         return inMemoryKikwiEngineRepository.findExternalTasksByProcessInstanceId(processInstanceId);
@@ -143,8 +151,39 @@ public class AssertableKikwiEngine implements KikwiEngineRepository {
     }
 
     @Override
-    public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis) {
-        return this.inMemoryKikwiEngineRepository.findAndLockDueTasks(now, limit, workerId, lockTimeoutMillis);
+    public void commitNewInstances(List<UnitOfWork> unitsOfWork) {
+        this.inMemoryKikwiEngineRepository.commitNewInstances(unitsOfWork);
+    }
+
+    @Override
+    public void commitWorkBatch(List<UnitOfWork> unitsOfWork) {
+        this.inMemoryKikwiEngineRepository.commitWorkBatch(unitsOfWork);
+    }
+
+    @Override
+    public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis,
+                                                    TaskAcquisitionCriteria criteria) {
+        return this.inMemoryKikwiEngineRepository.findAndLockDueTasks(now, limit, workerId, lockTimeoutMillis, criteria);
+    }
+
+    @Override
+    public long renewLocks(List<String> taskIds, String workerId, Instant acquiredAt) {
+        return this.inMemoryKikwiEngineRepository.renewLocks(taskIds, workerId, acquiredAt);
+    }
+
+    @Override
+    public long releaseLocks(List<String> taskIds, String workerId) {
+        return this.inMemoryKikwiEngineRepository.releaseLocks(taskIds, workerId);
+    }
+
+    @Override
+    public List<String> heartbeatAcquisitionMember(String memberId, Instant now, long memberTtlMillis) {
+        return this.inMemoryKikwiEngineRepository.heartbeatAcquisitionMember(memberId, now, memberTtlMillis);
+    }
+
+    @Override
+    public void removeAcquisitionMember(String memberId) {
+        this.inMemoryKikwiEngineRepository.removeAcquisitionMember(memberId);
     }
 
     @Override
@@ -177,6 +216,11 @@ public class AssertableKikwiEngine implements KikwiEngineRepository {
         return inMemoryKikwiEngineRepository.findExternalTaskByCorrelationKey(correlationKey, tenantId);
     }
 
+    @Override
+    public List<ExternalTask> findExternalTasksByCorrelationKeys(Collection<String> correlationKeys, String tenantId) {
+        return inMemoryKikwiEngineRepository.findExternalTasksByCorrelationKeys(correlationKeys, tenantId);
+    }
+
     @Override
     public boolean resolveCorrelationChild(String childTaskId, String parentTaskId, MatchPolicy matchPolicy) {
         return inMemoryKikwiEngineRepository.resolveCorrelationChild(childTaskId, parentTaskId, matchPolicy);
@@ -257,6 +301,11 @@ public class AssertableKikwiEngine implements KikwiEngineRepository {
         return inMemoryKikwiEngineRepository.findExecutableTasksByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<LoopElementChunk> findLoopElementChunks(String coordinatorTaskId, int fromIndex, int count) {
+        return inMemoryKikwiEngineRepository.findLoopElementChunks(coordinatorTaskId, fromIndex, count);
+    }
+
     @Override
     public List<OutboxEventEntity> findEventHistoryByProcessInstanceId(String processInstanceId) {
         return this.inMemoryKikwiEngineRepository.findEventHistoryByProcessInstanceId(processInstanceId);
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.AsyncKikwiflowEngine;
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.security.IdentityContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta a fachada {@code KikwiflowEngine.async()}: comandos em virtual threads devolvendo
+ * {@link CompletableFuture}, encadeáveis entre si, e com prazo que interrompe o comando em andamento.
+ */
+@DisplayName("Dada a fachada assíncrona de comandos do engine")
+class AsyncEngineFacadeTest {
+
+    private static final IdentityContext IDENTITY = new IdentityContext("back-office", null);
+
+    @Test
+    @DisplayName("Quando o início e a conclusão da tarefa externa são encadeados, então o processo conclui")
+    void pipelinesStartAndExternalTaskCompletion() throws Exception {
+        TestEngine testEngine = SingletonsFactory.engine().build();
+        ProcessDefinition definition = testEngine.deploy("/processes/external-task-wait.json");
+        AsyncKikwiflowEngine async = testEngine.engine().async();
+
+        ProcessInstance started = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-ASYNC-PIPELINE")
+                .executeAsync()
+                .get(5, TimeUnit.SECONDS);
+
+        String taskId = testEngine.repository().findExternalTasksByProcessInstanceId(started.id()).get(0).id();
+        async.completeExternalTask(taskId, Map.of("approved", new ProcessVariable("approved", true)), IDENTITY)
+                .get(5, TimeUnit.SECONDS);
+
+        testEngine.repository().assertThatProcessInstanceIsCompleted(started.id());
+    }
+
+    @Test
+    @DisplayName("Quando muitos inícios são submetidos de uma vez, então todos concluem sem bloquear o chamador")
+    void runsManyStartsConcurrently() {
+        TestEngine testEngine = SingletonsFactory.engine().build();
+        ProcessDefinition definition = testEngine.deploy("/processes/external-task-wait.json");
+
+        List<CompletableFuture<ProcessInstance>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(testEngine.engine().startProcess()
+                    .byKey(definition.key())
+                    .withBusinessKey("BK-ASYNC-" + i)
+                    .executeAsync());
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        for (CompletableFuture<ProcessInstance> future : futures) {
+            testEngine.repository().assertHasActiveExternalTaskOn(future.join().id(), "WAIT_FOR_INPUT");
+        }
+    }
+
+    @Test
+    @DisplayName("Quando o comando estoura o prazo, então o future falha com TimeoutException e o comando é interrompido")
+    void timesOutAndInterruptsTheRunningCommand() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        TestEngine testEngine = SingletonsFactory.engine()
+                .withTaskHandler("taskAHandler", ctx -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw new IllegalStateException("Comando interrompido", e);
+                    }
+                })
+                .withTaskHandler("taskBHandler", ctx -> {})
+                .build();
+        ProcessDefinition definition = testEngine.deploy("/processes/commit-after-forces-async.json");
+
+        CompletableFuture<ProcessInstance> future = testEngine.engine().async()
+                .withTimeout(Duration.ofMillis(50))
+                .submit(testEngine.engine().startProcess()
+                        .byKey(definition.key())
+                        .withBusinessKey("BK-ASYNC-TIMEOUT")::execute);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "A virtual thread do comando expirado é interrompida.");
+    }
+}
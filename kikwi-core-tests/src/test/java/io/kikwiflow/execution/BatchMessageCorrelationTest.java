@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.execution.CorrelationBatchResult;
+import io.kikwiflow.model.execution.CorrelationItemResult;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.CorrelationOutcome;
+import io.kikwiflow.model.security.IdentityContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta a correlação em lote ({@code correlateMessages()}): todas as chaves resolvidas numa consulta, as
+ * continuações gravadas em blocos, e um desfecho por chave — {@code MATCHED}, {@code PENDING} (grupo ainda
+ * aguardando outras chaves) ou {@code NOT_FOUND} — em vez de exceção.
+ */
+@DisplayName("Dado um lote de entregas de correlação")
+class BatchMessageCorrelationTest {
+
+    private static final IdentityContext IDENTITY = new IdentityContext("test-actor", "tenant-a");
+
+    @Test
+    @DisplayName("Quando as chaves aguardam EVENT_CATCHERs standalone, então cada uma é correlacionada e as desconhecidas ou repetidas voltam NOT_FOUND")
+    void correlatesStandaloneKeysAcrossChunks() {
+        TestEngine testEngine = SingletonsFactory.engine().build();
+        ProcessDefinition definition = testEngine.deploy("/processes/event-catcher-standalone.json");
+
+        ProcessInstance first = startStandalone(testEngine, definition, "1");
+        ProcessInstance second = startStandalone(testEngine, definition, "2");
+        ProcessInstance third = startStandalone(testEngine, definition, "3");
+
+        CorrelationBatchResult result = testEngine.engine().correlateMessages(IDENTITY)
+                .chunkSize(2)
+                .add("ORDER_1_PAID", Map.of("paymentStatus", new ProcessVariable("paymentStatus", "CONFIRMED")))
+                .add("ORDER_2_PAID", Map.of())
+                .add("ORDER_UNKNOWN_PAID", Map.of())
+                .add("ORDER_3_PAID", Map.of())
+                .add("ORDER_1_PAID", Map.of())
+                .execute();
+
+        assertEquals(3, result.matched());
+        assertEquals(0, result.pending());
+        assertEquals(2, result.notFound());
+        assertEquals(0, result.failed());
+
+        List<CorrelationItemResult> items = result.items();
+        assertEquals(CorrelationOutcome.MATCHED, items.get(0).outcome());
+        assertEquals(first.id(), items.get(0).processInstanceId());
+        assertEquals(CorrelationOutcome.MATCHED, items.get(1).outcome());
+        assertEquals(second.id(), items.get(1).processInstanceId());
+        assertEquals(CorrelationOutcome.NOT_FOUND, items.get(2).outcome());
+        assertEquals(CorrelationOutcome.MATCHED, items.get(3).outcome());
+        assertEquals(third.id(), items.get(3).processInstanceId());
+        assertEquals(CorrelationOutcome.NOT_FOUND, items.get(4).outcome(),
+                "Entrega repetida da mesma chave no lote segue a idempotência do correlateMessage unitário.");
+
+        for (ProcessInstance instance : List.of(first, second, third)) {
+            testEngine.repository().assertHasntActiveExternalTaskOn(instance.id(), "WAIT_ORDER_PAID");
+        }
+    }
+
+    @Test
+    @DisplayName("Quando duas chaves do lote resolvem o mesmo grupo ALL, então a primeira fica PENDING e a segunda conclui o grupo")
+    void resolvesGroupKeysOfTheSameInstanceInOrder() {
+        TestEngine testEngine = SingletonsFactory.engine().build();
+        ProcessDefinition definition = testEngine.deploy("/processes/event-catcher-group-all.json");
+
+        ProcessInstance instance = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-BATCH-GROUP")
+                .onTenant("tenant-a")
+                .withVariables(Map.of("productIds", new ProcessVariable("productIds", List.of("CARD_123", "LOAN_456"))))
+                .execute();
+
+        CorrelationBatchResult result = testEngine.engine().correlateMessages(IDENTITY)
+                .add("PROD_CARD_123_ACTIVATED", Map.of())
+                .add("PROD_LOAN_456_ACTIVATED", Map.of())
+                .execute();
+
+        assertEquals(CorrelationOutcome.PENDING, result.items().get(0).outcome());
+        assertEquals(instance.id(), result.items().get(0).processInstanceId());
+        assertEquals(CorrelationOutcome.MATCHED, result.items().get(1).outcome());
+        testEngine.repository().assertEventCatcherResolved(instance.id(), "WAIT_ALL_PRODUCTS");
+    }
+
+    @Test
+    @DisplayName("Quando a instância muda entre a carga do bloco e o commit, então a conclusão é regravada sobre o estado atual em vez de falhar")
+    void rebasesACompletionWhoseInstanceChangedBeforeTheChunkCommit() {
+        AtomicReference<TestEngine> engineRef = new AtomicReference<>();
+        AtomicInteger afterPaymentRuns = new AtomicInteger();
+        TestEngine testEngine = SingletonsFactory.engine()
+                .withTaskHandler("afterPaymentHandler", ctx -> {
+                    if (afterPaymentRuns.incrementAndGet() == 1) {
+                        // Simula outro comando gravando a instância enquanto o bloco ainda não foi commitado.
+                        engineRef.get().engine().setVariables(ctx.getProcessInstanceId(),
+                                Map.of("auditedBy", new ProcessVariable("auditedBy", "auditor-1")), IDENTITY);
+                    }
+                })
+                .withTaskHandler("shipOrderHandler", ctx -> {})
+                .build();
+        engineRef.set(testEngine);
+        ProcessDefinition definition = testEngine.deploy("/processes/event-catcher-standalone-then-tasks.json");
+
+        ProcessInstance first = startStandalone(testEngine, definition, "1");
+        ProcessInstance second = startStandalone(testEngine, definition, "2");
+
+        CorrelationBatchResult result = testEngine.engine().correlateMessages(IDENTITY)
+                .add("ORDER_1_PAID", Map.of())
+                .add("ORDER_2_PAID", Map.of())
+                .execute();
+
+        assertEquals(2, result.matched(), "O conflito de versão não deveria chegar a quem chamou: " + result.items());
+        assertEquals(0, result.failed());
+        assertEquals(2, afterPaymentRuns.get(), "A conclusão cuja instância mudou é regravada sem rodar o handler de novo.");
+
+        ProcessInstance stored = testEngine.repository().findProcessInstanceById(first.id()).orElseThrow();
+        assertEquals("auditor-1", stored.variables().get("auditedBy").value(),
+                "A regravação parte do estado atual — a variável gravada no meio tempo não é sobrescrita.");
+        for (ProcessInstance instance : List.of(first, second)) {
+            testEngine.repository().assertHasntActiveExternalTaskOn(instance.id(), "WAIT_ORDER_PAID");
+            assertTrue(testEngine.repository().findExecutableTasksByProcessInstanceId(instance.id()).stream()
+                    .anyMatch(t -> "SHIP_ORDER".equals(t.taskDefinitionId())));
+        }
+    }
+
+    private ProcessInstance startStandalone(TestEngine testEngine, ProcessDefinition definition, String orderId) {
+        return testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-BATCH-" + orderId)
+                .onTenant("tenant-a")
+                .withVariables(Map.of("orderId", new ProcessVariable("orderId", orderId)))
+                .execute();
+    }
+}
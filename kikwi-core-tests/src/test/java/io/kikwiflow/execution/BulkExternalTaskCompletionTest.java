@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.exception.TaskNotFoundException;
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.execution.BatchItemResult;
+import io.kikwiflow.model.execution.BatchResult;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.node.ExternalTask;
+import io.kikwiflow.model.security.IdentityContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta a conclusão em lote de tarefas externas ({@code completeExternalTasks()}): tarefas e instâncias
+ * carregadas por bloco, continuações gravadas numa transação por bloco, e um resultado por tarefa — tarefas
+ * inexistentes, repetidas ou de outro tenant viram falhas do próprio item, sem derrubar o lote.
+ */
+@DisplayName("Dado um lote de tarefas externas aguardando conclusão")
+class BulkExternalTaskCompletionTest {
+
+    private static final IdentityContext IDENTITY = new IdentityContext("back-office", null);
+
+    private TestEngine testEngine;
+    private ProcessDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        testEngine = SingletonsFactory.engine().build();
+        definition = testEngine.deploy("/processes/external-task-wait.json");
+    }
+
+    @Test
+    @DisplayName("Quando as tarefas existem, então todas são completadas em blocos e os processos concluem")
+    void completesEveryTaskAcrossChunksConcurrently() {
+        List<ProcessInstance> instances = new ArrayList<>();
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            ProcessInstance instance = testEngine.engine().startProcess()
+                    .byKey(definition.key())
+                    .withBusinessKey("BK-BULK-COMPLETE-" + i)
+                    .execute();
+            instances.add(instance);
+            taskIds.add(testEngine.repository().findExternalTasksByProcessInstanceId(instance.id()).get(0).id());
+        }
+
+        KikwiflowEngine.BulkExternalTaskCompleter completer = testEngine.engine().completeExternalTasks(IDENTITY)
+                .chunkSize(2)
+                .maxConcurrency(4);
+        taskIds.forEach(id -> completer.add(id, Map.of("approved", new ProcessVariable("approved", true))));
+        BatchResult result = completer.execute();
+
+        assertEquals(5, result.succeeded());
+        assertEquals(0, result.failed());
+        for (int i = 0; i < 5; i++) {
+            BatchItemResult item = result.items().get(i);
+            assertEquals(taskIds.get(i), item.key(), "Os resultados seguem a ordem de entrada.");
+            assertEquals(instances.get(i).id(), item.processInstanceId());
+            testEngine.repository().assertThatProcessInstanceIsCompleted(instances.get(i).id());
+        }
+    }
+
+    @Test
+    @DisplayName("Quando o lote traz tarefa inexistente, repetida ou de outro tenant, então só esses itens falham")
+    void reportsInvalidTasksPerItem() {
+        ProcessInstance instance = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-BULK-COMPLETE-OK")
+                .execute();
+        ExternalTask task = testEngine.repository().findExternalTasksByProcessInstanceId(instance.id()).get(0);
+
+        ProcessInstance otherTenantInstance = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-BULK-COMPLETE-TENANT")
+                .onTenant("tenant-b")
+                .execute();
+        ExternalTask otherTenantTask = testEngine.repository().findExternalTasksByProcessInstanceId(otherTenantInstance.id()).get(0);
+
+        BatchResult result = testEngine.engine().completeExternalTasks(IDENTITY)
+                .add(task.id(), Map.of())
+                .add("missing-task", Map.of())
+                .add(otherTenantTask.id(), Map.of())
+                .add(task.id(), Map.of())
+                .execute();
+
+        assertEquals(1, result.succeeded());
+        assertEquals(3, result.failed());
+
+        assertTrue(result.items().get(0).succeeded());
+        assertEquals(TaskNotFoundException.class.getName(), result.items().get(1).errorType());
+        assertEquals(SecurityException.class.getName(), result.items().get(2).errorType());
+        assertFalse(result.items().get(3).succeeded(), "A mesma tarefa repetida no lote só é completada uma vez.");
+        assertEquals(TaskNotFoundException.class.getName(), result.items().get(3).errorType());
+
+        testEngine.repository().assertThatProcessInstanceIsCompleted(instance.id());
+        testEngine.repository().assertHasActiveExternalTaskOn(otherTenantInstance.id(), "WAIT_FOR_INPUT");
+    }
+}
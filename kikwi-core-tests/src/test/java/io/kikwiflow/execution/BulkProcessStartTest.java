@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.execution.BatchItemResult;
+import io.kikwiflow.model.execution.BatchResult;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta o início em lote ({@code startProcesses()}): cada item roda seu segmento síncrono inicial como num
+ * {@code startProcess()} comum, mas os commits são agrupados em blocos gravados de uma vez. Falhas são reportadas
+ * por item, sem derrubar o restante do lote.
+ */
+@DisplayName("Dado um processo cujo primeiro nó roda no segmento síncrono e o segundo fica para depois do commit")
+class BulkProcessStartTest {
+
+    private TestEngine engine() {
+        return SingletonsFactory.engine()
+                .withTaskHandler("taskAHandler", ctx -> {
+                    String customer = (String) ctx.getVariable("customer").value();
+                    if (customer.startsWith("BLOCKED")) {
+                        throw new IllegalStateException("Cliente bloqueado: " + customer);
+                    }
+                    ctx.setVariable("stepA", new ProcessVariable("stepA", customer));
+                })
+                .withTaskHandler("taskBHandler", ctx -> {})
+                .build();
+    }
+
+    private static Map<String, ProcessVariable> customer(String customer) {
+        return Map.of("customer", new ProcessVariable("customer", customer));
+    }
+
+    @Test
+    @DisplayName("Quando todos os itens rodam, então cada um vira uma instância gravada com sua tarefa pendente, em blocos")
+    void startsEveryItemAcrossSeveralChunks() {
+        TestEngine testEngine = engine();
+        ProcessDefinition definition = testEngine.deploy("/processes/commit-after-forces-async.json");
+
+        KikwiflowEngine.BulkProcessStarter starter = testEngine.engine().startProcesses()
+                .byKey(definition.key())
+                .chunkSize(2);
+        for (int i = 1; i <= 5; i++) {
+            starter.add("BK-BULK-" + i, customer("C-" + i));
+        }
+        BatchResult result = starter.execute();
+
+        assertEquals(5, result.succeeded());
+        assertEquals(0, result.failed());
+        assertEquals(5, result.items().size());
+
+        for (int i = 0; i < 5; i++) {
+            BatchItemResult item = result.items().get(i);
+            assertEquals(i, item.index(), "Os resultados seguem a ordem de entrada.");
+            assertEquals("BK-BULK-" + (i + 1), item.key());
+            assertTrue(item.succeeded());
+
+            ProcessInstance persisted = testEngine.repository().findProcessInstanceById(item.processInstanceId())
+                    .orElseThrow(() -> new AssertionError("Instância do item " + item.key() + " não foi gravada."));
+            assertEquals("C-" + (i + 1), persisted.variables().get("stepA").value(),
+                    "O segmento síncrono rodou antes do commit.");
+
+            List<ExecutableTask> tasks = testEngine.repository().findExecutableTasksByProcessInstanceId(item.processInstanceId());
+            assertEquals(1, tasks.size());
+            assertEquals("TASK_B", tasks.get(0).taskDefinitionId());
+        }
+    }
+
+    @Test
+    @DisplayName("Quando um item falha no segmento síncrono, então só ele é reportado como falha e os demais são gravados")
+    void reportsFailuresPerItem() {
+        TestEngine testEngine = engine();
+        ProcessDefinition definition = testEngine.deploy("/processes/commit-after-forces-async.json");
+
+        BatchResult result = testEngine.engine().startProcesses()
+                .byKey(definition.key())
+                .add("BK-OK-1", customer("C-1"))
+                .add("BK-FAIL-2", customer("BLOCKED-2"))
+                .add("BK-OK-3", customer("C-3"))
+                .execute();
+
+        assertEquals(2, result.succeeded());
+        assertEquals(1, result.failed());
+
+        BatchItemResult failure = result.items().get(1);
+        assertFalse(failure.succeeded());
+        assertEquals("BK-FAIL-2", failure.key());
+        assertNull(failure.processInstanceId());
+        assertEquals(IllegalStateException.class.getName(), failure.errorType());
+        assertEquals("Cliente bloqueado: BLOCKED-2", failure.errorMessage());
+
+        assertEquals(2, testEngine.repository().countProcessInstancesByProcessDefinition(definition.id()));
+        assertTrue(testEngine.repository().findProcessInstanceById(result.items().get(0).processInstanceId()).isPresent());
+        assertTrue(testEngine.repository().findProcessInstanceById(result.items().get(2).processInstanceId()).isPresent());
+    }
+}
@@ -22,6 +22,7 @@ import io.kikwiflow.exception.ProcessInstanceNotFoundException;
 import io.kikwiflow.factory.SingletonsFactory;
 import io.kikwiflow.factory.TestEngine;
 import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.CallActivityDefinition;
 import io.kikwiflow.model.event.OrphanedChildCompletion;
 import io.kikwiflow.model.event.OutboxEventEntity;
 import io.kikwiflow.model.event.ProcessInstanceFinished;
@@ -32,6 +33,7 @@ import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
 import io.kikwiflow.model.execution.enumerated.ExecutableTaskType;
 import io.kikwiflow.model.execution.enumerated.ProcessInstanceStatus;
 import io.kikwiflow.model.execution.node.ExecutableTask;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -46,6 +48,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -286,6 +289,26 @@ class CallActivityCoordinatorTest {
             assertEquals("REQ-99", childInstance.variables().get("requestId").value());
         }
 
+        @Test
+        @DisplayName("Sem maxConcurrency, o filho recebe a coleção, o elemento e as variáveis do pai, sem loopIndex")
+        void unboundedFanOutKeepsTheChildVariables() {
+            ProcessDefinition parent = testEngine.deploy("/processes/call-activity-multi-child-parent.json");
+
+            ProcessInstance instance = testEngine.engine().startProcess()
+                    .byKey(parent.key())
+                    .withBusinessKey("BK-CA-MULTI-4")
+                    .withVariables(Map.of(
+                            "documents", new ProcessVariable("documents", List.of("doc-1.pdf", "doc-2.pdf")),
+                            "requestId", new ProcessVariable("requestId", "REQ-99")))
+                    .execute();
+
+            ExecutableTask starter = findTasksByType(instance.id(), ExecutableTaskType.CALL_ACTIVITY_STARTER).get(0);
+            ProcessInstance childInstance = testEngine.engine().executeFromTask(starter);
+
+            assertEquals(Set.of("documents", "requestId", "document"), childInstance.variables().keySet());
+            assertEquals(List.of("doc-1.pdf", "doc-2.pdf"), childInstance.variables().get("documents").value());
+        }
+
         @Test
         @DisplayName("Coleção vazia: coordenadora nasce direto PENDING, sem nenhuma iniciadora")
         void emptyCollectionSkipsTheWaitEntirely() {
@@ -653,6 +676,185 @@ class CallActivityCoordinatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("maxConcurrency em modo PARALLEL (no máximo K filhos em voo, janela deslizante)")
+    class BoundedConcurrency {
+
+        private TestEngine boundedEngine;
+
+        @BeforeEach
+        void setUpBoundedEngine() {
+            // Chunk de 2 elementos: com 5 documentos e maxConcurrency=2, os 3 restantes ficam em 2 chunks
+            // (índices 2-3 e 4), o que exercita tanto o consumo de um chunk inteiro quanto o de um parcial.
+            boundedEngine = SingletonsFactory.engine()
+                    .withConfig(config -> config.setCallActivityLoopElementChunkSize(2))
+                    .withTaskHandler("childTaskHandler", ctx -> childTaskRuns.incrementAndGet())
+                    .withTaskHandler("afterCallHandler", ctx -> afterCallRan.set(true))
+                    .build();
+            boundedEngine.deploy("/processes/call-activity-child-process.json");
+        }
+
+        private List<ExecutableTask> startersOf(String processInstanceId) {
+            return boundedEngine.repository().findExecutableTasksByProcessInstanceId(processInstanceId).stream()
+                    .filter(t -> t.type() == ExecutableTaskType.CALL_ACTIVITY_STARTER)
+                    .sorted(Comparator.comparing(ExecutableTask::loopIndex))
+                    .toList();
+        }
+
+        private ExecutableTask coordinatorOf(String processInstanceId) {
+            return boundedEngine.repository().findExecutableTasksByProcessInstanceId(processInstanceId).stream()
+                    .filter(t -> t.type() == ExecutableTaskType.CALL_ACTIVITY_COORDINATOR)
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("Esperava a coordenadora de CALL_CHILD."));
+        }
+
+        /**
+         * Executa a iniciadora (que cria o filho) e devolve a tarefa do filho, ainda não concluída.
+         */
+        private ExecutableTask startChild(ExecutableTask starter) {
+            ProcessInstance child = boundedEngine.engine().executeFromTask(starter);
+            return boundedEngine.repository().findExecutableTasksByProcessInstanceId(child.id()).stream()
+                    .filter(t -> "CHILD_TASK".equals(t.taskDefinitionId()))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        private void runChild(ExecutableTask starter) {
+            boundedEngine.engine().executeFromTask(startChild(starter));
+        }
+
+        private ProcessInstance startWithDocuments(String businessKey) {
+            ProcessDefinition parent = boundedEngine.deploy("/processes/call-activity-bounded-parent.json");
+            return boundedEngine.engine().startProcess()
+                    .byKey(parent.key())
+                    .withBusinessKey(businessKey)
+                    .withVariables(Map.of("documents", new ProcessVariable("documents",
+                            List.of("doc-1.pdf", "doc-2.pdf", "doc-3.pdf", "doc-4.pdf", "doc-5.pdf"))))
+                    .execute();
+        }
+
+        @Test
+        @DisplayName("O fan-out inicial cria só K iniciadoras e guarda os elementos restantes em chunks, fora da coordenadora")
+        void initialFanOutCreatesOnlyTheFirstWindowAndChunksTheRest() {
+            ProcessInstance instance = startWithDocuments("BK-CA-BOUNDED-1");
+
+            List<ExecutableTask> starters = startersOf(instance.id());
+            assertEquals(2, starters.size(), "Só maxConcurrency iniciadoras deveriam existir no fan-out inicial.");
+            assertEquals(List.of("doc-1.pdf", "doc-2.pdf"),
+                    starters.stream().map(t -> t.loopElement().value()).toList());
+
+            ExecutableTask coordinator = coordinatorOf(instance.id());
+            assertEquals(ExecutableTaskStatus.AWAITING_BRANCHES, coordinator.status());
+            assertEquals(2, coordinator.pendingBranchIds().size());
+            assertEquals(1, coordinator.loopIndex(), "loopIndex deveria apontar para o último elemento já disparado.");
+
+            List<LoopElementChunk> chunks = boundedEngine.repository().findLoopElementChunks(coordinator.id(), 2, 3);
+            assertEquals(2, chunks.size());
+            assertEquals(List.of(2, 4), chunks.stream().map(LoopElementChunk::firstIndex).toList());
+            assertEquals(List.of("doc-3.pdf", "doc-4.pdf", "doc-5.pdf"), chunks.stream()
+                    .flatMap(c -> c.elements().stream())
+                    .map(ProcessVariable::value)
+                    .toList());
+        }
+
+        @Test
+        @DisplayName("Cada filho que conclui inicia o próximo elemento no mesmo commit, sem esperar a janela esvaziar")
+        void eachFinishedChildStartsTheNextElement() {
+            ProcessInstance instance = startWithDocuments("BK-CA-BOUNDED-2");
+
+            runChild(startersOf(instance.id()).get(0));
+
+            List<ExecutableTask> starters = startersOf(instance.id());
+            assertEquals(List.of(1, 2), starters.stream().map(ExecutableTask::loopIndex).toList(),
+                    "O filho do índice 0 concluiu: a vaga dele vai para o índice 2, o 1 segue na fila.");
+            assertEquals("doc-3.pdf", starters.get(1).loopElement().value());
+
+            ExecutableTask coordinator = coordinatorOf(instance.id());
+            assertEquals(ExecutableTaskStatus.AWAITING_BRANCHES, coordinator.status());
+            assertEquals(2, coordinator.pendingBranchIds().size());
+            assertEquals(2, coordinator.loopIndex(), "O cursor avança um elemento por filho concluído.");
+            assertFalse(afterCallRan.get(), "AFTER_CALL não pode rodar enquanto houver elementos pendentes.");
+
+            // O bloco 2-3 ainda tem o índice 3 por iniciar.
+            assertEquals(List.of(2, 4), boundedEngine.repository().findLoopElementChunks(coordinator.id(), 0, 5).stream()
+                    .map(LoopElementChunk::firstIndex).toList());
+
+            runChild(starters.get(0));
+
+            assertEquals(List.of(2, 3), startersOf(instance.id()).stream().map(ExecutableTask::loopIndex).toList());
+            // O índice 3 fechou o bloco 2-3, que foi apagado; só resta o do índice 4.
+            assertEquals(List.of(4), boundedEngine.repository().findLoopElementChunks(coordinator.id(), 0, 5).stream()
+                    .map(LoopElementChunk::firstIndex).toList());
+        }
+
+        @Test
+        @DisplayName("Um filho lento só ocupa a própria vaga: a outra segue iniciando os elementos restantes")
+        void aSlowChildDoesNotHoldTheOtherSlot() {
+            ProcessInstance instance = startWithDocuments("BK-CA-BOUNDED-3");
+
+            List<ExecutableTask> firstWindow = startersOf(instance.id());
+            ExecutableTask slowChildTask = startChild(firstWindow.get(0));
+
+            ExecutableTask next = firstWindow.get(1);
+            for (int index = 2; index <= 4; index++) {
+                runChild(next);
+                List<ExecutableTask> starters = startersOf(instance.id());
+                assertEquals(1, starters.size(), "Com o filho lento em voo, só uma vaga fica livre.");
+                next = starters.get(0);
+                assertEquals(index, next.loopIndex());
+            }
+            runChild(next);
+
+            assertTrue(startersOf(instance.id()).isEmpty());
+            assertEquals(4, childTaskRuns.get());
+            ExecutableTask coordinator = coordinatorOf(instance.id());
+            assertEquals(ExecutableTaskStatus.AWAITING_BRANCHES, coordinator.status());
+            assertEquals(List.of(coordinator.id() + ":0"), coordinator.pendingBranchIds());
+
+            boundedEngine.engine().executeFromTask(slowChildTask);
+
+            ProcessInstance completed = boundedEngine.engine().executeFromTask(coordinatorOf(instance.id()));
+            assertEquals(ProcessInstanceStatus.COMPLETED, completed.status());
+            assertTrue(afterCallRan.get());
+        }
+
+        @Test
+        @DisplayName("Processando filho a filho, todos os N filhos rodam, os chunks somem e o pai conclui")
+        void allElementsRunAndTheParentCompletes() {
+            ProcessInstance instance = startWithDocuments("BK-CA-BOUNDED-4");
+            String coordinatorId = coordinatorOf(instance.id()).id();
+
+            List<ExecutableTask> starters = startersOf(instance.id());
+            while (!starters.isEmpty()) {
+                assertTrue(starters.size() <= 2, "Nunca mais que maxConcurrency iniciadoras ao mesmo tempo.");
+                runChild(starters.get(0));
+                starters = startersOf(instance.id());
+            }
+
+            ExecutableTask released = coordinatorOf(instance.id());
+            assertEquals(ExecutableTaskStatus.PENDING, released.status());
+            assertEquals(4, released.loopIndex());
+            ProcessInstance last = boundedEngine.engine().executeFromTask(released);
+
+            assertEquals(ProcessInstanceStatus.COMPLETED, last.status());
+            assertEquals(5, childTaskRuns.get());
+            assertTrue(afterCallRan.get());
+            assertTrue(boundedEngine.repository().findLoopElementChunks(coordinatorId, 0, 5).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Cada filho recebe só o seu elemento e o seu índice, nunca a coleção inteira")
+        void childReceivesOnlyItsElementAndIndex() {
+            ProcessInstance instance = startWithDocuments("BK-CA-BOUNDED-5");
+
+            ProcessInstance child = boundedEngine.engine().executeFromTask(startersOf(instance.id()).get(1));
+
+            assertEquals("doc-2.pdf", child.variables().get("document").value());
+            assertEquals(1, child.variables().get(CallActivityDefinition.LOOP_INDEX_VARIABLE).value());
+            assertFalse(child.variables().containsKey("documents"), "A coleção não pode ser copiada para o filho.");
+        }
+    }
+
     @Nested
     @DisplayName("Regras de validação em deploy-time")
     class DeployValidation {
@@ -673,6 +875,14 @@ class CallActivityCoordinatorTest {
             assertInstanceOf(InvalidProcessDefinitionException.class, thrown.getCause());
         }
 
+        @Test
+        @DisplayName("maxConcurrency em modo SEQUENTIAL é rejeitado")
+        void maxConcurrencyInSequentialModeIsRejected() {
+            RuntimeException thrown = assertThrows(RuntimeException.class, () ->
+                    testEngine.deploy("/processes/call-activity-sequential-max-concurrency.json"));
+            assertInstanceOf(InvalidProcessDefinitionException.class, thrown.getCause());
+        }
+
         @Test
         @DisplayName("Um BOUNDARY_INTERRUPTIVE_CATCH_EVENT anexado ao coordenador agora é rejeitado em deploy-time, não só em runtime")
         void interruptiveCatchEventBoundaryIsRejectedAtDeployTime() {
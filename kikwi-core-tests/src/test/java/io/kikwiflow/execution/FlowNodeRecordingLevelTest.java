@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.event.CriticalEventType;
+import io.kikwiflow.model.event.FlowNodeFinished;
+import io.kikwiflow.model.event.OutboxEventEntity;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.FlowNodeRecordingLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta os níveis do {@code FLOW_NODE_FINISHED}: {@code SUMMARY} (padrão) só com identificação, status e
+ * tempos; {@code NONE} sem evento para o nó; {@code VARIABLE_DIFF} com as variáveis persistentes que o próprio nó
+ * escreveu ou removeu. O nível da config pode ser sobrescrito por nó ou por definição pela extension property
+ * {@code outbox.flow-node-recording}.
+ */
+@DisplayName("Dado um processo síncrono com o outbox de eventos ligado")
+class FlowNodeRecordingLevelTest {
+
+    private TestEngine engine(FlowNodeRecordingLevel level) {
+        return SingletonsFactory.engine()
+                .withConfig(config -> {
+                    config.setOutboxEventsEnabled(true);
+                    config.setFlowNodeRecordingLevel(level);
+                })
+                .withTaskHandler("calculateRisk", ctx -> {
+                    ctx.setVariable("riskScore", new ProcessVariable("riskScore", 87.5));
+                    ctx.setVariable("apiToken", new ProcessVariable("apiToken", true, "secret"));
+                    ctx.removeVariable("draft");
+                })
+                .build();
+    }
+
+    private List<FlowNodeFinished> flowNodeEvents(TestEngine testEngine, String processDefinitionPath) {
+        ProcessDefinition definition = testEngine.deploy(processDefinitionPath);
+        ProcessInstance instance = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-RECORDING")
+                .withVariables(Map.of("draft", new ProcessVariable("draft", "rascunho")))
+                .execute();
+
+        List<OutboxEventEntity> events = testEngine.repository().findEventHistoryByProcessInstanceId(instance.id());
+        assertTrue(events.stream().anyMatch(e -> CriticalEventType.PROCESS_INSTANCE_FINISHED.name().equals(e.getEvent())),
+                "Os demais eventos críticos não dependem do nível do FLOW_NODE_FINISHED.");
+
+        return events.stream()
+                .filter(e -> e.getPayload() instanceof FlowNodeFinished)
+                .map(e -> (FlowNodeFinished) e.getPayload())
+                .toList();
+    }
+
+    private FlowNodeFinished eventFor(List<FlowNodeFinished> events, String flowNodeDefinitionId) {
+        return events.stream()
+                .filter(e -> flowNodeDefinitionId.equals(e.getFlowNodeDefinitionId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Esperava FLOW_NODE_FINISHED para '" + flowNodeDefinitionId + "'."));
+    }
+
+    @Test
+    @DisplayName("Quando o nível é SUMMARY, cada nó gera um evento sem diff de variáveis")
+    void summaryLevelRecordsEveryNodeWithoutVariables() {
+        List<FlowNodeFinished> events = flowNodeEvents(engine(FlowNodeRecordingLevel.SUMMARY), "/processes/executable-task-flow.json");
+
+        assertEquals(3, events.size());
+        FlowNodeFinished task = eventFor(events, "CALCULATE_RISK_TASK");
+        assertTrue(task.getStartedAt() != null && task.getFinishedAt() != null);
+        assertNull(task.getChangedVariables());
+        assertNull(task.getRemovedVariables());
+    }
+
+    @Test
+    @DisplayName("Quando o nível é NONE, nenhum FLOW_NODE_FINISHED é emitido")
+    void noneLevelSkipsFlowNodeEvents() {
+        List<FlowNodeFinished> events = flowNodeEvents(engine(FlowNodeRecordingLevel.NONE), "/processes/executable-task-flow.json");
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Quando o nó declara seu nível, ele sobrescreve o da config, e o diff traz só o que o nó mudou")
+    void nodeLevelOverridesConfigAndDiffCarriesOnlyPersistentChanges() {
+        List<FlowNodeFinished> events = flowNodeEvents(engine(FlowNodeRecordingLevel.SUMMARY), "/processes/flow-node-recording-levels.json");
+
+        assertFalse(events.stream().anyMatch(e -> "START_EVENT".equals(e.getFlowNodeDefinitionId())),
+                "START_EVENT declara NONE.");
+
+        FlowNodeFinished task = eventFor(events, "CALCULATE_RISK_TASK");
+        assertEquals(Map.of("riskScore", new ProcessVariable("riskScore", 87.5)), task.getChangedVariables(),
+                "Variáveis transientes ficam fora do diff, como no registro persistido.");
+        assertEquals(List.of("draft"), task.getRemovedVariables());
+
+        FlowNodeFinished end = eventFor(events, "END_EVENT");
+        assertNull(end.getChangedVariables(), "END_EVENT não declara nível e herda o SUMMARY da config.");
+    }
+}
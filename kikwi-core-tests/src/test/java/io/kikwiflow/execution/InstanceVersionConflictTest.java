@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
+import io.kikwiflow.model.execution.enumerated.ProcessInstanceStatus;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+import io.kikwiflow.model.security.IdentityContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta o controle otimista por versão da instância: duas ramificações da mesma instância executadas ao
+ * mesmo tempo leem a mesma versão; a primeira a gravar vence, e a segunda recebe
+ * {@code InstanceVersionConflictException}, relê a instância e regrava a própria continuação sobre a versão
+ * atual — sem rodar o handler de novo e sem perder a atualização da primeira. O mesmo vale para escritas fora
+ * de uma continuação ({@code setVariables}), que também avançam a versão.
+ */
+@DisplayName("Dadas duas ramificações paralelas da mesma instância executando ao mesmo tempo")
+class InstanceVersionConflictTest {
+
+    private final CountDownLatch bothBranchesLoaded = new CountDownLatch(2);
+    private final AtomicInteger fastRuns = new AtomicInteger();
+    private final AtomicInteger slowRuns = new AtomicInteger();
+
+    private void awaitOtherBranch() {
+        bothBranchesLoaded.countDown();
+        try {
+            bothBranchesLoaded.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ExecutableTask findTask(TestEngine testEngine, String processInstanceId, String taskDefinitionId) {
+        return testEngine.repository().findExecutableTasksByProcessInstanceId(processInstanceId).stream()
+                .filter(t -> taskDefinitionId.equals(t.taskDefinitionId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Esperava uma ExecutableTask para '" + taskDefinitionId + "'."));
+    }
+
+    @Test
+    @DisplayName("Quando ambas gravam sobre a mesma versão, então a perdedora é regravada sem rodar o handler de novo e o join libera com as duas")
+    void loserIsRebasedWithoutReRunningItsHandler() throws Exception {
+        TestEngine testEngine = SingletonsFactory.engine()
+                .withTaskHandler("fastBranchHandler", ctx -> {
+                    fastRuns.incrementAndGet();
+                    awaitOtherBranch();
+                })
+                .withTaskHandler("slowBranchHandler", ctx -> {
+                    slowRuns.incrementAndGet();
+                    awaitOtherBranch();
+                })
+                .withTaskHandler("afterJoinHandler", ctx -> {})
+                .build();
+        ProcessDefinition definition = testEngine.deploy("/processes/parallel-gateway-fan-out-join.json");
+
+        ProcessInstance instance = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-VERSION-CONFLICT")
+                .execute();
+        ExecutableTask fastTask = findTask(testEngine, instance.id(), "FAST_TASK");
+        ExecutableTask slowTask = findTask(testEngine, instance.id(), "SLOW_TASK");
+
+        Thread fast = Thread.ofVirtual().start(() -> testEngine.engine().executeFromTask(fastTask));
+        Thread slow = Thread.ofVirtual().start(() -> testEngine.engine().executeFromTask(slowTask));
+        fast.join();
+        slow.join();
+
+        assertEquals(1, fastRuns.get(), "O handler da ramificação rápida roda uma vez só.");
+        assertEquals(1, slowRuns.get(), "O handler da ramificação lenta roda uma vez só, mesmo perdendo a corrida.");
+
+        ProcessInstance stored = testEngine.repository().findProcessInstanceById(instance.id()).orElseThrow();
+        assertEquals(instance.version() + 2, stored.version(), "As duas gravações foram aplicadas, uma sobre a outra.");
+
+        ExecutableTask join = findTask(testEngine, instance.id(), "JOIN_SYNC");
+        assertEquals(ExecutableTaskStatus.PENDING, join.status());
+        assertTrue(join.pendingBranchIds() == null || join.pendingBranchIds().isEmpty());
+
+        ProcessInstance completed = testEngine.engine().executeFromTask(join);
+        assertEquals(ProcessInstanceStatus.COMPLETED, completed.status());
+    }
+
+    @Test
+    @DisplayName("Quando setVariables grava durante uma tarefa em execução, então a tarefa não é refeita e a variável sobrevive ao commit dela")
+    void setVariablesDuringARunningTaskIsKeptByTheRebasedCommit() throws Exception {
+        CountDownLatch taskLoaded = new CountDownLatch(1);
+        CountDownLatch variablesSet = new CountDownLatch(1);
+        List<Object> approvedBySeenByRuns = new CopyOnWriteArrayList<>();
+
+        TestEngine testEngine = SingletonsFactory.engine()
+                .withTaskHandler("calculateRisk", ctx -> {
+                    ProcessVariable approvedBy = ctx.getVariable("approvedBy");
+                    approvedBySeenByRuns.add(approvedBy != null ? approvedBy.value() : "<ausente>");
+                    if (taskLoaded.getCount() > 0) {
+                        taskLoaded.countDown();
+                        try {
+                            variablesSet.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                })
+                .build();
+        ProcessDefinition definition = testEngine.deploy("/processes/retryable-executable-task-flow.json");
+
+        ProcessInstance instance = testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey("BK-VERSION-CONFLICT-VARIABLES")
+                .execute();
+        ExecutableTask task = findTask(testEngine, instance.id(), "CALCULATE_RISK_TASK");
+
+        Thread worker = Thread.ofVirtual().start(() -> testEngine.engine().executeFromTask(task));
+        assertTrue(taskLoaded.await(5, TimeUnit.SECONDS));
+
+        ProcessInstance afterSet = testEngine.engine().setVariables(instance.id(),
+                Map.of("approvedBy", new ProcessVariable("approvedBy", "analyst-1")), new IdentityContext("test-actor", null));
+        assertEquals(instance.version() + 1, afterSet.version(), "setVariables também deveria avançar a versão da instância.");
+
+        variablesSet.countDown();
+        worker.join();
+
+        assertEquals(List.of("<ausente>"), approvedBySeenByRuns,
+                "A tarefa leu a versão anterior ao setVariables; o commit dela conflita e é regravado, sem rodar o handler de novo.");
+        assertTrue(testEngine.repository().findProcessInstanceById(instance.id()).isEmpty(),
+                "O commit regravado sobre a versão do setVariables conclui a instância.");
+        assertNull(testEngine.repository().findExecutableTasksByProcessInstanceId(instance.id()).stream()
+                .filter(t -> "CALCULATE_RISK_TASK".equals(t.taskDefinitionId()))
+                .findFirst()
+                .orElse(null));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.execution.api.context.ExecutionContext;
+import io.kikwiflow.factory.SingletonsFactory;
+import io.kikwiflow.factory.TestEngine;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.ProcessInstanceStatus;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Documenta a execução em memória de ramificações de {@code PARALLEL_GATEWAY} quando
+ * {@code inline-parallel-branches-enabled} está ligado: se todas as ramificações até o {@code JOIN_GATEWAY} são
+ * síncronas (sem wait state, sem {@code commitBefore}/{@code commitAfter}), elas rodam concorrentemente em virtual
+ * threads dentro da mesma unidade de trabalho, e as variáveis de cada ramificação são mescladas na ordem declarada
+ * dos fluxos de saída do gateway. Ramificações que não se qualificam continuam no caminho persistido de sempre.
+ */
+@DisplayName("Dado um processo com um PARALLEL_GATEWAY cujas ramificações são todas síncronas")
+class ParallelGatewayInlineBranchesTest {
+
+    private static final String SYNCHRONOUS_FIXTURE = "/processes/parallel-gateway-synchronous-enrichment.json";
+
+    private TestEngine engineWithInlineBranches(boolean enabled, CountDownLatch allBranchesStarted,
+                                                AtomicInteger afterJoinRuns) {
+        return SingletonsFactory.engine()
+                .withConfig(c -> c.setInlineParallelBranchesEnabled(enabled))
+                .withTaskHandler("enrichAHandler", ctx -> enrich(ctx, "a", allBranchesStarted))
+                .withTaskHandler("enrichBHandler", ctx -> enrich(ctx, "b", allBranchesStarted))
+                .withTaskHandler("enrichCHandler", ctx -> enrich(ctx, "c", allBranchesStarted))
+                .withTaskHandler("afterJoinHandler", ctx -> afterJoinRuns.incrementAndGet())
+                .withTaskHandler("fastBranchHandler", ctx -> { })
+                .withTaskHandler("slowBranchHandler", ctx -> { })
+                .build();
+    }
+
+    private static void enrich(ExecutionContext ctx, String branch,
+                               CountDownLatch allBranchesStarted) {
+        ctx.setVariable(new ProcessVariable("enriched_" + branch, true));
+        ctx.setVariable(new ProcessVariable("lastWriter", branch));
+        if (allBranchesStarted == null) {
+            return;
+        }
+        allBranchesStarted.countDown();
+        try {
+            if (!allBranchesStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("As ramificações não rodaram concorrentemente.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ProcessInstance start(TestEngine testEngine, ProcessDefinition definition, String businessKey) {
+        return testEngine.engine().startProcess()
+                .byKey(definition.key())
+                .withBusinessKey(businessKey)
+                .execute();
+    }
+
+    @Test
+    @DisplayName("Quando o modo inline está ligado, as ramificações rodam concorrentemente e o processo conclui sem persistir tarefas")
+    void inlineModeRunsBranchesConcurrentlyAndCompletesWithoutPersistingTasks() {
+        AtomicInteger afterJoinRuns = new AtomicInteger();
+        TestEngine testEngine = engineWithInlineBranches(true, new CountDownLatch(3), afterJoinRuns);
+        ProcessDefinition definition = testEngine.deploy(SYNCHRONOUS_FIXTURE);
+
+        ProcessInstance instance = start(testEngine, definition, "BK-INLINE-1");
+
+        assertEquals(ProcessInstanceStatus.COMPLETED, instance.status());
+        assertEquals(1, afterJoinRuns.get(), "O passo depois do join deve rodar exatamente uma vez.");
+        assertTrue(testEngine.repository().findExecutableTasksByProcessInstanceId(instance.id()).isEmpty(),
+                "Nenhuma ExecutableTask deveria ter sido persistida para ramificações síncronas.");
+    }
+
+    @Test
+    @DisplayName("Quando o modo inline está ligado, as variáveis das ramificações são mescladas na ordem declarada")
+    void inlineModeMergesBranchVariablesInDeclaredOrder() {
+        TestEngine testEngine = engineWithInlineBranches(true, null, new AtomicInteger());
+        ProcessDefinition definition = testEngine.deploy(SYNCHRONOUS_FIXTURE);
+
+        for (int i = 0; i < 20; i++) {
+            ProcessInstance instance = start(testEngine, definition, "BK-INLINE-MERGE-" + i);
+
+            assertEquals(true, instance.variables().get("enriched_a").value());
+            assertEquals(true, instance.variables().get("enriched_b").value());
+            assertEquals(true, instance.variables().get("enriched_c").value());
+            assertEquals("c", instance.variables().get("lastWriter").value(),
+                    "A última ramificação declarada deve vencer, independente da ordem de término.");
+        }
+    }
+
+    @Test
+    @DisplayName("Quando o modo inline está desligado, cada ramificação continua sendo persistida como ExecutableTask")
+    void disabledInlineModeKeepsPersistingOneTaskPerBranch() {
+        AtomicInteger afterJoinRuns = new AtomicInteger();
+        TestEngine testEngine = engineWithInlineBranches(false, null, afterJoinRuns);
+        ProcessDefinition definition = testEngine.deploy(SYNCHRONOUS_FIXTURE);
+
+        ProcessInstance instance = start(testEngine, definition, "BK-INLINE-OFF");
+
+        List<ExecutableTask> tasks = testEngine.repository().findExecutableTasksByProcessInstanceId(instance.id());
+        assertEquals(ProcessInstanceStatus.ACTIVE, instance.status());
+        assertEquals(4, tasks.size(), "Esperava as três ramificações e o join aguardando.");
+        assertEquals(0, afterJoinRuns.get());
+    }
+
+    @Test
+    @DisplayName("Quando alguma ramificação declara commitBefore, o gateway não se qualifica e segue o caminho persistido")
+    void branchWithCommitBeforeFallsBackToPersistedBranches() {
+        TestEngine testEngine = engineWithInlineBranches(true, null, new AtomicInteger());
+        ProcessDefinition definition = testEngine.deploy("/processes/parallel-gateway-fan-out-join.json");
+
+        ProcessInstance instance = start(testEngine, definition, "BK-INLINE-FALLBACK");
+
+        assertEquals(ProcessInstanceStatus.ACTIVE, instance.status());
+        assertEquals(3, testEngine.repository().findExecutableTasksByProcessInstanceId(instance.id()).size());
+    }
+}
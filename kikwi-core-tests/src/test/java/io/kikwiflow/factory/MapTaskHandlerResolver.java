@@ -23,6 +23,7 @@ import io.kikwiflow.execution.api.handler.TaskHandler;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Test double de {@link TaskHandlerResolver} — resolve por nome a partir de um mapa em memória, registrado
@@ -41,4 +42,9 @@ public class MapTaskHandlerResolver implements TaskHandlerResolver {
     public Optional<TaskHandler> resolve(String beanName) {
         return Optional.ofNullable(handlers.get(beanName));
     }
+
+    @Override
+    public Optional<Set<String>> availableHandlers() {
+        return Optional.of(Set.copyOf(handlers.keySet()));
+    }
 }
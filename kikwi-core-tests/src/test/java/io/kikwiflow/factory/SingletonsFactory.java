@@ -35,9 +35,11 @@ import io.kikwiflow.execution.api.parser.ProcessDefinitionParser;
 import io.kikwiflow.execution.api.provider.AnswerProvider;
 import io.kikwiflow.execution.api.provider.CorrelationKeysProvider;
 import io.kikwiflow.execution.api.provider.DueDateProvider;
+import io.kikwiflow.execution.binding.HandlerRegistry;
 import io.kikwiflow.execution.evaluator.CorrelationKeyResolver;
 import io.kikwiflow.execution.evaluator.TimerDueDateEvaluator;
 import io.kikwiflow.execution.policy.DefaultRetryPolicyEvaluator;
+import io.kikwiflow.navigation.ExecutionPlanRegistry;
 import io.kikwiflow.navigation.Navigator;
 import io.kikwiflow.navigation.ProcessDefinitionService;
 import io.kikwiflow.parser.jackson.JacksonProcessDefinitionParser;
@@ -128,24 +130,27 @@ public class SingletonsFactory {
                     .disable(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
             ProcessDefinitionParser parser = new JacksonProcessDefinitionParser(objectMapper);
 
+            ExecutionPlanRegistry executionPlanRegistry = new ExecutionPlanRegistry();
+            HandlerRegistry handlerRegistry = new HandlerRegistry(taskHandlerResolver, answerProviderResolver,
+                    dueDateProviderResolver, correlationKeysProviderResolver);
             ProcessDefinitionService processDefinitionService = new ProcessDefinitionService(
-                    parser, assertableKikwiEngine, deployValidator, deploymentSecurityManager);
+                    parser, assertableKikwiEngine, deployValidator, deploymentSecurityManager, executionPlanRegistry, handlerRegistry);
 
-            Navigator navigator = new Navigator(answerProviderResolver);
+            Navigator navigator = new Navigator(handlerRegistry.answerProviderResolver(), executionPlanRegistry);
             CriticalEventRecorder criticalEventRecorder = new CriticalEventRecorder(config);
-            CorrelationKeyResolver correlationKeyResolver = new CorrelationKeyResolver(correlationKeysProviderResolver);
+            CorrelationKeyResolver correlationKeyResolver = new CorrelationKeyResolver(handlerRegistry.correlationKeysProviderResolver());
             EventThrowExecutor eventThrowExecutor = new EventThrowExecutor(correlationKeyResolver);
             ProcessExecutionManager processExecutionManager = new ProcessExecutionManager(
-                    new FlowNodeExecutor(new TaskExecutor(taskHandlerResolver), eventThrowExecutor), navigator, criticalEventRecorder);
+                    new FlowNodeExecutor(new TaskExecutor(handlerRegistry.taskHandlerResolver()), eventThrowExecutor), navigator, criticalEventRecorder, config);
 
-            TimerDueDateEvaluator timerDueDateEvaluator = new TimerDueDateEvaluator(dueDateProviderResolver);
+            TimerDueDateEvaluator timerDueDateEvaluator = new TimerDueDateEvaluator(handlerRegistry.dueDateProviderResolver());
             ContinuationService continuationService = new ContinuationService(assertableKikwiEngine, timerDueDateEvaluator, correlationKeyResolver, config, criticalEventRecorder);
 
             DefaultRetryPolicyEvaluator retryPolicyEvaluator = new DefaultRetryPolicyEvaluator(config);
             FailureHandler failureHandler = new FailureHandler(assertableKikwiEngine, retryPolicyEvaluator, criticalEventRecorder);
 
             AsynchronousEventPublisher eventPublisher = new AsynchronousEventPublisher(Executors.newVirtualThreadPerTaskExecutor());
-            TaskAcquirer taskAcquirer = new TaskAcquirer(assertableKikwiEngine, config);
+            TaskAcquirer taskAcquirer = new TaskAcquirer(assertableKikwiEngine, config, taskHandlerResolver);
 
             KikwiflowEngine kikwiflowEngine = new KikwiflowEngine(
                     processDefinitionService, navigator, processExecutionManager, assertableKikwiEngine,
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kikwiflow;
+
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.security.IdentityContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fachada assíncrona dos comandos do {@link KikwiflowEngine}: cada comando roda numa virtual thread do executor
+ * próprio e devolve um {@link CompletableFuture}, permitindo encadear comandos ({@code thenCompose}) e liberar a
+ * thread chamadora (ex.: a thread de requisição do servidor HTTP) durante o I/O com o banco.
+ *
+ * <p>Cancelar o future, ou estourar o prazo de {@link #withTimeout}, interrompe a virtual thread do comando.
+ * É um melhor esforço: um comando que já está gravando sua {@code UnitOfWork} pode concluir a gravação mesmo
+ * assim — o commit continua atômico, só o resultado é descartado.
+ */
+public class AsyncKikwiflowEngine implements AutoCloseable {
+
+    private final KikwiflowEngine engine;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final boolean ownsExecutor;
+
+    public AsyncKikwiflowEngine(KikwiflowEngine engine, ExecutorService executor) {
+        this(engine, executor, null, false);
+    }
+
+    private AsyncKikwiflowEngine(KikwiflowEngine engine, ExecutorService executor, Duration timeout, boolean ownsExecutor) {
+        this.engine = engine;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Cria a fachada com executor próprio de virtual threads — sem limite quando {@code maxConcurrency <= 0},
+     * senão no máximo {@code maxConcurrency} comandos simultâneos (os demais aguardam na fila). Este executor
+     * é encerrado em {@link #close()}.
+     */
+    static AsyncKikwiflowEngine create(KikwiflowEngine engine, int maxConcurrency, long timeoutMillis) {
+        ExecutorService executor = maxConcurrency > 0
+                ? Executors.newFixedThreadPool(maxConcurrency, Thread.ofVirtual().name("kikwi-command-", 0).factory())
+                : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kikwi-command-", 0).factory());
+        Duration timeout = timeoutMillis > 0 ? Duration.ofMillis(timeoutMillis) : null;
+        return new AsyncKikwiflowEngine(engine, executor, timeout, true);
+    }
+
+    /**
+     * Visão desta fachada que aplica {@code timeout} a cada comando submetido por ela ({@code null} remove o
+     * prazo). Compartilha o executor: fechar a visão não o encerra.
+     */
+    public AsyncKikwiflowEngine withTimeout(Duration timeout) {
+        return new AsyncKikwiflowEngine(engine, executor, timeout, false);
+    }
+
+    public KikwiflowEngine engine() {
+        return engine;
+    }
+
+    public CompletableFuture<ProcessInstance> completeExternalTask(String externalTaskId, Map<String, ProcessVariable> variables, IdentityContext identityContext) {
+        return submit(() -> engine.completeExternalTask(externalTaskId, variables, identityContext));
+    }
+
+    public CompletableFuture<ProcessInstance> correlateMessage(String correlationKey, Map<String, ProcessVariable> variables, IdentityContext identityContext) {
+        return submit(() -> engine.correlateMessage(correlationKey, variables, identityContext));
+    }
+
+    public CompletableFuture<ProcessInstance> setVariables(String processInstanceId, Map<String, ProcessVariable> variables, IdentityContext identityContext) {
+        return submit(() -> engine.setVariables(processInstanceId, variables, identityContext));
+    }
+
+    public CompletableFuture<ProcessInstance> unsetVariables(String processInstanceId, Set<String> variableNames, IdentityContext identityContext) {
+        return submit(() -> engine.unsetVariables(processInstanceId, variableNames, identityContext));
+    }
+
+    public CompletableFuture<Void> retryIncident(String incidentId, IdentityContext identityContext) {
+        return run(() -> engine.retryIncident(incidentId, identityContext));
+    }
+
+    public CompletableFuture<Void> deleteInstance(String processInstanceId, IdentityContext identityContext) {
+        return run(() -> engine.deleteInstance(processInstanceId, identityContext));
+    }
+
+    public CompletableFuture<Void> claim(String externalTaskId, String assignee, IdentityContext identityContext) {
+        return run(() -> engine.claim(externalTaskId, assignee, identityContext));
+    }
+
+    public CompletableFuture<Void> unclaim(String externalTaskId, IdentityContext identityContext) {
+        return run(() -> engine.unclaim(externalTaskId, identityContext));
+    }
+
+    public CompletableFuture<Void> run(Runnable command) {
+        return submit(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Submete um comando arbitrário do engine (ex.: {@code startProcess()...::execute} ou um lote) ao executor
+     * desta fachada, com o prazo configurado.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running;
+        try {
+            running = executor.submit(() -> {
+                if (result.isDone()) {
+                    return; // cancelado ou expirado antes de começar
+                }
+                try {
+                    result.complete(command.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        result.whenComplete((value, error) -> {
+            if (error instanceof CancellationException || error instanceof TimeoutException) {
+                running.cancel(true);
+            }
+        });
+
+        if (timeout != null) {
+            result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -24,14 +24,17 @@ import io.kikwiflow.exception.TaskNotFoundException;
 import io.kikwiflow.execution.ContinuationService;
 import io.kikwiflow.execution.FailureHandler;
 import io.kikwiflow.execution.FlowNodeExecutionFailure;
+import io.kikwiflow.execution.GroupCommitStage;
 import io.kikwiflow.execution.ProcessExecutionManager;
 import io.kikwiflow.execution.ProcessInstanceExecution;
 import io.kikwiflow.execution.ProcessInstanceFactory;
 import io.kikwiflow.execution.TaskAcquirer;
+import io.kikwiflow.execution.concurrency.InstanceCommandMailbox;
 import io.kikwiflow.execution.event.CriticalEventRecorder;
 import io.kikwiflow.execution.dto.Continuation;
 import io.kikwiflow.execution.dto.ExecutionOutcome;
 import io.kikwiflow.execution.dto.ExecutionResult;
+import io.kikwiflow.execution.dto.PreparedContinuation;
 import io.kikwiflow.execution.mapper.ProcessInstanceMapper;
 import io.kikwiflow.model.definition.process.ProcessDefinition;
 import io.kikwiflow.model.definition.process.elements.CallActivityDefinition;
@@ -40,9 +43,15 @@ import io.kikwiflow.model.definition.process.elements.InterruptiveCatchEventDefi
 import io.kikwiflow.model.definition.process.policies.RetryPolicy;
 import io.kikwiflow.model.event.OutboxEventEntity;
 import io.kikwiflow.model.event.lightweight.SyncContinuationFailed;
+import io.kikwiflow.model.execution.BatchItemResult;
+import io.kikwiflow.model.execution.BatchResult;
+import io.kikwiflow.model.execution.CorrelationBatchResult;
+import io.kikwiflow.model.execution.CorrelationItemResult;
 import io.kikwiflow.model.execution.Incident;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.CallActivityIterationMode;
+import io.kikwiflow.model.execution.enumerated.CorrelationOutcome;
 import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
 import io.kikwiflow.model.execution.enumerated.ExecutableTaskType;
 import io.kikwiflow.model.execution.enumerated.IncidentStatus;
@@ -50,7 +59,10 @@ import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.navigation.Navigator;
 import io.kikwiflow.navigation.ProcessDefinitionService;
+import io.kikwiflow.persistence.api.data.TaskLease;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
+import io.kikwiflow.persistence.api.exception.InstanceVersionConflictException;
+import io.kikwiflow.persistence.api.exception.LockOwnershipLostException;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 import io.kikwiflow.model.security.IdentityContext;
 import io.kikwiflow.util.KikwiflowBanner;
@@ -58,13 +70,22 @@ import io.kikwiflow.util.KikwiflowBanner;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
 
 public class KikwiflowEngine {
 
@@ -78,6 +99,8 @@ public class KikwiflowEngine {
     private final ContinuationService continuationService;
     private final FailureHandler failureHandler;
     private final CriticalEventRecorder criticalEventRecorder;
+    private final InstanceCommandMailbox instanceCommandMailbox;
+    private AsyncKikwiflowEngine asyncEngine;
 
     public KikwiflowEngine(
             ProcessDefinitionService processDefinitionService,
@@ -102,6 +125,23 @@ public class KikwiflowEngine {
         this.failureHandler = failureHandler;
         this.taskAcquirer = taskAcquirer;
         this.criticalEventRecorder = criticalEventRecorder;
+        this.instanceCommandMailbox = new InstanceCommandMailbox(kikwiflowConfig.isInstanceCommandMailboxEnabled());
+    }
+
+    /**
+     * Fila de comandos por instância deste nó e seus contadores (profundidade de fila, taxa de conflito
+     * otimista) — ver {@link InstanceCommandMailbox}.
+     */
+    public InstanceCommandMailbox.Snapshot getInstanceCommandMailboxStats() {
+        return instanceCommandMailbox.snapshot();
+    }
+
+    /**
+     * Contadores do group commit das unidades dos workers (lotes, tamanho médio, fallbacks), ou {@code null}
+     * quando desabilitado — ver {@link GroupCommitStage}.
+     */
+    public GroupCommitStage.Snapshot getGroupCommitStats() {
+        return continuationService.getGroupCommitStats();
     }
 
     public void start(){
@@ -111,6 +151,26 @@ public class KikwiflowEngine {
 
     public void stop(){
         taskAcquirer.stop();
+        synchronized (this) {
+            if (asyncEngine != null) {
+                asyncEngine.close();
+                asyncEngine = null;
+            }
+        }
+    }
+
+    /**
+     * Fachada {@link java.util.concurrent.CompletableFuture} dos comandos deste engine, criada sob demanda com
+     * {@code asyncCommandMaxConcurrency}/{@code asyncCommandTimeoutMillis} do {@link KikwiflowConfig} e
+     * encerrada em {@link #stop()}.
+     */
+    public synchronized AsyncKikwiflowEngine async() {
+        if (asyncEngine == null) {
+            asyncEngine = AsyncKikwiflowEngine.create(this,
+                    kikwiflowConfig.getAsyncCommandMaxConcurrency(),
+                    kikwiflowConfig.getAsyncCommandTimeoutMillis());
+        }
+        return asyncEngine;
     }
 
     public void deleteInstance(String processInstanceId, IdentityContext identityContext){
@@ -286,12 +346,29 @@ public class KikwiflowEngine {
      * um ator humano/externo por trás do complete (ex.: correlação disparada internamente por um throw).
      */
     ProcessInstance completeExternalTask(ExternalTask taskToComplete, Map<String, ProcessVariable> variables, String actorId) {
+        return instanceCommandMailbox.execute(taskToComplete.processInstanceId(),
+                () -> completeExternalTaskOnInstance(taskToComplete, variables, actorId));
+    }
+
+    private ProcessInstance completeExternalTaskOnInstance(ExternalTask taskToComplete, Map<String, ProcessVariable> variables, String actorId) {
         ProcessInstance processInstanceRecord = kikwiEngineRepository.findProcessInstanceById(taskToComplete.processInstanceId())
                 .orElseThrow(() -> new ProcessInstanceNotFoundException("Process Instance Not Found with id: " + taskToComplete.processInstanceId()));
 
         ProcessDefinition processDefinition = processDefinitionService.getById(processInstanceRecord.processDefinitionId())
                 .orElseThrow();
 
+        ExecutionResult executionResult = executeExternalTaskCompletion(taskToComplete, processInstanceRecord, processDefinition, variables);
+
+        return continuationService.handleContinuation(executionResult, taskToComplete, processDefinition, actorId);
+    }
+
+    /**
+     * Roda o segmento síncrono que segue a conclusão de {@code taskToComplete}, sem persistir — compartilhado
+     * entre o complete unitário e a correlação em lote ({@link BatchMessageCorrelator}), que já chega com a
+     * instância carregada.
+     */
+    private ExecutionResult executeExternalTaskCompletion(ExternalTask taskToComplete, ProcessInstance processInstanceRecord,
+                                                          ProcessDefinition processDefinition, Map<String, ProcessVariable> variables) {
         ProcessInstanceExecution processInstanceExecution = ProcessInstanceMapper.mapToInstanceExecution(processInstanceRecord);
 
         if (variables != null) {
@@ -364,7 +441,7 @@ public class KikwiflowEngine {
             }
         }
 
-        return continuationService.handleContinuation(executionResult, taskToComplete, processDefinition, actorId);
+        return executionResult;
     }
 
     /**
@@ -408,28 +485,445 @@ public class KikwiflowEngine {
     }
 
     private ProcessInstance resolveAndComplete(ExternalTask hit, Map<String, ProcessVariable> variables, String actorId) {
+        return instanceCommandMailbox.execute(hit.processInstanceId(), () -> {
+            ExternalTask taskToComplete = resolveTaskToComplete(hit);
+
+            if (taskToComplete == null) {
+                // matchPolicy ainda não satisfeita (ex.: ALL restando outras chaves): persiste as variáveis
+                // recebidas, o fluxo principal não avança ainda.
+                return kikwiEngineRepository.addVariables(hit.processInstanceId(), variables, List.of());
+            }
+
+            return completeExternalTask(taskToComplete, variables, actorId);
+        });
+    }
+
+    /**
+     * Qual tarefa a correlação de {@code hit} completa: ela mesma (STANDALONE), a tarefa-mãe quando esta chave
+     * satisfez a {@code matchPolicy} do grupo, ou {@code null} quando o grupo ainda aguarda outras chaves.
+     */
+    private ExternalTask resolveTaskToComplete(ExternalTask hit) {
         if (hit.coordinatorTaskId() == null) {
             // STANDALONE — a própria tarefa encontrada é o ponto de espera
-            return completeExternalTask(hit, variables, actorId);
+            return hit;
         }
 
         // GROUP: "hit" é uma tarefa-filha — resolve atomicamente contra a tarefa-mãe (coordinatorTaskId)
         boolean satisfied = kikwiEngineRepository.resolveCorrelationChild(hit.id(), hit.coordinatorTaskId(), hit.matchPolicy());
 
         if (!satisfied) {
-            // matchPolicy ainda não satisfeita (ex.: ALL restando outras chaves): persiste as variáveis
-            // recebidas, o fluxo principal não avança ainda.
-            return kikwiEngineRepository.addVariables(hit.processInstanceId(), variables, List.of());
+            return null;
         }
 
         // esta chamada foi a responsável por satisfazer a matchPolicy — completa a tarefa-mãe normalmente
-        ExternalTask parent = kikwiEngineRepository.findExternalTaskById(hit.coordinatorTaskId())
+        return kikwiEngineRepository.findExternalTaskById(hit.coordinatorTaskId())
                 .orElseThrow(() -> new TaskNotFoundException("Kikwiflow Engine: tarefa coordenadora não encontrada: " + hit.coordinatorTaskId()));
-        return completeExternalTask(parent, variables, actorId);
     }
 
+    /**
+     * Correlação em lote de mensagens externas (ver {@link BatchMessageCorrelator}), para ingestão de webhooks
+     * entregues em rajadas. {@code identityContext} define o tenant de todas as chaves do lote.
+     */
+    public BatchMessageCorrelator correlateMessages(IdentityContext identityContext) {
+        return new BatchMessageCorrelator(identityContext);
+    }
+
+    /**
+     * Builder da correlação em lote. Mesma semântica de {@link #correlateMessage} por chave, mas:
+     * <ul>
+     *     <li>todas as chaves são resolvidas numa única consulta
+     *     ({@code CommandRepository.findExternalTasksByCorrelationKeys});</li>
+     *     <li>as instâncias encontradas em cada bloco são carregadas de uma vez, e as continuações do bloco são
+     *     gravadas numa única transação ({@code CommandRepository.commitWorkBatch}) — se ela falhar, o bloco é
+     *     regravado unidade a unidade para isolar a chave com problema. Cada regravação passa pela caixa de
+     *     comandos da instância e, se a instância mudou desde a carga do bloco (ex.: uma tarefa concluída no
+     *     meio tempo), a conclusão é refeita sobre o estado atual com o mesmo retry de conflito de versão do
+     *     {@link #correlateMessage} unitário;</li>
+     *     <li>cada instância entra no máximo uma vez por bloco: outras chaves da mesma instância (ou a mesma chave
+     *     repetida) são correlacionadas depois, uma a uma, com a chave resolvida de novo sobre o estado já
+     *     gravado.</li>
+     * </ul>
+     * O resultado traz um {@link CorrelationItemResult} por chave, na ordem de entrada.
+     */
+    public class BatchMessageCorrelator {
+
+        public static final int DEFAULT_CHUNK_SIZE = 500;
+
+        private record Message(String correlationKey, Map<String, ProcessVariable> variables) {}
+
+        private record Completion(int index, ExternalTask taskToComplete) {}
+
+        private final IdentityContext identityContext;
+        private final List<Message> messages = new ArrayList<>();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private BatchMessageCorrelator(IdentityContext identityContext) {
+            this.identityContext = Objects.requireNonNull(identityContext, "Identity context cannot be null.");
+        }
+
+        public BatchMessageCorrelator add(String correlationKey, Map<String, ProcessVariable> variables) {
+            messages.add(new Message(correlationKey, variables));
+            return this;
+        }
+
+        public BatchMessageCorrelator chunkSize(int chunkSize) {
+            if (chunkSize > 0) {
+                this.chunkSize = chunkSize;
+            }
+            return this;
+        }
+
+        public CorrelationBatchResult execute() {
+            CorrelationItemResult[] results = new CorrelationItemResult[messages.size()];
+
+            Set<String> keys = new LinkedHashSet<>();
+            messages.forEach(message -> {
+                if (message.correlationKey() != null) {
+                    keys.add(message.correlationKey());
+                }
+            });
+
+            Map<String, ExternalTask> hitsByKey = new HashMap<>();
+            for (ExternalTask hit : kikwiEngineRepository.findExternalTasksByCorrelationKeys(keys, identityContext.tenantId())) {
+                hitsByKey.putIfAbsent(hit.correlationKey(), hit);
+            }
+
+            Set<String> instancesInBatch = new HashSet<>();
+            List<Integer> batched = new ArrayList<>();
+            List<Integer> deferred = new ArrayList<>();
+
+            for (int i = 0; i < messages.size(); i++) {
+                ExternalTask hit = hitsByKey.get(messages.get(i).correlationKey());
+                if (hit == null) {
+                    results[i] = CorrelationItemResult.notFound(i, messages.get(i).correlationKey());
+                } else if (instancesInBatch.add(hit.processInstanceId())) {
+                    batched.add(i);
+                } else {
+                    deferred.add(i);
+                }
+            }
+
+            for (int chunkStart = 0; chunkStart < batched.size(); chunkStart += chunkSize) {
+                correlateChunk(batched.subList(chunkStart, Math.min(batched.size(), chunkStart + chunkSize)), hitsByKey, results);
+            }
+
+            for (int index : deferred) {
+                results[index] = correlateOne(index);
+            }
+
+            return CorrelationBatchResult.of(Arrays.asList(results));
+        }
+
+        private void correlateChunk(List<Integer> indexes, Map<String, ExternalTask> hitsByKey, CorrelationItemResult[] results) {
+            List<Completion> completions = new ArrayList<>();
+
+            for (int index : indexes) {
+                Message message = messages.get(index);
+                ExternalTask hit = hitsByKey.get(message.correlationKey());
+                try {
+                    ExternalTask taskToComplete = resolveTaskToComplete(hit);
+                    if (taskToComplete == null) {
+                        addVariablesInMailbox(hit.processInstanceId(), message.variables());
+                        results[index] = CorrelationItemResult.of(index, message.correlationKey(), CorrelationOutcome.PENDING, hit.processInstanceId());
+                    } else {
+                        completions.add(new Completion(index, taskToComplete));
+                    }
+                } catch (RuntimeException e) {
+                    results[index] = CorrelationItemResult.failure(index, message.correlationKey(), hit.processInstanceId(), e);
+                }
+            }
+
+            if (completions.isEmpty()) {
+                return;
+            }
+
+            Map<String, ProcessInstance> instancesById = new HashMap<>();
+            kikwiEngineRepository.findProcessInstancesByIdIn(completions.stream()
+                            .map(completion -> completion.taskToComplete().processInstanceId())
+                            .toList())
+                    .forEach(instance -> instancesById.put(instance.id(), instance));
+
+            List<Integer> preparedIndexes = new ArrayList<>();
+            List<PreparedContinuation> prepared = new ArrayList<>();
+            List<ExternalTask> preparedTasks = new ArrayList<>();
+
+            for (Completion completion : completions) {
+                ExternalTask taskToComplete = completion.taskToComplete();
+                Message message = messages.get(completion.index());
+                try {
+                    ProcessInstance processInstanceRecord = instancesById.get(taskToComplete.processInstanceId());
+                    if (processInstanceRecord == null) {
+                        throw new ProcessInstanceNotFoundException("Process Instance Not Found with id: " + taskToComplete.processInstanceId());
+                    }
+
+                    ProcessDefinition processDefinition = processDefinitionService.getById(processInstanceRecord.processDefinitionId())
+                            .orElseThrow();
+
+                    ExecutionResult executionResult = executeExternalTaskCompletion(taskToComplete, processInstanceRecord,
+                            processDefinition, message.variables());
+                    prepared.add(continuationService.prepareExternalTaskCompletion(executionResult, taskToComplete,
+                            processDefinition, identityContext.actorId()));
+                    preparedIndexes.add(completion.index());
+                    preparedTasks.add(taskToComplete);
+                } catch (RuntimeException e) {
+                    results[completion.index()] = CorrelationItemResult.failure(completion.index(), message.correlationKey(),
+                            taskToComplete.processInstanceId(), e);
+                }
+            }
+
+            commitChunk(prepared, preparedIndexes, preparedTasks, results);
+        }
+
+        private void commitChunk(List<PreparedContinuation> prepared, List<Integer> indexes, List<ExternalTask> tasks,
+                                 CorrelationItemResult[] results) {
+            commitPreparedChunk(prepared, kikwiEngineRepository::commitWorkBatch,
+                    i -> commitAlone(prepared.get(i), tasks.get(i)),
+                    i -> results[indexes.get(i)] = matched(indexes.get(i), prepared.get(i).processInstance()),
+                    (e, i) -> results[indexes.get(i)] = CorrelationItemResult.failure(indexes.get(i),
+                            messages.get(indexes.get(i)).correlationKey(), prepared.get(i).processInstance().id(), e));
+        }
+
+        private void commitAlone(PreparedContinuation prepared, ExternalTask taskToComplete) {
+            // A unidade foi montada sobre a versão carregada com o bloco: num conflito, é regravada sobre a atual.
+            instanceCommandMailbox.execute(taskToComplete.processInstanceId(), () -> {
+                continuationService.commit(prepared);
+                return null;
+            });
+        }
+
+        private CorrelationItemResult correlateOne(int index) {
+            Message message = messages.get(index);
+            ExternalTask hit = kikwiEngineRepository.findExternalTaskByCorrelationKey(message.correlationKey(), identityContext.tenantId())
+                    .orElse(null);
+
+            if (hit == null) {
+                return CorrelationItemResult.notFound(index, message.correlationKey());
+            }
+
+            try {
+                ExternalTask taskToComplete = resolveTaskToComplete(hit);
+                if (taskToComplete == null) {
+                    addVariablesInMailbox(hit.processInstanceId(), message.variables());
+                    return CorrelationItemResult.of(index, message.correlationKey(), CorrelationOutcome.PENDING, hit.processInstanceId());
+                }
+                return matched(index, completeExternalTask(taskToComplete, message.variables(), identityContext.actorId()));
+            } catch (RuntimeException e) {
+                return CorrelationItemResult.failure(index, message.correlationKey(), hit.processInstanceId(), e);
+            }
+        }
+
+        private void addVariablesInMailbox(String processInstanceId, Map<String, ProcessVariable> variables) {
+            instanceCommandMailbox.execute(processInstanceId,
+                    () -> kikwiEngineRepository.addVariables(processInstanceId, variables, List.of()));
+        }
+
+        private CorrelationItemResult matched(int index, ProcessInstance processInstance) {
+            return CorrelationItemResult.of(index, messages.get(index).correlationKey(), CorrelationOutcome.MATCHED, processInstance.id());
+        }
+    }
+
+    /**
+     * Conclusão em lote de tarefas externas (ver {@link BulkExternalTaskCompleter}) — aprovações em massa do
+     * back-office. {@code identityContext} vale para todas as tarefas do lote (tenant e ator).
+     */
+    public BulkExternalTaskCompleter completeExternalTasks(IdentityContext identityContext) {
+        return new BulkExternalTaskCompleter(identityContext);
+    }
+
+    /**
+     * Builder da conclusão em lote. Mesma semântica de {@link #completeExternalTask(String, Map, IdentityContext)}
+     * por tarefa, mas, a cada bloco de {@link #chunkSize(int)} tarefas:
+     * <ul>
+     *     <li>tarefas e instâncias são carregadas com uma consulta cada ({@code findExternalTasksByIdIn},
+     *     {@code findProcessInstancesByIdIn}), e cada definição é resolvida uma vez por lote;</li>
+     *     <li>os segmentos síncronos que seguem cada conclusão rodam com até {@link #maxConcurrency(int)}
+     *     instâncias ao mesmo tempo (padrão 1, em sequência) em virtual threads;</li>
+     *     <li>as continuações são gravadas numa única transação ({@code CommandRepository.commitWorkBatch}) — se
+     *     ela falhar, o bloco é regravado unidade a unidade para isolar a tarefa com problema.</li>
+     * </ul>
+     * Cada instância entra no máximo uma vez por bloco; outras tarefas da mesma instância (ou o mesmo id repetido)
+     * são completadas logo depois do commit do bloco, uma a uma, sobre o estado já gravado. O resultado traz um
+     * {@link BatchItemResult} por tarefa (chave = id da tarefa), na ordem de entrada.
+     */
+    public class BulkExternalTaskCompleter {
+
+        public static final int DEFAULT_CHUNK_SIZE = 500;
+
+        private record Item(String externalTaskId, Map<String, ProcessVariable> variables) {}
+
+        private record Completion(int index, ExternalTask taskToComplete, ProcessInstance processInstanceRecord,
+                                  ProcessDefinition processDefinition) {}
+
+        private final IdentityContext identityContext;
+        private final List<Item> items = new ArrayList<>();
+        private final Map<String, ProcessDefinition> definitionsById = new HashMap<>();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int maxConcurrency = 1;
+
+        private BulkExternalTaskCompleter(IdentityContext identityContext) {
+            this.identityContext = Objects.requireNonNull(identityContext, "Identity context cannot be null.");
+        }
+
+        public BulkExternalTaskCompleter add(String externalTaskId, Map<String, ProcessVariable> variables) {
+            items.add(new Item(externalTaskId, variables));
+            return this;
+        }
+
+        public BulkExternalTaskCompleter chunkSize(int chunkSize) {
+            if (chunkSize > 0) {
+                this.chunkSize = chunkSize;
+            }
+            return this;
+        }
+
+        public BulkExternalTaskCompleter maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency > 0) {
+                this.maxConcurrency = maxConcurrency;
+            }
+            return this;
+        }
+
+        public BatchResult execute() {
+            BatchItemResult[] results = new BatchItemResult[items.size()];
+
+            for (int chunkStart = 0; chunkStart < items.size(); chunkStart += chunkSize) {
+                completeChunk(chunkStart, Math.min(items.size(), chunkStart + chunkSize), results);
+            }
+
+            return BatchResult.of(Arrays.asList(results));
+        }
+
+        private void completeChunk(int chunkStart, int chunkEnd, BatchItemResult[] results) {
+            Map<String, ExternalTask> tasksById = new HashMap<>();
+            kikwiEngineRepository.findExternalTasksByIdIn(items.subList(chunkStart, chunkEnd).stream()
+                            .map(Item::externalTaskId)
+                            .filter(Objects::nonNull)
+                            .toList())
+                    .forEach(task -> tasksById.put(task.id(), task));
+
+            Set<String> instancesInChunk = new HashSet<>();
+            List<Integer> batched = new ArrayList<>();
+            List<Integer> deferred = new ArrayList<>();
+
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                String externalTaskId = items.get(i).externalTaskId();
+                ExternalTask task = tasksById.get(externalTaskId);
+                if (task == null) {
+                    results[i] = BatchItemResult.failure(i, externalTaskId, new TaskNotFoundException("ExternalTask not found with id: " + externalTaskId));
+                } else if (!Objects.equals(task.tenantId(), identityContext.tenantId())) {
+                    results[i] = BatchItemResult.failure(i, externalTaskId, new SecurityException(
+                            "Tenant mismatch: Task " + externalTaskId + " does not belong to the provided tenant."));
+                } else if (instancesInChunk.add(task.processInstanceId())) {
+                    batched.add(i);
+                } else {
+                    deferred.add(i);
+                }
+            }
+
+            Map<String, ProcessInstance> instancesById = new HashMap<>();
+            kikwiEngineRepository.findProcessInstancesByIdIn(List.copyOf(instancesInChunk))
+                    .forEach(instance -> instancesById.put(instance.id(), instance));
+
+            List<Completion> completions = new ArrayList<>();
+            for (int index : batched) {
+                ExternalTask task = tasksById.get(items.get(index).externalTaskId());
+                try {
+                    ProcessInstance processInstanceRecord = instancesById.get(task.processInstanceId());
+                    if (processInstanceRecord == null) {
+                        throw new ProcessInstanceNotFoundException("Process Instance Not Found with id: " + task.processInstanceId());
+                    }
+                    ProcessDefinition processDefinition = definitionsById.computeIfAbsent(processInstanceRecord.processDefinitionId(),
+                            id -> processDefinitionService.getById(id).orElseThrow());
+                    completions.add(new Completion(index, task, processInstanceRecord, processDefinition));
+                } catch (RuntimeException e) {
+                    results[index] = BatchItemResult.failure(index, task.id(), e);
+                }
+            }
+
+            PreparedContinuation[] prepared = new PreparedContinuation[completions.size()];
+            if (maxConcurrency <= 1 || completions.size() <= 1) {
+                for (int i = 0; i < completions.size(); i++) {
+                    prepared[i] = prepare(completions.get(i), results);
+                }
+            } else {
+                // close() do executor só retorna quando todas as continuações do bloco foram preparadas.
+                try (ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency, Thread.ofVirtual().factory())) {
+                    for (int i = 0; i < completions.size(); i++) {
+                        int position = i;
+                        executor.execute(() -> prepared[position] = prepare(completions.get(position), results));
+                    }
+                }
+            }
+
+            List<PreparedContinuation> toCommit = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = 0; i < prepared.length; i++) {
+                if (prepared[i] != null) {
+                    toCommit.add(prepared[i]);
+                    indexes.add(completions.get(i).index());
+                }
+            }
+
+            commitPreparedChunk(toCommit, kikwiEngineRepository::commitWorkBatch,
+                    i -> results[indexes.get(i)] = BatchItemResult.success(indexes.get(i),
+                            items.get(indexes.get(i)).externalTaskId(), toCommit.get(i).processInstance().id()),
+                    (e, i) -> results[indexes.get(i)] = BatchItemResult.failure(indexes.get(i),
+                            items.get(indexes.get(i)).externalTaskId(), e));
+
+            for (int index : deferred) {
+                Item item = items.get(index);
+                try {
+                    ProcessInstance processInstance = completeExternalTask(item.externalTaskId(), item.variables(), identityContext);
+                    results[index] = BatchItemResult.success(index, item.externalTaskId(), processInstance.id());
+                } catch (RuntimeException e) {
+                    results[index] = BatchItemResult.failure(index, item.externalTaskId(), e);
+                }
+            }
+        }
+
+        private PreparedContinuation prepare(Completion completion, BatchItemResult[] results) {
+            ExternalTask taskToComplete = completion.taskToComplete();
+            try {
+                ExecutionResult executionResult = executeExternalTaskCompletion(taskToComplete, completion.processInstanceRecord(),
+                        completion.processDefinition(), items.get(completion.index()).variables());
+                return continuationService.prepareExternalTaskCompletion(executionResult, taskToComplete,
+                        completion.processDefinition(), identityContext.actorId());
+            } catch (RuntimeException e) {
+                results[completion.index()] = BatchItemResult.failure(completion.index(), taskToComplete.id(), e);
+                return null;
+            }
+        }
+    }
 
     public ProcessInstance executeFromTask(ExecutableTask executableTask){
+        return runTask(executableTask).processInstance();
+    }
+
+    /**
+     * Mesma execução de {@link #executeFromTask(ExecutableTask)}, informando se a tarefa concluiu sem falha —
+     * usado pelo {@code TaskAcquirer} para alimentar o limite de concorrência adaptativo. Falhas já tratadas
+     * aqui (retry/incidente) contam como erro; perda de posse do lock não.
+     */
+    public boolean executeAcquiredTask(ExecutableTask executableTask) {
+        return runTask(executableTask).succeeded();
+    }
+
+    private TaskRun runTask(ExecutableTask executableTask){
+        return instanceCommandMailbox.execute(executableTask.processInstanceId(), () -> {
+            try {
+                return runTaskOnInstance(executableTask);
+            } catch (InstanceVersionConflictException e) {
+                // Regravações sobre a versão atual esgotadas (ver ContinuationService.handleContinuation): vira
+                // uma falha normal da tarefa (retry/incidente).
+                System.err.println("Task execution failed: " + e.getMessage());
+                ProcessInstance instance = kikwiEngineRepository.findProcessInstanceById(executableTask.processInstanceId()).orElse(null);
+                failureHandler.handleFailure(executableTask, e, List.of(), instance != null ? instance.tenantId() : null);
+                return new TaskRun(instance, false);
+            }
+        });
+    }
+
+    private TaskRun runTaskOnInstance(ExecutableTask executableTask){
         ProcessInstance processInstanceRecord = kikwiEngineRepository.findProcessInstanceById(executableTask.processInstanceId())
                 .orElseThrow(() -> new ProcessInstanceNotFoundException("Process Instance Not Found with id: " + executableTask.processInstanceId()));
 
@@ -460,7 +954,7 @@ public class KikwiflowEngine {
             // ContinuationService/ProcessStarter — o mesmo nível de orquestração cross-instance já usado por
             // completeExternalTask/correlateMessage/retryIncident nesta classe.
             if (executableTask.type() == ExecutableTaskType.CALL_ACTIVITY_STARTER) {
-                return executeCallActivityStarter(executableTask, processInstanceRecord, (CallActivityDefinition) flowNodeDefinition);
+                return new TaskRun(executeCallActivityStarter(executableTask, processInstanceRecord, (CallActivityDefinition) flowNodeDefinition), true);
             }
 
             // Coordenadora em modo SEQUENTIAL com elementos ainda não iniciados: dispatch dedicado, mesma
@@ -470,7 +964,7 @@ public class KikwiflowEngine {
             // docs/engine/20-subprocessos-call-activity-especificacao.md.
             if (executableTask.type() == ExecutableTaskType.CALL_ACTIVITY_COORDINATOR
                     && executableTask.pendingLoopElements() != null && !executableTask.pendingLoopElements().isEmpty()) {
-                return advanceSequentialCallActivity(executableTask, processInstanceRecord);
+                return new TaskRun(advanceSequentialCallActivity(executableTask, processInstanceRecord), true);
             }
 
             executionResult = processExecutionManager.executeFlow(
@@ -483,8 +977,17 @@ public class KikwiflowEngine {
                     guardSynchronousHandlers
             );
 
-            return this.continuationService.handleContinuation(executionResult, executableTask, processDefinition);
-
+            return new TaskRun(this.continuationService.handleContinuation(executionResult, executableTask, processDefinition), true);
+
+        } catch (LockOwnershipLostException e) {
+            // O lease expirou e outro nó já readquiriu a tarefa: o resultado desta execução é descartado sem
+            // retry/incidente — quem detém o lock agora é responsável por ela.
+            System.err.println("Kikwiflow Engine: posse do lock perdida, execução descartada: " + e.getMessage());
+            return new TaskRun(processInstanceRecord, true);
+        } catch (InstanceVersionConflictException e) {
+            // A continuação já foi regravada sobre a versão atual até o limite e ainda conflitou: runTask
+            // decide o destino da tarefa.
+            throw e;
         } catch (Exception e) {
             Exception rootException = e;
             List<OutboxEventEntity> pendingCriticalEvents = List.of();
@@ -498,10 +1001,13 @@ public class KikwiflowEngine {
 
             System.err.println("Task execution failed: " + rootException.getMessage());
             failureHandler.handleFailure(executableTask, rootException, pendingCriticalEvents, processInstanceRecord.tenantId());
-            return processInstanceRecord;
+            return new TaskRun(processInstanceRecord, false);
         }
     }
 
+    private record TaskRun(ProcessInstance processInstance, boolean succeeded) {
+    }
+
     /**
      * Dispatch dedicado de uma iniciadora ({@code CALL_ACTIVITY_STARTER}) — ver
      * docs/engine/20-subprocessos-call-activity-especificacao.md, §4.3. Inicia a instância filha via
@@ -522,6 +1028,15 @@ public class KikwiflowEngine {
         Map<String, ProcessVariable> childVariables = new HashMap<>(
                 parentInstance.variables() != null ? parentInstance.variables() : Map.of());
 
+        // Fan-out com janela (PARALLEL com maxConcurrency): cada filho recebe só o seu elemento e o seu índice —
+        // nunca a coleção inteira, que multiplicaria o tamanho da coleção por cada instância filha. Sem janela,
+        // os filhos recebem as variáveis do pai como sempre receberam, coleção inclusa.
+        if (callActivity.collectionVariable() != null && callActivity.maxConcurrency() != null
+                && callActivity.iterationMode() != CallActivityIterationMode.SEQUENTIAL) {
+            childVariables.remove(callActivity.collectionVariable());
+            childVariables.put(CallActivityDefinition.LOOP_INDEX_VARIABLE,
+                    new ProcessVariable(CallActivityDefinition.LOOP_INDEX_VARIABLE, starterTask.loopIndex()));
+        }
         if (callActivity.elementVariable() != null && starterTask.loopElement() != null) {
             childVariables.put(callActivity.elementVariable(), starterTask.loopElement());
         }
@@ -546,7 +1061,8 @@ public class KikwiflowEngine {
                 null, null,
                 null, null, null, null,
                 null, null, null,
-                null, null
+                null, null,
+                TaskLease.of(starterTask)
         );
 
         kikwiEngineRepository.commitWork(uow);
@@ -612,7 +1128,8 @@ public class KikwiflowEngine {
                 null, null, null, null,               // events, incidentsToCreate, incidentsToUpdate, incidentsToResolve
                 null, null,                           // finishedNodeDefinitions, branchPullIntentions
                 null,                                 // variableOperations
-                null, null                            // finalizingNodeId, finalizingNodeType
+                null, null,                           // finalizingNodeId, finalizingNodeType
+                TaskLease.of(coordinatorTask)         // taskLease
         );
 
         kikwiEngineRepository.commitWork(uow);
@@ -627,23 +1144,27 @@ public class KikwiflowEngine {
     }
 
     public ProcessInstance setVariables(String processInstanceId, Map<String, ProcessVariable> variables, IdentityContext identityContext){
-        //TODO implement the identity context logic (authorization).
-        List<OutboxEventEntity> events = new ArrayList<>();
-        ProcessInstance processInstance = kikwiEngineRepository.findProcessInstanceById(processInstanceId).orElse(null);
-        String processDefinitionId = processInstance != null ? processInstance.processDefinitionId() : null;
-        String tenantId = processInstance != null ? processInstance.tenantId() : null;
-        criticalEventRecorder.recordProcessVariableChanged(events, processInstanceId, processDefinitionId, tenantId, variables, identityContext.actorId());
-        return kikwiEngineRepository.addVariables(processInstanceId, variables, events);
+        return instanceCommandMailbox.execute(processInstanceId, () -> {
+            //TODO implement the identity context logic (authorization).
+            List<OutboxEventEntity> events = new ArrayList<>();
+            ProcessInstance processInstance = kikwiEngineRepository.findProcessInstanceById(processInstanceId).orElse(null);
+            String processDefinitionId = processInstance != null ? processInstance.processDefinitionId() : null;
+            String tenantId = processInstance != null ? processInstance.tenantId() : null;
+            criticalEventRecorder.recordProcessVariableChanged(events, processInstanceId, processDefinitionId, tenantId, variables, identityContext.actorId());
+            return kikwiEngineRepository.addVariables(processInstanceId, variables, events);
+        });
     }
 
     public ProcessInstance unsetVariables(String processInstanceId, Set<String> variableNames, IdentityContext identityContext){
-        //TODO implement the identity context logic (authorization).
-        List<OutboxEventEntity> events = new ArrayList<>();
-        ProcessInstance processInstance = kikwiEngineRepository.findProcessInstanceById(processInstanceId).orElse(null);
-        String processDefinitionId = processInstance != null ? processInstance.processDefinitionId() : null;
-        String tenantId = processInstance != null ? processInstance.tenantId() : null;
-        criticalEventRecorder.recordVariablesUnset(events, processInstanceId, processDefinitionId, tenantId, variableNames, identityContext.actorId());
-        return kikwiEngineRepository.unsetVariables(processInstanceId, variableNames, events);
+        return instanceCommandMailbox.execute(processInstanceId, () -> {
+            //TODO implement the identity context logic (authorization).
+            List<OutboxEventEntity> events = new ArrayList<>();
+            ProcessInstance processInstance = kikwiEngineRepository.findProcessInstanceById(processInstanceId).orElse(null);
+            String processDefinitionId = processInstance != null ? processInstance.processDefinitionId() : null;
+            String tenantId = processInstance != null ? processInstance.tenantId() : null;
+            criticalEventRecorder.recordVariablesUnset(events, processInstanceId, processDefinitionId, tenantId, variableNames, identityContext.actorId());
+            return kikwiEngineRepository.unsetVariables(processInstanceId, variableNames, events);
+        });
     }
 
     public void clearDefinitionCache(){
@@ -749,34 +1270,225 @@ public class KikwiflowEngine {
 
             ProcessInstance processInstance = ProcessInstanceFactory.create(businessKey, processDefinition.id(), variables,
                     businessValue, tenantId, origin, parentInstanceId, callerTaskId, callerBranchId);
-            ProcessInstanceExecution processInstanceExecution = ProcessInstanceMapper.mapToInstanceExecution(processInstance);
-            processInstanceExecution.setPersisted(false);
 
-            String defaultStartPointId  = processDefinition.defaultStartPoint();
-            FlowNodeDefinition defaultStartPoint = processDefinition.flowNodes().get(defaultStartPointId);
-            Objects.requireNonNull(defaultStartPoint, "Malformed process definition: unknown default start point. The default start point needs to be declared in flow nodes map");
+            ExecutionResult executionResult = engine.executeInitialSegment(processInstance, processDefinition);
+
+            return engine.continuationService.handleContinuation(executionResult, processDefinition, actor);
+        }
+
+        /**
+         * Variante de {@link #execute()} na fachada {@link KikwiflowEngine#async()}: a validação e a gravação
+         * rodam numa virtual thread, e o future pode ser encadeado com os demais comandos assíncronos.
+         */
+        public CompletableFuture<ProcessInstance> executeAsync() {
+            return engine.async().submit(this::execute);
+        }
+    }
+
+    /**
+     * Roda o segmento síncrono inicial de uma instância recém-criada, a partir do start point padrão, sem
+     * persistir nada.
+     */
+    private ExecutionResult executeInitialSegment(ProcessInstance processInstance, ProcessDefinition processDefinition) {
+        ProcessInstanceExecution processInstanceExecution = ProcessInstanceMapper.mapToInstanceExecution(processInstance);
+        processInstanceExecution.setPersisted(false);
+
+        String defaultStartPointId  = processDefinition.defaultStartPoint();
+        FlowNodeDefinition defaultStartPoint = processDefinition.flowNodes().get(defaultStartPointId);
+        Objects.requireNonNull(defaultStartPoint, "Malformed process definition: unknown default start point. The default start point needs to be declared in flow nodes map");
+
+        try {
+            return processExecutionManager.executeFlow(
+                    defaultStartPoint,
+                    null,
+                    null,
+                    processInstanceExecution,
+                    processDefinition,
+                    false,
+                    false);
+        } catch (FlowNodeExecutionFailure flowNodeExecutionFailure) {
+            // Nada foi persistido ainda neste ponto (instância síncrona ainda não confirmada), então os
+            // outbox events acumulados não têm onde ser gravados; propaga a causa original para preservar
+            // o tipo/mensagem da exceção de negócio para quem chamou startProcess().execute().
+            if (flowNodeExecutionFailure.getCause() instanceof RuntimeException runtimeCause) {
+                throw runtimeCause;
+            }
+            throw flowNodeExecutionFailure;
+        }
+    }
+
+    /**
+     * Grava as continuações preparadas de um bloco de uma operação em lote numa única transação
+     * ({@code chunkCommit}); se ela falhar, regrava unidade a unidade via {@code commitWork} para isolar a que tem
+     * problema. {@code onCommitted}/{@code onFailed} recebem a posição de cada continuação em {@code prepared}.
+     */
+    private void commitPreparedChunk(List<PreparedContinuation> prepared, Consumer<List<UnitOfWork>> chunkCommit,
+                                     IntConsumer onCommitted, ObjIntConsumer<RuntimeException> onFailed) {
+        commitPreparedChunk(prepared, chunkCommit, i -> kikwiEngineRepository.commitWork(prepared.get(i).unitOfWork()),
+                onCommitted, onFailed);
+    }
+
+    /**
+     * Variante com a regravação unitária fornecida por quem chama ({@code commitAlone}), para operações em lote
+     * que precisam refazer a unidade sobre o estado atual quando ela perde a corrida para outro comando.
+     */
+    private void commitPreparedChunk(List<PreparedContinuation> prepared, Consumer<List<UnitOfWork>> chunkCommit,
+                                     IntConsumer commitAlone, IntConsumer onCommitted, ObjIntConsumer<RuntimeException> onFailed) {
+        if (prepared.isEmpty()) {
+            return;
+        }
 
-            ExecutionResult executionResult;
+        boolean chunkCommitted = false;
+        try {
+            chunkCommit.accept(prepared.stream().map(PreparedContinuation::unitOfWork).toList());
+            chunkCommitted = true;
+        } catch (RuntimeException chunkFailure) {
+            System.err.println("Kikwiflow: falha ao gravar bloco de " + prepared.size()
+                    + " unidades, regravando item a item: " + chunkFailure.getMessage());
+        }
+
+        for (int i = 0; i < prepared.size(); i++) {
+            if (chunkCommitted) {
+                onCommitted.accept(i);
+                continue;
+            }
             try {
-                executionResult = engine.processExecutionManager.executeFlow(
-                        defaultStartPoint,
-                        null,
-                        null,
-                        processInstanceExecution,
-                        processDefinition,
-                        false,
-                        false);
-            } catch (FlowNodeExecutionFailure flowNodeExecutionFailure) {
-                // Nada foi persistido ainda neste ponto (instância síncrona ainda não confirmada), então os
-                // outbox events acumulados não têm onde ser gravados; propaga a causa original para preservar
-                // o tipo/mensagem da exceção de negócio para quem chamou startProcess().execute().
-                if (flowNodeExecutionFailure.getCause() instanceof RuntimeException runtimeCause) {
-                    throw runtimeCause;
+                commitAlone.accept(i);
+                onCommitted.accept(i);
+            } catch (RuntimeException e) {
+                onFailed.accept(e, i);
+            }
+        }
+    }
+
+    /**
+     * Inicia várias instâncias de uma mesma definição de uma vez (ver {@link BulkProcessStarter}).
+     */
+    public BulkProcessStarter startProcesses() {
+        return new BulkProcessStarter();
+    }
+
+    /**
+     * Builder do início em lote. Cada item roda seu segmento síncrono inicial exatamente como
+     * {@link ProcessStarter#execute()}, mas os commits resultantes são gravados em blocos de
+     * {@link #chunkSize(int)} unidades, cada bloco numa única transação via
+     * {@code CommandRepository.commitNewInstances} — em vez de uma transação por instância. Unidades que não são
+     * só de criação vão num bloco à parte via {@code commitWorkBatch}.
+     * <p>
+     * Falhas são por item: um segmento que lança exceção vira um {@link BatchItemResult} de falha e não entra no
+     * bloco. Se a transação de um bloco falhar, o bloco é regravado unidade a unidade para isolar o item com
+     * problema, e os demais seguem. O resultado traz um item por entrada, na ordem em que foram adicionadas.
+     */
+    public class BulkProcessStarter {
+
+        public static final int DEFAULT_CHUNK_SIZE = 500;
+
+        private record Item(String businessKey, Map<String, ProcessVariable> variables, String tenantId,
+                            BigDecimal businessValue) {}
+
+        private final List<Item> items = new ArrayList<>();
+        private String processDefinitionKey;
+        private String origin;
+        private String actor;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private BulkProcessStarter() {
+        }
+
+        public BulkProcessStarter byKey(String key) {
+            this.processDefinitionKey = key;
+            return this;
+        }
+
+        public BulkProcessStarter from(String origin) {
+            this.origin = origin;
+            return this;
+        }
+
+        public BulkProcessStarter byActor(String actor) {
+            this.actor = actor;
+            return this;
+        }
+
+        public BulkProcessStarter chunkSize(int chunkSize) {
+            if (chunkSize > 0) {
+                this.chunkSize = chunkSize;
+            }
+            return this;
+        }
+
+        public BulkProcessStarter add(String businessKey, Map<String, ProcessVariable> variables, String tenantId,
+                                      BigDecimal businessValue) {
+            items.add(new Item(businessKey, variables != null ? new HashMap<>(variables) : new HashMap<>(), tenantId, businessValue));
+            return this;
+        }
+
+        public BulkProcessStarter add(String businessKey, Map<String, ProcessVariable> variables) {
+            return add(businessKey, variables, null, null);
+        }
+
+        public BatchResult execute() {
+            Objects.requireNonNull(processDefinitionKey, "Process definition key cannot be null. Use byKey().");
+
+            ProcessDefinition processDefinition = processDefinitionService.getByKeyOrElseThrow(processDefinitionKey);
+            BatchItemResult[] results = new BatchItemResult[items.size()];
+
+            for (int chunkStart = 0; chunkStart < items.size(); chunkStart += chunkSize) {
+                int chunkEnd = Math.min(items.size(), chunkStart + chunkSize);
+                List<Integer> preparedIndexes = new ArrayList<>();
+                List<PreparedContinuation> prepared = new ArrayList<>();
+
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    Item item = items.get(i);
+                    try {
+                        Objects.requireNonNull(item.businessKey(), "Business key cannot be null.");
+                        ProcessInstance processInstance = ProcessInstanceFactory.create(item.businessKey(),
+                                processDefinition.id(), item.variables(), item.businessValue(), item.tenantId(),
+                                origin, null, null, null);
+                        ExecutionResult executionResult = executeInitialSegment(processInstance, processDefinition);
+                        prepared.add(continuationService.prepareStart(executionResult, processDefinition, actor));
+                        preparedIndexes.add(i);
+                    } catch (RuntimeException e) {
+                        results[i] = BatchItemResult.failure(i, item.businessKey(), e);
+                    }
                 }
-                throw flowNodeExecutionFailure;
+
+                commitChunk(prepared, preparedIndexes, results);
             }
 
-            return engine.continuationService.handleContinuation(executionResult, processDefinition, actor);
+            return BatchResult.of(Arrays.asList(results));
+        }
+
+        /**
+         * {@code commitNewInstances} recusa o bloco inteiro se uma única unidade não for só de criação, o que
+         * jogaria o bloco todo no regravar item a item. As unidades só de criação seguem juntas por ali; as
+         * demais (ex.: um segmento inicial que já puxa branch de join) vão num bloco à parte via
+         * {@code commitWorkBatch}, que regrava cada uma por {@code commitWork} se a transação falhar.
+         */
+        private void commitChunk(List<PreparedContinuation> prepared, List<Integer> indexes, BatchItemResult[] results) {
+            List<PreparedContinuation> creations = new ArrayList<>();
+            List<Integer> creationIndexes = new ArrayList<>();
+            List<PreparedContinuation> others = new ArrayList<>();
+            List<Integer> otherIndexes = new ArrayList<>();
+            for (int i = 0; i < prepared.size(); i++) {
+                boolean creationOnly = prepared.get(i).unitOfWork().isCreationOnly();
+                (creationOnly ? creations : others).add(prepared.get(i));
+                (creationOnly ? creationIndexes : otherIndexes).add(indexes.get(i));
+            }
+
+            commitChunk(creations, creationIndexes, kikwiEngineRepository::commitNewInstances, results);
+            commitChunk(others, otherIndexes, kikwiEngineRepository::commitWorkBatch, results);
+        }
+
+        private void commitChunk(List<PreparedContinuation> prepared, List<Integer> indexes,
+                                 Consumer<List<UnitOfWork>> chunkCommit, BatchItemResult[] results) {
+            commitPreparedChunk(prepared, chunkCommit,
+                    i -> results[indexes.get(i)] = success(indexes.get(i), prepared.get(i)),
+                    (e, i) -> results[indexes.get(i)] = BatchItemResult.failure(indexes.get(i), items.get(indexes.get(i)).businessKey(), e));
+        }
+
+        private BatchItemResult success(int index, PreparedContinuation prepared) {
+            return BatchItemResult.success(index, items.get(index).businessKey(), prepared.processInstance().id());
         }
     }
 }
@@ -38,22 +38,22 @@ public class DefaultExecutionContext implements ExecutionContext {
 
     @Override
     public void setVariable(String variableName, ProcessVariable value) {
-        processInstance.getVariables().put(variableName, value);
+        processInstance.setVariable(variableName, value);
     }
 
     @Override
     public void removeVariable(String variableName) {
-        processInstance.getVariables().remove(variableName);
+        processInstance.removeVariable(variableName);
     }
 
     @Override
     public ProcessVariable getVariable(String variableName) {
-        return processInstance.getVariables().get(variableName);
+        return processInstance.getVariable(variableName);
     }
 
     @Override
     public boolean hasVariable(String variableName) {
-        return processInstance.getVariables().containsKey(variableName);
+        return processInstance.hasVariable(variableName);
     }
 
     @Override
@@ -16,8 +16,16 @@
  */
 package io.kikwiflow.config;
 
+import io.kikwiflow.model.execution.enumerated.FlowNodeRecordingLevel;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionFeatures;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionOrder;
+
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class KikwiflowConfig {
 
@@ -46,13 +54,147 @@ public class KikwiflowConfig {
      * no arquivo de propriedades da aplicação.
      */
     private boolean isOutboxEventsEnabled = false;
+    /**
+     * Nível padrão do evento {@code FLOW_NODE_FINISHED} quando o outbox está ligado ({@code SUMMARY}). Pode ser
+     * sobrescrito por definição ou por nó pela extension property {@code outbox.flow-node-recording}.
+     */
+    private FlowNodeRecordingLevel flowNodeRecordingLevel = FlowNodeRecordingLevel.SUMMARY;
 
 
     private long taskAcquisitionIntervalMillis = 5000L;
+    /**
+     * Teto do backoff exponencial do poller quando polls consecutivos voltam vazios. O intervalo parte de
+     * {@code taskAcquisitionIntervalMillis} e dobra a cada poll vazio até este valor; qualquer tarefa adquirida
+     * volta o intervalo para a base. Lotes cheios disparam re-poll imediato, independente deste valor. Com
+     * {@code timerLookAheadMillis} ligado, o teto nunca passa da janela de pré-aquisição. O valor padrão
+     * {@code 0} (ou qualquer valor até a base) desliga o backoff: uma tarefa criada num nó ocioso continua sendo
+     * vista no máximo um intervalo base depois.
+     */
+    private long taskAcquisitionMaxBackoffMillis = 0L;
     private int taskAcquisitionMaxTasks = 10;
+    /**
+     * Janela de pré-aquisição de tarefas com {@code dueDate} futuro (timers e backoffs de retry). Com valor
+     * positivo, o poller também trava tarefas que vencem dentro da janela e as dispara no instante exato do
+     * {@code dueDate} a partir de uma timing wheel local, em vez de esperar o próximo poll. Limitada
+     * internamente a metade de {@code lockTimeoutMillis}. A roda guarda no máximo {@code maxConcurrentTasks}
+     * tarefas, que só tomam permissão de worker ao disparar. O valor padrão {@code 0} desliga o recurso.
+     */
+    private long timerLookAheadMillis = 0L;
+    /**
+     * Resolução da timing wheel usada com {@code timerLookAheadMillis}.
+     */
+    private long timingWheelTickMillis = 1L;
     private int maxConcurrentTasks = 200;
+    /**
+     * Concorrência adaptativa (AIMD): o limite global parte de {@link #maxConcurrentTasks} e cresce enquanto a
+     * latência dos handlers se mantém estável, sendo cortado quando ela sobe além de
+     * {@link #adaptiveConcurrencyLatencyTolerance} × a latência base ou quando há falhas. Os bulkheads por
+     * handler ganham um limitador próprio, com o limite configurado como teto.
+     * <p>
+     * Desligado por padrão — os limites continuam fixos.
+     */
+    private boolean isAdaptiveConcurrencyEnabled = false;
+    private int adaptiveConcurrencyMinLimit = 1;
+    private int adaptiveConcurrencyMaxLimit = 1000;
+    private double adaptiveConcurrencyLatencyTolerance = 2.0;
+    /**
+     * Bulkheads por handler: limite de execuções simultâneas no nó para cada {@code executor} (nome do bean
+     * {@code TaskHandler}). Enquanto o bulkhead de um handler estiver cheio, o poller deixa de adquirir tarefas
+     * dele — um downstream lento não consome as permissões globais de {@code maxConcurrentTasks}.
+     * <p>
+     * Vazio por padrão (sem limites por handler). Ex.: {@code kikwiflow.execution.bulkheads.bureauCheck=20}.
+     */
+    private Map<String, Integer> executorConcurrencyLimits = new HashMap<>();
+    /**
+     * Roteamento por tópico: quando ligado, o nó só adquire tarefas cujo {@code topic} ele serve — os nomes dos
+     * handlers que o {@code TaskHandlerResolver} conhece mais os {@link #servedTopics} declarados. Tarefas sem
+     * tópico (timers, joins...) continuam sendo adquiridas por qualquer nó.
+     * <p>
+     * Desligado por padrão: com pools heterogêneos, cada tópico precisa ser servido por algum nó, senão suas
+     * tarefas ficam PENDING indefinidamente.
+     */
+    private boolean isTopicRoutingEnabled = false;
+    /**
+     * Tópicos explícitos (extension property {@code topic} do nó) servidos por este nó, além dos nomes de handler.
+     * Ex.: {@code kikwiflow.execution.topics=cpu-heavy}.
+     */
+    private Set<String> servedTopics = new HashSet<>();
+    /**
+     * Ordem de aquisição: {@code DUE_DATE} (padrão, mais antigas primeiro) ou {@code PRIORITY} (maior
+     * {@code ExecutableTask.priority} primeiro — business value, SLA e extension property {@code priority} do nó).
+     */
+    private TaskAcquisitionOrder taskAcquisitionOrder = TaskAcquisitionOrder.DUE_DATE;
+    /**
+     * Com {@code PRIORITY}, tempo de espera após o qual uma tarefa é adquirida antes de qualquer outra,
+     * independentemente da prioridade — proteção contra inanição das instâncias de baixo valor.
+     */
+    private long priorityAgingMillis = 300000L;
+    /**
+     * Aquisição particionada: com valor > 0, novas ExecutableTasks recebem uma partição (hash do
+     * processInstanceId mod este valor) e cada nó só adquire das partições que detém, distribuídas entre os nós
+     * vivos pela membresia de aquisição — os nós deixam de disputar as mesmas tarefas do topo da fila. Precisa
+     * ser igual em todo o cluster. 0 (padrão) desliga.
+     */
+    private int acquisitionPartitions = 0;
+    /**
+     * Tempo sem heartbeat após o qual um nó deixa de ser membro e suas partições são redistribuídas. O heartbeat
+     * roda a cada um terço deste valor.
+     */
+    private long partitionMemberTtlMillis = 15000L;
+    /**
+     * Splits cujos ramos são inteiramente síncronos (sem wait state, commitBefore/commitAfter, timer ou evento até
+     * o join) rodam os ramos em paralelo em virtual threads, na mesma unidade de trabalho, e fazem o join em
+     * memória — sem ExecutableTasks de ramo nem de join. Os handlers desses ramos passam a rodar ao mesmo tempo e
+     * precisam ser thread-safe. Desligado por padrão.
+     */
+    private boolean isInlineParallelBranchesEnabled = false;
+    /**
+     * Limite de comandos simultâneos da fachada assíncrona ({@code KikwiflowEngine.async()}), cada um numa
+     * virtual thread. {@code 0} (padrão) não limita.
+     */
+    private int asyncCommandMaxConcurrency = 0;
+    /**
+     * Prazo padrão de cada comando da fachada assíncrona: estourado, o future falha com {@code TimeoutException}
+     * e o comando em andamento é interrompido. {@code 0} (padrão) não impõe prazo.
+     */
+    private long asyncCommandTimeoutMillis = 0L;
+    /**
+     * Serializa, dentro do nó, os comandos sobre uma mesma instância (complete/correlação/variáveis/tarefa
+     * adquirida) numa fila por instância, em vez de deixá-los colidir no controle otimista do {@code commitWork}.
+     * Inclui a execução dos handlers: ramos paralelos de uma mesma instância passam a rodar um por vez neste nó.
+     */
+    private boolean instanceCommandMailboxEnabled = false;
+    /**
+     * Quantas vezes uma continuação é regravada sobre a versão atual da instância (relida, sem rodar os handlers
+     * de novo) quando o {@code commitWork} é rejeitado por conflito de versão. {@code 0} propaga o conflito na
+     * primeira vez.
+     */
+    private int instanceVersionConflictMaxRetries = 3;
+    /**
+     * Agrupa os commits das tarefas executadas pelo {@code TaskAcquirer} (instâncias diferentes) numa única
+     * transação por janela — ver {@code GroupCommitStage}. Cada commit passa a esperar até
+     * {@code groupCommitWindowMillis}.
+     */
+    private boolean groupCommitEnabled = false;
+    private long groupCommitWindowMillis = 2L;
+    private int groupCommitMaxBatchSize = 64;
+    /**
+     * Quantos elementos ainda não iniciados de uma call activity PARALLEL com {@code maxConcurrency} cabem em cada
+     * bloco gravado fora da coordenadora ({@code LoopElementChunk}) — mantém cada documento bem abaixo do limite de
+     * 16 MB do Mongo mesmo com coleções de dezenas de milhares de itens.
+     */
+    private int callActivityLoopElementChunkSize = 500;
     private int shutdownGracePeriodSeconds = 20;
     private long lockTimeoutMillis = 5000L;
+    /**
+     * Controla o heartbeat de lease do {@code TaskAcquirer}: enquanto uma tarefa executa, o nó renova
+     * periodicamente ({@code lockTimeoutMillis / 3}) o {@code acquiredAt} de todas as tarefas em voo numa única
+     * escrita, e o commit da tarefa verifica que o nó ainda é dono do lock. Desligado, uma tarefa que roda mais
+     * que {@code lockTimeoutMillis} pode ser readquirida e executada em duplicidade por outro nó.
+     * <p>
+     * O valor padrão é {@code true}.
+     */
+    private boolean isLeaseRenewalEnabled = true;
     private String defaultRetryInterval = "PT3M";
     private int defaultMaxRetries = 3;
     private String instanceName;
@@ -74,6 +216,16 @@ public class KikwiflowConfig {
         isStatsEnabled = statsEnabled;
     }
 
+    public FlowNodeRecordingLevel getFlowNodeRecordingLevel() {
+        return flowNodeRecordingLevel;
+    }
+
+    public void setFlowNodeRecordingLevel(FlowNodeRecordingLevel flowNodeRecordingLevel) {
+        if (flowNodeRecordingLevel != null) {
+            this.flowNodeRecordingLevel = flowNodeRecordingLevel;
+        }
+    }
+
     public void setOutboxEventsEnabled(boolean outboxEventsEnabled) {
         isOutboxEventsEnabled = outboxEventsEnabled;
     }
@@ -116,10 +268,193 @@ public class KikwiflowConfig {
         return lockTimeoutMillis;
     }
 
+    public boolean isLeaseRenewalEnabled() {
+        return isLeaseRenewalEnabled;
+    }
+
+    public void setLeaseRenewalEnabled(boolean leaseRenewalEnabled) {
+        isLeaseRenewalEnabled = leaseRenewalEnabled;
+    }
+
     public void setInstanceName(String instanceName) {
         this.instanceName = instanceName;
     }
 
+    public Map<String, Integer> getExecutorConcurrencyLimits() {
+        return executorConcurrencyLimits;
+    }
+
+    public void setExecutorConcurrencyLimits(Map<String, Integer> executorConcurrencyLimits) {
+        if (executorConcurrencyLimits != null) {
+            this.executorConcurrencyLimits = executorConcurrencyLimits;
+        }
+    }
+
+    public boolean isTopicRoutingEnabled() {
+        return isTopicRoutingEnabled;
+    }
+
+    public void setTopicRoutingEnabled(boolean topicRoutingEnabled) {
+        isTopicRoutingEnabled = topicRoutingEnabled;
+    }
+
+    /**
+     * Modos de aquisição ligados nesta configuração que pedem índice próprio no repositório (ver
+     * {@code KikwiEngineRepository.ensureIndexes(TaskAcquisitionFeatures)}).
+     */
+    public TaskAcquisitionFeatures getTaskAcquisitionFeatures() {
+        return new TaskAcquisitionFeatures(isTopicRoutingEnabled, taskAcquisitionOrder == TaskAcquisitionOrder.PRIORITY,
+                acquisitionPartitions > 0);
+    }
+
+    public Set<String> getServedTopics() {
+        return servedTopics;
+    }
+
+    public void setServedTopics(Set<String> servedTopics) {
+        if (servedTopics != null) {
+            this.servedTopics = servedTopics;
+        }
+    }
+
+    public TaskAcquisitionOrder getTaskAcquisitionOrder() {
+        return taskAcquisitionOrder;
+    }
+
+    public void setTaskAcquisitionOrder(TaskAcquisitionOrder taskAcquisitionOrder) {
+        if (taskAcquisitionOrder != null) {
+            this.taskAcquisitionOrder = taskAcquisitionOrder;
+        }
+    }
+
+    public long getPriorityAgingMillis() {
+        return priorityAgingMillis;
+    }
+
+    public void setPriorityAgingMillis(long priorityAgingMillis) {
+        this.priorityAgingMillis = priorityAgingMillis;
+    }
+
+    public boolean isAdaptiveConcurrencyEnabled() {
+        return isAdaptiveConcurrencyEnabled;
+    }
+
+    public void setAdaptiveConcurrencyEnabled(boolean adaptiveConcurrencyEnabled) {
+        isAdaptiveConcurrencyEnabled = adaptiveConcurrencyEnabled;
+    }
+
+    public int getAdaptiveConcurrencyMinLimit() {
+        return adaptiveConcurrencyMinLimit;
+    }
+
+    public void setAdaptiveConcurrencyMinLimit(int adaptiveConcurrencyMinLimit) {
+        this.adaptiveConcurrencyMinLimit = adaptiveConcurrencyMinLimit;
+    }
+
+    public int getAdaptiveConcurrencyMaxLimit() {
+        return adaptiveConcurrencyMaxLimit;
+    }
+
+    public void setAdaptiveConcurrencyMaxLimit(int adaptiveConcurrencyMaxLimit) {
+        this.adaptiveConcurrencyMaxLimit = adaptiveConcurrencyMaxLimit;
+    }
+
+    public double getAdaptiveConcurrencyLatencyTolerance() {
+        return adaptiveConcurrencyLatencyTolerance;
+    }
+
+    public void setAdaptiveConcurrencyLatencyTolerance(double adaptiveConcurrencyLatencyTolerance) {
+        this.adaptiveConcurrencyLatencyTolerance = adaptiveConcurrencyLatencyTolerance;
+    }
+
+    public int getAcquisitionPartitions() {
+        return acquisitionPartitions;
+    }
+
+    public void setAcquisitionPartitions(int acquisitionPartitions) {
+        this.acquisitionPartitions = acquisitionPartitions;
+    }
+
+    public boolean isInlineParallelBranchesEnabled() {
+        return isInlineParallelBranchesEnabled;
+    }
+
+    public void setInlineParallelBranchesEnabled(boolean inlineParallelBranchesEnabled) {
+        isInlineParallelBranchesEnabled = inlineParallelBranchesEnabled;
+    }
+
+    public int getAsyncCommandMaxConcurrency() {
+        return asyncCommandMaxConcurrency;
+    }
+
+    public void setAsyncCommandMaxConcurrency(int asyncCommandMaxConcurrency) {
+        this.asyncCommandMaxConcurrency = asyncCommandMaxConcurrency;
+    }
+
+    public long getAsyncCommandTimeoutMillis() {
+        return asyncCommandTimeoutMillis;
+    }
+
+    public void setAsyncCommandTimeoutMillis(long asyncCommandTimeoutMillis) {
+        this.asyncCommandTimeoutMillis = asyncCommandTimeoutMillis;
+    }
+
+    public boolean isInstanceCommandMailboxEnabled() {
+        return instanceCommandMailboxEnabled;
+    }
+
+    public void setInstanceCommandMailboxEnabled(boolean instanceCommandMailboxEnabled) {
+        this.instanceCommandMailboxEnabled = instanceCommandMailboxEnabled;
+    }
+
+    public int getInstanceVersionConflictMaxRetries() {
+        return instanceVersionConflictMaxRetries;
+    }
+
+    public void setInstanceVersionConflictMaxRetries(int instanceVersionConflictMaxRetries) {
+        this.instanceVersionConflictMaxRetries = instanceVersionConflictMaxRetries;
+    }
+
+    public boolean isGroupCommitEnabled() {
+        return groupCommitEnabled;
+    }
+
+    public void setGroupCommitEnabled(boolean groupCommitEnabled) {
+        this.groupCommitEnabled = groupCommitEnabled;
+    }
+
+    public long getGroupCommitWindowMillis() {
+        return groupCommitWindowMillis;
+    }
+
+    public void setGroupCommitWindowMillis(long groupCommitWindowMillis) {
+        this.groupCommitWindowMillis = groupCommitWindowMillis;
+    }
+
+    public int getGroupCommitMaxBatchSize() {
+        return groupCommitMaxBatchSize;
+    }
+
+    public void setGroupCommitMaxBatchSize(int groupCommitMaxBatchSize) {
+        this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
+    }
+
+    public int getCallActivityLoopElementChunkSize() {
+        return callActivityLoopElementChunkSize;
+    }
+
+    public void setCallActivityLoopElementChunkSize(int callActivityLoopElementChunkSize) {
+        this.callActivityLoopElementChunkSize = callActivityLoopElementChunkSize;
+    }
+
+    public long getPartitionMemberTtlMillis() {
+        return partitionMemberTtlMillis;
+    }
+
+    public void setPartitionMemberTtlMillis(long partitionMemberTtlMillis) {
+        this.partitionMemberTtlMillis = partitionMemberTtlMillis;
+    }
+
     public void setMaxConcurrentTasks(int maxConcurrentTasks) {
         this.maxConcurrentTasks = maxConcurrentTasks;
     }
@@ -136,6 +471,30 @@ public class KikwiflowConfig {
         this.taskAcquisitionIntervalMillis = taskAcquisitionIntervalMillis;
     }
 
+    public long getTaskAcquisitionMaxBackoffMillis() {
+        return taskAcquisitionMaxBackoffMillis;
+    }
+
+    public void setTaskAcquisitionMaxBackoffMillis(long taskAcquisitionMaxBackoffMillis) {
+        this.taskAcquisitionMaxBackoffMillis = taskAcquisitionMaxBackoffMillis;
+    }
+
+    public long getTimerLookAheadMillis() {
+        return timerLookAheadMillis;
+    }
+
+    public void setTimerLookAheadMillis(long timerLookAheadMillis) {
+        this.timerLookAheadMillis = timerLookAheadMillis;
+    }
+
+    public long getTimingWheelTickMillis() {
+        return timingWheelTickMillis;
+    }
+
+    public void setTimingWheelTickMillis(long timingWheelTickMillis) {
+        this.timingWheelTickMillis = timingWheelTickMillis;
+    }
+
     public int getTaskAcquisitionMaxTasks() {
         return taskAcquisitionMaxTasks;
     }
@@ -176,11 +535,35 @@ public class KikwiflowConfig {
         final StringBuffer sb = new StringBuffer("KikwiflowConfig{");
         sb.append("isStatsEnabled=").append(isStatsEnabled);
         sb.append(", isOutboxEventsEnabled=").append(isOutboxEventsEnabled);
+        sb.append(", flowNodeRecordingLevel=").append(flowNodeRecordingLevel);
         sb.append(", taskAcquisitionIntervalMillis=").append(taskAcquisitionIntervalMillis);
+        sb.append(", taskAcquisitionMaxBackoffMillis=").append(taskAcquisitionMaxBackoffMillis);
         sb.append(", taskAcquisitionMaxTasks=").append(taskAcquisitionMaxTasks);
+        sb.append(", timerLookAheadMillis=").append(timerLookAheadMillis);
         sb.append(", maxConcurrentTasks=").append(maxConcurrentTasks);
+        sb.append(", isAdaptiveConcurrencyEnabled=").append(isAdaptiveConcurrencyEnabled);
+        sb.append(", adaptiveConcurrencyMinLimit=").append(adaptiveConcurrencyMinLimit);
+        sb.append(", adaptiveConcurrencyMaxLimit=").append(adaptiveConcurrencyMaxLimit);
+        sb.append(", adaptiveConcurrencyLatencyTolerance=").append(adaptiveConcurrencyLatencyTolerance);
+        sb.append(", executorConcurrencyLimits=").append(executorConcurrencyLimits);
+        sb.append(", isTopicRoutingEnabled=").append(isTopicRoutingEnabled);
+        sb.append(", servedTopics=").append(servedTopics);
+        sb.append(", taskAcquisitionOrder=").append(taskAcquisitionOrder);
+        sb.append(", priorityAgingMillis=").append(priorityAgingMillis);
+        sb.append(", acquisitionPartitions=").append(acquisitionPartitions);
+        sb.append(", partitionMemberTtlMillis=").append(partitionMemberTtlMillis);
+        sb.append(", isInlineParallelBranchesEnabled=").append(isInlineParallelBranchesEnabled);
+        sb.append(", asyncCommandMaxConcurrency=").append(asyncCommandMaxConcurrency);
+        sb.append(", asyncCommandTimeoutMillis=").append(asyncCommandTimeoutMillis);
+        sb.append(", instanceCommandMailboxEnabled=").append(instanceCommandMailboxEnabled);
+        sb.append(", instanceVersionConflictMaxRetries=").append(instanceVersionConflictMaxRetries);
+        sb.append(", groupCommitEnabled=").append(groupCommitEnabled);
+        sb.append(", groupCommitWindowMillis=").append(groupCommitWindowMillis);
+        sb.append(", groupCommitMaxBatchSize=").append(groupCommitMaxBatchSize);
+        sb.append(", callActivityLoopElementChunkSize=").append(callActivityLoopElementChunkSize);
         sb.append(", shutdownGracePeriodSeconds=").append(shutdownGracePeriodSeconds);
         sb.append(", lockTimeoutMillis=").append(lockTimeoutMillis);
+        sb.append(", isLeaseRenewalEnabled=").append(isLeaseRenewalEnabled);
         sb.append(", instanceName='").append(instanceName).append('\'');
         sb.append(", fatalExceptions=").append(fatalExceptions);
         sb.append('}');
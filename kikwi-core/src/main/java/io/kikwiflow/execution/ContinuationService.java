@@ -22,11 +22,14 @@ import io.kikwiflow.exception.NotImplementedException;
 import io.kikwiflow.execution.dto.Continuation;
 import io.kikwiflow.execution.dto.ExecutionOutcome;
 import io.kikwiflow.execution.dto.ExecutionResult;
+import io.kikwiflow.execution.dto.PreparedContinuation;
 import io.kikwiflow.execution.event.CriticalEventRecorder;
 import io.kikwiflow.execution.evaluator.CorrelationKeyResolver;
 import io.kikwiflow.execution.evaluator.TimerDueDateEvaluator;
 import io.kikwiflow.execution.api.dto.CorrelationItem;
 import io.kikwiflow.execution.mapper.ProcessInstanceMapper;
+import io.kikwiflow.execution.partitioning.PartitionAssignment;
+import io.kikwiflow.execution.scheduling.TaskPriorityCalculator;
 import io.kikwiflow.model.definition.process.ProcessDefinition;
 import io.kikwiflow.model.definition.process.elements.CallActivityDefinition;
 import io.kikwiflow.model.definition.process.elements.ErrorHandlerDefinition;
@@ -53,15 +56,18 @@ import io.kikwiflow.model.execution.node.AttachedEventReference;
 import io.kikwiflow.model.execution.node.AttachedTaskType;
 import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import io.kikwiflow.persistence.api.data.TaskLease;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
+import io.kikwiflow.persistence.api.exception.InstanceVersionConflictException;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class ContinuationService {
 
@@ -70,6 +76,8 @@ public class ContinuationService {
     private final CorrelationKeyResolver correlationKeyResolver;
     private final KikwiflowConfig kikwiflowConfig;
     private final CriticalEventRecorder criticalEventRecorder;
+    private final TaskPriorityCalculator taskPriorityCalculator = new TaskPriorityCalculator();
+    private final GroupCommitStage groupCommitStage;
 
     public ContinuationService(KikwiEngineRepository kikwiEngineRepository, TimerDueDateEvaluator timerDueDateEvaluator,
                                CorrelationKeyResolver correlationKeyResolver, KikwiflowConfig kikwiflowConfig,
@@ -79,6 +87,17 @@ public class ContinuationService {
         this.correlationKeyResolver = correlationKeyResolver;
         this.kikwiflowConfig = kikwiflowConfig;
         this.criticalEventRecorder = criticalEventRecorder;
+        this.groupCommitStage = kikwiflowConfig.isGroupCommitEnabled()
+                ? new GroupCommitStage(kikwiEngineRepository::commitWork, kikwiEngineRepository::commitWorkBatch,
+                        kikwiflowConfig.getGroupCommitWindowMillis(), kikwiflowConfig.getGroupCommitMaxBatchSize())
+                : null;
+    }
+
+    /**
+     * Contadores do group commit, ou {@code null} quando desabilitado ({@code groupCommitEnabled}).
+     */
+    public GroupCommitStage.Snapshot getGroupCommitStats() {
+        return groupCommitStage != null ? groupCommitStage.snapshot() : null;
     }
 
     public ProcessInstance handleContinuation(ExecutionResult executionResult, ExternalTask completedExternalTask, ProcessDefinition processDefinition){
@@ -107,10 +126,85 @@ public class ContinuationService {
         return this.handleContinuation(executionResult, null, null, processDefinition, actorId);
     }
 
+    /**
+     * Prepara, sem persistir, o primeiro commit de uma instância recém-iniciada — o mesmo que
+     * {@link #handleContinuation(ExecutionResult, ProcessDefinition, String)} faria, mas devolvendo a
+     * {@link UnitOfWork} para que o início em lote ({@code KikwiflowEngine.BulkProcessStarter}) grave várias de
+     * uma vez via {@code CommandRepository.commitNewInstances}.
+     */
+    public PreparedContinuation prepareStart(ExecutionResult executionResult, ProcessDefinition processDefinition, String actorId) {
+        return prepareContinuation(executionResult, null, null, processDefinition, actorId);
+    }
+
+    /**
+     * Contraparte de {@link #prepareStart} para a conclusão de uma {@link ExternalTask}: monta a
+     * {@link UnitOfWork} sem persistir, para a correlação em lote gravar várias numa transação via
+     * {@code CommandRepository.commitWorkBatch}.
+     */
+    public PreparedContinuation prepareExternalTaskCompletion(ExecutionResult executionResult, ExternalTask completedExternalTask,
+                                                              ProcessDefinition processDefinition, String actorId) {
+        return prepareContinuation(executionResult, completedExternalTask, null, processDefinition, actorId);
+    }
+
     private ProcessInstance handleContinuation(ExecutionResult executionResult, ExternalTask completedExternalTask,
                                                ExecutableTask completedExecutableTask, ProcessDefinition processDefinition,
                                                String actorId) {
 
+        PreparedContinuation prepared = prepareContinuation(executionResult, completedExternalTask,
+                completedExecutableTask, processDefinition, actorId);
+
+        // Só o caminho dos workers (tarefa executável retomada) usa o group commit: comandos externos não pagam a janela.
+        UnitOfWork committed = commitRebasing(prepared.unitOfWork(), groupCommitStage != null && completedExecutableTask != null
+                ? groupCommitStage::commit : kikwiEngineRepository::commitWork);
+
+        ProcessInstanceExecution processInstanceExecution = executionResult.outcome().processInstance();
+        processInstanceExecution.clearBranchPullIntentions();
+        processInstanceExecution.clearLoopElementChunks();
+        processInstanceExecution.clearVariableOperations();
+
+        if (committed.instanceToUpdate() != null) {
+            return committed.instanceToUpdate();
+        }
+        return committed.instanceToDelete() != null ? committed.instanceToDelete() : prepared.processInstance();
+    }
+
+    /**
+     * Grava uma continuação já preparada (ver {@link #prepareExternalTaskCompletion}) sozinha, com a mesma
+     * regravação sobre a versão atual de {@link #handleContinuation} quando ela perde a corrida para outro comando.
+     */
+    public void commit(PreparedContinuation prepared) {
+        commitRebasing(prepared.unitOfWork(), kikwiEngineRepository::commitWork);
+    }
+
+    /**
+     * Grava {@code unitOfWork}; enquanto o commit for rejeitado por {@link InstanceVersionConflictException}, até
+     * {@code instanceVersionConflictMaxRetries} vezes, relê a instância e regrava a mesma unidade refeita sobre a
+     * versão atual ({@link UnitOfWork#rebasedOn}). O resultado dos handlers já está na unidade: eles não rodam de
+     * novo, e não há espera entre as tentativas — quem chama pode estar segurando o mailbox da instância.
+     * Devolve a unidade efetivamente gravada.
+     */
+    private UnitOfWork commitRebasing(UnitOfWork unitOfWork, Consumer<UnitOfWork> commit) {
+        int maxRetries = Math.max(0, kikwiflowConfig.getInstanceVersionConflictMaxRetries());
+        UnitOfWork attempt = unitOfWork;
+        for (int retry = 0; ; retry++) {
+            try {
+                commit.accept(attempt);
+                return attempt;
+            } catch (InstanceVersionConflictException e) {
+                if (retry >= maxRetries) {
+                    throw e;
+                }
+                ProcessInstance current = kikwiEngineRepository.findProcessInstanceById(e.getProcessInstanceId())
+                        .orElseThrow(() -> e);
+                attempt = attempt.rebasedOn(current);
+            }
+        }
+    }
+
+    private PreparedContinuation prepareContinuation(ExecutionResult executionResult, ExternalTask completedExternalTask,
+                                                     ExecutableTask completedExecutableTask, ProcessDefinition processDefinition,
+                                                     String actorId) {
+
         Continuation continuation = executionResult.continuation();
         ExecutionOutcome executionOutcome = executionResult.outcome();
         ProcessInstanceExecution processInstanceExecution = executionResult.outcome().processInstance();
@@ -353,21 +447,46 @@ public class ContinuationService {
 
         UnitOfWork updatedUnitOfWork = new UnitOfWork(
                 instanceToCreate, instanceToUpdate, instanceToDelete,
-                nextExecutableTasks, nextExternalTasks, executableTasksToDelete,
+                prepareForAcquisition(nextExecutableTasks, processInstanceExecution, processDefinition),
+                nextExternalTasks, executableTasksToDelete,
                 null, externalTasksToDelete, events, null, null, null,
                 finishedNodeDefinitions,
                 intentions,
                 processInstanceExecution.getVariableOperations(),
                 finalizingNodeId,
-                finalizingNodeType
+                finalizingNodeType,
+                TaskLease.of(completedExecutableTask),
+                processInstanceExecution.getLoopElementChunks(),
+                null
         );
 
-        kikwiEngineRepository.commitWork(updatedUnitOfWork);
+        return new PreparedContinuation(updatedUnitOfWork, processInstanceToSave);
+    }
 
-        processInstanceExecution.clearBranchPullIntentions();
-        processInstanceExecution.clearVariableOperations();
+    /**
+     * Materializa os campos usados pela aquisição — {@code priority}, {@code createdAt} (referência do
+     * envelhecimento na aquisição por prioridade) e {@code partition} — em todas as ExecutableTasks do commit,
+     * num ponto só em vez de em cada builder acima.
+     */
+    private List<ExecutableTask> prepareForAcquisition(List<ExecutableTask> executableTasks, ProcessInstanceExecution processInstanceExecution,
+                                            ProcessDefinition processDefinition) {
+        if (executableTasks.isEmpty()) {
+            return executableTasks;
+        }
 
-        return processInstanceToSave;
+        Instant now = Instant.now();
+        int partitionCount = kikwiflowConfig.getAcquisitionPartitions();
+        List<ExecutableTask> prepared = new ArrayList<>(executableTasks.size());
+        for (ExecutableTask task : executableTasks) {
+            long priority = taskPriorityCalculator.score(processDefinition, task.taskDefinitionId(),
+                    processInstanceExecution.getBusinessValue(), processInstanceExecution.getStartedAt(), now);
+            prepared.add(task.toBuilder()
+                    .priority(priority)
+                    .createdAt(task.createdAt() != null ? task.createdAt() : now)
+                    .partition(partitionCount > 0 ? PartitionAssignment.partitionOf(task.processInstanceId(), partitionCount) : null)
+                    .build());
+        }
+        return prepared;
     }
 
     private void generateNextTasksWithContext(FlowNodeDefinition flowNodeDefinition,
@@ -420,6 +539,8 @@ public class ContinuationService {
                     .taskDefinitionId(flowNodeDefinitionId)
                     .processInstanceId(processInstanceId)
                     .type(ExecutableTaskType.STANDARD)
+                    .executor(st.executor())
+                    .topic(st.topic())
                     .boundaryEvents(boundaryEvents)
                     .retryPolicy(st.retryPolicy())
                     .branchId(branchId)
@@ -636,6 +757,11 @@ public class ContinuationService {
      * acima. Nenhuma delas dispara efeito colateral real — só metadado; quem de fato chama
      * {@code KikwiflowEngine.startProcess()} é a retomada individual de cada iniciadora (ver
      * {@code KikwiflowEngine.executeFromTask}), em transação própria.
+     *
+     * <p>Com {@code maxConcurrency} (PARALLEL), N vira o tamanho da primeira janela, e os demais elementos vão
+     * para blocos registrados em {@code processInstanceExecution} e gravados no mesmo commit. {@code loopIndex} da
+     * coordenadora é o cursor do último elemento iniciado, e {@code retries} dela é o que as iniciadoras criadas
+     * depois pelo repositório herdam.
      */
     private void generateCallActivityFanOut(CallActivityDefinition ca,
                                             ProcessInstanceExecution processInstanceExecution,
@@ -654,8 +780,7 @@ public class ContinuationService {
             elements = new ArrayList<>();
             elements.add(null);
         } else {
-            Map<String, ProcessVariable> variables = processInstanceExecution.getVariables();
-            ProcessVariable collectionVar = variables != null ? variables.get(ca.collectionVariable()) : null;
+            ProcessVariable collectionVar = processInstanceExecution.getVariable(ca.collectionVariable());
             Object rawValue = collectionVar != null ? collectionVar.value() : null;
 
             if (!(rawValue instanceof List<?> rawList)) {
@@ -687,7 +812,13 @@ public class ContinuationService {
         // nenhuma mudança nos repositórios (InMemoryKikwiEngineRepository/MongoKikwiEngineRepository) — ver
         // docs/engine/20-subprocessos-call-activity-especificacao.md.
         boolean sequential = ca.iterationMode() == CallActivityIterationMode.SEQUENTIAL;
-        int startersToCreateNow = sequential ? Math.min(1, elements.size()) : elements.size();
+        // PARALLEL com maxConcurrency: só a primeira janela é criada agora; o resto da coleção vai para blocos
+        // fora da coordenadora (LoopElementChunk), e cada filho que conclui inicia o próximo elemento no commit
+        // do próprio pull do branch (ver LoopElementChunk.starterAt e os repositórios).
+        boolean windowed = !sequential && ca.maxConcurrency() != null && elements.size() > ca.maxConcurrency();
+        int startersToCreateNow = sequential ? Math.min(1, elements.size())
+                : windowed ? ca.maxConcurrency()
+                : elements.size();
 
         for (int i = 0; i < startersToCreateNow; i++) {
             nextExecutableTasks.add(ExecutableTask.builder()
@@ -714,7 +845,20 @@ public class ContinuationService {
         // resolvida (null quando não há mais nada a iterar depois do branch atual, ou em modo PARALLEL).
         List<String> coordinatorPendingBranchIds = sequential
                 ? (branchIds.isEmpty() ? List.of() : List.of(branchIds.get(0)))
-                : branchIds;
+                : new ArrayList<>(branchIds.subList(0, startersToCreateNow));
+
+        // Índice do último elemento já iniciado: a iteração em voo (SEQUENTIAL) ou o cursor da janela deslizante.
+        Integer coordinatorLoopIndex = null;
+        if (sequential && !branchIds.isEmpty()) {
+            coordinatorLoopIndex = 0;
+        } else if (windowed) {
+            coordinatorLoopIndex = startersToCreateNow - 1;
+        }
+
+        if (windowed) {
+            processInstanceExecution.registerLoopElementChunks(
+                    chunkLoopElements(coordinatorTaskId, processInstanceId, loopElementVars, startersToCreateNow));
+        }
         List<ProcessVariable> coordinatorPendingLoopElements = sequential && loopElementVars.size() > 1
                 ? new ArrayList<>(loopElementVars.subList(1, loopElementVars.size()))
                 : null;
@@ -728,13 +872,30 @@ public class ContinuationService {
                 .status(coordinatorPendingBranchIds.isEmpty() ? ExecutableTaskStatus.PENDING : ExecutableTaskStatus.AWAITING_BRANCHES)
                 .pendingBranchIds(coordinatorPendingBranchIds)
                 .pendingLoopElements(coordinatorPendingLoopElements)
-                .loopIndex(sequential && !branchIds.isEmpty() ? 0 : null)
+                .loopIndex(coordinatorLoopIndex)
+                .retries(windowed ? initialRetries : 0L)
                 .boundaryEvents(coordinatorBoundaryEvents)
                 .branchId(branchId)
                 .joinTaskId(joinTaskId)
                 .build());
     }
 
+    /**
+     * Fatia {@code loopElements} a partir de {@code fromIndex} em blocos de
+     * {@code callActivityLoopElementChunkSize}, cada um com o índice do seu primeiro item na coleção resolvida.
+     */
+    private List<LoopElementChunk> chunkLoopElements(String coordinatorTaskId, String processInstanceId,
+                                                     List<ProcessVariable> loopElements, int fromIndex) {
+        int chunkSize = Math.max(1, kikwiflowConfig.getCallActivityLoopElementChunkSize());
+        List<LoopElementChunk> chunks = new ArrayList<>();
+        for (int first = fromIndex; first < loopElements.size(); first += chunkSize) {
+            int last = Math.min(first + chunkSize, loopElements.size());
+            chunks.add(new LoopElementChunk(LoopElementChunk.idOf(coordinatorTaskId, first), coordinatorTaskId,
+                    processInstanceId, first, new ArrayList<>(loopElements.subList(first, last))));
+        }
+        return chunks;
+    }
+
     private ExecutableTask getNonInterruptiveTimerTask(
             String mainTaskId,
             String processInstanceId,
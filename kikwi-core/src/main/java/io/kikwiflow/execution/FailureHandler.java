@@ -25,6 +25,7 @@ import io.kikwiflow.model.execution.Incident;
 import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
 import io.kikwiflow.model.execution.enumerated.IncidentStatus;
 import io.kikwiflow.model.execution.node.ExecutableTask;
+import io.kikwiflow.persistence.api.data.TaskLease;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 
@@ -125,7 +126,9 @@ public class FailureHandler {
                 tasksToUpdate, null,
                 allCriticalEvents.isEmpty() ? null : allCriticalEvents,
                 incidentsToCreate,
-                null, null, null, null, null
+                null, null, null, null, null,
+                null, null,
+                TaskLease.of(task)
         );
 
         repository.commitWork(uow);
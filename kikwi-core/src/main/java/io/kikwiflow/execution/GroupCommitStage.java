@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.persistence.api.data.UnitOfWork;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Group commit das {@link UnitOfWork} dos workers do {@code TaskAcquirer}: em vez de uma transação por tarefa,
+ * as unidades que chegam dentro de uma janela curta ({@code windowMillis}) ou até {@code maxBatchSize} itens são
+ * gravadas juntas numa única transação ({@code CommandRepository.commitWorkBatch}), e cada chamador só retorna
+ * quando o lote em que entrou foi gravado.
+ *
+ * <p>O primeiro chamador de um lote vazio é o líder: espera a janela (ou o lote encher), fecha o lote e grava;
+ * os demais só aguardam o resultado. Se a transação do lote falhar, cada unidade é regravada sozinha via
+ * {@code commitWork}, e cada chamador recebe a própria exceção (ex.: conflito de versão, perda de lease) — uma
+ * unidade ruim não derruba as outras. Duas unidades da mesma instância nunca entram no mesmo lote: a segunda
+ * grava sozinha, na hora — assim como a unidade cuja instância não dá para identificar.
+ *
+ * <p>Troca latência (até {@code windowMillis} por commit) por menos transações e flushes de journal sob
+ * concorrência alta; com pouca concorrência o lote tem um item e o custo é só a janela.
+ */
+public class GroupCommitStage {
+
+    private final Consumer<UnitOfWork> singleCommit;
+    private final Consumer<List<UnitOfWork>> batchCommit;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchFull = lock.newCondition();
+    private Batch open;
+
+    private final LongAdder units = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedUnits = new LongAdder();
+    private final LongAdder bypassedUnits = new LongAdder();
+    private final LongAdder fallbackBatches = new LongAdder();
+
+    public GroupCommitStage(Consumer<UnitOfWork> singleCommit, Consumer<List<UnitOfWork>> batchCommit,
+                            long windowMillis, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("GroupCommitStage: tamanho máximo de lote deve ser positivo: " + maxBatchSize);
+        }
+        this.singleCommit = singleCommit;
+        this.batchCommit = batchCommit;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, windowMillis));
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Grava {@code unitOfWork} no próximo lote e bloqueia até ele ser gravado, propagando a falha desta unidade.
+     */
+    public void commit(UnitOfWork unitOfWork) {
+        units.increment();
+        Set<String> instanceIds = instanceIdsOf(unitOfWork);
+        Pending pending = new Pending(unitOfWork);
+        Batch batch;
+        boolean leader = false;
+
+        lock.lock();
+        try {
+            if (instanceIds.isEmpty() || (open != null && !Collections.disjoint(open.instanceIds, instanceIds))) {
+                batch = null;
+            } else {
+                if (open == null) {
+                    open = new Batch(System.nanoTime() + windowNanos);
+                    leader = true;
+                }
+                batch = open;
+                batch.instanceIds.addAll(instanceIds);
+                batch.items.add(pending);
+                if (batch.items.size() >= maxBatchSize) {
+                    // Lote cheio: fecha aqui mesmo, quem chegar depois abre outro.
+                    open = null;
+                    batchFull.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (batch == null) {
+            // Instância já está no lote aberto (a segunda unidade leu a mesma versão) ou não dá para saber qual
+            // instância a unidade toca: não pode ir junto.
+            bypassedUnits.increment();
+            singleCommit.accept(unitOfWork);
+            return;
+        }
+
+        if (leader) {
+            awaitWindow(batch);
+            flush(batch);
+        }
+
+        try {
+            pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void awaitWindow(Batch batch) {
+        lock.lock();
+        try {
+            long remaining;
+            while (open == batch && (remaining = batch.deadlineNanos - System.nanoTime()) > 0) {
+                try {
+                    batchFull.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (open == batch) {
+                open = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(Batch batch) {
+        List<Pending> items = batch.items;
+        batches.increment();
+        batchedUnits.add(items.size());
+
+        if (items.size() == 1) {
+            commitAlone(items.get(0));
+            return;
+        }
+
+        List<UnitOfWork> unitsOfWork = new ArrayList<>(items.size());
+        items.forEach(item -> unitsOfWork.add(item.unitOfWork));
+        try {
+            batchCommit.accept(unitsOfWork);
+            items.forEach(item -> item.result.complete(null));
+        } catch (RuntimeException e) {
+            fallbackBatches.increment();
+            items.forEach(this::commitAlone);
+        }
+    }
+
+    private void commitAlone(Pending item) {
+        try {
+            singleCommit.accept(item.unitOfWork);
+            item.result.complete(null);
+        } catch (RuntimeException e) {
+            item.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Instâncias que a unidade toca, lidas de tudo que carrega o ID: a instância em si, a tarefa do lease, as
+     * tarefas e incidentes criados ou atualizados e os pulls de branch. Tarefas apagadas e incidentes resolvidos
+     * só trazem o próprio ID; se nada na unidade identificar a instância, o conjunto volta vazio e ela grava
+     * sozinha.
+     */
+    private static Set<String> instanceIdsOf(UnitOfWork unitOfWork) {
+        Set<String> instanceIds = new HashSet<>();
+        addInstance(instanceIds, unitOfWork.instanceToCreate());
+        addInstance(instanceIds, unitOfWork.instanceToUpdate());
+        addInstance(instanceIds, unitOfWork.instanceToDelete());
+        if (unitOfWork.taskLease() != null) {
+            addId(instanceIds, unitOfWork.taskLease().processInstanceId());
+        }
+        forEach(unitOfWork.executableTasksToCreate(), task -> addId(instanceIds, task.processInstanceId()));
+        forEach(unitOfWork.executableTasksToUpdate(), task -> addId(instanceIds, task.processInstanceId()));
+        forEach(unitOfWork.externalTasksToCreate(), task -> addId(instanceIds, task.processInstanceId()));
+        forEach(unitOfWork.incidentsToCreate(), incident -> addId(instanceIds, incident.processInstanceId()));
+        forEach(unitOfWork.incidentsToUpdate(), incident -> addId(instanceIds, incident.processInstanceId()));
+        forEach(unitOfWork.branchPullIntentions(), pull -> addId(instanceIds, pull.processInstanceId()));
+        return instanceIds;
+    }
+
+    private static void addInstance(Set<String> instanceIds, ProcessInstance instance) {
+        if (instance != null) {
+            addId(instanceIds, instance.id());
+        }
+    }
+
+    private static void addId(Set<String> instanceIds, String instanceId) {
+        if (instanceId != null) {
+            instanceIds.add(instanceId);
+        }
+    }
+
+    private static <T> void forEach(List<T> items, Consumer<T> action) {
+        if (items != null) {
+            items.forEach(action);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long batchCount = batches.sum();
+        long batched = batchedUnits.sum();
+        return new Snapshot(units.sum(), batchCount, batchCount == 0 ? 0.0 : (double) batched / batchCount,
+                bypassedUnits.sum(), fallbackBatches.sum());
+    }
+
+    /**
+     * @param batches transações de lote abertas (cada uma pode ter um único item)
+     * @param bypassedUnits unidades gravadas sozinhas por já haver outra da mesma instância no lote aberto, ou por
+     *                      não identificarem a instância
+     * @param fallbackBatches lotes cuja transação falhou e foram regravados unidade a unidade
+     */
+    public record Snapshot(long units, long batches, double averageBatchSize, long bypassedUnits, long fallbackBatches) {
+    }
+
+    private static final class Batch {
+        private final long deadlineNanos;
+        private final List<Pending> items = new ArrayList<>();
+        private final Set<String> instanceIds = new HashSet<>();
+
+        private Batch(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    private static final class Pending {
+        private final UnitOfWork unitOfWork;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Pending(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+    }
+}
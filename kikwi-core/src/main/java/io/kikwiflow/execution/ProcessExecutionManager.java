@@ -16,31 +16,33 @@
  */
 package io.kikwiflow.execution;
 
+import io.kikwiflow.config.KikwiflowConfig;
 import io.kikwiflow.exception.ProcessErrorException;
 import io.kikwiflow.execution.dto.Continuation;
 import io.kikwiflow.execution.dto.ExecutionOutcome;
 import io.kikwiflow.execution.dto.ExecutionResult;
 import io.kikwiflow.execution.event.CriticalEventRecorder;
-import io.kikwiflow.execution.mapper.ProcessInstanceMapper;
 import io.kikwiflow.model.definition.process.ProcessDefinition;
-import io.kikwiflow.model.definition.process.elements.CallActivityDefinition;
-import io.kikwiflow.model.definition.process.elements.ErrorHandlerDefinition;
 import io.kikwiflow.model.definition.process.elements.ExclusiveGatewayDefinition;
-import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
 import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
-import io.kikwiflow.model.definition.process.elements.TimerTaskDefinition;
 import io.kikwiflow.model.event.OutboxEventEntity;
-import io.kikwiflow.model.execution.FlowNodeExecutionSnapshot;
+import io.kikwiflow.model.execution.enumerated.FlowNodeRecordingLevel;
 import io.kikwiflow.model.execution.enumerated.NodeExecutionStatus;
-import io.kikwiflow.model.execution.node.WaitState;
+import io.kikwiflow.navigation.ExecutionPlan;
 import io.kikwiflow.navigation.Navigator;
+import io.kikwiflow.persistence.api.data.VariableOperation;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Orquestra a execução de um fluxo de processo baseado em uma Agenda de Contexto Isolado.
@@ -54,20 +56,34 @@ public class ProcessExecutionManager {
     private final FlowNodeExecutor flowNodeExecutor;
     private final Navigator navigator;
     private final CriticalEventRecorder criticalEventRecorder;
+    private final KikwiflowConfig kikwiflowConfig;
 
     /**
-     * Encapsula o contexto móvel e imutável de uma linha de execução (Branch).
+     * Encapsula o contexto móvel e imutável de uma linha de execução (Branch). O nó já vem compilado no
+     * {@link ExecutionPlan} da definição, com as flags e destinos resolvidos. {@code joinedInline} marca o join
+     * alcançado depois que os ramos de um split rodaram em memória — ele segue adiante em vez de concluir um ramo.
      */
     public record ExecutionFrame(
-            FlowNodeDefinition node,
+            ExecutionPlan.Node node,
             String branchId,
-            String joinTaskId
-    ) {}
+            String joinTaskId,
+            boolean joinedInline
+    ) {
+        public ExecutionFrame(ExecutionPlan.Node node, String branchId, String joinTaskId) {
+            this(node, branchId, joinTaskId, false);
+        }
+    }
 
     public ProcessExecutionManager(FlowNodeExecutor flowNodeExecutor, Navigator navigator, CriticalEventRecorder criticalEventRecorder) {
+        this(flowNodeExecutor, navigator, criticalEventRecorder, new KikwiflowConfig());
+    }
+
+    public ProcessExecutionManager(FlowNodeExecutor flowNodeExecutor, Navigator navigator, CriticalEventRecorder criticalEventRecorder,
+                                   KikwiflowConfig kikwiflowConfig) {
         this.flowNodeExecutor = flowNodeExecutor;
         this.navigator = navigator;
         this.criticalEventRecorder = criticalEventRecorder;
+        this.kikwiflowConfig = kikwiflowConfig;
     }
 
     /**
@@ -92,8 +108,9 @@ public class ProcessExecutionManager {
             boolean isResumingFromAsyncBefore,
             boolean guardSynchronousHandlers) {
 
-        Queue<ExecutionFrame> agenda = new LinkedList<>();
-        agenda.add(new ExecutionFrame(startPoint, initialBranchId, initialJoinTaskId));
+        ExecutionPlan plan = navigator.planFor(processDefinition);
+        Queue<ExecutionFrame> agenda = new ArrayDeque<>();
+        agenda.add(new ExecutionFrame(plan.nodeFor(startPoint), initialBranchId, initialJoinTaskId));
 
         List<OutboxEventEntity> criticalEvents = new ArrayList<>();
         boolean isFirstNodeInLoop = true;
@@ -102,25 +119,28 @@ public class ProcessExecutionManager {
 
         while (!agenda.isEmpty()) {
             ExecutionFrame currentFrame = agenda.poll();
-            FlowNodeDefinition currentNode = currentFrame.node();
+            ExecutionPlan.Node currentPlanNode = currentFrame.node();
+            FlowNodeDefinition currentNode = currentPlanNode.definition();
             String currentBranchId = currentFrame.branchId();
             String currentJoinTaskId = currentFrame.joinTaskId();
 
 
-            boolean mustGuardThisHandler = guardSynchronousHandlers && currentNode instanceof ExecutableTaskDefinition;
-            final boolean shouldStopForCommitBefore = (isCommitBefore(currentNode) || mustGuardThisHandler)
+            boolean mustGuardThisHandler = guardSynchronousHandlers && currentPlanNode.isExecutableTask();
+            final boolean shouldStopForCommitBefore = (currentPlanNode.isCommitBefore() || mustGuardThisHandler)
                     && !(isFirstNodeInLoop && isResumingFromAsyncBefore);
 
-            if (isWaitState(currentNode) || shouldStopForCommitBefore) {
+            if (currentPlanNode.isWaitState() || shouldStopForCommitBefore) {
                 return new ExecutionResult(
                         new ExecutionOutcome(processInstance, criticalEvents),
                         new Continuation(List.of(currentNode), true)
                 );
             }
 
-            boolean isLegitimateJoinResumption = "JOIN_GATEWAY".equals(currentNode.type()) && isFirstNodeInLoop && isResumingFromAsyncBefore;
+            boolean isJoin = currentPlanNode.kind() == ExecutionPlan.Kind.JOIN_GATEWAY;
+            boolean isLegitimateJoinResumption = isJoin
+                    && ((isFirstNodeInLoop && isResumingFromAsyncBefore) || currentFrame.joinedInline());
 
-            if (("DEFAULT_END_EVENT".equals(currentNode.type()) || "JOIN_GATEWAY".equals(currentNode.type()))
+            if ((currentPlanNode.kind() == ExecutionPlan.Kind.END_EVENT || isJoin)
                     && !isLegitimateJoinResumption
                     && currentBranchId != null) {
 
@@ -131,30 +151,35 @@ public class ProcessExecutionManager {
                 continue;
             }
 
-            Instant startedAt = Instant.now();
+            FlowNodeRecordingLevel recordingLevel = criticalEventRecorder.flowNodeRecordingLevel(currentPlanNode);
+            boolean recordsVariableDiff = recordingLevel == FlowNodeRecordingLevel.VARIABLE_DIFF;
+            Instant startedAt = recordingLevel != FlowNodeRecordingLevel.NONE ? Instant.now() : null;
             NodeExecutionStatus status = NodeExecutionStatus.SUCCESS;
             Continuation continuation = null;
             RuntimeException caughtException = null;
 
+            if (recordsVariableDiff) {
+                processInstance.startVariableDiff();
+            }
+
             try {
                 flowNodeExecutor.execute(processInstance, processDefinition, currentNode);
-                boolean isCommitAfter = Boolean.TRUE.equals(currentNode.commitAfter());
-
-                continuation = navigator.determineNextContinuation(currentNode, processDefinition, processInstance.getVariables(), isCommitAfter);
+                continuation = navigator.determineNextContinuation(currentPlanNode, processInstance.getVariables(), currentPlanNode.isCommitAfter());
 
             } catch (ProcessErrorException processError) {
 
-                Optional<ErrorHandlerDefinition> boundary = navigator.findMatchingErrorHandler(currentNode, processDefinition, processError.getErrorCode());
+                Optional<ExecutionPlan.Node> boundary = navigator.findMatchingErrorHandler(currentPlanNode, processError.getErrorCode());
 
                 if (boundary.isPresent()) {
                     status = NodeExecutionStatus.INTERRUPTED;
-                    ErrorHandlerDefinition handler = boundary.get();
+                    ExecutionPlan.Node handler = boundary.get();
 
-                    List<FlowNodeDefinition> nextNodes = handler.outgoing().stream()
-                            .map(seq -> processDefinition.flowNodes().get(seq.targetNodeId()))
+                    List<ExecutionPlan.Node> nextPlanNodes = handler.targets();
+                    List<FlowNodeDefinition> nextNodes = nextPlanNodes.stream()
+                            .map(node -> node != null ? node.definition() : null)
                             .toList();
 
-                    continuation = new Continuation(nextNodes, Boolean.TRUE.equals(handler.commitAfter()));
+                    continuation = new Continuation(nextNodes, handler.isCommitAfter(), null, null, null, nextPlanNodes);
                 } else {
 
                     status = NodeExecutionStatus.ERROR;
@@ -166,17 +191,11 @@ public class ProcessExecutionManager {
                 caughtException = e;
             }
 
-            if (criticalEventRecorder.isEnabled()) {
-                final FlowNodeExecutionSnapshot snapshot = FlowNodeExecutionSnapshot.builder()
-                        .flowNodeDefinition(currentNode)
-                        .processDefinitionSnapshot(processDefinition)
-                        .processInstanceSnapshot(ProcessInstanceMapper.mapToRecord(processInstance))
-                        .startedAt(startedAt)
-                        .finishedAt(Instant.now())
-                        .nodeExecutionStatus(status)
-                        .build();
+            Map<String, VariableOperation> variableDiff = recordsVariableDiff ? processInstance.stopVariableDiff() : null;
 
-                criticalEventRecorder.recordFlowNodeFinished(criticalEvents, snapshot, caughtException);
+            if (criticalEventRecorder.isEnabled()) {
+                criticalEventRecorder.recordFlowNodeFinished(criticalEvents, recordingLevel, processInstance,
+                        processDefinition, currentNode, status, startedAt, caughtException, variableDiff);
 
                 if (currentNode instanceof ExclusiveGatewayDefinition gateway && continuation != null) {
                     criticalEventRecorder.recordGatewayAnswerResolved(criticalEvents, processInstance, processDefinition, gateway, continuation);
@@ -189,11 +208,24 @@ public class ProcessExecutionManager {
 
             isFirstNodeInLoop = false;
 
+            if (continuation != null && status == NodeExecutionStatus.SUCCESS
+                    && shouldRunBranchesInline(currentPlanNode, guardSynchronousHandlers)) {
+                runBranchesInline(currentPlanNode, processInstance, processDefinition, criticalEvents);
+                agenda.add(new ExecutionFrame(currentPlanNode.targetJoin(), currentBranchId, currentJoinTaskId, true));
+                continue;
+            }
+
             if (continuation == null || continuation.isAsynchronous()) {
                 return new ExecutionResult(new ExecutionOutcome(processInstance, criticalEvents), continuation);
             } else {
-                for (FlowNodeDefinition nextNode : continuation.nextNodes()) {
-                    agenda.add(new ExecutionFrame(nextNode, currentBranchId, currentJoinTaskId));
+                if (continuation.nextPlanNodes() != null) {
+                    for (ExecutionPlan.Node nextNode : continuation.nextPlanNodes()) {
+                        agenda.add(new ExecutionFrame(nextNode, currentBranchId, currentJoinTaskId));
+                    }
+                } else {
+                    for (FlowNodeDefinition nextNode : continuation.nextNodes()) {
+                        agenda.add(new ExecutionFrame(plan.nodeFor(nextNode), currentBranchId, currentJoinTaskId));
+                    }
                 }
             }
         }
@@ -208,26 +240,65 @@ public class ProcessExecutionManager {
         return new ExecutionResult(new ExecutionOutcome(processInstance, criticalEvents), null);
     }
 
-    private boolean isWaitState(FlowNodeDefinition flowNodeDefinition) {
-        return flowNodeDefinition instanceof WaitState;
+    private boolean shouldRunBranchesInline(ExecutionPlan.Node node, boolean guardSynchronousHandlers) {
+        return kikwiflowConfig.isInlineParallelBranchesEnabled()
+                && node.kind() == ExecutionPlan.Kind.PARALLEL_GATEWAY
+                && node.isInlineBranchesEligible()
+                && !guardSynchronousHandlers;
     }
 
     /**
-     * {@code TimerTaskDefinition} e {@code CallActivityDefinition} são sempre tratados como
-     * {@code commitBefore: true}, independente do valor declarado no {@code .kikwi}. Um timer não pode, por
-     * natureza, ser executado de forma síncrona (não há como "bloquear a thread" até o dueDate); um
-     * {@code CALL_ACTIVITY_COORDINATOR} precisa de uma transação própria para materializar a coordenadora + N
-     * iniciadoras (ver {@code ContinuationService.generateNextTasksWithContext}) — nunca pode rodar inline.
-     * Ambos reaproveitam a mesma checagem de {@code isResumingFromAsyncBefore} já usada para
-     * {@code ExecutableTaskDefinition} assíncrona, que corretamente distingue "primeira vez" (pausa) de
-     * "retomando após o disparo" (segue para as arestas de saída) — ao contrário de {@code WaitState}, que
-     * pausaria de novo indefinidamente numa {@code ExecutableTask} retomada. É essa distinção que faz a
-     * retomada da própria coordenadora (após liberada de {@code AWAITING_BRANCHES}) cair direto no caminho
-     * genérico de navegação, sem dispatch dedicado nenhum.
+     * Executa os ramos de um split inteiramente síncrono em paralelo, cada um numa virtual thread e num escopo de
+     * variáveis próprio ({@link ProcessInstanceExecution#forkBranchScope()}), e junta tudo em memória: em vez de
+     * N ExecutableTasks de ramo + a do join + N aquisições, o fluxo segue na mesma unidade de trabalho. Os
+     * escopos são mesclados e os eventos concatenados na ordem declarada dos ramos, não na de término.
+     * <p>
+     * Se algum ramo falha, a falha do primeiro ramo (na ordem declarada) é propagada depois que todos terminam,
+     * e a unidade de trabalho inteira é descartada — no retry todos os ramos rodam de novo, como qualquer
+     * sequência de nós síncronos da mesma transação.
      */
-    private boolean isCommitBefore(FlowNodeDefinition flowNodeDefinition) {
-        return Boolean.TRUE.equals(flowNodeDefinition.commitBefore())
-                || flowNodeDefinition instanceof TimerTaskDefinition
-                || flowNodeDefinition instanceof CallActivityDefinition;
+    private void runBranchesInline(ExecutionPlan.Node gateway, ProcessInstanceExecution processInstance,
+                                   ProcessDefinition processDefinition, List<OutboxEventEntity> criticalEvents) {
+        List<ExecutionPlan.Node> branches = gateway.parallelBranches();
+        List<ProcessInstanceExecution> scopes = new ArrayList<>(branches.size());
+        List<Future<ExecutionResult>> results = new ArrayList<>(branches.size());
+
+        // close() do executor só retorna quando todos os ramos terminaram.
+        try (ExecutorService branchExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < branches.size(); i++) {
+                FlowNodeDefinition branchStart = branches.get(i).definition();
+                String branchId = gateway.definition().id() + "#inline-" + i;
+                ProcessInstanceExecution scope = processInstance.forkBranchScope();
+                scopes.add(scope);
+                results.add(branchExecutor.submit(() ->
+                        executeFlow(branchStart, branchId, null, scope, processDefinition, false, false)));
+            }
+        }
+
+        for (int i = 0; i < branches.size(); i++) {
+            ExecutionResult result;
+            try {
+                result = results.get(i).get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof FlowNodeExecutionFailure failure) {
+                    criticalEvents.addAll(failure.getCriticalEvents());
+                    throw new FlowNodeExecutionFailure((RuntimeException) failure.getCause(), criticalEvents);
+                }
+                RuntimeException cause = e.getCause() instanceof RuntimeException runtime
+                        ? runtime : new IllegalStateException(e.getCause());
+                throw new FlowNodeExecutionFailure(cause, criticalEvents);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowNodeExecutionFailure(new IllegalStateException("Execução dos ramos paralelos interrompida.", e), criticalEvents);
+            }
+
+            if (result.continuation() == null || !result.continuation().nextNodes().isEmpty()) {
+                throw new IllegalStateException("Architectural Error: ramo paralelo em memória do gateway '"
+                        + gateway.definition().id() + "' não terminou no join alvo.");
+            }
+
+            criticalEvents.addAll(result.outcome().events());
+            processInstance.mergeBranchScope(scopes.get(i));
+        }
     }
-}
\ No newline at end of file
+}
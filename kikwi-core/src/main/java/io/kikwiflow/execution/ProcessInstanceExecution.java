@@ -19,11 +19,13 @@ package io.kikwiflow.execution;
 import io.kikwiflow.model.execution.BranchPullIntention;
 import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.ProcessInstanceStatus;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
 import io.kikwiflow.persistence.api.data.VariableOpType;
 import io.kikwiflow.persistence.api.data.VariableOperation;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +47,7 @@ public class ProcessInstanceExecution {
     private String businessKey;
     private ProcessInstanceStatus status;
     private String processDefinitionId;
-    private Map<String, ProcessVariable> variables;
+    private VariableStore variables = new VariableStore();
     private Instant startedAt;
     private Instant endedAt;
     private BigDecimal businessValue;
@@ -57,10 +59,10 @@ public class ProcessInstanceExecution {
     private String callerBranchId;
     private Map<String, Integer> activeNodes;
     private final List<BranchPullIntention> branchPullIntentions = new ArrayList<>();
-    private final Map<String, VariableOperation> variableOperations = new java.util.HashMap<>();
+    private final List<LoopElementChunk> loopElementChunks = new ArrayList<>();
 
     public Map<String, VariableOperation> getVariableOperations() {
-        return Map.copyOf(this.variableOperations);
+        return this.variables.dirtyOperations();
     }
 
     /**
@@ -68,46 +70,96 @@ public class ProcessInstanceExecution {
      * Evita o vazamento de deltas antigos para os próximos passos transacionais do fluxo.
      */
     public void clearVariableOperations() {
-        this.variableOperations.clear();
+        this.variables.clearDirtyOperations();
     }
 
-
+    /**
+     * Visão mutável das variáveis: leituras e escritas vão direto ao {@link VariableStore}, e cada escrita é
+     * registrada como {@link VariableOperation}. Nada é copiado — para guardar o estado atual (eventos, registro
+     * persistido), use {@link #snapshotVariables()}.
+     */
     public Map<String, ProcessVariable> getVariables() {
-        if (this.variables == null) return null;
-        return new java.util.HashMap<>(this.variables) {
+        return new AbstractMap<>() {
             @Override
-            public ProcessVariable put(String key, ProcessVariable value) {
-                variableOperations.put(key, new VariableOperation(value, VariableOpType.SET));
-                ProcessInstanceExecution.this.variables.put(key, value);
-                return super.put(key, value);
+            public ProcessVariable get(Object key) {
+                return key instanceof String k ? variables.get(k) : null;
             }
 
             @Override
-            public void putAll(Map<? extends String, ? extends ProcessVariable> m) {
-                if (m != null) {
-                    m.forEach((k, v) -> variableOperations.put(k, new VariableOperation(v, VariableOpType.SET)));
-                    ProcessInstanceExecution.this.variables.putAll(m);
-                    super.putAll(m);
-                }
+            public boolean containsKey(Object key) {
+                return key instanceof String k && variables.containsKey(k);
+            }
+
+            @Override
+            public ProcessVariable put(String key, ProcessVariable value) {
+                return variables.put(key, value);
             }
 
             @Override
             public ProcessVariable remove(Object key) {
-                if (key instanceof String k) {
-                    variableOperations.put(k, new VariableOperation(null, VariableOpType.UNSET));
-                    ProcessInstanceExecution.this.variables.remove(k);
-                }
-                return super.remove(key);
+                return key instanceof String k ? variables.remove(k) : null;
+            }
+
+            @Override
+            public int size() {
+                return variables.size();
+            }
+
+            @Override
+            public Set<Entry<String, ProcessVariable>> entrySet() {
+                return variables.snapshot().entrySet();
             }
         };
     }
 
+    public ProcessVariable getVariable(String name) {
+        return this.variables.get(name);
+    }
+
+    public boolean hasVariable(String name) {
+        return this.variables.containsKey(name);
+    }
+
+    public void setVariable(String name, ProcessVariable value) {
+        this.variables.put(name, value);
+    }
+
+    public void removeVariable(String name) {
+        this.variables.remove(name);
+    }
+
+    /**
+     * Estado atual das variáveis como mapa imutável, em O(1) (ver {@link VariableStore#snapshot()}).
+     */
+    public Map<String, ProcessVariable> snapshotVariables() {
+        return this.variables.snapshot();
+    }
+
+    /**
+     * Como {@link #snapshotVariables()}, sem as variáveis transientes — o que vai para o registro persistido.
+     */
+    public Map<String, ProcessVariable> persistentVariables() {
+        return this.variables.persistentSnapshot();
+    }
+
+    /**
+     * Passa a rastrear à parte as operações de variável até {@link #stopVariableDiff()} — o diff de um nó
+     * para o {@code FLOW_NODE_FINISHED} no nível {@code VARIABLE_DIFF}.
+     */
+    public void startVariableDiff() {
+        this.variables.startTracking();
+    }
+
+    public Map<String, VariableOperation> stopVariableDiff() {
+        return this.variables.stopTracking();
+    }
+
     /**
      * Registra temporariamente em memória que uma branch foi concluída e precisa
      * ser removida do Join Task correspondente durante o commit transacional.
      */
     public void registerBranchConclusion(String joinTaskId, String branchId) {
-        this.branchPullIntentions.add(new BranchPullIntention(joinTaskId, branchId));
+        this.branchPullIntentions.add(new BranchPullIntention(joinTaskId, branchId, this.id));
     }
 
     public String getCallerBranchId() {
@@ -132,6 +184,22 @@ public class ProcessInstanceExecution {
         this.branchPullIntentions.clear();
     }
 
+    /**
+     * Acumula os blocos de elementos de uma call activity com {@code maxConcurrency} alcançada neste segmento,
+     * gravados no mesmo commit que cria a coordenadora.
+     */
+    public void registerLoopElementChunks(List<LoopElementChunk> chunks) {
+        this.loopElementChunks.addAll(chunks);
+    }
+
+    public List<LoopElementChunk> getLoopElementChunks() {
+        return List.copyOf(this.loopElementChunks);
+    }
+
+    public void clearLoopElementChunks() {
+        this.loopElementChunks.clear();
+    }
+
     public String getParentInstanceId() {
         return parentInstanceId;
     }
@@ -212,8 +280,12 @@ public class ProcessInstanceExecution {
         this.processDefinitionId = processDefinitionId;
     }
 
+    /**
+     * Substitui as variáveis por {@code variables} sem copiar o mapa — ele passa a ser a base do
+     * {@link VariableStore} e nunca é mutado por esta execução.
+     */
     public void setVariables(Map<String, ProcessVariable> variables) {
-        this.variables = variables;
+        this.variables.resetTo(variables);
     }
 
     public Instant getStartedAt() {
@@ -248,16 +320,50 @@ public class ProcessInstanceExecution {
         this.tenantId = tenantId;
     }
 
+    /**
+     * Cópia de trabalho para um ramo paralelo executado em memória ({@code ProcessExecutionManager}): mesmos
+     * metadados, {@link VariableStore#fork() cópia O(1)} das variáveis e nenhuma operação acumulada. O ramo enxerga as variáveis do ponto do
+     * split mais as que ele mesmo escreve — nunca as de um ramo irmão rodando ao mesmo tempo.
+     */
+    public ProcessInstanceExecution forkBranchScope() {
+        ProcessInstanceExecution branch = new ProcessInstanceExecution();
+        branch.isPersisted = this.isPersisted;
+        branch.id = this.id;
+        branch.businessKey = this.businessKey;
+        branch.status = this.status;
+        branch.processDefinitionId = this.processDefinitionId;
+        branch.variables = this.variables.fork();
+        branch.startedAt = this.startedAt;
+        branch.endedAt = this.endedAt;
+        branch.businessValue = this.businessValue;
+        branch.tenantId = this.tenantId;
+        branch.origin = this.origin;
+        branch.version = this.version;
+        branch.parentInstanceId = this.parentInstanceId;
+        branch.callerTaskId = this.callerTaskId;
+        branch.callerBranchId = this.callerBranchId;
+        branch.activeNodes = this.activeNodes;
+        return branch;
+    }
+
+    /**
+     * Aplica aqui as operações de variável feitas por um ramo de {@link #forkBranchScope()}. Chamado ramo a ramo
+     * na ordem declarada das arestas do gateway: numa escrita concorrente da mesma variável, vence o ramo
+     * declarado por último — determinístico, independente de qual thread terminou antes.
+     */
+    public void mergeBranchScope(ProcessInstanceExecution branch) {
+        branch.variables.dirtyOperations().forEach((key, operation) -> {
+            if (operation.type() == VariableOpType.UNSET) {
+                this.variables.remove(key);
+            } else {
+                this.variables.put(key, operation.value());
+            }
+        });
+    }
+
     public void addVariables(Map<String, ProcessVariable> variablesToAdd) {
         if (variablesToAdd == null || variablesToAdd.isEmpty()) return;
 
-        if (this.variables == null) {
-            this.variables = new java.util.HashMap<>();
-        }
-
-        variablesToAdd.forEach((k, v) -> {
-            this.variableOperations.put(k, new VariableOperation(v, VariableOpType.SET));
-            this.variables.put(k, v);
-        });
+        variablesToAdd.forEach(this.variables::put);
     }
 }
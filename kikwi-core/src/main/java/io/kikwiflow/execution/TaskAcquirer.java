@@ -19,35 +19,134 @@ package io.kikwiflow.execution;
 
 import io.kikwiflow.KikwiflowEngine;
 import io.kikwiflow.config.KikwiflowConfig;
+import io.kikwiflow.execution.concurrency.Bulkhead;
+import io.kikwiflow.execution.concurrency.BulkheadRegistry;
+import io.kikwiflow.execution.concurrency.ConcurrencyLimiter;
+import io.kikwiflow.execution.partitioning.PartitionAssignment;
+import io.kikwiflow.execution.scheduling.FireLatenessStats;
+import io.kikwiflow.execution.scheduling.TimingWheel;
 import io.kikwiflow.model.execution.node.ExecutableTask;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 public class TaskAcquirer implements Runnable {
+    private static final int TIMING_WHEEL_SIZE = 512;
+
     private KikwiflowEngine engine;
     private final KikwiEngineRepository kikwiEngineRepository;
     private final KikwiflowConfig kikwiflowConfig;
     private final ExecutorService acquirerExecutor;
     private final ExecutorService workerExecutor;
     private volatile boolean running = false;
-    private final Semaphore concurrencyLimit;
+    // Limite global de execuções simultâneas: fixo em maxConcurrentTasks, ou AIMD partindo dele quando a
+    // concorrência adaptativa está ligada.
+    private final ConcurrencyLimiter concurrencyLimiter;
     private final String workerId;
+    // Sinal para acordar o poller antes do fim da espera: liberado por um worker ao devolver uma permissão
+    // quando o último poll foi limitado por capacidade (ver awaitingCapacity).
+    private final Semaphore wakeUpSignal = new Semaphore(0);
+    private volatile boolean awaitingCapacity = false;
+    private long currentIdleDelayMillis;
+    // Presente só com timerLookAheadMillis > 0: tarefas travadas antes do dueDate esperam aqui, sem permissão
+    // de worker, e são despachadas no instante exato do dueDate — a permissão é tomada só no disparo.
+    private final TimingWheel<ExecutableTask> timingWheel;
+    private final long timerLookAheadMillis;
+    private final FireLatenessStats fireLatenessStats = new FireLatenessStats();
+    // Tarefas travadas por este nó e ainda não concluídas (inclui as que aguardam na timing wheel): o
+    // heartbeat renova o lease de todas elas numa única escrita por ciclo.
+    private final Set<String> inFlightTaskIds = ConcurrentHashMap.newKeySet();
+    // Subconjunto de inFlightTaskIds cujo handler ainda não começou (na roda, na fila do executor ou do
+    // bulkhead). Remover daqui é o "claim" atômico entre o worker que vai executar e o drain do shutdown.
+    private final Set<String> unstartedTaskIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService leaseRenewalExecutor;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TaskHandlerResolver taskHandlerResolver;
+    // Tópicos servidos por este nó, resolvidos no start (os beans de handler já estão registrados); null quando
+    // o roteamento por tópico está desligado ou o resolver não sabe enumerar seus handlers.
+    private volatile Set<String> servedTopics;
+    // Partições que este nó adquire, recalculadas a cada heartbeat de membresia; null com a aquisição
+    // particionada desligada ou enquanto a membresia não responde — nesse caso adquire de todas.
+    private volatile Set<Integer> ownedPartitions;
+    private final ExecutorService membershipExecutor;
 
     public TaskAcquirer(KikwiEngineRepository kikwiEngineRepository, KikwiflowConfig kikwiflowConfig) {
+        this(kikwiEngineRepository, kikwiflowConfig, null);
+    }
+
+    public TaskAcquirer(KikwiEngineRepository kikwiEngineRepository, KikwiflowConfig kikwiflowConfig,
+                        TaskHandlerResolver taskHandlerResolver) {
         this.kikwiEngineRepository = kikwiEngineRepository;
+        this.taskHandlerResolver = taskHandlerResolver;
         this.kikwiflowConfig = kikwiflowConfig;
         this.acquirerExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("kikwiflow-acquirer-", 0).factory());
         this.workerExecutor = Executors.newVirtualThreadPerTaskExecutor();
-        this.concurrencyLimit = new Semaphore(kikwiflowConfig.getMaxConcurrentTasks());
+        this.concurrencyLimiter = kikwiflowConfig.isAdaptiveConcurrencyEnabled()
+                ? ConcurrencyLimiter.aimd("global", kikwiflowConfig.getMaxConcurrentTasks(),
+                        kikwiflowConfig.getAdaptiveConcurrencyMinLimit(), kikwiflowConfig.getAdaptiveConcurrencyMaxLimit(),
+                        kikwiflowConfig.getAdaptiveConcurrencyLatencyTolerance())
+                : ConcurrencyLimiter.fixed("global", kikwiflowConfig.getMaxConcurrentTasks());
         String baseName = kikwiflowConfig.getInstanceName() != null ? kikwiflowConfig.getInstanceName() : "kikwi-node";
         this.workerId = baseName + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.currentIdleDelayMillis = kikwiflowConfig.getTaskAcquisitionIntervalMillis();
+        // O lock de uma tarefa pré-carregada precisa sobreviver à espera até o dueDate mais a própria execução:
+        // a janela fica limitada à metade do lockTimeout, senão outro nó a consideraria travada e a roubaria.
+        this.timerLookAheadMillis = Math.min(kikwiflowConfig.getTimerLookAheadMillis(), kikwiflowConfig.getLockTimeoutMillis() / 2);
+        this.bulkheadRegistry = kikwiflowConfig.isAdaptiveConcurrencyEnabled()
+                ? new BulkheadRegistry(kikwiflowConfig.getExecutorConcurrencyLimits(), (executor, limit) ->
+                        ConcurrencyLimiter.aimd(executor, limit, Math.min(limit, kikwiflowConfig.getAdaptiveConcurrencyMinLimit()),
+                                limit, kikwiflowConfig.getAdaptiveConcurrencyLatencyTolerance()))
+                : new BulkheadRegistry(kikwiflowConfig.getExecutorConcurrencyLimits());
+        this.leaseRenewalExecutor = kikwiflowConfig.isLeaseRenewalEnabled()
+                ? Executors.newSingleThreadExecutor(Thread.ofVirtual().name("kikwiflow-lease-renewal-", 0).factory())
+                : null;
+        this.membershipExecutor = kikwiflowConfig.getAcquisitionPartitions() > 0
+                ? Executors.newSingleThreadExecutor(Thread.ofVirtual().name("kikwiflow-membership-", 0).factory())
+                : null;
+        this.timingWheel = timerLookAheadMillis > 0
+                ? new TimingWheel<>(kikwiflowConfig.getTimingWheelTickMillis(), TIMING_WHEEL_SIZE, task -> dispatch(task, true))
+                : null;
+    }
+
+    private Set<String> resolveServedTopics() {
+        if (!kikwiflowConfig.isTopicRoutingEnabled()) {
+            return null;
+        }
+
+        Optional<Set<String>> handlers = taskHandlerResolver != null ? taskHandlerResolver.availableHandlers() : Optional.empty();
+        if (handlers.isEmpty()) {
+            System.err.println("Kikwiflow: roteamento por tópico ligado, mas o TaskHandlerResolver não enumera seus handlers — aquisição sem filtro de tópico.");
+            return null;
+        }
+
+        Set<String> topics = new HashSet<>(handlers.get());
+        topics.addAll(kikwiflowConfig.getServedTopics());
+        System.out.println("Kikwiflow: tópicos servidos por " + workerId + ": " + topics);
+        return Set.copyOf(topics);
+    }
+
+    public FireLatenessStats getFireLatenessStats() {
+        return fireLatenessStats;
+    }
+
+    public List<Bulkhead.Snapshot> getBulkheadStats() {
+        return bulkheadRegistry.snapshot();
+    }
+
+    public ConcurrencyLimiter.Snapshot getConcurrencyLimitStats() {
+        return concurrencyLimiter.snapshot();
     }
 
 
@@ -55,18 +154,35 @@ public class TaskAcquirer implements Runnable {
         this.engine = kikwiflowEngine;
         if(!running){
             this.running = true;
+            this.servedTopics = resolveServedTopics();
+            if (timingWheel != null) {
+                timingWheel.start();
+            }
+            if (leaseRenewalExecutor != null) {
+                leaseRenewalExecutor.submit(this::renewLeases);
+            }
+            if (membershipExecutor != null) {
+                // Primeiro heartbeat síncrono: o poller já começa restrito às suas partições.
+                refreshOwnedPartitions();
+                membershipExecutor.submit(this::maintainMembership);
+            }
             this.acquirerExecutor.submit(this);
             System.out.println("Kikwiflow Task Acquirer started... " + kikwiflowConfig.toString());
         }
     }
 
 
+    /**
+     * Drain em três passos: (1) para o poller, para nada novo ser travado; (2) devolve ao banco, num único
+     * {@code releaseLocks}, as tarefas travadas que ainda não começaram — outro nó as adquire no próximo poll
+     * em vez de esperar o lockTimeout; (3) aguarda os handlers em execução até o grace period.
+     */
     public void stop() {
         this.running = false;
         System.out.println("Kikwiflow Task Acquirer: Iniciando graceful shutdown...");
 
         this.acquirerExecutor.shutdown();
-        this.workerExecutor.shutdown();
+        wakeUpSignal.release();
 
         long gracePeriod = kikwiflowConfig.getShutdownGracePeriodSeconds();
 
@@ -76,53 +192,110 @@ public class TaskAcquirer implements Runnable {
                 this.acquirerExecutor.shutdownNow();
             }
 
+            releaseUnstartedTasks();
+            leaveMembership();
+            this.workerExecutor.shutdown();
+
             if (!this.workerExecutor.awaitTermination(gracePeriod, TimeUnit.SECONDS)) {
                 System.err.println("Kikwiflow Task Acquirer: Workers timeout. Existem tarefas que foram interrompidas abruptamente.");
                 this.workerExecutor.shutdownNow();
             }
+
+            // O heartbeat só para depois dos workers: enquanto uma tarefa ainda roda no grace period, o lease
+            // dela precisa continuar sendo renovado.
+            if (leaseRenewalExecutor != null) {
+                leaseRenewalExecutor.shutdownNow();
+            }
         } catch (InterruptedException e) {
             System.err.println("Kikwiflow Task Acquirer: Shutdown interrompido externamente.");
+            releaseUnstartedTasks();
+            leaveMembership();
             this.acquirerExecutor.shutdownNow();
             this.workerExecutor.shutdownNow();
+            if (leaseRenewalExecutor != null) {
+                leaseRenewalExecutor.shutdownNow();
+            }
             Thread.currentThread().interrupt();
         }
 
         System.out.println("Kikwiflow Task Acquirer stopped.");
     }
 
+    private void releaseUnstartedTasks() {
+        List<ExecutableTask> unfired = timingWheel != null ? timingWheel.stop() : List.of();
+
+        List<String> toRelease = new ArrayList<>();
+        for (String taskId : new ArrayList<>(unstartedTaskIds)) {
+            // Quem remover primeiro fica com a tarefa: se o worker já a pegou, ela segue executando normalmente.
+            if (unstartedTaskIds.remove(taskId)) {
+                toRelease.add(taskId);
+            }
+        }
+
+        // Tarefas da roda nunca foram submetidas a um worker e não seguram permissão. As que estavam na fila de
+        // um worker devolvem a própria ao perceberem que foram liberadas.
+        unfired.forEach(task -> inFlightTaskIds.remove(task.id()));
+        toRelease.forEach(inFlightTaskIds::remove);
+
+        if (toRelease.isEmpty()) {
+            return;
+        }
+
+        try {
+            long released = kikwiEngineRepository.releaseLocks(toRelease, workerId);
+            System.out.println("Kikwiflow Task Acquirer: " + released + " tarefa(s) não iniciada(s) devolvida(s) ao pool.");
+        } catch (Exception e) {
+            // Sem a liberação, as tarefas continuam LOCKED e voltam pelo caminho antigo: expiração do lockTimeout.
+            System.err.println("Kikwiflow Task Acquirer: falha ao devolver tarefas não iniciadas: " + e.getMessage());
+        }
+    }
+
     @Override
     public void run() {
         while (running) {
             try {
-                int availablePermits = concurrencyLimit.availablePermits();
+                int availablePermits = concurrencyLimiter.availablePermits();
 
                 if (availablePermits <= 0) {
-                    Thread.sleep(kikwiflowConfig.getTaskAcquisitionIntervalMillis());
+                    awaitingCapacity = true;
+                    await(kikwiflowConfig.getTaskAcquisitionIntervalMillis());
                     continue;
                 }
 
                 int limitToFetch = Math.min(availablePermits, kikwiflowConfig.getTaskAcquisitionMaxTasks());
+                Instant now = Instant.now();
+                // Timers na roda não seguram permissão; a roda é limitada a maxConcurrentTasks para o look-ahead
+                // não travar a janela inteira de uma vez — cheia, o poll volta a buscar só o que já venceu.
+                long lookAheadMillis = timingWheel != null && timingWheel.size() < kikwiflowConfig.getMaxConcurrentTasks()
+                        ? timerLookAheadMillis
+                        : 0L;
+                // Com look-ahead, o "agora" do repositório avança a janela inteira; o lockTimeout e o limite de
+                // envelhecimento crescem na mesma medida para que continuem medidos a partir do agora real.
                 List<ExecutableTask> taskList = kikwiEngineRepository.findAndLockDueTasks(
-                        Instant.now(),
+                        now.plusMillis(lookAheadMillis),
                         limitToFetch,
                         this.workerId,
-                        this.kikwiflowConfig.getLockTimeoutMillis()
+                        this.kikwiflowConfig.getLockTimeoutMillis() + lookAheadMillis,
+                        new TaskAcquisitionCriteria(bulkheadRegistry.saturatedExecutors(), servedTopics,
+                                kikwiflowConfig.getTaskAcquisitionOrder(),
+                                kikwiflowConfig.getPriorityAgingMillis() + lookAheadMillis,
+                                ownedPartitions)
                 );
 
                 for (ExecutableTask task : taskList) {
-                    concurrencyLimit.acquireUninterruptibly();
-                    workerExecutor.submit(() -> {
-                        try {
-                            engine.executeFromTask(task);
-                        } catch (Exception ex) {
-                            System.err.println("Erro crítico na execução: " + ex.getMessage());
-                        } finally {
-                            concurrencyLimit.release();
-                        }
-                    });
+                    inFlightTaskIds.add(task.id());
+                    unstartedTaskIds.add(task.id());
+                    if (timingWheel != null && task.dueDate() != null && task.dueDate().isAfter(now)) {
+                        timingWheel.schedule(task, task.dueDate());
+                    } else {
+                        // O lote foi dimensionado pelas permissões livres; se o limite adaptativo caiu nesse meio
+                        // tempo, a sobra é absorvida em vez de deixar tarefas já travadas esperando.
+                        concurrencyLimiter.forceAcquire();
+                        dispatch(task, false);
+                    }
                 }
 
-                Thread.sleep(kikwiflowConfig.getTaskAcquisitionIntervalMillis());
+                await(nextDelayMillis(taskList.size(), limitToFetch));
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -132,4 +305,219 @@ public class TaskAcquirer implements Runnable {
             }
         }
     }
+
+    /**
+     * Heartbeat do lease: a cada {@code lockTimeoutMillis / 3} avança {@code acquiredAt} de todas as tarefas em
+     * voo deste nó com um único {@code renewLocks}. Uma tarefa cujo handler demora mais que o lockTimeout deixa
+     * de parecer travada para os outros nós — o lockTimeout passa a medir só "nó morto", e pode ser curto.
+     */
+    private void renewLeases() {
+        long renewalInterval = Math.max(1L, kikwiflowConfig.getLockTimeoutMillis() / 3);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(renewalInterval);
+
+                if (inFlightTaskIds.isEmpty()) {
+                    continue;
+                }
+
+                List<String> taskIds = new ArrayList<>(inFlightTaskIds);
+                long renewed = kikwiEngineRepository.renewLocks(taskIds, workerId, Instant.now());
+
+                if (renewed < taskIds.size()) {
+                    System.err.println("Kikwiflow Task Acquirer: " + (taskIds.size() - renewed)
+                            + " tarefa(s) em voo sem lease renovado (concluídas no intervalo ou readquiridas por outro nó).");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                System.err.println("Kikwiflow Task Acquirer: falha ao renovar leases: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Heartbeat da membresia de aquisição: a cada {@code partitionMemberTtlMillis / 3} renova a presença deste nó
+     * e recalcula as partições que lhe cabem entre os membros vivos. Um nó que entra ou cai muda a atribuição no
+     * próximo heartbeat de cada nó; durante a transição duas partições podem ser lidas por dois nós, mas o lock
+     * atômico de {@code findAndLockDueTasks} continua garantindo que cada tarefa roda uma vez só.
+     */
+    private void maintainMembership() {
+        long heartbeatInterval = Math.max(1L, kikwiflowConfig.getPartitionMemberTtlMillis() / 3);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(heartbeatInterval);
+                refreshOwnedPartitions();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void refreshOwnedPartitions() {
+        try {
+            List<String> liveMembers = kikwiEngineRepository.heartbeatAcquisitionMember(workerId, Instant.now(),
+                    kikwiflowConfig.getPartitionMemberTtlMillis());
+            Set<Integer> partitions = PartitionAssignment.ownedPartitions(workerId, liveMembers,
+                    kikwiflowConfig.getAcquisitionPartitions());
+
+            if (!partitions.equals(ownedPartitions)) {
+                System.out.println("Kikwiflow Task Acquirer: " + workerId + " com " + partitions.size() + " de "
+                        + kikwiflowConfig.getAcquisitionPartitions() + " partições (" + liveMembers.size() + " nó(s) vivo(s)).");
+            }
+            this.ownedPartitions = partitions;
+        } catch (Exception e) {
+            // Sem membresia confiável, adquirir de todas as partições é mais seguro do que deixar algumas órfãs.
+            System.err.println("Kikwiflow Task Acquirer: falha no heartbeat de membresia, aquisição sem partições: " + e.getMessage());
+            this.ownedPartitions = null;
+        }
+    }
+
+    private void leaveMembership() {
+        if (membershipExecutor == null) {
+            return;
+        }
+
+        membershipExecutor.shutdownNow();
+        try {
+            // Sair explicitamente redistribui as partições já no próximo heartbeat dos outros nós, sem esperar o TTL.
+            kikwiEngineRepository.removeAcquisitionMember(workerId);
+        } catch (Exception e) {
+            System.err.println("Kikwiflow Task Acquirer: falha ao sair da membresia: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Despacha a tarefa para um worker virtual. Para tarefas já vencidas no poll, a permissão de
+     * {@code concurrencyLimiter} foi reservada por quem adquiriu a tarefa; as que vêm da timing wheel a tomam
+     * aqui, no disparo, para não tirar capacidade das vencidas enquanto esperam. Ela é devolvida ao fim da
+     * execução, junto com a latência do handler e o resultado — as amostras que ajustam os limites adaptativos
+     * (global e do bulkhead).
+     *
+     * <p>O bulkhead do handler é admitido antes de a permissão global ser usada: se ele está cheio, a global
+     * volta ao pool e o worker espera o bulkhead sem ela, readquirindo-a só depois de admitido. Um handler lento
+     * com tarefas enfileiradas não tira capacidade dos demais.
+     */
+    private void dispatch(ExecutableTask task, boolean fromWheel) {
+        workerExecutor.submit(() -> {
+            Optional<Bulkhead> bulkhead = bulkheadRegistry.forExecutor(task.executor());
+            boolean globalAcquired = !fromWheel;
+            boolean bulkheadAcquired = false;
+            boolean started = false;
+            long startedAt = 0L;
+            boolean succeeded = false;
+            try {
+                if (!unstartedTaskIds.contains(task.id())) {
+                    return;
+                }
+                if (bulkhead.isPresent()) {
+                    if (!bulkhead.get().tryAcquire()) {
+                        // Bulkhead cheio: a permissão global volta ao pool e o worker espera na fila do handler
+                        // (virtual thread, espera barata) — o lease segue sendo renovado enquanto isso. Disparo da
+                        // roda de timers não tem permissão global ainda: não há nada a devolver.
+                        if (globalAcquired) {
+                            globalAcquired = false;
+                            concurrencyLimiter.release();
+                            signalReleasedCapacity();
+                        }
+                        bulkhead.get().acquire();
+                    }
+                    bulkheadAcquired = true;
+                }
+                if (!globalAcquired) {
+                    concurrencyLimiter.acquire();
+                    globalAcquired = true;
+                }
+                // Claim da execução: se o drain do shutdown chegou antes, a tarefa já voltou a PENDING no banco.
+                if (!unstartedTaskIds.remove(task.id())) {
+                    return;
+                }
+                if (task.dueDate() != null) {
+                    fireLatenessStats.record(Instant.now().toEpochMilli() - task.dueDate().toEpochMilli(), fromWheel);
+                }
+                startedAt = System.nanoTime();
+                started = true;
+                succeeded = engine.executeAcquiredTask(task);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ex) {
+                System.err.println("Erro crítico na execução: " + ex.getMessage());
+            } finally {
+                inFlightTaskIds.remove(task.id());
+                unstartedTaskIds.remove(task.id());
+                if (started) {
+                    long latencyNanos = System.nanoTime() - startedAt;
+                    if (bulkheadAcquired) {
+                        bulkhead.get().release(latencyNanos, succeeded);
+                    }
+                    concurrencyLimiter.release(latencyNanos, succeeded);
+                } else {
+                    if (bulkheadAcquired) {
+                        bulkhead.get().release();
+                    }
+                    if (globalAcquired) {
+                        concurrencyLimiter.release();
+                    }
+                }
+                signalReleasedCapacity();
+            }
+        });
+    }
+
+    private void signalReleasedCapacity() {
+        if (awaitingCapacity) {
+            wakeUpSignal.release();
+        }
+    }
+
+    /**
+     * Espera adaptativa entre polls:
+     * <ul>
+     *   <li>lote cheio: provavelmente há mais tarefas vencidas — re-poll imediato;</li>
+     *   <li>lote parcial: a fila foi drenada — volta ao intervalo base;</li>
+     *   <li>lote vazio: backoff exponencial a partir do intervalo base, limitado por
+     *       {@code taskAcquisitionMaxBackoffMillis} (opt-in: o padrão mantém o intervalo base) e pela janela da
+     *       timing wheel, para que um timer pré-adquirível nunca espere além dela.</li>
+     * </ul>
+     * Quando o lote foi limitado pelas permissões livres (e não por {@code taskAcquisitionMaxTasks}), o poller
+     * também aceita ser acordado antes por um worker que devolveu capacidade.
+     */
+    private long nextDelayMillis(int fetched, int limitToFetch) {
+        long baseInterval = kikwiflowConfig.getTaskAcquisitionIntervalMillis();
+
+        if (fetched > 0 && fetched >= limitToFetch) {
+            currentIdleDelayMillis = baseInterval;
+            if (limitToFetch < kikwiflowConfig.getTaskAcquisitionMaxTasks()) {
+                awaitingCapacity = true;
+                return baseInterval;
+            }
+            return 0L;
+        }
+
+        if (fetched > 0) {
+            currentIdleDelayMillis = baseInterval;
+            return baseInterval;
+        }
+
+        long delay = currentIdleDelayMillis;
+        long ceiling = kikwiflowConfig.getTaskAcquisitionMaxBackoffMillis();
+        if (timingWheel != null) {
+            ceiling = Math.min(ceiling, timerLookAheadMillis);
+        }
+        ceiling = Math.max(baseInterval, ceiling);
+        currentIdleDelayMillis = Math.min(Math.max(1L, delay) * 2, ceiling);
+        return delay;
+    }
+
+    private void await(long delayMillis) throws InterruptedException {
+        if (delayMillis <= 0) {
+            return;
+        }
+
+        wakeUpSignal.tryAcquire(delayMillis, TimeUnit.MILLISECONDS);
+        wakeUpSignal.drainPermits();
+        awaitingCapacity = false;
+    }
 }
@@ -19,7 +19,17 @@ package io.kikwiflow.execution;
 import io.kikwiflow.execution.api.handler.TaskHandler;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface TaskHandlerResolver {
     Optional<TaskHandler> resolve(String beanName);
+
+    /**
+     * Nomes de todos os handlers que este resolver consegue resolver, usados como tópicos servidos pelo nó
+     * quando o roteamento por tópico está ligado. Vazio quando o resolver não sabe enumerá-los — nesse caso o
+     * nó não restringe a aquisição.
+     */
+    default Optional<Set<String>> availableHandlers() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.persistence.api.data.VariableOpType;
+import io.kikwiflow.persistence.api.data.VariableOperation;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Armazenamento de variáveis de uma {@link ProcessInstanceExecution} com cópia sob escrita e rastreio de chaves
+ * alteradas.
+ * <p>
+ * O estado é dividido em duas camadas: a {@code base}, o mapa carregado do repositório (ou o resultado da última
+ * compactação), que <strong>nunca</strong> é mutado; e o {@code delta}, com só as chaves escritas desde então
+ * ({@code null} como valor marca uma remoção). Com isso:
+ * <ul>
+ *     <li>carregar uma instância não copia o mapa vindo do repositório;</li>
+ *     <li>{@link #snapshot()} e {@link #fork()} são O(1) — compartilham as duas camadas e só marcam o delta como
+ *     compartilhado, e a próxima escrita copia o delta (pequeno), não a instância inteira;</li>
+ *     <li>quando o delta cresce além de metade da base, as camadas são compactadas numa base nova — custo
+ *     amortizado sobre as escritas que o fizeram crescer, sem tocar a base antiga que snapshots ainda veem.</li>
+ * </ul>
+ * As escritas viram {@link VariableOperation} por chave ({@link #dirtyOperations()}), que é o que o
+ * {@code UnitOfWork} leva ao repositório — só o que mudou, nunca o mapa inteiro.
+ * <p>
+ * Não é thread-safe: pertence à execução síncrona de uma instância, como a própria
+ * {@link ProcessInstanceExecution}. Ramos executados em paralelo trabalham cada um sobre seu {@link #fork()}.
+ */
+final class VariableStore {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 32;
+
+    private Map<String, ProcessVariable> base;
+    private HashMap<String, ProcessVariable> delta;
+    private boolean deltaShared;
+    private int size;
+    private final Map<String, VariableOperation> dirtyOperations = new HashMap<>();
+    private Map<String, VariableOperation> trackedOperations;
+
+    VariableStore() {
+        resetTo(null);
+    }
+
+    VariableStore(Map<String, ProcessVariable> base) {
+        resetTo(base);
+    }
+
+    /**
+     * Troca a base por {@code newBase} (sem copiá-la) e descarta o delta. As operações pendentes são preservadas —
+     * quem chama está reidratando o estado, não desfazendo escritas ainda não enviadas.
+     */
+    void resetTo(Map<String, ProcessVariable> newBase) {
+        this.base = newBase != null ? newBase : Map.of();
+        this.delta = null;
+        this.deltaShared = false;
+        this.size = this.base.size();
+    }
+
+    ProcessVariable get(String key) {
+        if (delta != null && delta.containsKey(key)) {
+            return delta.get(key);
+        }
+        return base.get(key);
+    }
+
+    boolean containsKey(String key) {
+        if (delta != null && delta.containsKey(key)) {
+            return delta.get(key) != null;
+        }
+        return base.containsKey(key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    ProcessVariable put(String key, ProcessVariable value) {
+        recordOperation(key, new VariableOperation(value, VariableOpType.SET));
+        return write(key, value);
+    }
+
+    ProcessVariable remove(String key) {
+        recordOperation(key, new VariableOperation(null, VariableOpType.UNSET));
+        return write(key, null);
+    }
+
+    /**
+     * Abre uma janela de rastreio: as operações feitas daqui até {@link #stopTracking()} são devolvidas à parte,
+     * sem afetar {@link #dirtyOperations()}. Usado para o diff de variáveis de um único nó; fora dessa janela as
+     * escritas não pagam nada a mais.
+     */
+    void startTracking() {
+        trackedOperations = new HashMap<>();
+    }
+
+    Map<String, VariableOperation> stopTracking() {
+        Map<String, VariableOperation> tracked = trackedOperations != null ? trackedOperations : Map.of();
+        trackedOperations = null;
+        return tracked;
+    }
+
+    /**
+     * Visão imutável do estado atual em O(1). Escritas posteriores neste store não aparecem nela.
+     */
+    Map<String, ProcessVariable> snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Como {@link #snapshot()}, mas omitindo as variáveis transientes — é o que vai para o registro persistido.
+     */
+    Map<String, ProcessVariable> persistentSnapshot() {
+        return snapshot(true);
+    }
+
+    /**
+     * Store independente com o mesmo conteúdo e nenhuma operação pendente, em O(1).
+     */
+    VariableStore fork() {
+        VariableStore copy = new VariableStore(base);
+        if (delta != null && !delta.isEmpty()) {
+            this.deltaShared = true;
+            copy.delta = this.delta;
+            copy.deltaShared = true;
+        }
+        copy.size = this.size;
+        return copy;
+    }
+
+    Map<String, VariableOperation> dirtyOperations() {
+        return Map.copyOf(dirtyOperations);
+    }
+
+    boolean hasDirtyOperations() {
+        return !dirtyOperations.isEmpty();
+    }
+
+    void clearDirtyOperations() {
+        dirtyOperations.clear();
+    }
+
+    private void recordOperation(String key, VariableOperation operation) {
+        dirtyOperations.put(key, operation);
+        if (trackedOperations != null) {
+            trackedOperations.put(key, operation);
+        }
+    }
+
+    private Map<String, ProcessVariable> snapshot(boolean persistentOnly) {
+        if (delta == null || delta.isEmpty()) {
+            return persistentOnly ? new LayeredView(base, null, -1, true) : Collections.unmodifiableMap(base);
+        }
+        deltaShared = true;
+        return new LayeredView(base, delta, persistentOnly ? -1 : size, persistentOnly);
+    }
+
+    private ProcessVariable write(String key, ProcessVariable value) {
+        boolean existed = containsKey(key);
+        ProcessVariable previous = existed ? get(key) : null;
+
+        HashMap<String, ProcessVariable> writable = writableDelta();
+        if (value == null && !base.containsKey(key)) {
+            writable.remove(key);
+        } else {
+            writable.put(key, value);
+        }
+
+        if (value == null && existed) {
+            size--;
+        } else if (value != null && !existed) {
+            size++;
+        }
+
+        if (writable.size() > Math.max(MIN_COMPACTION_THRESHOLD, base.size() / 2)) {
+            compact();
+        }
+        return previous;
+    }
+
+    private HashMap<String, ProcessVariable> writableDelta() {
+        if (delta == null) {
+            delta = new HashMap<>();
+        } else if (deltaShared) {
+            delta = new HashMap<>(delta);
+        }
+        deltaShared = false;
+        return delta;
+    }
+
+    private void compact() {
+        HashMap<String, ProcessVariable> merged = new HashMap<>(base);
+        delta.forEach((key, value) -> {
+            if (value == null) {
+                merged.remove(key);
+            } else {
+                merged.put(key, value);
+            }
+        });
+        this.base = merged;
+        this.delta = null;
+        this.deltaShared = false;
+    }
+
+    /**
+     * Leitura combinada das duas camadas, imutável. As camadas referenciadas nunca são mutadas depois de
+     * capturadas (o delta foi marcado como compartilhado), então a visão é estável.
+     */
+    private static final class LayeredView extends AbstractMap<String, ProcessVariable> {
+
+        private final Map<String, ProcessVariable> base;
+        private final Map<String, ProcessVariable> delta;
+        private final boolean persistentOnly;
+        private int size;
+        private Set<Entry<String, ProcessVariable>> entrySet;
+
+        private LayeredView(Map<String, ProcessVariable> base, Map<String, ProcessVariable> delta,
+                            int size, boolean persistentOnly) {
+            this.base = base;
+            this.delta = delta != null ? delta : Map.of();
+            this.size = size;
+            this.persistentOnly = persistentOnly;
+        }
+
+        @Override
+        public ProcessVariable get(Object key) {
+            ProcessVariable value = delta.containsKey(key) ? delta.get(key) : base.get(key);
+            return isVisible(value) ? value : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (delta.containsKey(key)) {
+                return delta.get(key) != null && isVisible(delta.get(key));
+            }
+            return base.containsKey(key) && isVisible(base.get(key));
+        }
+
+        private boolean isVisible(ProcessVariable value) {
+            return !persistentOnly || (value != null && !value.isTransient());
+        }
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                int count = 0;
+                for (Iterator<Entry<String, ProcessVariable>> it = entrySet().iterator(); it.hasNext(); it.next()) {
+                    count++;
+                }
+                size = count;
+            }
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, ProcessVariable>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, ProcessVariable>> iterator() {
+                        return new LayeredIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return LayeredView.this.size();
+                    }
+                };
+            }
+            return entrySet;
+        }
+
+        private final class LayeredIterator implements Iterator<Entry<String, ProcessVariable>> {
+            private final Iterator<Entry<String, ProcessVariable>> baseIterator = base.entrySet().iterator();
+            private final Iterator<Entry<String, ProcessVariable>> deltaIterator = delta.entrySet().iterator();
+            private Entry<String, ProcessVariable> next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    if (baseIterator.hasNext()) {
+                        Entry<String, ProcessVariable> candidate = baseIterator.next();
+                        if (!delta.containsKey(candidate.getKey()) && isVisible(candidate.getValue())) {
+                            next = new SimpleImmutableEntry<>(candidate);
+                        }
+                    } else if (deltaIterator.hasNext()) {
+                        Entry<String, ProcessVariable> candidate = deltaIterator.next();
+                        if (candidate.getValue() != null && isVisible(candidate.getValue())) {
+                            next = new SimpleImmutableEntry<>(candidate);
+                        }
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Entry<String, ProcessVariable> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Entry<String, ProcessVariable> current = next;
+                next = null;
+                return current;
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.binding;
+
+import io.kikwiflow.execution.TaskHandlerResolver;
+import io.kikwiflow.execution.api.handler.TaskHandler;
+import io.kikwiflow.execution.api.provider.AnswerProvider;
+import io.kikwiflow.execution.api.provider.CorrelationKeysProvider;
+import io.kikwiflow.execution.api.provider.DueDateProvider;
+import io.kikwiflow.execution.api.resolver.AnswerProviderResolver;
+import io.kikwiflow.execution.api.resolver.CorrelationKeysProviderResolver;
+import io.kikwiflow.execution.api.resolver.DueDateProviderResolver;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.CorrelationKeySource;
+import io.kikwiflow.model.definition.process.elements.ExclusiveGatewayDefinition;
+import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
+import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
+import io.kikwiflow.model.definition.process.elements.TimerDueDateSource;
+import io.kikwiflow.model.execution.enumerated.AnswerProviderType;
+import io.kikwiflow.model.execution.enumerated.CorrelationProviderType;
+import io.kikwiflow.model.execution.enumerated.TimeProviderType;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Referências já resolvidas para os beans que uma definição usa — {@link TaskHandler}, {@link AnswerProvider},
+ * {@link DueDateProvider} e {@link CorrelationKeysProvider}.
+ * <p>
+ * Sem o registro, cada nó executado pedia o bean ao container ({@code applicationContext.getBean(...)} no
+ * Spring). Aqui cada nome é resolvido uma vez — em {@link #bind(ProcessDefinition)}, quando a definição entra no
+ * cache, ou na primeira execução que o pedir — e as execuções seguintes leem a referência guardada. Os
+ * resolvers expostos por {@link #taskHandlerResolver()} e afins são o que o caminho quente usa; o
+ * {@code DeployValidator} continua falando com os resolvers originais.
+ * <p>
+ * {@link #invalidate()} descarta tudo: chamado no refresh do contexto, quando os beans podem ter sido
+ * recriados. Nomes não encontrados nunca são guardados, para que um bean registrado depois ainda seja achado.
+ */
+public class HandlerRegistry {
+
+    private final Binding<TaskHandler> taskHandlers;
+    private final Binding<AnswerProvider> answerProviders;
+    private final Binding<DueDateProvider> dueDateProviders;
+    private final Binding<CorrelationKeysProvider> correlationKeysProviders;
+    private final TaskHandlerResolver boundTaskHandlerResolver;
+
+    public HandlerRegistry(TaskHandlerResolver taskHandlerResolver, AnswerProviderResolver answerProviderResolver,
+                           DueDateProviderResolver dueDateProviderResolver,
+                           CorrelationKeysProviderResolver correlationKeysProviderResolver) {
+        this.taskHandlers = new Binding<>(taskHandlerResolver::resolve);
+        this.answerProviders = new Binding<>(answerProviderResolver::getProvider);
+        this.dueDateProviders = new Binding<>(dueDateProviderResolver::getProvider);
+        this.correlationKeysProviders = new Binding<>(correlationKeysProviderResolver::getProvider);
+        this.boundTaskHandlerResolver = new TaskHandlerResolver() {
+            @Override
+            public Optional<TaskHandler> resolve(String beanName) {
+                return taskHandlers.resolve(beanName);
+            }
+
+            @Override
+            public Optional<Set<String>> availableHandlers() {
+                return taskHandlerResolver.availableHandlers();
+            }
+        };
+    }
+
+    public TaskHandlerResolver taskHandlerResolver() {
+        return boundTaskHandlerResolver;
+    }
+
+    public AnswerProviderResolver answerProviderResolver() {
+        return answerProviders::resolve;
+    }
+
+    public DueDateProviderResolver dueDateProviderResolver() {
+        return dueDateProviders::resolve;
+    }
+
+    public CorrelationKeysProviderResolver correlationKeysProviderResolver() {
+        return correlationKeysProviders::resolve;
+    }
+
+    /**
+     * Resolve de uma vez todos os beans referenciados pela definição. Um bean ausente não falha aqui — quem
+     * garante a existência é o {@code DeployValidator}; na execução, a ausência continua sendo reportada pelo
+     * mesmo erro de antes.
+     */
+    public void bind(ProcessDefinition processDefinition) {
+        for (FlowNodeDefinition node : processDefinition.flowNodes().values()) {
+            if (node instanceof ExecutableTaskDefinition task && task.executor() != null) {
+                taskHandlers.preload(task.executor());
+            }
+            if (node instanceof ExclusiveGatewayDefinition gateway && gateway.providerType() == AnswerProviderType.BEAN
+                    && gateway.providerBean() != null) {
+                answerProviders.preload(gateway.providerBean());
+            }
+            if (node instanceof TimerDueDateSource timer && timer.providerType() == TimeProviderType.BEAN
+                    && timer.providerBean() != null) {
+                dueDateProviders.preload(timer.providerBean());
+            }
+            if (node instanceof CorrelationKeySource source && source.providerType() == CorrelationProviderType.BEAN
+                    && source.providerBean() != null) {
+                correlationKeysProviders.preload(source.providerBean());
+            }
+        }
+    }
+
+    public void invalidate() {
+        taskHandlers.clear();
+        answerProviders.clear();
+        dueDateProviders.clear();
+        correlationKeysProviders.clear();
+    }
+
+    /**
+     * Quantidade de referências guardadas — só para diagnóstico.
+     */
+    public int boundCount() {
+        return taskHandlers.size() + answerProviders.size() + dueDateProviders.size() + correlationKeysProviders.size();
+    }
+
+    private static final class Binding<T> {
+
+        private final Function<String, Optional<T>> delegate;
+        private final Map<String, Optional<T>> bound = new ConcurrentHashMap<>();
+
+        private Binding(Function<String, Optional<T>> delegate) {
+            this.delegate = delegate;
+        }
+
+        private Optional<T> resolve(String beanName) {
+            Optional<T> cached = bound.get(beanName);
+            if (cached != null) {
+                return cached;
+            }
+
+            Optional<T> resolved = delegate.apply(beanName);
+            resolved.ifPresent(bean -> bound.put(beanName, resolved));
+            return resolved;
+        }
+
+        private void preload(String beanName) {
+            try {
+                resolve(beanName);
+            } catch (RuntimeException e) {
+                // Bean que falha ao ser criado: fica para a execução, que tenta de novo e reporta o erro real.
+            }
+        }
+
+        private void clear() {
+            bound.clear();
+        }
+
+        private int size() {
+            return bound.size();
+        }
+    }
+}
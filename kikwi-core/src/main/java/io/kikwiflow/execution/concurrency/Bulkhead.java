@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limite de execuções simultâneas de um único handler ({@code ExecutableTaskDefinition.executor}) dentro do
+ * nó, independente do limite global do {@code TaskAcquirer}. Um handler lento esgota só o próprio bulkhead —
+ * os demais continuam com as permissões globais livres.
+ *
+ * <p>Tarefas que chegam com o bulkhead cheio aguardam na fila do limitador (o worker é uma virtual thread, então
+ * esperar é barato) sem segurar permissão global — quem não passa em {@link #tryAcquire()} devolve a global
+ * antes de esperar aqui. Enquanto ele estiver cheio, o poller deixa de adquirir tarefas deste handler. Com
+ * concorrência adaptativa, o limite configurado vira o teto de um {@link ConcurrencyLimiter} AIMD próprio do
+ * handler — um downstream degradado tem o limite cortado sem afetar os outros.
+ */
+public class Bulkhead {
+
+    private final String executor;
+    private final int maxConcurrent;
+    private final ConcurrencyLimiter limiter;
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder skippedPolls = new LongAdder();
+
+    public Bulkhead(String executor, int maxConcurrent) {
+        this(executor, maxConcurrent, ConcurrencyLimiter.fixed(executor, maxConcurrent));
+    }
+
+    public Bulkhead(String executor, int maxConcurrent, ConcurrencyLimiter limiter) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Bulkhead [" + executor + "]: limite deve ser positivo: " + maxConcurrent);
+        }
+        this.executor = executor;
+        this.maxConcurrent = maxConcurrent;
+        this.limiter = limiter;
+    }
+
+    public boolean tryAcquire() {
+        if (!limiter.tryAcquire()) {
+            return false;
+        }
+        executed.increment();
+        return true;
+    }
+
+    public void acquire() throws InterruptedException {
+        limiter.acquire();
+        executed.increment();
+    }
+
+    public void release() {
+        limiter.release();
+    }
+
+    public void release(long latencyNanos, boolean success) {
+        limiter.release(latencyNanos, success);
+    }
+
+    public boolean isSaturated() {
+        return limiter.isSaturated();
+    }
+
+    void markSkippedPoll() {
+        skippedPolls.increment();
+    }
+
+    public String getExecutor() {
+        return executor;
+    }
+
+    public Snapshot snapshot() {
+        ConcurrencyLimiter.Snapshot limiterSnapshot = limiter.snapshot();
+        int limit = Math.max(1, limiterSnapshot.limit());
+        return new Snapshot(executor, maxConcurrent, limiterSnapshot.limit(), limiterSnapshot.inFlight(),
+                limiterSnapshot.waiting(), (double) limiterSnapshot.inFlight() / limit, executed.sum(), skippedPolls.sum());
+    }
+
+    /**
+     * @param limit        limite vigente; igual a {@code maxConcurrent} sem concorrência adaptativa.
+     * @param saturation   {@code inFlight / limit} no instante da leitura (1.0 = cheio).
+     * @param skippedPolls quantos polls deixaram de adquirir tarefas deste handler por ele estar cheio.
+     */
+    public record Snapshot(String executor, int maxConcurrent, int limit, int inFlight, int queued, double saturation,
+                           long executed, long skippedPolls) {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Bulkheads configurados por handler ({@code kikwiflow.execution.bulkheads.<executor>=<limite>}). Handlers sem
+ * entrada aqui não têm limite próprio — só o global de {@code maxConcurrentTasks}.
+ */
+public class BulkheadRegistry {
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadRegistry(Map<String, Integer> limitsByExecutor) {
+        this(limitsByExecutor, ConcurrencyLimiter::fixed);
+    }
+
+    /**
+     * @param limiterFactory cria o limitador de cada handler a partir do limite configurado — fixo, ou AIMD
+     *                       com o limite configurado como teto.
+     */
+    public BulkheadRegistry(Map<String, Integer> limitsByExecutor, BiFunction<String, Integer, ConcurrencyLimiter> limiterFactory) {
+        if (limitsByExecutor != null) {
+            limitsByExecutor.forEach((executor, limit) ->
+                    bulkheads.put(executor, new Bulkhead(executor, limit, limiterFactory.apply(executor, limit))));
+        }
+    }
+
+    public Optional<Bulkhead> forExecutor(String executor) {
+        return executor == null ? Optional.empty() : Optional.ofNullable(bulkheads.get(executor));
+    }
+
+    /**
+     * Handlers cujo bulkhead está cheio agora — excluídos do próximo {@code findAndLockDueTasks}. Cada handler
+     * retornado conta um poll pulado na sua métrica.
+     */
+    public Set<String> saturatedExecutors() {
+        if (bulkheads.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> saturated = new HashSet<>();
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            if (bulkhead.isSaturated()) {
+                bulkhead.markSkippedPoll();
+                saturated.add(bulkhead.getExecutor());
+            }
+        }
+        return saturated;
+    }
+
+    public List<Bulkhead.Snapshot> snapshot() {
+        return bulkheads.values().stream().map(Bulkhead::snapshot).toList();
+    }
+}
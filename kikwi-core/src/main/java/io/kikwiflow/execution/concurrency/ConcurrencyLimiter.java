@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de execuções simultâneas com ajuste AIMD (additive increase, multiplicative decrease), no lugar de um
+ * semáforo de tamanho fixo:
+ * <ul>
+ *     <li>cada execução bem-sucedida com latência até {@code latencyTolerance} × a latência base soma
+ *     {@code 1/limite} ao limite (≈ +1 por "janela" de execuções), desde que o limite esteja de fato em uso;</li>
+ *     <li>uma falha ou uma latência acima da tolerância multiplica o limite por {@value #BACKOFF_RATIO} — no
+ *     máximo uma vez por execução que já começou sob o limite reduzido, para que um lote de respostas lentas
+ *     simultâneas não derrube o limite de uma vez só.</li>
+ * </ul>
+ * A latência base acompanha a menor latência observada, mas sobe devagar ({@value #BASELINE_DRIFT} da diferença
+ * por amostra) para aceitar uma mudança permanente de patamar do downstream em vez de cortar o limite para sempre.
+ * <p>
+ * Criado com {@link #fixed(String, int)}, não adapta: é um semáforo com as mesmas métricas. Espera de permissão
+ * usa {@link ReentrantLock} (não {@code synchronized}) para não fixar a virtual thread do worker na carrier.
+ */
+public class ConcurrencyLimiter {
+
+    static final double BACKOFF_RATIO = 0.9;
+    static final double BASELINE_DRIFT = 0.01;
+
+    private final String name;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition capacityAvailable = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double baselineLatencyNanos;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+    private long increases;
+    private long decreases;
+
+    private ConcurrencyLimiter(String name, boolean adaptive, int initialLimit, int minLimit, int maxLimit,
+                               double latencyTolerance) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("ConcurrencyLimiter [" + name + "]: limites inválidos: min="
+                    + minLimit + ", max=" + maxLimit);
+        }
+        if (adaptive && latencyTolerance <= 1.0) {
+            throw new IllegalArgumentException("ConcurrencyLimiter [" + name + "]: tolerância de latência deve ser > 1: "
+                    + latencyTolerance);
+        }
+        this.name = name;
+        this.adaptive = adaptive;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public static ConcurrencyLimiter fixed(String name, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("ConcurrencyLimiter [" + name + "]: limite deve ser positivo: " + limit);
+        }
+        return new ConcurrencyLimiter(name, false, limit, limit, limit, 0);
+    }
+
+    public static ConcurrencyLimiter aimd(String name, int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        return new ConcurrencyLimiter(name, true, initialLimit, minLimit, maxLimit, latencyTolerance);
+    }
+
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight >= currentLimit()) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (inFlight >= currentLimit()) {
+                    capacityAvailable.await();
+                }
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Conta uma execução mesmo acima do limite atual. Para quem dimensionou o lote por
+     * {@link #availablePermits()} antes de travar as tarefas: se o limite cair entre a leitura e o lock, a
+     * sobra é absorvida aqui em vez de deixar tarefas já travadas esperando.
+     */
+    public void forceAcquire() {
+        lock.lock();
+        try {
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Devolve a permissão sem amostra — a tarefa não chegou a executar (ex.: descartada da timing wheel).
+     */
+    public void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Devolve a permissão e alimenta o ajuste com a latência da execução e se ela terminou com sucesso.
+     */
+    public void release(long latencyNanos, boolean success) {
+        lock.lock();
+        try {
+            if (adaptive) {
+                onSample(latencyNanos, success);
+            }
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        if (inFlight > 0) {
+            inFlight--;
+        }
+        capacityAvailable.signalAll();
+    }
+
+    private void onSample(long latencyNanos, boolean success) {
+        long nowNanos = System.nanoTime();
+        boolean slow = baselineLatencyNanos > 0 && latencyNanos > baselineLatencyNanos * latencyTolerance;
+
+        if (!success || slow) {
+            // Só reduz de novo se esta execução começou depois da última redução: amostras que já estavam em voo
+            // sob o limite antigo não contam duas vezes.
+            if (nowNanos - latencyNanos > lastDecreaseNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                lastDecreaseNanos = nowNanos;
+                decreases++;
+            }
+        } else if (inFlight * 2 >= limit && limit < maxLimit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+            increases++;
+        }
+
+        if (success) {
+            if (baselineLatencyNanos <= 0 || latencyNanos < baselineLatencyNanos) {
+                baselineLatencyNanos = latencyNanos;
+            } else {
+                baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_DRIFT;
+            }
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    public int availablePermits() {
+        lock.lock();
+        try {
+            return Math.max(0, currentLimit() - inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isSaturated() {
+        return availablePermits() <= 0;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(name, adaptive, currentLimit(), minLimit, maxLimit, inFlight, waiting,
+                    baselineLatencyNanos / 1_000_000.0, increases, decreases);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param limit                 limite vigente (a métrica a exportar).
+     * @param baselineLatencyMillis latência base usada para julgar se uma execução foi lenta.
+     * @param increases             amostras que aumentaram o limite.
+     * @param decreases             reduções multiplicativas aplicadas.
+     */
+    public record Snapshot(String name, boolean adaptive, int limit, int minLimit, int maxLimit, int inFlight,
+                           int waiting, double baselineLatencyMillis, long increases, long decreases) {
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import io.kikwiflow.persistence.api.exception.LockOwnershipLostException;
+import io.kikwiflow.persistence.api.exception.OptimisticLockingFailureException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Caixa de comandos por instância de processo, dentro do nó: comandos sobre a mesma {@code processInstanceId}
+ * (completar tarefa externa, correlação, variáveis, execução de tarefa adquirida) entram em fila e rodam um por
+ * vez, em vez de correrem até o {@code commitWork} e o perdedor cair em {@link OptimisticLockingFailureException}.
+ *
+ * <p>Cada instância com comando em andamento tem a sua própria fila — um {@link ReentrantLock} justo (FIFO, e sem
+ * fixar a virtual thread na carrier, como em {@link ConcurrencyLimiter}) — criada no primeiro comando e
+ * descartada quando o último sai: a memória acompanha as instâncias ativas no nó, e um handler lento só segura
+ * os comandos da própria instância, nunca os de outra.
+ *
+ * <p>Comando aninhado (ex.: um EVENT_THROWER correlacionando outra instância de dentro da execução de uma
+ * primeira) nunca espera: se a fila da outra instância estiver livre, ele a segura; se não, roda sem
+ * serializar e fica com o controle otimista de sempre — esperar ali poderia travar duas threads que seguram
+ * filas uma da outra. Sobre a mesma instância (ex.: a correlação que resolve o grupo e completa a tarefa-mãe),
+ * ele só reentra. Comandos e conflitos são contados uma vez, na entrada mais externa da thread.
+ *
+ * <p>Desabilitada, a caixa não serializa nada, mas continua contando comandos e conflitos: é o "antes" da
+ * comparação com {@link #snapshot()}. Só coordena comandos deste nó — entre nós, o controle otimista do
+ * repositório continua sendo a garantia.
+ */
+public class InstanceCommandMailbox {
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<String, InstanceQueue> queues = new ConcurrentHashMap<>();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder queuedCommands = new LongAdder();
+    private final LongAdder unserializedNestedCommands = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0L);
+
+    public InstanceCommandMailbox(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Roda {@code command} serializado com os demais comandos do nó sobre {@code processInstanceId}.
+     * {@code processInstanceId} nulo não serializa.
+     */
+    public <T> T execute(String processInstanceId, Supplier<T> command) {
+        int[] entered = depth.get();
+        boolean outermost = entered[0] == 0;
+        entered[0]++;
+        try {
+            if (outermost) {
+                commands.increment();
+                return countingConflicts(processInstanceId, command);
+            }
+            return serialized(processInstanceId, command, true);
+        } finally {
+            entered[0]--;
+        }
+    }
+
+    private <T> T countingConflicts(String processInstanceId, Supplier<T> command) {
+        try {
+            return serialized(processInstanceId, command, false);
+        } catch (OptimisticLockingFailureException e) {
+            if (!(e instanceof LockOwnershipLostException)) {
+                conflicts.increment();
+            }
+            throw e;
+        }
+    }
+
+    private <T> T serialized(String processInstanceId, Supplier<T> command, boolean nested) {
+        if (!enabled || processInstanceId == null) {
+            return command.get();
+        }
+
+        InstanceQueue queue = queues.compute(processInstanceId, (id, current) -> {
+            InstanceQueue joined = current != null ? current : new InstanceQueue();
+            joined.users++;
+            return joined;
+        });
+
+        try {
+            if (queue.lock.isHeldByCurrentThread()) {
+                return command.get();
+            }
+
+            if (nested) {
+                if (!queue.lock.tryLock()) {
+                    unserializedNestedCommands.increment();
+                    return command.get();
+                }
+            } else if (!queue.lock.tryLock()) {
+                queuedCommands.increment();
+                maxQueueDepth.accumulate(queueDepth.incrementAndGet());
+                try {
+                    queue.lock.lock();
+                } finally {
+                    queueDepth.decrementAndGet();
+                }
+            }
+
+            try {
+                return command.get();
+            } finally {
+                queue.lock.unlock();
+            }
+        } finally {
+            queues.computeIfPresent(processInstanceId, (id, current) -> --current.users == 0 ? null : current);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Snapshot snapshot() {
+        long total = commands.sum();
+        long conflicted = conflicts.sum();
+        return new Snapshot(enabled, queues.size(), total, queuedCommands.sum(), unserializedNestedCommands.sum(),
+                queueDepth.get(), maxQueueDepth.get(), conflicted, total == 0 ? 0.0 : (double) conflicted / total);
+    }
+
+    /**
+     * Fila de uma instância; {@code users} (comandos dentro ou esperando) só muda dentro de
+     * {@code ConcurrentHashMap.compute}, que decide quando ela sai do mapa.
+     */
+    private static final class InstanceQueue {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int users;
+    }
+
+    /**
+     * @param activeInstances instâncias com comando em andamento ou aguardando neste instante
+     * @param queueDepth comandos aguardando a fila da própria instância neste instante
+     * @param conflictRate fração dos comandos que terminaram em {@link OptimisticLockingFailureException}
+     *                     (perda de posse de lock de tarefa não conta)
+     */
+    public record Snapshot(boolean enabled, int activeInstances, long commands, long queuedCommands,
+                           long unserializedNestedCommands, int queueDepth, long maxQueueDepth,
+                           long conflicts, double conflictRate) {
+    }
+}
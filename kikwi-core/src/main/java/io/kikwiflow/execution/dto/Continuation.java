@@ -18,19 +18,29 @@
 package io.kikwiflow.execution.dto;
 
 import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
+import io.kikwiflow.navigation.ExecutionPlan;
 
 import java.util.List;
 
 /**
  * Carrega a decisão de roteamento do Navigator e seus respectivos metadados de escopo.
+ * <p>
+ * {@code nextPlanNodes}, quando presente, traz os mesmos {@code nextNodes} já compilados no
+ * {@link ExecutionPlan} — o {@code ProcessExecutionManager} segue por eles sem procurar cada nó pelo id.
  */
 public record Continuation(
         List<FlowNodeDefinition> nextNodes,
         boolean isAsynchronous,
         String resolvedAnswer,
         String chosenFlowId,
-        FlowNodeDefinition targetJoinNode
+        FlowNodeDefinition targetJoinNode,
+        List<ExecutionPlan.Node> nextPlanNodes
 ) {
+    public Continuation(List<FlowNodeDefinition> nextNodes, boolean isAsynchronous, String resolvedAnswer,
+                        String chosenFlowId, FlowNodeDefinition targetJoinNode) {
+        this(nextNodes, isAsynchronous, resolvedAnswer, chosenFlowId, targetJoinNode, null);
+    }
+
     public Continuation(List<FlowNodeDefinition> nextNodes, boolean isAsynchronous) {
         this(nextNodes, isAsynchronous, null, null, null);
     }
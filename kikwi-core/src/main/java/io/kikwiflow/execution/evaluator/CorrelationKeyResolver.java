@@ -112,7 +112,7 @@ public class CorrelationKeyResolver {
                     "' está configurado como VARIABLE, mas 'providerVariable' é nulo ou vazio.");
         }
 
-        ProcessVariable variable = execution.getVariables().get(source.providerVariable());
+        ProcessVariable variable = execution.getVariable(source.providerVariable());
         if (variable == null || variable.value() == null) {
             throw new IllegalStateException("Kikwiflow Engine: Variável de correlação não encontrada -> " + source.providerVariable());
         }
@@ -136,7 +136,7 @@ public class CorrelationKeyResolver {
 
         return correlationKeysProviderResolver.getProvider(source.providerBean())
                 .map(provider -> provider.resolveCorrelationItems(
-                        new MapEvaluationContextAdapter(execution.getId(), execution.getVariables())))
+                        new MapEvaluationContextAdapter(execution.getId(), execution.snapshotVariables())))
                 .orElseThrow(() -> new IllegalStateException(
                         "Execution Error: Nenhum CorrelationKeysProvider encontrado para o bean '" + source.providerBean() + "'."));
     }
@@ -164,7 +164,7 @@ public class CorrelationKeyResolver {
             if (segment.type() == TemplateSegmentType.LITERAL) {
                 sb.append(nullToEmpty(segment.value()));
             } else {
-                ProcessVariable variable = execution.getVariables().get(segment.value());
+                ProcessVariable variable = execution.getVariable(segment.value());
                 if (variable == null || variable.value() == null) {
                     throw new IllegalStateException("Kikwiflow Engine: nó de correlação '" + source.id() +
                             "' referencia a variável de template '" + segment.value() + "', que não foi encontrada.");
@@ -83,7 +83,7 @@ public class TimerDueDateEvaluator {
                 timeValue = timerDef.staticValue();
             }
             case VARIABLE -> {
-                ProcessVariable var = execution.getVariables().get(timerDef.providerVariable());
+                ProcessVariable var = execution.getVariable(timerDef.providerVariable());
                 if (var != null && var.value() != null) {
                     timeValue = var.value().toString();
                 } else {
@@ -95,7 +95,7 @@ public class TimerDueDateEvaluator {
                     throw new IllegalArgumentException("Kikwiflow Engine: Nome do Bean não configurado para o timer -> " + timerDef.id());
                 }
 
-                EvaluationContext evaluationContext = new MapEvaluationContextAdapter(execution.getId(), execution.getVariables());
+                EvaluationContext evaluationContext = new MapEvaluationContextAdapter(execution.getId(), execution.snapshotVariables());
                 timeValue = dueDateProviderResolver.getProvider(timerDef.providerBean())
                         .map(resolver ->  resolver.resolve(evaluationContext))
                         .orElseThrow(() -> new BadImplementationException("Não foi possível definir a data de execução (dueDate)"));
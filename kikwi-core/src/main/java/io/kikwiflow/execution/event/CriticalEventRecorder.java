@@ -37,16 +37,21 @@ import io.kikwiflow.model.event.ProcessInstanceStarted;
 import io.kikwiflow.model.event.ProcessVariableChanged;
 import io.kikwiflow.model.event.RetryScheduled;
 import io.kikwiflow.model.event.TimerFired;
-import io.kikwiflow.model.execution.FlowNodeExecutionSnapshot;
 import io.kikwiflow.model.execution.Incident;
 import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.FlowNodeRecordingLevel;
 import io.kikwiflow.model.execution.enumerated.NodeExecutionStatus;
 import io.kikwiflow.model.execution.enumerated.ProcessInstanceStatus;
 import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.model.security.IdentityContext;
+import io.kikwiflow.navigation.ExecutionPlan;
+import io.kikwiflow.persistence.api.data.VariableOpType;
+import io.kikwiflow.persistence.api.data.VariableOperation;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -78,26 +83,49 @@ public class CriticalEventRecorder {
     }
 
     /**
-     * Registra o resultado da execução de um nó de fluxo. Quando {@code error} não é {@code null}, os campos
-     * de erro do evento são preenchidos a partir dele — independentemente de o nó ter ou não um boundary error
-     * handler que trate a exceção (essa decisão já foi tomada antes de chegar aqui, refletida em
-     * {@code snapshot.nodeExecutionStatus()}).
+     * Nível efetivo do {@code FLOW_NODE_FINISHED} para {@code node}: {@code NONE} com o outbox desligado; senão o
+     * declarado no nó ou na definição (extension property {@value ExecutionPlan#FLOW_NODE_RECORDING_PROPERTY}) ou,
+     * na falta dos dois, o padrão da config. Resolvido antes de executar o nó, para que o chamador só abra o diff
+     * de variáveis quando o nível pedir.
      */
-    public void recordFlowNodeFinished(List<OutboxEventEntity> events, FlowNodeExecutionSnapshot snapshot, RuntimeException error) {
-        if (!isEnabled()) return;
+    public FlowNodeRecordingLevel flowNodeRecordingLevel(ExecutionPlan.Node node) {
+        if (!isEnabled()) return FlowNodeRecordingLevel.NONE;
+
+        FlowNodeRecordingLevel declared = node.recordingLevel();
+        return declared != null ? declared : kikwiflowConfig.getFlowNodeRecordingLevel();
+    }
+
+    /**
+     * Registra o resultado da execução de um nó de fluxo no nível {@code level}. Lê só os campos de
+     * identificação da instância — não há mais snapshot completo por nó. Quando {@code error} não é {@code null},
+     * os campos de erro do evento são preenchidos a partir dele — independentemente de o nó ter ou não um
+     * boundary error handler que trate a exceção (essa decisão já foi tomada antes de chegar aqui, refletida em
+     * {@code status}). No nível {@code VARIABLE_DIFF}, {@code variableDiff} são as operações feitas pelo nó;
+     * variáveis transientes ficam de fora, como no registro persistido.
+     */
+    public void recordFlowNodeFinished(List<OutboxEventEntity> events,
+                                       FlowNodeRecordingLevel level,
+                                       ProcessInstanceExecution processInstance,
+                                       ProcessDefinition processDefinition,
+                                       FlowNodeDefinition flowNode,
+                                       NodeExecutionStatus status,
+                                       Instant startedAt,
+                                       RuntimeException error,
+                                       Map<String, VariableOperation> variableDiff) {
+        if (!isEnabled() || level == FlowNodeRecordingLevel.NONE) return;
 
         FlowNodeFinished.Builder builder = FlowNodeFinished.builder()
-                .flowNodeDefinitionId(snapshot.flowNodeDefinition().id())
-                .flowNodeType(snapshot.flowNodeDefinition().type())
-                .flowNodeName(snapshot.flowNodeDefinition().name())
-                .flowNodeDescription(snapshot.flowNodeDefinition().description())
-                .processInstanceId(snapshot.processInstance().id())
-                .tenantId(snapshot.processInstance().tenantId())
-                .processDefinitionId(snapshot.processDefinition().id())
-                .processDefinitionKey(snapshot.processDefinition().key())
-                .nodeExecutionStatus(snapshot.nodeExecutionStatus())
-                .startedAt(snapshot.startedAt())
-                .finishedAt(snapshot.finishedAt());
+                .flowNodeDefinitionId(flowNode.id())
+                .flowNodeType(flowNode.type())
+                .flowNodeName(flowNode.name())
+                .flowNodeDescription(flowNode.description())
+                .processInstanceId(processInstance.getId())
+                .tenantId(processInstance.getTenantId())
+                .processDefinitionId(processDefinition.id())
+                .processDefinitionKey(processDefinition.key())
+                .nodeExecutionStatus(status)
+                .startedAt(startedAt)
+                .finishedAt(Instant.now());
 
         if (error != null) {
             builder.errorType(error.getClass().getName())
@@ -105,6 +133,19 @@ public class CriticalEventRecorder {
                     .errorStackTrace(FailureHandler.getStackTrace(error));
         }
 
+        if (level == FlowNodeRecordingLevel.VARIABLE_DIFF && variableDiff != null) {
+            Map<String, ProcessVariable> changed = new HashMap<>();
+            List<String> removed = new ArrayList<>();
+            variableDiff.forEach((name, operation) -> {
+                if (operation.type() == VariableOpType.UNSET) {
+                    removed.add(name);
+                } else if (operation.value() != null && !operation.value().isTransient()) {
+                    changed.put(name, operation.value());
+                }
+            });
+            builder.changedVariables(changed).removedVariables(removed);
+        }
+
         events.add(new OutboxEventEntity(CriticalEventType.FLOW_NODE_FINISHED, builder.build()));
     }
 
@@ -153,7 +194,7 @@ public class CriticalEventRecorder {
                 .businessKey(processInstanceExecution.getBusinessKey())
                 .id(processInstanceExecution.getId())
                 .status(processInstanceExecution.getStatus())
-                .variables(processInstanceExecution.getVariables())
+                .variables(processInstanceExecution.snapshotVariables())
                 .startedAt(processInstanceExecution.getStartedAt())
                 .endedAt(processInstanceExecution.getEndedAt())
                 .businessValue(processInstanceExecution.getBusinessValue())
@@ -214,7 +255,7 @@ public class CriticalEventRecorder {
                 processInstanceExecution.getProcessDefinitionId(),
                 processDefinition != null ? processDefinition.key() : null,
                 processDefinition != null ? processDefinition.version() : null,
-                processInstanceExecution.getVariables(),
+                processInstanceExecution.snapshotVariables(),
                 processInstanceExecution.getStartedAt(),
                 processInstanceExecution.getBusinessValue(),
                 processInstanceExecution.getTenantId(),
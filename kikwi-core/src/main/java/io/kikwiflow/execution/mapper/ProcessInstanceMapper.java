@@ -19,11 +19,7 @@ package io.kikwiflow.execution.mapper;
 import io.kikwiflow.execution.ProcessInstanceExecution;
 import io.kikwiflow.model.event.ProcessInstanceFinished;
 import io.kikwiflow.model.execution.ProcessInstance;
-import io.kikwiflow.model.execution.ProcessVariable;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public final class ProcessInstanceMapper {
 
@@ -33,10 +29,6 @@ public final class ProcessInstanceMapper {
 
     public static ProcessInstance mapToRecord(final ProcessInstanceExecution instance) {
 
-        Map<String, ProcessVariable> persistentVariables = instance.getVariables().entrySet().stream()
-                .filter(entry -> !entry.getValue().isTransient())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
         return new ProcessInstance(
             instance.getId(),
             instance.getBusinessKey(),
@@ -44,7 +36,7 @@ public final class ProcessInstanceMapper {
             instance.getTenantId(),
             instance.getStatus(),
             instance.getProcessDefinitionId(),
-            persistentVariables,
+            instance.persistentVariables(),
             instance.getStartedAt(),
             instance.getEndedAt(),
             instance.getOrigin(),
@@ -62,7 +54,7 @@ public final class ProcessInstanceMapper {
         processInstanceEntity.setBusinessKey(processInstance.businessKey());
         processInstanceEntity.setStatus(processInstance.status());
         processInstanceEntity.setProcessDefinitionId(processInstance.processDefinitionId());
-        processInstanceEntity.setVariables(new HashMap<>(processInstance.variables()));
+        processInstanceEntity.setVariables(processInstance.variables());
         processInstanceEntity.setStartedAt(processInstance.startedAt());
         processInstanceEntity.setOrigin(processInstance.origin());
         processInstanceEntity.setTenantId(processInstance.tenantId());
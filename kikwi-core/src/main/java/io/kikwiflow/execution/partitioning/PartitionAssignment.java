@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.partitioning;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Distribuição das partições de aquisição entre os nós vivos por rendezvous hashing (HRW): cada partição pertence
+ * ao membro com o maior {@code hash(membro, partição)}. Todo nó chega à mesma resposta a partir da mesma lista
+ * de membros, sem coordenação, e quando um nó entra ou sai só as partições dele mudam de dono.
+ * <p>
+ * A posse é só uma otimização de contenção: durante um rebalanceamento dois nós podem, por um heartbeat,
+ * considerar a mesma partição sua — o lock atômico de {@code findAndLockDueTasks} continua garantindo que cada
+ * tarefa é travada por um só.
+ */
+public final class PartitionAssignment {
+
+    private PartitionAssignment() {
+    }
+
+    /**
+     * Partição de uma instância: estável entre nós e reinícios ({@code String.hashCode} é especificado).
+     */
+    public static int partitionOf(String processInstanceId, int partitionCount) {
+        return Math.floorMod(processInstanceId.hashCode(), partitionCount);
+    }
+
+    public static Set<Integer> ownedPartitions(String memberId, Collection<String> liveMembers, int partitionCount) {
+        Set<Integer> owned = new HashSet<>();
+        for (int partition = 0; partition < partitionCount; partition++) {
+            if (memberId.equals(ownerOf(partition, liveMembers))) {
+                owned.add(partition);
+            }
+        }
+        return owned;
+    }
+
+    static String ownerOf(int partition, Collection<String> liveMembers) {
+        String owner = null;
+        long bestWeight = Long.MIN_VALUE;
+        for (String member : liveMembers) {
+            long weight = weight(member, partition);
+            if (owner == null || weight > bestWeight || (weight == bestWeight && member.compareTo(owner) < 0)) {
+                owner = member;
+                bestWeight = weight;
+            }
+        }
+        return owner;
+    }
+
+    private static long weight(String member, int partition) {
+        // Mistura 64 bits (finalizador do SplitMix64) — String.hashCode sozinho concentraria membros com nomes
+        // parecidos ("kikwi-node-1", "kikwi-node-2") nas mesmas partições.
+        long z = ((long) member.hashCode() << 32) ^ (partition * 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.scheduling;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Atraso de disparo das tarefas com {@code dueDate}: início real da execução menos o {@code dueDate}. Contadores
+ * em memória do nó, acumulados desde o start — sem dependência de biblioteca de métricas; quem quiser exportar
+ * (Micrometer, logs, endpoint) lê {@link #snapshot()} periodicamente.
+ */
+public class FireLatenessStats {
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder totalLatenessMillis = new LongAdder();
+    private final LongAccumulator maxLatenessMillis = new LongAccumulator(Math::max, 0L);
+    private final LongAdder firedFromWheel = new LongAdder();
+
+    public void record(long latenessMillis, boolean fromWheel) {
+        long lateness = Math.max(0L, latenessMillis);
+        fired.increment();
+        totalLatenessMillis.add(lateness);
+        maxLatenessMillis.accumulate(lateness);
+        if (fromWheel) {
+            firedFromWheel.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long count = fired.sum();
+        long total = totalLatenessMillis.sum();
+        return new Snapshot(count, firedFromWheel.sum(), count == 0 ? 0L : total / count, maxLatenessMillis.get());
+    }
+
+    public record Snapshot(long fired, long firedFromWheel, long averageLatenessMillis, long maxLatenessMillis) {
+    }
+}
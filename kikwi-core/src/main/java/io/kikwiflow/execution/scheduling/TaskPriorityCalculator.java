@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.scheduling;
+
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Calcula o score de prioridade materializado em {@code ExecutableTask.priority} no momento da criação, para
+ * que a aquisição em modo {@code PRIORITY} ordene por um campo indexado em vez de recalcular por tarefa.
+ * <p>
+ * Composição (maior = adquirida antes):
+ * <ul>
+ *     <li>extension property {@value #PRIORITY_PROPERTY} do nó × {@value #NODE_PRIORITY_WEIGHT} — um nível de
+ *     prioridade explícita sempre supera os demais componentes;</li>
+ *     <li>business value da instância em escala logarítmica, até {@value #MAX_COMPONENT_SCORE} (R$ 1 mil ≈ 150,
+ *     R$ 1 milhão ≈ 300);</li>
+ *     <li>fração do SLA da definição já consumida desde o início da instância, até
+ *     {@value #MAX_COMPONENT_SCORE} (SLA estourado = teto).</li>
+ * </ul>
+ * O SLA vem de {@code ProcessDefinition.sla} ou, se vazio, da extension property {@value #SLA_TARGET_PROPERTY},
+ * ambos em duração ISO-8601 (ex.: {@code PT48H}); valores que não parseiam são ignorados.
+ */
+public class TaskPriorityCalculator {
+
+    public static final String PRIORITY_PROPERTY = "priority";
+    public static final String SLA_TARGET_PROPERTY = "sla.target";
+
+    static final long NODE_PRIORITY_WEIGHT = 10000L;
+    static final long MAX_COMPONENT_SCORE = 500L;
+
+    public long score(ProcessDefinition processDefinition, String taskDefinitionId, BigDecimal businessValue,
+                      Instant instanceStartedAt, Instant now) {
+        return nodePriority(processDefinition, taskDefinitionId) * NODE_PRIORITY_WEIGHT
+                + businessValueScore(businessValue)
+                + slaScore(processDefinition, instanceStartedAt, now);
+    }
+
+    private long nodePriority(ProcessDefinition processDefinition, String taskDefinitionId) {
+        if (processDefinition == null || taskDefinitionId == null) {
+            return 0L;
+        }
+        FlowNodeDefinition node = processDefinition.flowNodes().get(taskDefinitionId);
+        if (node == null || node.extensionProperties() == null) {
+            return 0L;
+        }
+        String priority = node.extensionProperties().get(PRIORITY_PROPERTY);
+        if (priority == null || priority.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(priority.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    long businessValueScore(BigDecimal businessValue) {
+        if (businessValue == null || businessValue.signum() <= 0) {
+            return 0L;
+        }
+        double score = 50.0 * Math.log10(1.0 + businessValue.doubleValue());
+        return Math.min(MAX_COMPONENT_SCORE, Math.round(score));
+    }
+
+    long slaScore(ProcessDefinition processDefinition, Instant instanceStartedAt, Instant now) {
+        Duration sla = resolveSla(processDefinition);
+        if (sla == null || instanceStartedAt == null || sla.isZero() || sla.isNegative()) {
+            return 0L;
+        }
+        long elapsedMillis = Math.max(0L, Duration.between(instanceStartedAt, now).toMillis());
+        double consumed = (double) elapsedMillis / sla.toMillis();
+        return Math.round(MAX_COMPONENT_SCORE * Math.min(1.0, consumed));
+    }
+
+    private Duration resolveSla(ProcessDefinition processDefinition) {
+        if (processDefinition == null) {
+            return null;
+        }
+        Duration sla = parseDuration(processDefinition.sla());
+        if (sla == null) {
+            Map<String, String> extensionProperties = processDefinition.extensionProperties();
+            sla = extensionProperties != null ? parseDuration(extensionProperties.get(SLA_TARGET_PROPERTY)) : null;
+        }
+        return sla;
+    }
+
+    private Duration parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
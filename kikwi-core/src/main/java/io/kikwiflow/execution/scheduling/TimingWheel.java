@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.scheduling;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: agenda itens para um instante futuro e os entrega a {@code onFire} quando o instante
+ * chega, com precisão de {@code tickMillis}. Cada balde cobre um tick; itens além de uma volta completa da roda
+ * carregam um contador de voltas restantes — agendar e disparar custam O(1) independente de quantos itens
+ * estão pendentes.
+ *
+ * <p>Só a thread da roda mexe nos baldes; {@link #schedule} apenas enfileira numa fila concorrente que a thread
+ * drena a cada tick. Sem itens pendentes a thread fica bloqueada (não gira em vazio) até o próximo agendamento.
+ * {@code onFire} roda na thread da roda — deve só despachar o trabalho, nunca executá-lo.
+ */
+public class TimingWheel<T> {
+
+    private final long tickNanos;
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayDeque<Slot<T>>[] buckets;
+    private final ConcurrentLinkedQueue<Slot<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Semaphore wakeUpSignal = new Semaphore(0);
+    private final Consumer<T> onFire;
+    private final ExecutorService wheelExecutor;
+    private final long startNanos;
+    private final long startEpochMillis;
+    private volatile boolean running = false;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, Consumer<T> onFire) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis deve ser positivo: " + tickMillis);
+        }
+        int normalizedSize = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = normalizedSize - 1;
+        this.buckets = new ArrayDeque[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.onFire = onFire;
+        this.wheelExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("kikwiflow-timing-wheel-", 0).factory());
+        this.startNanos = System.nanoTime();
+        this.startEpochMillis = System.currentTimeMillis();
+    }
+
+    public void start() {
+        if (!running) {
+            running = true;
+            wheelExecutor.submit(this::run);
+        }
+    }
+
+    /**
+     * Para a roda e devolve os itens que ainda não dispararam, para que o chamador decida o que fazer com eles
+     * (ex.: deixar o lock expirar ou devolvê-los ao repositório).
+     */
+    public List<T> stop() {
+        running = false;
+        wakeUpSignal.release();
+        wheelExecutor.shutdown();
+        try {
+            wheelExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<T> unfired = new ArrayList<>();
+        for (ArrayDeque<Slot<T>> bucket : buckets) {
+            bucket.forEach(slot -> unfired.add(slot.item));
+            bucket.clear();
+        }
+        Slot<T> slot;
+        while ((slot = incoming.poll()) != null) {
+            unfired.add(slot.item);
+        }
+        pending.set(0);
+        return unfired;
+    }
+
+    public void schedule(T item, Instant fireAt) {
+        long deadlineMillis = Math.max(0L, fireAt.toEpochMilli() - startEpochMillis);
+        incoming.add(new Slot<>(item, deadlineMillis));
+        if (pending.getAndIncrement() == 0) {
+            wakeUpSignal.release();
+        }
+    }
+
+    public int size() {
+        return pending.get();
+    }
+
+    private void run() {
+        long tick = elapsedTicks();
+
+        while (running) {
+            if (pending.get() == 0) {
+                try {
+                    wakeUpSignal.tryAcquire(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                wakeUpSignal.drainPermits();
+                // Baldes vazios: pular direto para o tick atual é seguro e evita varrer ticks ociosos.
+                tick = Math.max(tick, elapsedTicks());
+                continue;
+            }
+
+            long wakeUpAt = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = wakeUpAt - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(sleepNanos);
+                if (System.nanoTime() < wakeUpAt) {
+                    continue;
+                }
+            }
+
+            transferIncoming(tick);
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferIncoming(long tick) {
+        Slot<T> slot;
+        while ((slot = incoming.poll()) != null) {
+            long calculated = (slot.deadlineMillis + tickMillis - 1) / tickMillis;
+            slot.remainingRounds = (calculated - tick) / buckets.length;
+            long targetTick = Math.max(calculated, tick);
+            buckets[(int) (targetTick & mask)].add(slot);
+        }
+    }
+
+    private void expire(ArrayDeque<Slot<T>> bucket) {
+        Iterator<Slot<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Slot<T> slot = iterator.next();
+            if (slot.remainingRounds <= 0) {
+                iterator.remove();
+                pending.decrementAndGet();
+                try {
+                    onFire.accept(slot.item);
+                } catch (Exception e) {
+                    System.err.println("Kikwiflow Timing Wheel: falha ao despachar item agendado: " + e.getMessage());
+                }
+            } else {
+                slot.remainingRounds--;
+            }
+        }
+    }
+
+    private long elapsedTicks() {
+        return (System.nanoTime() - startNanos) / tickNanos;
+    }
+
+    private static final class Slot<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Slot(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
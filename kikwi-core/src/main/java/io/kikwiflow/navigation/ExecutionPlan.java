@@ -0,0 +1,478 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.navigation;
+
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.CallActivityDefinition;
+import io.kikwiflow.model.definition.process.elements.ErrorHandlerDefinition;
+import io.kikwiflow.model.definition.process.elements.ExclusiveGatewayDefinition;
+import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
+import io.kikwiflow.model.definition.process.elements.ExternalTaskDefinition;
+import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
+import io.kikwiflow.model.definition.process.elements.ParallelGatewayDefinition;
+import io.kikwiflow.model.definition.process.elements.SequenceFlowDefinition;
+import io.kikwiflow.model.definition.process.elements.TimerTaskDefinition;
+import io.kikwiflow.model.execution.enumerated.FlowNodeRecordingLevel;
+import io.kikwiflow.model.execution.node.WaitState;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Forma compilada e imutável de uma {@link ProcessDefinition}, percorrida pelo {@link Navigator} e pelo
+ * {@code ProcessExecutionManager} no caminho quente.
+ * <p>
+ * Cada nó recebe um índice denso e um {@link Node} com tudo o que a execução consultava a cada passo já
+ * resolvido: o tipo de roteamento (sem comparar {@code type()} como string), os nós de destino das arestas de
+ * saída (sem {@code flowNodes().get(...)} por aresta), o mapa resposta→aresta de cada gateway exclusivo (sem
+ * varrer as arestas com stream) e as flags de wait state / commit before. Compilado uma vez por definição, no
+ * carregamento do cache (ver {@link ExecutionPlanRegistry}).
+ */
+public final class ExecutionPlan {
+
+    /**
+     * Papel do nó na navegação, resolvido a partir de {@code type()} na compilação.
+     */
+    public enum Kind {
+        PARALLEL_GATEWAY,
+        JOIN_GATEWAY,
+        EXCLUSIVE_GATEWAY,
+        END_EVENT,
+        OTHER
+    }
+
+    /**
+     * Extension property (da definição ou do nó, o nó vence) que sobrescreve
+     * {@code KikwiflowConfig.flowNodeRecordingLevel}: {@code NONE}, {@code SUMMARY} ou {@code VARIABLE_DIFF}.
+     */
+    public static final String FLOW_NODE_RECORDING_PROPERTY = "outbox.flow-node-recording";
+
+    private static final int NO_ROUTE = -1;
+
+    private final ProcessDefinition processDefinition;
+    private final FlowNodeRecordingLevel definitionRecordingLevel;
+    private final Node[] nodes;
+    private final Map<String, Node> nodesById;
+
+    private ExecutionPlan(ProcessDefinition processDefinition) {
+        this.processDefinition = processDefinition;
+        this.definitionRecordingLevel = recordingLevelOf(processDefinition.extensionProperties(), null);
+        this.nodes = new Node[processDefinition.flowNodes().size()];
+        this.nodesById = new HashMap<>(processDefinition.flowNodes().size() * 2);
+
+        int index = 0;
+        for (FlowNodeDefinition definition : processDefinition.flowNodes().values()) {
+            Node node = new Node(index, definition, definitionRecordingLevel);
+            nodes[index++] = node;
+            nodesById.put(definition.id(), node);
+        }
+        // Segundo passo: os destinos só podem ser ligados depois que todos os nós existem.
+        for (Node node : nodes) {
+            link(node);
+        }
+        for (Node node : nodes) {
+            if (node.kind == Kind.PARALLEL_GATEWAY) {
+                node.inlineBranchesEligible = hasOnlySynchronousBranches(node);
+            }
+        }
+    }
+
+    public static ExecutionPlan compile(ProcessDefinition processDefinition) {
+        return new ExecutionPlan(processDefinition);
+    }
+
+    public ProcessDefinition processDefinition() {
+        return processDefinition;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public Node node(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * Nó compilado correspondente a {@code definition}. A mesma instância, ou uma cópia igual (o nó de outra
+     * cópia da mesma versão, relida do repositório), reaproveita o nó compilado; uma definição diferente (montada
+     * à parte por quem chamou) é compilada avulsa, contra os destinos deste plano, em vez de ser trocada
+     * silenciosamente pela homônima. O {@code equals} só roda quando a identidade falha e compara um nó, não o
+     * grafo.
+     */
+    public Node nodeFor(FlowNodeDefinition definition) {
+        Node node = nodesById.get(definition.id());
+        if (node != null && (node.definition == definition || node.definition.equals(definition))) {
+            return node;
+        }
+
+        Node detached = new Node(NO_ROUTE, definition, definitionRecordingLevel);
+        link(detached);
+        return detached;
+    }
+
+    private static FlowNodeRecordingLevel recordingLevelOf(Map<String, String> extensionProperties,
+                                                           FlowNodeRecordingLevel fallback) {
+        String value = extensionProperties != null ? extensionProperties.get(FLOW_NODE_RECORDING_PROPERTY) : null;
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return FlowNodeRecordingLevel.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    private void link(Node node) {
+        FlowNodeDefinition definition = node.definition;
+        List<SequenceFlowDefinition> outgoing = definition.outgoing() != null ? definition.outgoing() : List.of();
+
+        node.flows = outgoing.toArray(new SequenceFlowDefinition[0]);
+        node.targets = new Node[node.flows.length];
+        for (int i = 0; i < node.flows.length; i++) {
+            node.targets[i] = nodesById.get(node.flows[i].targetNodeId());
+        }
+
+        if (node.targets.length > 0) {
+            // Aresta seguida por todo nó sem decisão de roteamento; a lista pronta evita alocar uma por passo.
+            Node first = node.targets[0];
+            node.firstTargetList = Collections.singletonList(first);
+            node.firstTargetDefinitionList = Collections.singletonList(first != null ? first.definition : null);
+        }
+
+        if (node.kind == Kind.PARALLEL_GATEWAY) {
+            List<Node> branches = new ArrayList<>(node.targets.length);
+            for (Node target : node.targets) {
+                if (target != null) {
+                    branches.add(target);
+                }
+            }
+            node.parallelBranches = List.copyOf(branches);
+            node.parallelBranchDefinitions = branches.stream().map(Node::definition).toList();
+
+            String targetJoinId = ((ParallelGatewayDefinition) definition).targetJoinId();
+            node.targetJoin = targetJoinId != null ? nodesById.get(targetJoinId) : null;
+        }
+
+        if (definition instanceof ExclusiveGatewayDefinition) {
+            Map<String, Integer> answerRoutes = new HashMap<>();
+            for (int i = 0; i < node.flows.length; i++) {
+                SequenceFlowDefinition flow = node.flows[i];
+                // A primeira aresta declarada para uma resposta vence, como no filtro sequencial de antes.
+                if (flow.expectedAnswer() != null) {
+                    answerRoutes.putIfAbsent(flow.expectedAnswer(), i);
+                }
+                if (flow.handlesNull() && node.nullRoute == NO_ROUTE) {
+                    node.nullRoute = i;
+                }
+                if (flow.isDefault() && node.defaultRoute == NO_ROUTE) {
+                    node.defaultRoute = i;
+                }
+            }
+            node.answerRoutes = Map.copyOf(answerRoutes);
+        }
+
+        node.errorHandlers = resolveErrorHandlers(definition);
+    }
+
+    /**
+     * Um split só pode ter os ramos executados em memória quando todo nó alcançável entre ele e o join alvo —
+     * incluindo as saídas de handlers de erro — é tarefa executável síncrona ou gateway exclusivo, sem
+     * wait state, commitBefore/commitAfter ou boundary event que não seja handler de erro. Qualquer outra coisa
+     * (split aninhado, end event no meio do ramo, timer, call activity, evento) precisa do caminho persistido.
+     */
+    private boolean hasOnlySynchronousBranches(Node gateway) {
+        Node join = gateway.targetJoin;
+        if (join == null || join.kind != Kind.JOIN_GATEWAY || join.waitState || join.commitBefore
+                || gateway.parallelBranches.size() != gateway.targets.length) {
+            return false;
+        }
+
+        Set<Node> visited = new HashSet<>();
+        Deque<Node> pending = new ArrayDeque<>(gateway.parallelBranches);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node == join || !visited.add(node)) {
+                continue;
+            }
+            if (!isInlineable(node)) {
+                return false;
+            }
+
+            for (Node target : node.targets) {
+                if (target == null) {
+                    return false;
+                }
+                pending.push(target);
+            }
+            for (Node handler : node.errorHandlers) {
+                for (Node target : handler.targets) {
+                    if (target == null) {
+                        return false;
+                    }
+                    pending.push(target);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isInlineable(Node node) {
+        if (node.waitState || node.commitBefore || node.commitAfter) {
+            return false;
+        }
+        if (node.definition instanceof ExclusiveGatewayDefinition) {
+            return true;
+        }
+        if (node.definition instanceof ExecutableTaskDefinition task) {
+            List<String> boundaryIds = task.boundaryEventIds();
+            return boundaryIds == null || boundaryIds.size() == node.errorHandlers.size();
+        }
+        return false;
+    }
+
+    private List<Node> resolveErrorHandlers(FlowNodeDefinition definition) {
+        List<String> boundaryIds = null;
+        if (definition instanceof ExecutableTaskDefinition taskDef) {
+            boundaryIds = taskDef.boundaryEventIds();
+        } else if (definition instanceof ExternalTaskDefinition extDef) {
+            boundaryIds = extDef.boundaryEventIds();
+        }
+
+        if (boundaryIds == null || boundaryIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Node> handlers = new ArrayList<>();
+        for (String boundaryId : boundaryIds) {
+            Node boundary = nodesById.get(boundaryId);
+            if (boundary != null && boundary.definition instanceof ErrorHandlerDefinition) {
+                handlers.add(boundary);
+            }
+        }
+        return List.copyOf(handlers);
+    }
+
+    /**
+     * Nó compilado. Os campos de ligação ({@code targets}, rotas de gateway, handlers de erro) são preenchidos
+     * durante a compilação e nunca mais mudam — o plano é publicado pronto pelo {@link ExecutionPlanRegistry}.
+     */
+    public static final class Node {
+
+        private final int index;
+        private final FlowNodeDefinition definition;
+        private final Kind kind;
+        private final boolean waitState;
+        private final boolean commitBefore;
+        private final boolean declaredCommitBefore;
+        private final boolean commitAfter;
+        private final boolean executableTask;
+        private final FlowNodeRecordingLevel recordingLevel;
+
+        private SequenceFlowDefinition[] flows;
+        private Node[] targets;
+        private List<Node> firstTargetList = List.of();
+        private List<FlowNodeDefinition> firstTargetDefinitionList = List.of();
+        private List<Node> parallelBranches = List.of();
+        private List<FlowNodeDefinition> parallelBranchDefinitions = List.of();
+        private Node targetJoin;
+        private Map<String, Integer> answerRoutes = Map.of();
+        private int nullRoute = NO_ROUTE;
+        private int defaultRoute = NO_ROUTE;
+        private List<Node> errorHandlers = List.of();
+        private boolean inlineBranchesEligible;
+
+        private Node(int index, FlowNodeDefinition definition, FlowNodeRecordingLevel definitionRecordingLevel) {
+            this.index = index;
+            this.definition = definition;
+            this.kind = kindOf(definition);
+            this.waitState = definition instanceof WaitState;
+            this.declaredCommitBefore = Boolean.TRUE.equals(definition.commitBefore());
+            this.commitBefore = isCommitBefore(definition);
+            this.commitAfter = Boolean.TRUE.equals(definition.commitAfter());
+            this.executableTask = definition instanceof ExecutableTaskDefinition;
+            this.recordingLevel = recordingLevelOf(definition.extensionProperties(), definitionRecordingLevel);
+        }
+
+        private static Kind kindOf(FlowNodeDefinition definition) {
+            String type = definition.type();
+            if ("PARALLEL_GATEWAY".equals(type)) {
+                return Kind.PARALLEL_GATEWAY;
+            }
+            if ("JOIN_GATEWAY".equals(type)) {
+                return Kind.JOIN_GATEWAY;
+            }
+            if ("DEFAULT_END_EVENT".equals(type)) {
+                return Kind.END_EVENT;
+            }
+            if (definition instanceof ExclusiveGatewayDefinition) {
+                return Kind.EXCLUSIVE_GATEWAY;
+            }
+            return Kind.OTHER;
+        }
+
+        /**
+         * {@code TimerTaskDefinition} e {@code CallActivityDefinition} são sempre tratados como
+         * {@code commitBefore: true}, independente do valor declarado no {@code .kikwi}. Um timer não pode, por
+         * natureza, ser executado de forma síncrona (não há como "bloquear a thread" até o dueDate); um
+         * {@code CALL_ACTIVITY_COORDINATOR} precisa de uma transação própria para materializar a coordenadora + N
+         * iniciadoras (ver {@code ContinuationService.generateNextTasksWithContext}) — nunca pode rodar inline.
+         * Ambos reaproveitam a mesma checagem de {@code isResumingFromAsyncBefore} já usada para
+         * {@code ExecutableTaskDefinition} assíncrona, que corretamente distingue "primeira vez" (pausa) de
+         * "retomando após o disparo" (segue para as arestas de saída) — ao contrário de {@code WaitState}, que
+         * pausaria de novo indefinidamente numa {@code ExecutableTask} retomada. É essa distinção que faz a
+         * retomada da própria coordenadora (após liberada de {@code AWAITING_BRANCHES}) cair direto no caminho
+         * genérico de navegação, sem dispatch dedicado nenhum.
+         */
+        private static boolean isCommitBefore(FlowNodeDefinition definition) {
+            return Boolean.TRUE.equals(definition.commitBefore())
+                    || definition instanceof TimerTaskDefinition
+                    || definition instanceof CallActivityDefinition;
+        }
+
+        /**
+         * Índice denso no plano; {@code -1} para um nó compilado avulso por {@link ExecutionPlan#nodeFor}.
+         */
+        public int index() {
+            return index;
+        }
+
+        public FlowNodeDefinition definition() {
+            return definition;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+
+        public boolean isWaitState() {
+            return waitState;
+        }
+
+        /**
+         * {@code commitBefore} efetivo, incluindo os tipos que sempre param antes (ver {@link #isCommitBefore}).
+         */
+        public boolean isCommitBefore() {
+            return commitBefore;
+        }
+
+        /**
+         * Só o {@code commitBefore} declarado — o que o {@link Navigator} considera ao decidir se a continuação
+         * para o nó é assíncrona.
+         */
+        public boolean isDeclaredCommitBefore() {
+            return declaredCommitBefore;
+        }
+
+        public boolean isCommitAfter() {
+            return commitAfter;
+        }
+
+        public boolean isExecutableTask() {
+            return executableTask;
+        }
+
+        public int outgoingCount() {
+            return flows.length;
+        }
+
+        public SequenceFlowDefinition flow(int route) {
+            return flows[route];
+        }
+
+        /**
+         * Destino já resolvido da aresta {@code route}; {@code null} quando ela aponta para um nó inexistente.
+         */
+        public Node target(int route) {
+            return targets[route];
+        }
+
+        /**
+         * Destino da primeira aresta como lista pronta (pode conter {@code null}, como antes), para os nós que
+         * simplesmente seguem a aresta default.
+         */
+        public List<Node> firstTargetList() {
+            return firstTargetList;
+        }
+
+        public List<FlowNodeDefinition> firstTargetDefinitionList() {
+            return firstTargetDefinitionList;
+        }
+
+        public List<Node> parallelBranches() {
+            return parallelBranches;
+        }
+
+        public List<FlowNodeDefinition> parallelBranchDefinitions() {
+            return parallelBranchDefinitions;
+        }
+
+        public Node targetJoin() {
+            return targetJoin;
+        }
+
+        /**
+         * Para um split: todos os ramos até o join alvo são síncronos e podem rodar em memória, na mesma unidade
+         * de trabalho (ver {@code ProcessExecutionManager}).
+         */
+        public boolean isInlineBranchesEligible() {
+            return inlineBranchesEligible;
+        }
+
+        /**
+         * Nível do {@code FLOW_NODE_FINISHED} declarado para este nó (ou herdado da definição) via
+         * {@value #FLOW_NODE_RECORDING_PROPERTY}; {@code null} quando nenhum dos dois declara — vale o da config.
+         */
+        public FlowNodeRecordingLevel recordingLevel() {
+            return recordingLevel;
+        }
+
+        /**
+         * Índice da aresta escolhida por um gateway exclusivo para {@code answer}: a que espera essa resposta, a
+         * que trata nulo, ou a default — {@code -1} quando nenhuma se aplica.
+         */
+        public int routeFor(String answer) {
+            if (answer == null) {
+                return nullRoute;
+            }
+            Integer route = answerRoutes.get(answer);
+            return route != null ? route : defaultRoute;
+        }
+
+        public List<Node> errorHandlers() {
+            return errorHandlers;
+        }
+
+        /**
+         * Destinos de todas as arestas de saída, na ordem declarada — usado pela saída de um handler de erro.
+         */
+        public List<Node> targets() {
+            return Collections.unmodifiableList(Arrays.asList(targets));
+        }
+    }
+}
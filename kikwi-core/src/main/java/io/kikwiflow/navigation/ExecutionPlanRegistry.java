@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.navigation;
+
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Guarda o {@link ExecutionPlan} de cada definição em uso. O {@link ProcessDefinitionService} compila o plano ao
+ * carregar a definição no cache e limpa o registro junto com o cache; {@link #planFor} compila sob demanda uma
+ * definição que não passou por ali (montada à mão, ou carregada por outra instância).
+ * <p>
+ * Uma definição implantada tem {@code id} próprio por versão e nunca muda depois de gravada, então o plano é
+ * reaproveitado para qualquer cópia com o mesmo {@code id} — a mesma versão relida do repositório, por outro nó
+ * ou depois de um {@link #clear}, não recompila o grafo. Só a definição sem {@code id} (montada à mão, indexada
+ * pela {@code key}) exige a mesma instância que originou o plano; a comparação nunca é por {@code equals}
+ * (profundo e caro num record com o grafo inteiro).
+ */
+public class ExecutionPlanRegistry {
+
+    private final Map<String, ExecutionPlan> plans = new ConcurrentHashMap<>();
+
+    public ExecutionPlan planFor(ProcessDefinition processDefinition) {
+        String cacheKey = cacheKey(processDefinition);
+        ExecutionPlan plan = plans.get(cacheKey);
+        if (plan != null && (processDefinition.id() != null || plan.processDefinition() == processDefinition)) {
+            return plan;
+        }
+        return register(processDefinition);
+    }
+
+    public ExecutionPlan register(ProcessDefinition processDefinition) {
+        ExecutionPlan plan = ExecutionPlan.compile(processDefinition);
+        plans.put(cacheKey(processDefinition), plan);
+        return plan;
+    }
+
+    public void clear() {
+        plans.clear();
+    }
+
+    private String cacheKey(ProcessDefinition processDefinition) {
+        return processDefinition.id() != null ? processDefinition.id() : processDefinition.key();
+    }
+}
@@ -44,20 +44,17 @@ import java.util.Optional;
 public class MapEvaluationContextAdapter implements EvaluationContext {
 
     private final String processInstanceId;
-    private final Map<String, Object> readOnlyVariables;
+    private final Map<String, ProcessVariable> variables;
+    private Map<String, Object> readOnlyVariables;
 
+    /**
+     * Não copia {@code variables}: as consultas por nome ({@link #getVariableValue}) vão direto ao mapa, e a
+     * visão completa de valores só é montada se um provider pedir {@link #getVariables()}. Quem chama deve
+     * passar um mapa que não mude durante a avaliação (ex.: {@code ProcessInstanceExecution.snapshotVariables()}).
+     */
     public MapEvaluationContextAdapter(String processInstanceId, Map<String, ProcessVariable> variables) {
         this.processInstanceId = processInstanceId;
-
-        Map<String, Object> safeMap = new HashMap<>();
-
-        if (variables != null) {
-            variables.forEach((key, variable) ->
-                    safeMap.put(key, variable != null ? variable.value() : null)
-            );
-        }
-
-        this.readOnlyVariables = Collections.unmodifiableMap(safeMap);
+        this.variables = variables != null ? variables : Map.of();
     }
 
     @Override
@@ -67,11 +64,19 @@ public class MapEvaluationContextAdapter implements EvaluationContext {
 
     @Override
     public Optional<Object> getVariableValue(String name) {
-        return Optional.ofNullable(readOnlyVariables.get(name));
+        ProcessVariable variable = variables.get(name);
+        return Optional.ofNullable(variable != null ? variable.value() : null);
     }
 
     @Override
     public Map<String, Object> getVariables() {
+        if (readOnlyVariables == null) {
+            Map<String, Object> safeMap = new HashMap<>();
+            variables.forEach((key, variable) ->
+                    safeMap.put(key, variable != null ? variable.value() : null)
+            );
+            readOnlyVariables = Collections.unmodifiableMap(safeMap);
+        }
         return readOnlyVariables;
     }
-}
\ No newline at end of file
+}
@@ -23,15 +23,12 @@ import io.kikwiflow.execution.dto.Continuation;
 import io.kikwiflow.model.definition.process.ProcessDefinition;
 import io.kikwiflow.model.definition.process.elements.ErrorHandlerDefinition;
 import io.kikwiflow.model.definition.process.elements.ExclusiveGatewayDefinition;
-import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
-import io.kikwiflow.model.definition.process.elements.ExternalTaskDefinition;
 import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
 import io.kikwiflow.model.definition.process.elements.ParallelGatewayDefinition;
 import io.kikwiflow.model.definition.process.elements.SequenceFlowDefinition;
 import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.AnswerProviderType;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,74 +36,79 @@ import java.util.Optional;
 public class Navigator {
 
     private final AnswerProviderResolver answerProviderResolver;
+    private final ExecutionPlanRegistry executionPlanRegistry;
 
     public Navigator(AnswerProviderResolver answerProviderResolver) {
+        this(answerProviderResolver, new ExecutionPlanRegistry());
+    }
+
+    public Navigator(AnswerProviderResolver answerProviderResolver, ExecutionPlanRegistry executionPlanRegistry) {
         this.answerProviderResolver = answerProviderResolver;
+        this.executionPlanRegistry = executionPlanRegistry;
+    }
+
+    public ExecutionPlan planFor(ProcessDefinition processDefinition) {
+        return executionPlanRegistry.planFor(processDefinition);
     }
 
     public Continuation determineNextContinuation(FlowNodeDefinition completedNode, ProcessDefinition processDefinition, Map<String, ProcessVariable> variables, boolean forceAsync) {
-        List<SequenceFlowDefinition> outgoingFlows = completedNode.outgoing();
-        if ("PARALLEL_GATEWAY".equals(completedNode.type())) {
-            List<FlowNodeDefinition> nextNodes = new ArrayList<>();
-            for (SequenceFlowDefinition flow : outgoingFlows) {
-                FlowNodeDefinition target = processDefinition.flowNodes().get(flow.targetNodeId());
-                if (target != null) {
-                    nextNodes.add(target);
-                }
-            }
+        return determineNextContinuation(planFor(processDefinition).nodeFor(completedNode), variables, forceAsync);
+    }
 
-            ParallelGatewayDefinition parallelGateway = (ParallelGatewayDefinition) completedNode;
-            String targetJoinId = parallelGateway.targetJoinId();
+    /**
+     * Mesma decisão de roteamento, percorrendo o nó já compilado: os destinos, o join alvo e as rotas do gateway
+     * exclusivo vêm resolvidos do {@link ExecutionPlan}.
+     */
+    public Continuation determineNextContinuation(ExecutionPlan.Node completedNode, Map<String, ProcessVariable> variables, boolean forceAsync) {
+        if (completedNode.kind() == ExecutionPlan.Kind.PARALLEL_GATEWAY) {
+            ParallelGatewayDefinition parallelGateway = (ParallelGatewayDefinition) completedNode.definition();
 
-            if (targetJoinId == null) {
+            if (parallelGateway.targetJoinId() == null) {
                 throw new RuntimeException("Não foi encontrado join ");
             }
 
-            FlowNodeDefinition targetJoinNode = processDefinition.flowNodes().get(targetJoinId);
-
-            return new Continuation(nextNodes, true, null, null, targetJoinNode);
+            ExecutionPlan.Node targetJoin = completedNode.targetJoin();
+            return new Continuation(completedNode.parallelBranchDefinitions(), true, null, null,
+                    targetJoin != null ? targetJoin.definition() : null, completedNode.parallelBranches());
         }
 
-        if ("JOIN_GATEWAY".equals(completedNode.type())) {
-            if (outgoingFlows.isEmpty()) {
+        if (completedNode.kind() == ExecutionPlan.Kind.JOIN_GATEWAY) {
+            if (completedNode.outgoingCount() == 0) {
                 return null;
             }
 
-            SequenceFlowDefinition defaultFlow = outgoingFlows.get(0);
-            FlowNodeDefinition nextNode = processDefinition.flowNodes().get(defaultFlow.targetNodeId());
-            return new Continuation(List.of(nextNode), forceAsync, null, defaultFlow.id(), null);
+            return new Continuation(completedNode.firstTargetDefinitionList(), forceAsync, null, completedNode.flow(0).id(),
+                    null, completedNode.firstTargetList());
         }
 
-        if (outgoingFlows.isEmpty()) {
+        if (completedNode.outgoingCount() == 0) {
             return null;
         }
 
-        List<FlowNodeDefinition> nextNodes = new ArrayList<>();
-        String recordedAnswer = null;
-        String recordedFlowId = null;
-
-        if (completedNode instanceof ExclusiveGatewayDefinition gateway) {
-            recordedAnswer = resolveAnswer(gateway, variables);
-            SequenceFlowDefinition chosenFlow = findMatchingFlow(gateway, recordedAnswer);
-            recordedFlowId = chosenFlow.id();
+        if (completedNode.kind() == ExecutionPlan.Kind.EXCLUSIVE_GATEWAY) {
+            ExclusiveGatewayDefinition gateway = (ExclusiveGatewayDefinition) completedNode.definition();
+            String recordedAnswer = resolveAnswer(gateway, variables);
+            int route = completedNode.routeFor(recordedAnswer);
+            if (route < 0) {
+                throw noMatchingFlow(gateway, recordedAnswer);
+            }
 
-            FlowNodeDefinition nextNode = processDefinition.flowNodes().get(chosenFlow.targetNodeId());
+            SequenceFlowDefinition chosenFlow = completedNode.flow(route);
+            ExecutionPlan.Node nextNode = completedNode.target(route);
             if (nextNode == null) {
                 throw new IllegalStateException("Architectural Error: Target node '" + chosenFlow.targetNodeId() +
                         "' defined in sequence flow does not exist in the process definition.");
             }
-            nextNodes.add(nextNode);
 
-        } else {
-            SequenceFlowDefinition defaultFlow = outgoingFlows.get(0);
-            recordedFlowId = defaultFlow.id();
-            FlowNodeDefinition nextNode = processDefinition.flowNodes().get(defaultFlow.targetNodeId());
-            nextNodes.add(nextNode);
+            boolean isAsync = forceAsync || nextNode.isDeclaredCommitBefore();
+            return new Continuation(List.of(nextNode.definition()), isAsync, recordedAnswer, chosenFlow.id(), null, List.of(nextNode));
         }
 
-        boolean isAsync = forceAsync || (nextNodes.get(0) != null && Boolean.TRUE.equals(nextNodes.get(0).commitBefore()));
+        ExecutionPlan.Node nextNode = completedNode.target(0);
+        boolean isAsync = forceAsync || (nextNode != null && nextNode.isDeclaredCommitBefore());
 
-        return new Continuation(nextNodes, isAsync, recordedAnswer, recordedFlowId, null);
+        return new Continuation(completedNode.firstTargetDefinitionList(), isAsync, null, completedNode.flow(0).id(),
+                null, completedNode.firstTargetList());
     }
 
     private String resolveAnswer(ExclusiveGatewayDefinition gateway, Map<String, ProcessVariable> variables) {
@@ -132,24 +134,11 @@ public class Navigator {
         throw new IllegalStateException("Execution Error: Tipo de AnswerProvider não suportado ou nulo no gateway '" + gateway.id() + "'.");
     }
 
-    private SequenceFlowDefinition findMatchingFlow(ExclusiveGatewayDefinition gateway, String answer) {
-        List<SequenceFlowDefinition> outgoingFlows = gateway.outgoing();
+    private IllegalStateException noMatchingFlow(ExclusiveGatewayDefinition gateway, String answer) {
         if (answer == null) {
-            return outgoingFlows.stream()
-                    .filter(SequenceFlowDefinition::handlesNull)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("Execution Error: A resposta do gateway '" + gateway.id() + "' foi nula, mas não existe nenhuma aresta configurada com 'handlesNull'."));
-        }
-        Optional<SequenceFlowDefinition> matchedFlow = outgoingFlows.stream()
-                .filter(sf -> answer.equals(sf.expectedAnswer()))
-                .findFirst();
-        if (matchedFlow.isPresent()) {
-            return matchedFlow.get();
+            return new IllegalStateException("Execution Error: A resposta do gateway '" + gateway.id() + "' foi nula, mas não existe nenhuma aresta configurada com 'handlesNull'.");
         }
-        return outgoingFlows.stream()
-                .filter(SequenceFlowDefinition::isDefault)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Execution Error: Nenhuma aresta corresponde à resposta '" + answer + "' no gateway '" + gateway.id() + "' e nenhuma aresta 'isDefault' foi configurada."));
+        return new IllegalStateException("Execution Error: Nenhuma aresta corresponde à resposta '" + answer + "' no gateway '" + gateway.id() + "' e nenhuma aresta 'isDefault' foi configurada.");
     }
 
     /**
@@ -160,22 +149,17 @@ public class Navigator {
             ProcessDefinition processDefinition,
             String errorCode) {
 
-        List<String> boundaryIds = null;
-        if (currentNode instanceof ExecutableTaskDefinition taskDef) {
-            boundaryIds = taskDef.boundaryEventIds();
-        } else if (currentNode instanceof ExternalTaskDefinition extDef) {
-            boundaryIds = extDef.boundaryEventIds();
-        }
+        return findMatchingErrorHandler(planFor(processDefinition).nodeFor(currentNode), errorCode)
+                .map(handler -> (ErrorHandlerDefinition) handler.definition());
+    }
 
-        if (boundaryIds == null || boundaryIds.isEmpty()) {
-            return Optional.empty();
+    public Optional<ExecutionPlan.Node> findMatchingErrorHandler(ExecutionPlan.Node currentNode, String errorCode) {
+        for (ExecutionPlan.Node handler : currentNode.errorHandlers()) {
+            String handledCode = ((ErrorHandlerDefinition) handler.definition()).errorCode();
+            if (handledCode == null || handledCode.equals(errorCode)) {
+                return Optional.of(handler);
+            }
         }
-
-        return boundaryIds.stream()
-                .map(id -> processDefinition.flowNodes().get(id))
-                .filter(node -> node instanceof ErrorHandlerDefinition)
-                .map(node -> (ErrorHandlerDefinition) node)
-                .filter(handler -> handler.errorCode() == null || handler.errorCode().equals(errorCode))
-                .findFirst();
+        return Optional.empty();
     }
 }
\ No newline at end of file
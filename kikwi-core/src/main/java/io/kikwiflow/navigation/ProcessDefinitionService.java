@@ -18,6 +18,7 @@ package io.kikwiflow.navigation;
 
 import io.kikwiflow.cache.ProcessDefinitionCache;
 import io.kikwiflow.exception.ProcessDefinitionNotFoundException;
+import io.kikwiflow.execution.binding.HandlerRegistry;
 import io.kikwiflow.model.definition.process.ProcessDefinition;
 import io.kikwiflow.execution.api.parser.ProcessDefinitionParser;
 import io.kikwiflow.model.definition.process.ProcessDefinitionDeployRequest;
@@ -43,12 +44,24 @@ public class ProcessDefinitionService {
     private final ProcessDefinitionCache processDefinitionCache;
     private final DeployValidator deployValidator;
     private final DeploymentSecurityManager deploymentSecurityManager;
+    private final ExecutionPlanRegistry executionPlanRegistry;
+    private final HandlerRegistry handlerRegistry;
+
+    public ProcessDefinitionService(ProcessDefinitionParser processDefinitionParser, KikwiEngineRepository kikwiEngineRepository, DeployValidator deployValidator, DeploymentSecurityManager deploymentSecurityManager){
+        this(processDefinitionParser, kikwiEngineRepository, deployValidator, deploymentSecurityManager, new ExecutionPlanRegistry(), null);
+    }
 
     /**
      * Constrói uma nova instância do ProcessDefinitionService.
      * @param kikwiEngineRepository O repositório para persistir e buscar as definições de processo.
+     * @param executionPlanRegistry Registro compartilhado com o {@link Navigator}: cada definição carregada no
+     *                              cache já sai daqui com o plano de execução compilado.
+     * @param handlerRegistry Registro dos beans usados pelas definições, que resolve os de cada definição
+     *                        carregada no cache; {@code null} deixa a resolução para a primeira execução.
      */
-    public ProcessDefinitionService(ProcessDefinitionParser processDefinitionParser, KikwiEngineRepository kikwiEngineRepository, DeployValidator deployValidator, DeploymentSecurityManager deploymentSecurityManager){
+    public ProcessDefinitionService(ProcessDefinitionParser processDefinitionParser, KikwiEngineRepository kikwiEngineRepository, DeployValidator deployValidator, DeploymentSecurityManager deploymentSecurityManager, ExecutionPlanRegistry executionPlanRegistry, HandlerRegistry handlerRegistry){
+        this.executionPlanRegistry = executionPlanRegistry;
+        this.handlerRegistry = handlerRegistry;
         this.processDefinitionParser = processDefinitionParser;
         this.kikwiEngineRepository = kikwiEngineRepository;
         this.deployValidator = deployValidator;
@@ -83,7 +96,7 @@ public class ProcessDefinitionService {
 
         deployValidator.validate(definitionToSave);
         ProcessDefinition savedDefinition = kikwiEngineRepository.saveProcessDefinition(definitionToSave);
-        processDefinitionCache.clear();
+        clearCache();
         return savedDefinition;
     }
 
@@ -135,15 +148,25 @@ public class ProcessDefinitionService {
      */
     private Optional<ProcessDefinition> getAndLoadOnCacheByKey(String processDefinitionKey){
         return kikwiEngineRepository.findProcessDefinitionByKey(processDefinitionKey)
-                .map(processDefinitionCache::add);
+                .map(this::loadOnCache);
     }
 
     private Optional<ProcessDefinition> getAndLoadOnCacheById(String processDefinitionId){
         return kikwiEngineRepository.findProcessDefinitionById(processDefinitionId)
-                .map(processDefinitionCache::add);
+                .map(this::loadOnCache);
+    }
+
+    private ProcessDefinition loadOnCache(ProcessDefinition processDefinition) {
+        ProcessDefinition cached = processDefinitionCache.add(processDefinition);
+        executionPlanRegistry.planFor(cached);
+        if (handlerRegistry != null) {
+            handlerRegistry.bind(cached);
+        }
+        return cached;
     }
 
     public void clearCache(){
         processDefinitionCache.clear();
+        executionPlanRegistry.clear();
     }
 }
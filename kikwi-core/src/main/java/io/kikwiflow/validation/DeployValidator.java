@@ -39,6 +39,7 @@ import io.kikwiflow.model.definition.process.elements.NonInterruptiveTimerEventD
 import io.kikwiflow.model.definition.process.elements.SequenceFlowDefinition;
 import io.kikwiflow.model.definition.process.elements.TimerTaskDefinition;
 import io.kikwiflow.model.execution.enumerated.AnswerProviderType;
+import io.kikwiflow.model.execution.enumerated.CallActivityIterationMode;
 import io.kikwiflow.model.execution.enumerated.CatchType;
 import io.kikwiflow.model.execution.enumerated.CorrelationProviderType;
 
@@ -129,6 +130,18 @@ public class DeployValidator {
                             String.format("Validation failed for CALL_ACTIVITY_COORDINATOR '%s' (id: %s): 'elementVariable' is only valid together with 'collectionVariable'.",
                                     callActivity.name(), callActivity.id()));
                 }
+                if (callActivity.maxConcurrency() != null) {
+                    if (callActivity.maxConcurrency() <= 0) {
+                        throw new InvalidProcessDefinitionException(
+                                String.format("Validation failed for CALL_ACTIVITY_COORDINATOR '%s' (id: %s): 'maxConcurrency' must be positive.",
+                                        callActivity.name(), callActivity.id()));
+                    }
+                    if (callActivity.iterationMode() == CallActivityIterationMode.SEQUENTIAL) {
+                        throw new InvalidProcessDefinitionException(
+                                String.format("Validation failed for CALL_ACTIVITY_COORDINATOR '%s' (id: %s): 'maxConcurrency' is only valid in PARALLEL mode.",
+                                        callActivity.name(), callActivity.id()));
+                    }
+                }
 
                 // Antes desta checagem, um boundaryEventId inválido numa CALL_ACTIVITY_COORDINATOR só falhava em
                 // runtime (NotImplementedException em ContinuationService.generateBoundaryEvents), quando o
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.model.execution.BranchPullIntention;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.persistence.api.data.TaskLease;
+import io.kikwiflow.persistence.api.data.UnitOfWork;
+import io.kikwiflow.persistence.api.exception.InstanceVersionConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O repositório não tem harness JMH; a comparação de vazão abaixo usa um commit falso com custo fixo por
+ * transação (o flush de journal) e só exige que o group commit grave menos transações em menos tempo.
+ */
+@DisplayName("GroupCommitStage")
+class GroupCommitStageTest {
+
+    private static final int WORKERS = 64;
+    private static final long TRANSACTION_COST_MILLIS = 5;
+
+    @Test
+    @DisplayName("commits concorrentes de instâncias distintas viram poucas transações de lote")
+    void concurrentCommitsOfDistinctInstancesShareTransactions() throws Exception {
+        FakeRepository repository = new FakeRepository(0);
+        GroupCommitStage stage = new GroupCommitStage(repository::commitWork, repository::commitWorkBatch, 20, 64);
+
+        runConcurrently(WORKERS, i -> stage.commit(unitFor("instance-" + i)));
+
+        GroupCommitStage.Snapshot snapshot = stage.snapshot();
+        assertEquals(WORKERS, repository.committedInstances.size());
+        assertEquals(WORKERS, snapshot.units());
+        assertTrue(repository.transactions.get() < WORKERS,
+                "esperava menos transações que unidades, foram " + repository.transactions.get());
+        assertTrue(snapshot.averageBatchSize() > 1.0);
+        assertEquals(0, snapshot.fallbackBatches());
+    }
+
+    @Test
+    @DisplayName("segunda unidade da mesma instância não entra no lote aberto e grava sozinha")
+    void sameInstanceUnitBypassesTheOpenBatch() throws Exception {
+        FakeRepository repository = new FakeRepository(0);
+        GroupCommitStage stage = new GroupCommitStage(repository::commitWork, repository::commitWorkBatch, 50, 64);
+
+        runConcurrently(2, i -> stage.commit(unitFor("instance-1")));
+
+        GroupCommitStage.Snapshot snapshot = stage.snapshot();
+        assertEquals(2, repository.commits.get());
+        assertEquals(1, snapshot.bypassedUnits());
+    }
+
+    @Test
+    @DisplayName("unidade sem instanceToUpdate ainda é reconhecida pela tarefa do lease e não entra no lote da mesma instância")
+    void leaseOnlyUnitOfTheSameInstanceBypassesTheOpenBatch() throws Exception {
+        FakeRepository repository = new FakeRepository(0);
+        GroupCommitStage stage = new GroupCommitStage(repository::commitWork, repository::commitWorkBatch, 50, 64);
+
+        runConcurrently(2, i -> stage.commit(i == 0 ? unitFor("instance-1") : leaseOnlyUnitFor("instance-1")));
+
+        assertEquals(2, repository.commits.get());
+        assertEquals(1, stage.snapshot().bypassedUnits());
+    }
+
+    @Test
+    @DisplayName("pull de branch identifica a instância do join")
+    void branchPullOfTheSameInstanceBypassesTheOpenBatch() throws Exception {
+        FakeRepository repository = new FakeRepository(0);
+        GroupCommitStage stage = new GroupCommitStage(repository::commitWork, repository::commitWorkBatch, 50, 64);
+        UnitOfWork branchPull = new UnitOfWork(null, null, null, List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(new BranchPullIntention("join-1", "branch-a", "instance-1")), Map.of());
+
+        runConcurrently(2, i -> stage.commit(i == 0 ? unitFor("instance-1") : branchPull));
+
+        assertEquals(2, repository.commits.get());
+        assertEquals(1, stage.snapshot().bypassedUnits());
+    }
+
+    @Test
+    @DisplayName("unidade que só apaga tarefas pelo ID não identifica a instância e grava sozinha")
+    void unitWithUnknownInstanceCommitsAlone() throws Exception {
+        FakeRepository repository = new FakeRepository(0);
+        GroupCommitStage stage = new GroupCommitStage(repository::commitWork, repository::commitWorkBatch, 50, 64);
+        UnitOfWork deletesOnly = new UnitOfWork(null, null, null, List.of(), List.of(), List.of("task-1"), List.of(),
+                List.of("external-1"), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), Map.of());
+
+        runConcurrently(3, i -> stage.commit(i == 0 ? deletesOnly : unitFor("instance-" + i)));
+
+        GroupCommitStage.Snapshot snapshot = stage.snapshot();
+        assertEquals(1, snapshot.bypassedUnits());
+        assertEquals(1, repository.commits.get(), "só a unidade sem instância deveria gravar fora de lote");
+        assertEquals(Set.of("instance-1", "instance-2"), repository.committedInstances);
+    }
+
+    @Test
+    @DisplayName("lote que falha é regravado unidade a unidade e só o chamador da unidade ruim recebe a exceção")
+    void failingBatchFallsBackPerUnit() throws Exception {
+        FakeRepository repository = new FakeRepository(0);
+        repository.conflicting.add("instance-bad");
+        GroupCommitStage stage = new GroupCommitStage(repository::commitWork, repository::commitWorkBatch, 50, 4);
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+
+        runConcurrently(4, i -> {
+            String instanceId = i == 0 ? "instance-bad" : "instance-" + i;
+            try {
+                stage.commit(unitFor(instanceId));
+            } catch (RuntimeException e) {
+                failures.put(instanceId, e);
+            }
+        });
+
+        assertEquals(Set.of("instance-bad"), failures.keySet());
+        assertInstanceOf(InstanceVersionConflictException.class, failures.get("instance-bad"));
+        assertEquals(Set.of("instance-1", "instance-2", "instance-3"), repository.committedInstances);
+        assertEquals(1, stage.snapshot().fallbackBatches());
+    }
+
+    @Test
+    @DisplayName("com custo fixo por transação, o group commit termina antes de um commit por unidade")
+    void groupCommitBeatsOneTransactionPerUnit() throws Exception {
+        FakeRepository perUnit = new FakeRepository(TRANSACTION_COST_MILLIS);
+        long perUnitMillis = runConcurrently(WORKERS, i -> perUnit.commitWork(unitFor("instance-" + i)));
+
+        FakeRepository grouped = new FakeRepository(TRANSACTION_COST_MILLIS);
+        GroupCommitStage stage = new GroupCommitStage(grouped::commitWork, grouped::commitWorkBatch, 2, 64);
+        long groupedMillis = runConcurrently(WORKERS, i -> stage.commit(unitFor("instance-" + i)));
+
+        assertEquals(WORKERS, grouped.committedInstances.size());
+        assertTrue(grouped.transactions.get() < perUnit.transactions.get());
+        assertTrue(groupedMillis < perUnitMillis,
+                "group commit levou " + groupedMillis + "ms contra " + perUnitMillis + "ms sem agrupar");
+    }
+
+    private static long runConcurrently(int threads, Consumer<Integer> work) throws InterruptedException {
+        long start = System.nanoTime();
+        List<Thread> started = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            started.add(Thread.ofVirtual().start(() -> work.accept(index)));
+        }
+        for (Thread thread : started) {
+            thread.join();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static UnitOfWork unitFor(String instanceId) {
+        ProcessInstance instance = ProcessInstance.builder()
+                .id(instanceId)
+                .processDefinitionId("def-v1")
+                .variables(Map.of())
+                .build();
+        return new UnitOfWork(null, instance, null, List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), Map.of());
+    }
+
+    private static UnitOfWork leaseOnlyUnitFor(String instanceId) {
+        return new UnitOfWork(null, null, null, List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), Map.of(), null, null,
+                new TaskLease("task-of-" + instanceId, "executor-1", instanceId));
+    }
+
+    /**
+     * Banco de mentira com uma única "conexão": cada transação (simples ou de lote) é serializada e custa
+     * {@code transactionCostMillis}, como o flush do journal num banco real.
+     */
+    private static final class FakeRepository {
+        private final long transactionCostMillis;
+        private final AtomicInteger transactions = new AtomicInteger();
+        private final AtomicInteger commits = new AtomicInteger();
+        private final Set<String> committedInstances = ConcurrentHashMap.newKeySet();
+        private final Set<String> conflicting = ConcurrentHashMap.newKeySet();
+
+        private FakeRepository(long transactionCostMillis) {
+            this.transactionCostMillis = transactionCostMillis;
+        }
+
+        synchronized void commitWork(UnitOfWork unitOfWork) {
+            transaction();
+            commits.incrementAndGet();
+            apply(unitOfWork);
+        }
+
+        synchronized void commitWorkBatch(List<UnitOfWork> unitsOfWork) {
+            transaction();
+            for (UnitOfWork unitOfWork : unitsOfWork) {
+                String instanceId = instanceIdOf(unitOfWork);
+                if (instanceId != null && conflicting.contains(instanceId)) {
+                    throw new InstanceVersionConflictException(instanceId, 0);
+                }
+            }
+            unitsOfWork.forEach(this::apply);
+        }
+
+        private void apply(UnitOfWork unitOfWork) {
+            String instanceId = instanceIdOf(unitOfWork);
+            if (instanceId == null) {
+                return;
+            }
+            if (conflicting.contains(instanceId)) {
+                throw new InstanceVersionConflictException(instanceId, 0);
+            }
+            committedInstances.add(instanceId);
+        }
+
+        private static String instanceIdOf(UnitOfWork unitOfWork) {
+            return unitOfWork.instanceToUpdate() != null ? unitOfWork.instanceToUpdate().id() : null;
+        }
+
+        private void transaction() {
+            transactions.incrementAndGet();
+            if (transactionCostMillis > 0) {
+                try {
+                    Thread.sleep(transactionCostMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.config.KikwiflowConfig;
+import io.kikwiflow.model.event.OutboxEventEntity;
+import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+import io.kikwiflow.persistence.InMemoryKikwiEngineRepository;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
+import io.kikwiflow.persistence.api.data.UnitOfWork;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dirige o poller real contra o repositório em memória; o engine é um mock que só registra quando cada tarefa
+ * chegou a executar — o que interessa aqui é quando e quanto o {@link TaskAcquirer} adquire, não o fluxo.
+ */
+@DisplayName("TaskAcquirer")
+class TaskAcquirerTest {
+
+    private RecordingRepository repository;
+    private KikwiflowConfig config;
+    private KikwiflowEngine engine;
+    private final Map<String, Instant> executedAt = new ConcurrentHashMap<>();
+    private volatile long handlerMillis = 0L;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private TaskAcquirer acquirer;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RecordingRepository();
+        config = new KikwiflowConfig();
+        config.setLockTimeoutMillis(60000L);
+        config.setTaskAcquisitionIntervalMillis(20L);
+        config.setTaskAcquisitionMaxBackoffMillis(20L);
+        config.setShutdownGracePeriodSeconds(1);
+
+        engine = mock(KikwiflowEngine.class);
+        when(engine.executeAcquiredTask(any())).thenAnswer(invocation -> {
+            ExecutableTask task = invocation.getArgument(0);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (handlerMillis > 0) {
+                    Thread.sleep(handlerMillis);
+                }
+            } finally {
+                running.decrementAndGet();
+            }
+            executedAt.put(task.id(), Instant.now());
+            return true;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (acquirer != null) {
+            acquirer.stop();
+        }
+    }
+
+    private void startAcquirer() {
+        acquirer = new TaskAcquirer(repository, config);
+        acquirer.start(engine);
+    }
+
+    private void seedTask(String id, Instant dueDate) {
+        seedTask(id, dueDate, null);
+    }
+
+    private void seedTask(String id, Instant dueDate, String executor) {
+        ExecutableTask task = ExecutableTask.builder()
+                .id(id)
+                .processInstanceId("proc-" + id)
+                .processDefinitionId("def-1")
+                .taskDefinitionId("NODE_" + id)
+                .status(ExecutableTaskStatus.PENDING)
+                .dueDate(dueDate)
+                .executor(executor)
+                .build();
+        repository.commitWork(new UnitOfWork(null, null, null,
+                List.of(task), null, null, null, null, null, null, null, null, null, null, null));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private List<Long> gapsBetweenPolls(int fromPoll) {
+        List<Poll> polls = List.copyOf(repository.polls);
+        List<Long> gaps = new ArrayList<>();
+        for (int i = Math.max(1, fromPoll); i < polls.size(); i++) {
+            gaps.add(polls.get(i).calledAt().toEpochMilli() - polls.get(i - 1).calledAt().toEpochMilli());
+        }
+        return gaps;
+    }
+
+    @Test
+    @DisplayName("polls vazios dobram a espera a partir do intervalo base até o teto de backoff")
+    void emptyPollsBackOffExponentiallyUpToTheCeiling() throws InterruptedException {
+        config.setTaskAcquisitionIntervalMillis(10L);
+        config.setTaskAcquisitionMaxBackoffMillis(160L);
+
+        startAcquirer();
+        awaitCondition(() -> repository.polls.size() >= 8, 2000);
+
+        List<Long> gaps = gapsBetweenPolls(1);
+        assertTrue(gaps.size() >= 7, "Esperava ao menos 8 polls: " + gaps);
+        assertTrue(gaps.get(0) < 60, "O primeiro poll vazio deveria esperar só o intervalo base: " + gaps);
+        assertTrue(gaps.get(3) >= 70, "A espera deveria ter dobrado a cada poll vazio: " + gaps);
+        for (long gap : gaps.subList(4, gaps.size())) {
+            assertTrue(gap >= 140 && gap < 400, "A espera deveria estabilizar no teto de 160ms: " + gaps);
+        }
+    }
+
+    @Test
+    @DisplayName("sem teto configurado não há backoff: polls vazios seguem no intervalo base")
+    void backoffIsOptIn() throws InterruptedException {
+        config.setTaskAcquisitionIntervalMillis(10L);
+        config.setTaskAcquisitionMaxBackoffMillis(new KikwiflowConfig().getTaskAcquisitionMaxBackoffMillis());
+
+        startAcquirer();
+        awaitCondition(() -> repository.polls.size() >= 8, 2000);
+
+        List<Long> gaps = gapsBetweenPolls(1);
+        assertTrue(gaps.size() >= 7, "Esperava ao menos 8 polls: " + gaps);
+        for (long gap : gaps) {
+            assertTrue(gap < 60, "Sem teto configurado a espera não deveria crescer além da base: " + gaps);
+        }
+    }
+
+    @Test
+    @DisplayName("com a timing wheel ligada o backoff para na janela de pré-aquisição")
+    void backoffNeverExceedsTheLookAheadWindow() throws InterruptedException {
+        config.setTaskAcquisitionIntervalMillis(10L);
+        config.setTaskAcquisitionMaxBackoffMillis(3000L);
+        config.setTimerLookAheadMillis(80L);
+
+        startAcquirer();
+        awaitCondition(() -> repository.polls.size() >= 9, 3000);
+
+        List<Long> gaps = gapsBetweenPolls(1);
+        assertTrue(gaps.size() >= 8, "Esperava ao menos 9 polls: " + gaps);
+        for (long gap : gaps) {
+            assertTrue(gap < 200, "A espera deveria estabilizar na janela de 80ms, não no teto de 3000ms: " + gaps);
+        }
+    }
+
+    @Test
+    @DisplayName("um poll que adquire algo zera o backoff: o seguinte volta ao intervalo base")
+    void nonEmptyPollResetsTheBackoff() throws InterruptedException {
+        config.setTaskAcquisitionIntervalMillis(10L);
+        config.setTaskAcquisitionMaxBackoffMillis(200L);
+
+        startAcquirer();
+        awaitCondition(() -> repository.polls.size() >= 7, 2000);
+        List<Long> backedOff = gapsBetweenPolls(1);
+        assertTrue(backedOff.get(backedOff.size() - 1) >= 150, "Deveria estar no teto antes da tarefa chegar: " + backedOff);
+
+        seedTask("due-now", Instant.now());
+        awaitCondition(() -> executedAt.containsKey("due-now"), 1000);
+
+        int fetchingPoll = -1;
+        for (int i = 0; i < repository.polls.size(); i++) {
+            if (repository.polls.get(i).fetched() > 0) {
+                fetchingPoll = i;
+                break;
+            }
+        }
+        int afterFetch = fetchingPoll + 1;
+        awaitCondition(() -> repository.polls.size() > afterFetch + 1, 1000);
+
+        List<Poll> polls = List.copyOf(repository.polls);
+        long gapAfterFetch = polls.get(afterFetch).calledAt().toEpochMilli() - polls.get(fetchingPoll).calledAt().toEpochMilli();
+        assertTrue(gapAfterFetch < 100, "Depois de um poll com tarefas a espera deveria voltar à base, não ao teto: " + gapAfterFetch + "ms.");
+    }
+
+    @Test
+    @DisplayName("lote limitado por capacidade: o worker que devolve a permissão acorda o poller antes do intervalo")
+    void releasedCapacityWakesThePollerEarly() throws InterruptedException {
+        config.setMaxConcurrentTasks(1);
+        config.setTaskAcquisitionIntervalMillis(3000L);
+        config.setTaskAcquisitionMaxBackoffMillis(3000L);
+        handlerMillis = 50L;
+        seedTask("first", Instant.now().minusMillis(20));
+        seedTask("second", Instant.now().minusMillis(10));
+
+        Instant startedAt = Instant.now();
+        startAcquirer();
+        awaitCondition(() -> executedAt.containsKey("second"), 2000);
+
+        assertTrue(executedAt.containsKey("first"));
+        assertTrue(executedAt.containsKey("second"),
+                "A segunda tarefa deveria ser adquirida assim que a primeira devolveu a permissão, não no próximo intervalo.");
+        assertTrue(executedAt.get("second").toEpochMilli() - startedAt.toEpochMilli() < 1500);
+    }
+
+    @Test
+    @DisplayName("timer pré-carregado na roda não segura permissão: uma tarefa vencida passa na frente dele")
+    void lookAheadTimerDoesNotHoldAWorkerPermit() throws InterruptedException {
+        config.setMaxConcurrentTasks(1);
+        config.setTimerLookAheadMillis(5000L);
+        Instant timerDue = Instant.now().plusMillis(800);
+        seedTask("timer", timerDue);
+
+        startAcquirer();
+        awaitCondition(() -> repository.findExecutableTaskById("timer")
+                .map(t -> t.status() == ExecutableTaskStatus.LOCKED).orElse(false), 1000);
+
+        assertEquals(ExecutableTaskStatus.LOCKED, repository.findExecutableTaskById("timer").orElseThrow().status());
+        assertEquals(0, acquirer.getConcurrencyLimitStats().inFlight(),
+                "O timer ainda na roda não deveria ocupar a única permissão global.");
+
+        seedTask("due-now", Instant.now());
+        awaitCondition(() -> executedAt.containsKey("due-now"), 500);
+
+        assertTrue(executedAt.containsKey("due-now"), "A tarefa vencida deveria rodar enquanto o timer espera na roda.");
+        assertFalse(executedAt.containsKey("timer"), "O timer não deveria disparar antes do dueDate.");
+
+        awaitCondition(() -> executedAt.containsKey("timer"), 2000);
+        assertTrue(executedAt.containsKey("timer"));
+        assertFalse(executedAt.get("timer").isBefore(timerDue), "O timer deveria disparar no dueDate, nunca antes.");
+    }
+
+    @Test
+    @DisplayName("timer da roda que encontra o bulkhead cheio não devolve uma permissão global que nunca tomou")
+    void wheelFireIntoAFullBulkheadKeepsTheGlobalLimit() throws InterruptedException {
+        config.setMaxConcurrentTasks(1);
+        config.setTimerLookAheadMillis(5000L);
+        config.setExecutorConcurrencyLimits(Map.of("bureauCheck", 1));
+        handlerMillis = 400L;
+        seedTask("timer", Instant.now().plusMillis(300), "bureauCheck");
+
+        startAcquirer();
+        awaitCondition(() -> repository.findExecutableTaskById("timer")
+                .map(t -> t.status() == ExecutableTaskStatus.LOCKED).orElse(false), 1000);
+
+        // Ocupa o bulkhead e a única permissão global antes de o timer disparar.
+        seedTask("busy", Instant.now(), "bureauCheck");
+        awaitCondition(() -> running.get() > 0, 1000);
+        seedTask("other", Instant.now().plusMillis(100));
+
+        int maxInFlight = 0;
+        long deadline = System.currentTimeMillis() + 3000;
+        while (executedAt.size() < 3 && System.currentTimeMillis() < deadline) {
+            maxInFlight = Math.max(maxInFlight, acquirer.getConcurrencyLimitStats().inFlight());
+            Thread.sleep(2);
+        }
+
+        assertEquals(3, executedAt.size(), "As três tarefas deveriam ter rodado: " + executedAt.keySet());
+        assertTrue(maxInFlight <= 1, "inFlight passou do limite global: " + maxInFlight);
+        assertEquals(1, maxRunning.get(), "Nunca mais que maxConcurrentTasks handlers ao mesmo tempo.");
+    }
+
+    @Test
+    @DisplayName("com look-ahead, o envelhecimento continua medido a partir do agora real")
+    void lookAheadDoesNotAgeTasksEarly() throws InterruptedException {
+        config.setTimerLookAheadMillis(5000L);
+        config.setPriorityAgingMillis(60000L);
+
+        startAcquirer();
+        awaitCondition(() -> !repository.polls.isEmpty(), 1000);
+
+        Poll poll = repository.polls.get(0);
+        Instant agedBefore = poll.now().minusMillis(poll.criteria().priorityAgingMillis());
+        long skewMillis = Math.abs(agedBefore.toEpochMilli() - poll.calledAt().minusMillis(60000L).toEpochMilli());
+        assertTrue(poll.now().isAfter(poll.calledAt().plusMillis(4000)), "O poll deveria enxergar a janela de look-ahead.");
+        assertTrue(skewMillis < 500, "Limite de envelhecimento deslocado pelo look-ahead: " + skewMillis + "ms.");
+    }
+
+    record Poll(Instant calledAt, Instant now, int limit, TaskAcquisitionCriteria criteria, int fetched) {
+    }
+
+    static class RecordingRepository extends InMemoryKikwiEngineRepository {
+        final List<Poll> polls = new CopyOnWriteArrayList<>();
+
+        RecordingRepository() {
+            super(new ArrayDeque<OutboxEventEntity>());
+        }
+
+        @Override
+        public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis,
+                                                        TaskAcquisitionCriteria criteria) {
+            Instant calledAt = Instant.now();
+            List<ExecutableTask> locked = super.findAndLockDueTasks(now, limit, workerId, lockTimeoutMillis, criteria);
+            polls.add(new Poll(calledAt, now, limit, criteria, locked.size()));
+            return locked;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution;
+
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.persistence.api.data.VariableOpType;
+import io.kikwiflow.persistence.api.data.VariableOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("VariableStore")
+class VariableStoreTest {
+
+    private static Map<String, ProcessVariable> loaded(int count) {
+        Map<String, ProcessVariable> variables = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            variables.put("var" + i, new ProcessVariable("var" + i, i));
+        }
+        return variables;
+    }
+
+    @Test
+    @DisplayName("escritas só viram operações das chaves alteradas, e a base carregada nunca é mutada")
+    void writesTrackOnlyChangedKeysAndNeverMutateTheLoadedBase() {
+        Map<String, ProcessVariable> base = loaded(200);
+        VariableStore store = new VariableStore(base);
+
+        store.put("var1", new ProcessVariable("var1", "changed"));
+        store.remove("var2");
+        store.put("fresh", new ProcessVariable("fresh", true));
+
+        Map<String, VariableOperation> operations = store.dirtyOperations();
+        assertEquals(3, operations.size());
+        assertEquals(VariableOpType.SET, operations.get("var1").type());
+        assertEquals(VariableOpType.UNSET, operations.get("var2").type());
+        assertEquals(VariableOpType.SET, operations.get("fresh").type());
+
+        assertEquals(200, base.size());
+        assertEquals(1, base.get("var1").value());
+        assertEquals(200, store.size());
+        assertEquals("changed", store.get("var1").value());
+        assertFalse(store.containsKey("var2"));
+    }
+
+    @Test
+    @DisplayName("um snapshot não enxerga escritas posteriores, inclusive depois de uma compactação")
+    void snapshotIsIsolatedFromLaterWritesAndCompaction() {
+        VariableStore store = new VariableStore(loaded(10));
+        store.put("var0", new ProcessVariable("var0", "before"));
+
+        Map<String, ProcessVariable> snapshot = store.snapshot();
+
+        store.put("var0", new ProcessVariable("var0", "after"));
+        store.remove("var3");
+        for (int i = 0; i < 100; i++) {
+            store.put("extra" + i, new ProcessVariable("extra" + i, i));
+        }
+
+        assertEquals("before", snapshot.get("var0").value());
+        assertTrue(snapshot.containsKey("var3"));
+        assertFalse(snapshot.containsKey("extra0"));
+        assertEquals(10, snapshot.size());
+        assertEquals(10, new HashMap<>(snapshot).size());
+
+        assertEquals("after", store.get("var0").value());
+        assertEquals(109, store.size());
+        assertEquals(109, store.snapshot().entrySet().size());
+    }
+
+    @Test
+    @DisplayName("o snapshot persistente omite transientes, e um fork não compartilha escritas com a origem")
+    void persistentSnapshotSkipsTransientsAndForksAreIndependent() {
+        VariableStore store = new VariableStore(loaded(3));
+        store.put("token", new ProcessVariable("token", true, "secret"));
+
+        Map<String, ProcessVariable> persistent = store.persistentSnapshot();
+        assertNull(persistent.get("token"));
+        assertEquals(3, persistent.size());
+
+        VariableStore fork = store.fork();
+        assertTrue(fork.dirtyOperations().isEmpty());
+        fork.put("var0", new ProcessVariable("var0", "fork"));
+        store.put("var1", new ProcessVariable("var1", "origin"));
+
+        assertEquals(0, store.get("var0").value());
+        assertEquals(1, fork.get("var1").value());
+        assertEquals("secret", fork.get("token").value());
+        assertEquals(1, fork.dirtyOperations().size());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.binding;
+
+import io.kikwiflow.execution.api.handler.TaskHandler;
+import io.kikwiflow.execution.api.provider.AnswerProvider;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.ExclusiveGatewayDefinition;
+import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
+import io.kikwiflow.model.execution.enumerated.AnswerProviderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("HandlerRegistry")
+class HandlerRegistryTest {
+
+    private final TaskHandler handler = execution -> { };
+    private final AnswerProvider answerProvider = context -> "APPROVED";
+    private final Map<String, TaskHandler> handlers = new HashMap<>(Map.of("paymentHandler", handler));
+    private final AtomicInteger containerLookups = new AtomicInteger();
+
+    private final HandlerRegistry registry = new HandlerRegistry(
+            name -> {
+                containerLookups.incrementAndGet();
+                return Optional.ofNullable(handlers.get(name));
+            },
+            name -> {
+                containerLookups.incrementAndGet();
+                return "approvalProvider".equals(name) ? Optional.of(answerProvider) : Optional.empty();
+            },
+            name -> Optional.empty(),
+            name -> Optional.empty());
+
+    @Test
+    @DisplayName("bind resolve os beans da definição uma vez; as execuções seguintes não voltam ao container")
+    void bindResolvesOnceAndExecutionsReadTheBoundReference() {
+        registry.bind(definition());
+        assertEquals(2, containerLookups.get());
+
+        for (int i = 0; i < 10_000; i++) {
+            assertSame(handler, registry.taskHandlerResolver().resolve("paymentHandler").orElseThrow());
+            assertSame(answerProvider, registry.answerProviderResolver().getProvider("approvalProvider").orElseThrow());
+        }
+
+        assertEquals(2, containerLookups.get());
+        assertEquals(2, registry.boundCount());
+    }
+
+    @Test
+    @DisplayName("bean ausente não é guardado e é achado quando passa a existir")
+    void missingBeanIsNotCached() {
+        assertTrue(registry.taskHandlerResolver().resolve("lateHandler").isEmpty());
+
+        TaskHandler late = execution -> { };
+        handlers.put("lateHandler", late);
+
+        assertSame(late, registry.taskHandlerResolver().resolve("lateHandler").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("invalidate descarta as referências e o próximo uso resolve de novo")
+    void invalidateDropsBoundReferences() {
+        registry.bind(definition());
+        TaskHandler replacement = execution -> { };
+        handlers.put("paymentHandler", replacement);
+
+        assertSame(handler, registry.taskHandlerResolver().resolve("paymentHandler").orElseThrow());
+
+        registry.invalidate();
+
+        assertEquals(0, registry.boundCount());
+        assertSame(replacement, registry.taskHandlerResolver().resolve("paymentHandler").orElseThrow());
+    }
+
+    private ProcessDefinition definition() {
+        ExecutableTaskDefinition task = ExecutableTaskDefinition.builder().id("pay").executor("paymentHandler").build();
+        ExclusiveGatewayDefinition gateway = ExclusiveGatewayDefinition.builder()
+                .id("approved?").providerType(AnswerProviderType.BEAN).providerBean("approvalProvider").build();
+        return ProcessDefinition.builder().id("definition").key("payment")
+                .flowNodes(Map.of(task.id(), task, gateway.id(), gateway)).build();
+    }
+}
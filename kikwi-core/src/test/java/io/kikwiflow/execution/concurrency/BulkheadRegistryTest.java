@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BulkheadRegistry")
+class BulkheadRegistryTest {
+
+    @Test
+    @DisplayName("só handlers configurados têm bulkhead; executor nulo ou sem entrada não tem limite próprio")
+    void onlyConfiguredExecutorsHaveBulkheads() {
+        BulkheadRegistry registry = new BulkheadRegistry(Map.of("slowHandler", 2));
+
+        assertTrue(registry.forExecutor("slowHandler").isPresent());
+        assertTrue(registry.forExecutor("fastHandler").isEmpty());
+        assertTrue(registry.forExecutor(null).isEmpty());
+        assertTrue(new BulkheadRegistry(null).saturatedExecutors().isEmpty());
+    }
+
+    @Test
+    @DisplayName("saturatedExecutors devolve só os bulkheads cheios e conta um poll pulado para cada um")
+    void saturatedExecutorsReportsFullBulkheadsAndCountsSkippedPolls() {
+        BulkheadRegistry registry = new BulkheadRegistry(Map.of("slowHandler", 1, "fastHandler", 3));
+        Bulkhead slow = registry.forExecutor("slowHandler").orElseThrow();
+        registry.forExecutor("fastHandler").orElseThrow().tryAcquire();
+
+        assertTrue(registry.saturatedExecutors().isEmpty());
+
+        slow.tryAcquire();
+        assertEquals(Set.of("slowHandler"), registry.saturatedExecutors());
+        assertEquals(Set.of("slowHandler"), registry.saturatedExecutors());
+        assertEquals(2, slow.snapshot().skippedPolls());
+
+        slow.release();
+        assertTrue(registry.saturatedExecutors().isEmpty());
+        assertEquals(2, slow.snapshot().skippedPolls());
+    }
+
+    @Test
+    @DisplayName("a fábrica de limitadores recebe o executor e o limite configurado")
+    void limiterFactoryReceivesExecutorAndConfiguredLimit() {
+        BulkheadRegistry registry = new BulkheadRegistry(Map.of("slowHandler", 8),
+                (executor, limit) -> ConcurrencyLimiter.aimd(executor, limit, 1, limit, 2.0));
+
+        Bulkhead.Snapshot snapshot = registry.snapshot().get(0);
+        assertEquals("slowHandler", snapshot.executor());
+        assertEquals(8, snapshot.maxConcurrent());
+        assertEquals(8, snapshot.limit());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Bulkhead")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("limite não positivo é rejeitado")
+    void rejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("slowHandler", 0));
+    }
+
+    @Test
+    @DisplayName("tryAcquire admite até o limite, recusa sem bloquear e volta a admitir após release")
+    void tryAcquireAdmitsUpToTheLimit() {
+        Bulkhead bulkhead = new Bulkhead("slowHandler", 2);
+
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.isSaturated());
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.isSaturated());
+        assertFalse(bulkhead.tryAcquire(), "Bulkhead cheio não deveria admitir sem bloquear.");
+
+        bulkhead.release();
+        assertFalse(bulkhead.isSaturated());
+        assertTrue(bulkhead.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("acquire com o bulkhead cheio espera na fila até uma execução terminar")
+    void acquireWaitsUntilAnExecutionFinishes() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("slowHandler", 1);
+        assertTrue(bulkhead.tryAcquire());
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.acquire();
+                admitted.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertFalse(admitted.await(50, TimeUnit.MILLISECONDS), "Não deveria passar com o bulkhead cheio.");
+        assertEquals(1, bulkhead.snapshot().queued());
+
+        bulkhead.release(TimeUnit.MILLISECONDS.toNanos(5), true);
+
+        assertTrue(admitted.await(1, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(0, bulkhead.snapshot().queued());
+    }
+
+    @Test
+    @DisplayName("o snapshot reporta limite, em voo, saturação e execuções admitidas")
+    void snapshotReportsUsage() {
+        Bulkhead bulkhead = new Bulkhead("slowHandler", 4);
+        bulkhead.tryAcquire();
+        bulkhead.tryAcquire();
+        bulkhead.tryAcquire();
+        bulkhead.release();
+
+        Bulkhead.Snapshot snapshot = bulkhead.snapshot();
+        assertEquals("slowHandler", snapshot.executor());
+        assertEquals(4, snapshot.maxConcurrent());
+        assertEquals(4, snapshot.limit());
+        assertEquals(2, snapshot.inFlight());
+        assertEquals(0.5, snapshot.saturation());
+        assertEquals(3, snapshot.executed(), "Execuções contam na admissão, não na devolução.");
+    }
+}
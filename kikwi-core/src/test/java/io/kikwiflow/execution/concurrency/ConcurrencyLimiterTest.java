@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ConcurrencyLimiter")
+class ConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("limite fixo se comporta como semáforo e não adapta")
+    void fixedLimiterNeverAdapts() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed("global", 2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(SLOW, false);
+        assertEquals(2, limiter.getLimit());
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    @DisplayName("cresce enquanto a latência se mantém estável e o limite está em uso")
+    void growsWhileLatencyStaysFlat() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd("global", 4, 1, 100, 2.0);
+
+        for (int i = 0; i < 200; i++) {
+            while (limiter.tryAcquire()) {
+                // satura o limite vigente
+            }
+            limiter.release(FAST, true);
+        }
+
+        assertTrue(limiter.getLimit() > 4, "limite deveria ter crescido: " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("não cresce quando o limite está ocioso")
+    void doesNotGrowWhenIdle() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd("global", 10, 1, 100, 2.0);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("falha ou latência acima da tolerância cortam o limite, no máximo uma vez por execução em voo")
+    void cutsOnFailureOrLatencySpikeOncePerInFlightWindow() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd("global", 100, 1, 100, 2.0);
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        assertEquals(90, limiter.getLimit());
+
+        // Começou antes da redução anterior: não corta de novo.
+        limiter.tryAcquire();
+        limiter.release(TimeUnit.SECONDS.toNanos(60), false);
+        assertEquals(90, limiter.getLimit());
+        assertEquals(1, limiter.snapshot().decreases());
+    }
+
+    @Test
+    @DisplayName("nunca desce abaixo do mínimo")
+    void neverDropsBelowMinLimit() throws InterruptedException {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd("global", 3, 2, 10, 2.0);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            Thread.sleep(1);
+            limiter.release(1L, false);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("forceAcquire conta a execução mesmo acima do limite")
+    void forceAcquireCountsAboveTheLimit() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed("global", 1);
+        limiter.forceAcquire();
+        limiter.forceAcquire();
+
+        assertEquals(2, limiter.snapshot().inFlight());
+        assertEquals(0, limiter.availablePermits());
+
+        limiter.release();
+        limiter.release();
+        assertEquals(1, limiter.availablePermits());
+    }
+}
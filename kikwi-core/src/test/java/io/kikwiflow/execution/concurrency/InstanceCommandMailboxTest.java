@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.concurrency;
+
+import io.kikwiflow.persistence.api.exception.OptimisticLockingFailureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("InstanceCommandMailbox")
+class InstanceCommandMailboxTest {
+
+    @Test
+    @DisplayName("comandos da mesma instância rodam um por vez e os que esperaram contam como enfileirados")
+    void serializesCommandsOfTheSameInstance() throws Exception {
+        InstanceCommandMailbox mailbox = new InstanceCommandMailbox(true);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofVirtual().start(() -> mailbox.execute("instance-1", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                return running.decrementAndGet();
+            })));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        InstanceCommandMailbox.Snapshot snapshot = mailbox.snapshot();
+        assertEquals(1, maxRunning.get());
+        assertEquals(8, snapshot.commands());
+        assertTrue(snapshot.queuedCommands() > 0);
+        assertTrue(snapshot.maxQueueDepth() > 0);
+        assertEquals(0, snapshot.queueDepth());
+    }
+
+    @Test
+    @DisplayName("instâncias diferentes não esperam uma pela outra, mesmo com hash igual")
+    void differentInstancesRunConcurrently() throws Exception {
+        InstanceCommandMailbox mailbox = new InstanceCommandMailbox(true);
+        String first = "Aa";
+        String second = "BB";
+        assertEquals(first.hashCode(), second.hashCode());
+        CountDownLatch bothInside = new CountDownLatch(2);
+
+        Thread a = Thread.ofVirtual().start(() -> mailbox.execute(first, () -> awaitBoth(bothInside)));
+        Thread b = Thread.ofVirtual().start(() -> mailbox.execute(second, () -> awaitBoth(bothInside)));
+        a.join();
+        b.join();
+
+        assertEquals(0, bothInside.getCount());
+        assertEquals(0, mailbox.snapshot().queuedCommands());
+    }
+
+    @Test
+    @DisplayName("comando aninhado sobre outra instância ocupada não espera a fila dela")
+    void nestedCommandNeverBlocks() throws Exception {
+        InstanceCommandMailbox mailbox = new InstanceCommandMailbox(true);
+        String outer = "instance-a";
+        String busy = "instance-b";
+        CountDownLatch busyHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> mailbox.execute(busy, () -> {
+            busyHeld.countDown();
+            return awaitQuietly(release);
+        }));
+        assertTrue(busyHeld.await(5, TimeUnit.SECONDS));
+
+        String result = mailbox.execute(outer, () -> mailbox.execute(busy, () -> "nested"));
+        release.countDown();
+        holder.join();
+
+        assertEquals("nested", result);
+        assertEquals(1, mailbox.snapshot().unserializedNestedCommands());
+        assertEquals(2, mailbox.snapshot().commands(), "O aninhado conta dentro do comando externo.");
+    }
+
+    @Test
+    @DisplayName("comando aninhado sobre a mesma instância reentra e conta comando e conflito uma vez só")
+    void reentrantCommandIsCountedOnce() {
+        InstanceCommandMailbox mailbox = new InstanceCommandMailbox(true);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> mailbox.execute("instance-1",
+                () -> mailbox.execute("instance-1", () -> {
+                    throw new OptimisticLockingFailureException("conflict");
+                })));
+
+        InstanceCommandMailbox.Snapshot snapshot = mailbox.snapshot();
+        assertEquals(1, snapshot.commands());
+        assertEquals(1, snapshot.conflicts());
+        assertEquals(0, snapshot.unserializedNestedCommands());
+        assertEquals(0, snapshot.activeInstances(), "A fila da instância sai do mapa com o último comando.");
+    }
+
+    @Test
+    @DisplayName("desabilitada não serializa, mas conta comandos e conflitos otimistas")
+    void disabledMailboxStillCountsConflicts() {
+        InstanceCommandMailbox mailbox = new InstanceCommandMailbox(false);
+
+        mailbox.execute("instance-1", () -> "ok");
+        assertThrows(OptimisticLockingFailureException.class, () -> mailbox.execute("instance-1", () -> {
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+
+        InstanceCommandMailbox.Snapshot snapshot = mailbox.snapshot();
+        assertEquals(2, snapshot.commands());
+        assertEquals(1, snapshot.conflicts());
+        assertEquals(0.5, snapshot.conflictRate());
+        assertEquals(0, snapshot.activeInstances());
+    }
+
+    private static boolean awaitBoth(CountDownLatch latch) {
+        latch.countDown();
+        return awaitQuietly(latch);
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.partitioning;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PartitionAssignment")
+class PartitionAssignmentTest {
+
+    private static final int PARTITIONS = 64;
+
+    @Test
+    @DisplayName("com 1, 4 e 16 nós cada partição tem exatamente um dono e a carga fica equilibrada")
+    void everyPartitionHasExactlyOneOwner() {
+        for (int nodes : new int[]{1, 4, 16}) {
+            List<String> members = members(nodes);
+            int[] owners = new int[PARTITIONS];
+            int maxOwned = 0;
+
+            for (String member : members) {
+                Set<Integer> owned = PartitionAssignment.ownedPartitions(member, members, PARTITIONS);
+                owned.forEach(partition -> owners[partition]++);
+                maxOwned = Math.max(maxOwned, owned.size());
+            }
+
+            for (int partition = 0; partition < PARTITIONS; partition++) {
+                assertEquals(1, owners[partition], nodes + " nós: partição " + partition);
+            }
+            // HRW não é perfeitamente uniforme; o que importa é nenhum nó concentrar a fila.
+            assertTrue(maxOwned <= Math.max(PARTITIONS / nodes * 3, 1), nodes + " nós: maior fatia " + maxOwned);
+        }
+    }
+
+    @Test
+    @DisplayName("tarefas de nós simulados não colidem: cada uma é disputada por um único nó")
+    void simulatedNodesNeverCompeteForTheSameTask() {
+        for (int nodes : new int[]{1, 4, 16}) {
+            List<String> members = members(nodes);
+            Map<String, Set<Integer>> ownership = new HashMap<>();
+            members.forEach(member -> ownership.put(member, PartitionAssignment.ownedPartitions(member, members, PARTITIONS)));
+
+            for (int i = 0; i < 10_000; i++) {
+                int partition = PartitionAssignment.partitionOf(UUID.randomUUID().toString(), PARTITIONS);
+                long contenders = ownership.values().stream().filter(owned -> owned.contains(partition)).count();
+                assertEquals(1, contenders, nodes + " nós: partição " + partition);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("quando um nó sai, só as partições dele mudam de dono")
+    void onlyTheLeaverPartitionsMove() {
+        List<String> members = members(4);
+        String leaver = members.get(2);
+        List<String> remaining = new ArrayList<>(members);
+        remaining.remove(leaver);
+
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            String before = PartitionAssignment.ownerOf(partition, members);
+            String after = PartitionAssignment.ownerOf(partition, remaining);
+            if (!before.equals(leaver)) {
+                assertEquals(before, after, "partição " + partition);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("partição de uma instância é estável e fica no intervalo")
+    void partitionOfIsStableAndBounded() {
+        String processInstanceId = "6650a1f2c3d4e5f6a7b8c9d0";
+
+        int partition = PartitionAssignment.partitionOf(processInstanceId, PARTITIONS);
+
+        assertEquals(partition, PartitionAssignment.partitionOf(processInstanceId, PARTITIONS));
+        assertTrue(partition >= 0 && partition < PARTITIONS);
+    }
+
+    private static List<String> members(int count) {
+        List<String> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add("kikwi-node-" + UUID.randomUUID().toString().substring(0, 8));
+        }
+        return members;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.scheduling;
+
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TaskPriorityCalculator")
+class TaskPriorityCalculatorTest {
+
+    private final TaskPriorityCalculator calculator = new TaskPriorityCalculator();
+    private final Instant now = Instant.parse("2026-01-01T12:00:00Z");
+
+    private ProcessDefinition definition(String sla, Map<String, String> nodeProperties) {
+        ExecutableTaskDefinition node = ExecutableTaskDefinition.builder()
+                .id("PAY")
+                .executor("paymentHandler")
+                .extensionProperties(nodeProperties)
+                .build();
+        return ProcessDefinition.builder()
+                .key("payments")
+                .sla(sla)
+                .flowNodes(Map.of("PAY", node))
+                .build();
+    }
+
+    @Test
+    @DisplayName("maior business value resulta em maior prioridade")
+    void higherBusinessValueScoresHigher() {
+        ProcessDefinition definition = definition(null, null);
+
+        long low = calculator.score(definition, "PAY", new BigDecimal("10"), now, now);
+        long high = calculator.score(definition, "PAY", new BigDecimal("1000000"), now, now);
+
+        assertTrue(high > low);
+        assertEquals(0L, calculator.score(definition, "PAY", null, now, now));
+    }
+
+    @Test
+    @DisplayName("SLA consumido aumenta a prioridade até o teto")
+    void slaConsumptionRaisesPriorityUpToTheCap() {
+        ProcessDefinition definition = definition("PT10H", null);
+
+        assertEquals(0L, calculator.score(definition, "PAY", null, now, now));
+        assertEquals(250L, calculator.score(definition, "PAY", null, now.minus(Duration.ofHours(5)), now));
+        assertEquals(TaskPriorityCalculator.MAX_COMPONENT_SCORE,
+                calculator.score(definition, "PAY", null, now.minus(Duration.ofHours(30)), now));
+    }
+
+    @Test
+    @DisplayName("prioridade explícita do nó supera business value e SLA")
+    void explicitNodePriorityDominates() {
+        ProcessDefinition prioritized = definition("PT1H", Map.of(TaskPriorityCalculator.PRIORITY_PROPERTY, "1"));
+        ProcessDefinition regular = definition("PT1H", null);
+
+        long explicit = calculator.score(prioritized, "PAY", null, now, now);
+        long richAndLate = calculator.score(regular, "PAY", new BigDecimal("1000000000000"), now.minus(Duration.ofHours(2)), now);
+
+        assertTrue(explicit > richAndLate);
+    }
+
+    @Test
+    @DisplayName("SLA inválido é ignorado")
+    void unparseableSlaIsIgnored() {
+        assertEquals(0L, calculator.score(definition("48h", null), "PAY", null, now.minus(Duration.ofDays(3)), now));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.execution.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TimingWheel")
+class TimingWheelTest {
+
+    private TimingWheel<String> wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("dispara cada item no dueDate, nunca antes, inclusive além de uma volta da roda")
+    void firesAtDueDateAcrossRounds() throws InterruptedException {
+        Map<String, Long> firedAt = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        wheel = new TimingWheel<>(1, 8, item -> {
+            firedAt.put(item, System.currentTimeMillis());
+            latch.countDown();
+        });
+        wheel.start();
+
+        Instant now = Instant.now();
+        Instant first = now.plusMillis(20);
+        Instant second = now.plusMillis(50);
+        Instant third = now.plusMillis(120);
+        wheel.schedule("third", third);
+        wheel.schedule("first", first);
+        wheel.schedule("second", second);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertFalse(firedAt.get("first") < first.toEpochMilli());
+        assertFalse(firedAt.get("second") < second.toEpochMilli());
+        assertFalse(firedAt.get("third") < third.toEpochMilli());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("item com dueDate já vencido dispara no próximo tick")
+    void firesOverdueItemImmediately() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = new TimingWheel<>(1, 8, item -> latch.countDown());
+        wheel.start();
+
+        wheel.schedule("overdue", Instant.now().minusSeconds(5));
+
+        assertTrue(latch.await(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("stop devolve os itens que ainda não dispararam")
+    void stopReturnsUnfiredItems() {
+        wheel = new TimingWheel<>(1, 8, item -> { });
+        wheel.start();
+
+        wheel.schedule("far", Instant.now().plusSeconds(60));
+
+        List<String> unfired = wheel.stop();
+        wheel = null;
+
+        assertEquals(List.of("far"), unfired);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.navigation;
+
+import io.kikwiflow.execution.dto.Continuation;
+import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.definition.process.elements.EndEventDefinition;
+import io.kikwiflow.model.definition.process.elements.ExclusiveGatewayDefinition;
+import io.kikwiflow.model.definition.process.elements.ExecutableTaskDefinition;
+import io.kikwiflow.model.definition.process.elements.FlowNodeDefinition;
+import io.kikwiflow.model.definition.process.elements.SequenceFlowDefinition;
+import io.kikwiflow.model.definition.process.elements.StartEventDefinition;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.AnswerProviderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ExecutionPlan")
+class ExecutionPlanTest {
+
+    private final Navigator navigator = new Navigator(beanName -> Optional.empty());
+
+    @Test
+    @DisplayName("definição síncrona de 200 nós é percorrida pelos destinos resolvidos, com índices densos")
+    void walksLongSynchronousDefinitionThroughResolvedTargets() {
+        ProcessDefinition definition = chainOf(200);
+        ExecutionPlan plan = ExecutionPlan.compile(definition);
+
+        Set<Integer> indexes = new HashSet<>();
+        ExecutionPlan.Node current = plan.nodeFor(definition.flowNodes().get("start"));
+        int visited = 0;
+        while (current != null) {
+            indexes.add(current.index());
+            visited++;
+            Continuation continuation = navigator.determineNextContinuation(current, Map.of(), false);
+            current = continuation != null ? continuation.nextPlanNodes().get(0) : null;
+        }
+
+        assertEquals(definition.flowNodes().size(), visited);
+        assertEquals(plan.size(), indexes.size());
+        assertTrue(indexes.stream().allMatch(index -> index >= 0 && index < plan.size()));
+    }
+
+    @Test
+    @DisplayName("gateway exclusivo resolve resposta, nulo e default pelo mapa pré-compilado")
+    void exclusiveGatewayRoutesByPrecompiledAnswerMap() {
+        ExclusiveGatewayDefinition gateway = ExclusiveGatewayDefinition.builder()
+                .id("gw").providerType(AnswerProviderType.VARIABLE).providerVariable("decision")
+                .outgoing(List.of(
+                        flow("to-approved", "approved", "APPROVED", false, false),
+                        flow("to-null", "manual", null, false, true),
+                        flow("to-default", "rejected", null, true, false)))
+                .build();
+        ProcessDefinition definition = definitionOf(gateway, end("approved"), end("manual"), end("rejected"));
+        ExecutionPlan.Node node = ExecutionPlan.compile(definition).nodeFor(gateway);
+
+        assertEquals("to-approved", route(node, "APPROVED").chosenFlowId());
+        assertEquals("manual", route(node, null).nextNodes().get(0).id());
+        assertEquals("rejected", route(node, "UNKNOWN").nextNodes().get(0).id());
+        assertEquals("UNKNOWN", route(node, "UNKNOWN").resolvedAnswer());
+    }
+
+    @Test
+    @DisplayName("gateway sem aresta para resposta nula continua falhando como antes")
+    void exclusiveGatewayWithoutNullRouteFails() {
+        ExclusiveGatewayDefinition gateway = ExclusiveGatewayDefinition.builder()
+                .id("gw").providerType(AnswerProviderType.VARIABLE).providerVariable("decision")
+                .outgoing(List.of(flow("to-default", "end", null, true, false)))
+                .build();
+        ExecutionPlan.Node node = ExecutionPlan.compile(definitionOf(gateway, end("end"))).nodeFor(gateway);
+
+        assertThrows(IllegalStateException.class, () -> route(node, null));
+    }
+
+    @Test
+    @DisplayName("commitBefore declarado no destino torna a continuação assíncrona")
+    void declaredCommitBeforeOnTargetMakesContinuationAsynchronous() {
+        ExecutableTaskDefinition first = task("first", "second", null);
+        ExecutableTaskDefinition second = task("second", "end", true);
+        ExecutionPlan plan = ExecutionPlan.compile(definitionOf(first, second, end("end")));
+
+        assertTrue(plan.nodeFor(second).isCommitBefore());
+        assertTrue(navigator.determineNextContinuation(plan.nodeFor(first), Map.of(), false).isAsynchronous());
+        assertFalse(plan.nodeFor(first).isCommitBefore());
+    }
+
+    @Test
+    @DisplayName("registro reaproveita o plano de uma definição implantada para qualquer cópia com o mesmo id")
+    void registryReusesPlanByDefinitionId() {
+        ExecutionPlanRegistry registry = new ExecutionPlanRegistry();
+        ProcessDefinition definition = chainOf(3);
+        ProcessDefinition reloaded = definition.toBuilder().build();
+
+        ExecutionPlan plan = registry.planFor(definition);
+
+        assertSame(plan, registry.planFor(definition));
+        assertSame(plan, registry.planFor(reloaded));
+        assertNotSame(plan, registry.planFor(chainOf(4)));
+    }
+
+    @Test
+    @DisplayName("definição sem id só reaproveita o plano para a mesma instância")
+    void registryReusesPlanOfAnUndeployedDefinitionOnlyForTheSameInstance() {
+        ExecutionPlanRegistry registry = new ExecutionPlanRegistry();
+        ProcessDefinition definition = chainOf(3).toBuilder().id(null).build();
+        ProcessDefinition rebuilt = definition.toBuilder().build();
+
+        ExecutionPlan plan = registry.planFor(definition);
+
+        assertSame(plan, registry.planFor(definition));
+        assertNotSame(plan, registry.planFor(rebuilt));
+        assertSame(rebuilt, registry.planFor(rebuilt).processDefinition());
+    }
+
+    @Test
+    @DisplayName("nó igual de outra cópia da mesma versão usa o nó compilado")
+    void equalNodeOfAReloadedCopyUsesTheCompiledNode() {
+        ProcessDefinition definition = chainOf(3);
+        ExecutionPlan plan = ExecutionPlan.compile(definition);
+        ExecutableTaskDefinition reloaded = task("task-1", "end", null);
+
+        ExecutionPlan.Node node = plan.nodeFor(reloaded);
+
+        assertNotSame(reloaded, definition.flowNodes().get("task-1"));
+        assertSame(plan.nodeFor(definition.flowNodes().get("task-1")), node);
+        assertTrue(node.index() >= 0);
+    }
+
+    @Test
+    @DisplayName("nó que não pertence à instância compilada é compilado avulso")
+    void foreignNodeIsCompiledDetached() {
+        ProcessDefinition definition = chainOf(3);
+        ExecutionPlan plan = ExecutionPlan.compile(definition);
+        ExecutableTaskDefinition foreign = task("task-1", "end", true);
+
+        ExecutionPlan.Node detached = plan.nodeFor(foreign);
+
+        assertEquals(-1, detached.index());
+        assertSame(foreign, detached.definition());
+        assertEquals("end", detached.target(0).definition().id());
+    }
+
+    private Continuation route(ExecutionPlan.Node gateway, String answer) {
+        Map<String, ProcessVariable> variables = new HashMap<>();
+        if (answer != null) {
+            variables.put("decision", new ProcessVariable("decision", answer));
+        }
+        return navigator.determineNextContinuation(gateway, variables, false);
+    }
+
+    private static ProcessDefinition chainOf(int size) {
+        Map<String, FlowNodeDefinition> nodes = new HashMap<>();
+        nodes.put("start", StartEventDefinition.builder().id("start")
+                .outgoing(List.of(flow("flow-start", "task-1", null, false, false))).build());
+        for (int i = 1; i <= size - 2; i++) {
+            String next = i == size - 2 ? "end" : "task-" + (i + 1);
+            nodes.put("task-" + i, task("task-" + i, next, null));
+        }
+        nodes.put("end", end("end"));
+        return ProcessDefinition.builder().id("definition-" + size).key("chain").flowNodes(nodes).build();
+    }
+
+    private static ProcessDefinition definitionOf(FlowNodeDefinition... definitions) {
+        Map<String, FlowNodeDefinition> nodes = new HashMap<>();
+        for (FlowNodeDefinition definition : definitions) {
+            nodes.put(definition.id(), definition);
+        }
+        return ProcessDefinition.builder().id("definition").key("process").flowNodes(nodes).build();
+    }
+
+    private static ExecutableTaskDefinition task(String id, String target, Boolean commitBefore) {
+        return ExecutableTaskDefinition.builder().id(id).executor("handler").commitBefore(commitBefore)
+                .outgoing(List.of(flow("flow-" + id, target, null, false, false))).build();
+    }
+
+    private static EndEventDefinition end(String id) {
+        return EndEventDefinition.builder().id(id).build();
+    }
+
+    private static SequenceFlowDefinition flow(String id, String target, String expectedAnswer, boolean isDefault, boolean handlesNull) {
+        return new SequenceFlowDefinition(id, null, null, expectedAnswer, target, isDefault, handlesNull, null);
+    }
+}
@@ -37,7 +37,11 @@ import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.model.shared.PageResult;
 import io.kikwiflow.model.stats.KKFMetrics;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
+import io.kikwiflow.persistence.api.exception.InstanceVersionConflictException;
+import io.kikwiflow.persistence.api.exception.LockOwnershipLostException;
 import io.kikwiflow.persistence.api.exception.OptimisticLockingFailureException;
 import io.kikwiflow.persistence.api.query.ExternalTaskQuery;
 import io.kikwiflow.persistence.api.query.ProcessInstanceQuery;
@@ -45,6 +49,7 @@ import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -64,19 +69,31 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
     private final Map<String, ExecutableTask> executableTaskCollection = new HashMap<>();
     private final Map<String, ExternalTask> externalTaskCollection = new HashMap<>();
     private final Map<String, Incident> incidentCollection = new HashMap<>();
+    private final Map<String, LoopElementChunk> loopElementChunkCollection = new HashMap<>();
     private final Map<String, ProcessDefinition> processDefinitionsById = new HashMap<>();
     private final Map<String, Map<Integer, ProcessDefinition>> processDefinitionHistoryCollection = new HashMap<>();
+    private final Map<String, Instant> acquisitionMembers = new HashMap<>();
     private final Queue<OutboxEventEntity> outboxEventQueue;
     private final List<OutboxEventEntity> eventHistory = new ArrayList<>();
     private final boolean outboxPersistenceEnabled;
+    // Fan-in por contador (mesma estratégia de kikwiflow.mongodb.join.arrival-counter-enabled): tokens de branch
+    // já chegados por junção; pendingBranchIds fica imutável como o conjunto esperado.
+    private final boolean arrivalCounterJoinEnabled;
+    private final Map<String, Set<String>> joinArrivals = new HashMap<>();
 
     public InMemoryKikwiEngineRepository(Queue<OutboxEventEntity> outboxEventQueue){
         this(outboxEventQueue, true);
     }
 
     public InMemoryKikwiEngineRepository(Queue<OutboxEventEntity> outboxEventQueue, boolean outboxPersistenceEnabled){
+        this(outboxEventQueue, outboxPersistenceEnabled, false);
+    }
+
+    public InMemoryKikwiEngineRepository(Queue<OutboxEventEntity> outboxEventQueue, boolean outboxPersistenceEnabled,
+                                         boolean arrivalCounterJoinEnabled){
         this.outboxEventQueue = outboxEventQueue;
         this.outboxPersistenceEnabled = outboxPersistenceEnabled;
+        this.arrivalCounterJoinEnabled = arrivalCounterJoinEnabled;
     }
 
     public void reset(){
@@ -84,10 +101,12 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
         executableTaskCollection.clear();
         externalTaskCollection.clear();
         incidentCollection.clear();
+        loopElementChunkCollection.clear();
         processDefinitionsById.clear();
         processDefinitionHistoryCollection.clear();
         outboxEventQueue.clear();
         eventHistory.clear();
+        joinArrivals.clear();
     }
 
     /**
@@ -205,6 +224,18 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
                 .toList();
     }
 
+    @Override
+    public List<ExternalTask> findExternalTasksByIdIn(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream()
+                .distinct()
+                .map(externalTaskCollection::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private ExecutableTask createExecutableTask(ExecutableTask executableTask) {
         this.executableTaskCollection.put(executableTask.id(), executableTask);
         return executableTask;
@@ -252,8 +283,80 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
         processDefinitionHistoryCollection.put(key, processDefinitionVersionMap);
     }
 
+    /**
+     * Sem transação real aqui (ver {@link #commitWork}), o "tudo ou nada" vem de validar o lote inteiro antes da
+     * primeira escrita: unidades só de criação não têm guard nem lease que possam falhar no meio do caminho.
+     */
+    @Override
+    public void commitNewInstances(List<UnitOfWork> unitsOfWork) {
+        for (UnitOfWork unitOfWork : unitsOfWork) {
+            if (!unitOfWork.isCreationOnly()) {
+                throw new IllegalArgumentException("commitNewInstances só aceita unidades de trabalho que apenas criam.");
+            }
+            if (unitOfWork.instanceToCreate() != null
+                    && processInstanceCollection.containsKey(unitOfWork.instanceToCreate().id())) {
+                throw new IllegalStateException("A instância " + unitOfWork.instanceToCreate().id() + " já existe.");
+            }
+        }
+        unitsOfWork.forEach(this::commitWork);
+    }
+
+    /**
+     * Duplo de teste sem transação: valida lease, versão e guard de finalização de todas as unidades antes de
+     * aplicar a primeira, e então aplica em sequência via {@link #commitWork} — as falhas esperadas derrubam o
+     * lote inteiro sem escrita parcial, como a transação do repositório real.
+     */
+    @Override
+    public synchronized void commitWorkBatch(List<UnitOfWork> unitsOfWork) {
+        unitsOfWork.forEach(this::checkPreconditions);
+        unitsOfWork.forEach(this::commitWork);
+    }
+
+    /**
+     * Checagens que precisam falhar antes de qualquer mutação, já que aqui não há transação para desfazer
+     * escritas parciais: posse do lock (ver Javadoc de UnitOfWork.taskLease), versão esperada da instância e
+     * existência do nó sob guard de finalização.
+     */
+    private void checkPreconditions(UnitOfWork unitOfWork) {
+        if (unitOfWork.taskLease() != null) {
+            ExecutableTask leased = executableTaskCollection.get(unitOfWork.taskLease().taskId());
+            if (leased == null || leased.status() != ExecutableTaskStatus.LOCKED
+                    || !unitOfWork.taskLease().executorId().equals(leased.executorId())) {
+                throw new LockOwnershipLostException(
+                        "A tarefa " + unitOfWork.taskLease().taskId() + " não está mais travada por " + unitOfWork.taskLease().executorId() + ".");
+            }
+        }
+
+        checkExpectedVersion(unitOfWork.instanceToUpdate());
+        checkExpectedVersion(unitOfWork.instanceToDelete());
+
+        if (unitOfWork.finalizingNodeId() != null) {
+            boolean present = unitOfWork.finalizingNodeType() == AttachedTaskType.EXECUTABLE_TASK
+                    ? executableTaskCollection.containsKey(unitOfWork.finalizingNodeId())
+                    : externalTaskCollection.containsKey(unitOfWork.finalizingNodeId());
+            if (!present) {
+                throw new OptimisticLockingFailureException(
+                        "O nó " + unitOfWork.finalizingNodeId() + " já foi finalizado por um evento concorrente (boundary event ou conclusão normal).");
+            }
+        }
+    }
+
+    private void checkExpectedVersion(ProcessInstance expected) {
+        if (expected == null) {
+            return;
+        }
+        ProcessInstance stored = processInstanceCollection.get(expected.id());
+        if (stored != null && stored.version() != expected.version()) {
+            throw new InstanceVersionConflictException(expected.id(), expected.version());
+        }
+    }
+
+    /**
+     * {@code synchronized} para que a verificação de versão da instância e a gravação sejam atômicas entre si,
+     * como o filtro por {@code version} dentro da transação do repositório real.
+     */
     @Override
-    public void commitWork(UnitOfWork unitOfWork) {
+    public synchronized void commitWork(UnitOfWork unitOfWork) {
 
         // Guard de finalização (ver Javadoc de UnitOfWork.finalizingNodeId) — precisa ser a primeiríssima
         // coisa que roda: como este repositório não tem transação real cobrindo o método inteiro (é um duplo
@@ -267,6 +370,9 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
         // qualquer tipo) — ver Javadoc de cancelActiveChildSubtrees.
         List<OutboxEventEntity> cancelledChildEvents = new ArrayList<>();
 
+        // Posse do lock e versão esperada da instância — mesma regra do guard acima: antes de qualquer mutação.
+        checkPreconditions(unitOfWork);
+
         if (unitOfWork.finalizingNodeId() != null) {
             Object removed = unitOfWork.finalizingNodeType() == AttachedTaskType.EXECUTABLE_TASK
                     ? executableTaskCollection.remove(unitOfWork.finalizingNodeId())
@@ -279,6 +385,7 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
 
             executableTaskCollection.values().removeIf(t -> unitOfWork.finalizingNodeId().equals(t.attachedToRefId()));
             externalTaskCollection.values().removeIf(t -> unitOfWork.finalizingNodeId().equals(t.attachedToRefId()));
+            forgetArrivalsOfRemovedJoins();
 
             // Cancelamento recursivo de instâncias filhas já iniciadas — só pode ser relevante quando o nó
             // finalizado é um EXECUTABLE_TASK (um EXTERNAL_TASK nunca é CALL_ACTIVITY_COORDINATOR). Ver
@@ -361,6 +468,14 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
             unitOfWork.executableTasksToUpdate().forEach(t -> executableTaskCollection.put(t.id(), t));
         }
 
+        if (unitOfWork.loopElementChunksToCreate() != null) {
+            unitOfWork.loopElementChunksToCreate().forEach(chunk -> loopElementChunkCollection.put(chunk.id(), chunk));
+        }
+
+        if (unitOfWork.loopElementChunksToDelete() != null) {
+            unitOfWork.loopElementChunksToDelete().forEach(loopElementChunkCollection::remove);
+        }
+
         if (unitOfWork.executableTasksToDelete() != null && !unitOfWork.executableTasksToDelete().isEmpty()) {
             unitOfWork.executableTasksToDelete().forEach(executableTaskCollection::remove);
             // Cascata análoga à de ExternalTask/coordinatorTaskId acima, mas para CALL_ACTIVITY_STARTER:
@@ -373,6 +488,7 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
                     t.type() == ExecutableTaskType.CALL_ACTIVITY_STARTER
                             && t.joinTaskId() != null
                             && unitOfWork.executableTasksToDelete().contains(t.joinTaskId()));
+            forgetArrivalsOfRemovedJoins();
         }
 
         if (unitOfWork.externalTasksToCreate() != null) {
@@ -547,10 +663,21 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
             return;
         }
 
+        // Coordenadoras com loopIndex (SEQUENTIAL e PARALLEL com maxConcurrency) têm no máximo maxConcurrency
+        // tokens em pendingBranchIds e o array muda a cada reivindicação: ficam sempre no fan-in pelo array.
+        if (arrivalCounterJoinEnabled && joinTask.loopIndex() == null) {
+            arriveAtJoin(joinTask, intention.branchId());
+            return;
+        }
+
         List<String> remaining = new ArrayList<>(joinTask.pendingBranchIds() != null ? joinTask.pendingBranchIds() : List.of());
-        remaining.remove(intention.branchId());
+        boolean pulled = remaining.remove(intention.branchId());
 
         ExecutableTask.Builder builder = joinTask.toBuilder().pendingBranchIds(remaining);
+        if (pulled && claimNextLoopElement(joinTask, builder, remaining)) {
+            executableTaskCollection.put(joinTask.id(), builder.build());
+            return;
+        }
         if (remaining.isEmpty()) {
             builder.status(ExecutableTaskStatus.PENDING);
         }
@@ -558,19 +685,96 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
         executableTaskCollection.put(joinTask.id(), builder.build());
     }
 
+    /**
+     * Janela deslizante de uma coordenadora PARALLEL com {@code maxConcurrency}: o branch que acabou de sair de
+     * {@code pendingBranchIds} libera uma vaga, e o próximo índice depois do cursor ({@code loopIndex}) é
+     * reivindicado nesta mesma transação — a iniciadora dele é criada a partir do bloco que o cobre, o token
+     * entra em {@code remaining} e o cursor avança. O bloco é apagado quando o seu último índice é reivindicado.
+     * Sem bloco para o próximo índice (coleção esgotada, ou coordenadora SEQUENTIAL), nada é reivindicado.
+     *
+     * @return {@code true} se um elemento foi reivindicado (a coordenadora continua em {@code AWAITING_BRANCHES})
+     */
+    private boolean claimNextLoopElement(ExecutableTask coordinator, ExecutableTask.Builder builder, List<String> remaining) {
+        if (coordinator.type() != ExecutableTaskType.CALL_ACTIVITY_COORDINATOR || coordinator.loopIndex() == null
+                || (coordinator.pendingLoopElements() != null && !coordinator.pendingLoopElements().isEmpty())) {
+            return false;
+        }
+
+        int nextIndex = coordinator.loopIndex() + 1;
+        List<LoopElementChunk> chunks = findLoopElementChunks(coordinator.id(), nextIndex, 1);
+        if (chunks.isEmpty()) {
+            return false;
+        }
+
+        LoopElementChunk chunk = chunks.get(0);
+        ExecutableTask starter = chunk.starterAt(nextIndex, coordinator.processDefinitionId(),
+                coordinator.taskDefinitionId(), coordinator.retries());
+        createExecutableTask(starter);
+        if (nextIndex == chunk.lastIndex()) {
+            loopElementChunkCollection.remove(chunk.id());
+        }
+
+        remaining.add(starter.branchId());
+        builder.loopIndex(nextIndex).status(ExecutableTaskStatus.AWAITING_BRANCHES);
+        return true;
+    }
+
+    /**
+     * Fan-in por contador: conta a chegada só se o token é esperado e ainda não chegou (reentrega é ignorada), e
+     * só a chegada que completa o conjunto vira a junção para {@code PENDING} — {@code pendingBranchIds} não é
+     * reescrito.
+     */
+    private void arriveAtJoin(ExecutableTask joinTask, String branchId) {
+        List<String> expected = joinTask.pendingBranchIds() != null ? joinTask.pendingBranchIds() : List.of();
+        if (!expected.contains(branchId)) {
+            return;
+        }
+        Set<String> arrived = joinArrivals.computeIfAbsent(joinTask.id(), id -> new HashSet<>());
+        if (!arrived.add(branchId)) {
+            return;
+        }
+        if (arrived.size() >= expected.size() && joinTask.status() == ExecutableTaskStatus.AWAITING_BRANCHES) {
+            joinArrivals.remove(joinTask.id());
+            executableTaskCollection.put(joinTask.id(), joinTask.toBuilder().status(ExecutableTaskStatus.PENDING).build());
+        }
+    }
+
     private void removeInstanceAndTasks(String instanceId) {
         processInstanceCollection.remove(instanceId);
         executableTaskCollection.values().removeIf(t -> instanceId.equals(t.processInstanceId()));
         externalTaskCollection.values().removeIf(t -> instanceId.equals(t.processInstanceId()));
+        loopElementChunkCollection.values().removeIf(chunk -> instanceId.equals(chunk.processInstanceId()));
+        forgetArrivalsOfRemovedJoins();
+    }
+
+    /**
+     * Chegadas de uma junção apagada antes de completar (instância cancelada, coordenadora interrompida) nunca
+     * seriam consumidas — mesma limpeza que o repositório Mongo faz em {@code join_arrivals}.
+     */
+    private void forgetArrivalsOfRemovedJoins() {
+        if (!joinArrivals.isEmpty()) {
+            joinArrivals.keySet().retainAll(executableTaskCollection.keySet());
+        }
+    }
+
+    /**
+     * Junções com chegadas registradas pelo fan-in por contador e ainda não liberadas — para testes.
+     */
+    synchronized int joinsWithTrackedArrivals() {
+        return joinArrivals.size();
     }
 
     @Override
-    public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis) {
+    public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis,
+                                                    TaskAcquisitionCriteria criteria) {
         Instant lockExpirationThreshold = now.minusMillis(lockTimeoutMillis);
 
         List<ExecutableTask> candidates = this.executableTaskCollection.values().stream()
                 .filter(task -> isDuePending(task, now) || isStuckLocked(task, lockExpirationThreshold))
-                .sorted(Comparator.comparing(task -> task.dueDate() == null ? Instant.MIN : task.dueDate()))
+                .filter(task -> !isExcludedExecutor(task, criteria))
+                .filter(task -> isServedTopic(task, criteria))
+                .filter(task -> isOwnedPartition(task, criteria))
+                .sorted(acquisitionOrder(now, criteria))
                 .limit(limit)
                 .toList();
 
@@ -588,6 +792,96 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
         return lockedTasks;
     }
 
+    @Override
+    public long renewLocks(List<String> taskIds, String workerId, Instant acquiredAt) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return 0L;
+        }
+
+        long renewed = 0L;
+        for (String taskId : taskIds) {
+            ExecutableTask task = executableTaskCollection.get(taskId);
+            if (task != null && task.status() == ExecutableTaskStatus.LOCKED && workerId.equals(task.executorId())) {
+                executableTaskCollection.put(taskId, task.toBuilder().acquiredAt(acquiredAt).build());
+                renewed++;
+            }
+        }
+        return renewed;
+    }
+
+    private boolean isExcludedExecutor(ExecutableTask task, TaskAcquisitionCriteria criteria) {
+        return criteria != null && criteria.hasExcludedExecutors()
+                && task.executor() != null && criteria.excludedExecutors().contains(task.executor());
+    }
+
+    @Override
+    public long releaseLocks(List<String> taskIds, String workerId) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return 0L;
+        }
+
+        long released = 0L;
+        for (String taskId : taskIds) {
+            ExecutableTask task = executableTaskCollection.get(taskId);
+            if (task != null && task.status() == ExecutableTaskStatus.LOCKED && workerId.equals(task.executorId())) {
+                executableTaskCollection.put(taskId, task.toBuilder()
+                        .status(ExecutableTaskStatus.PENDING)
+                        .executorId(null)
+                        .acquiredAt(null)
+                        .build());
+                released++;
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public List<String> heartbeatAcquisitionMember(String memberId, Instant now, long memberTtlMillis) {
+        acquisitionMembers.put(memberId, now);
+        Instant aliveAfter = now.minusMillis(memberTtlMillis);
+        acquisitionMembers.values().removeIf(heartbeat -> heartbeat.isBefore(aliveAfter));
+        return acquisitionMembers.keySet().stream().sorted().toList();
+    }
+
+    @Override
+    public void removeAcquisitionMember(String memberId) {
+        acquisitionMembers.remove(memberId);
+    }
+
+    private Comparator<ExecutableTask> acquisitionOrder(Instant now, TaskAcquisitionCriteria criteria) {
+        Comparator<ExecutableTask> byDueDate = Comparator.comparing(task -> task.dueDate() == null ? Instant.MIN : task.dueDate());
+        if (criteria == null || !criteria.isPriorityOrdered()) {
+            return byDueDate;
+        }
+
+        // Mesma ordem do Mongo: envelhecidas primeiro (mais antigas antes), depois maior prioridade, depois dueDate.
+        Instant agedBefore = now.minusMillis(criteria.priorityAgingMillis());
+        return Comparator.comparing((ExecutableTask task) -> isAged(task, agedBefore) ? 0 : 1)
+                .thenComparing(task -> isAged(task, agedBefore) ? agingReference(task) : Instant.MIN,
+                        Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(task -> task.priority() == null ? Long.MIN_VALUE : task.priority(), Comparator.reverseOrder())
+                .thenComparing(byDueDate);
+    }
+
+    private boolean isAged(ExecutableTask task, Instant agedBefore) {
+        Instant reference = agingReference(task);
+        return reference == null || !reference.isAfter(agedBefore);
+    }
+
+    private Instant agingReference(ExecutableTask task) {
+        return task.dueDate() != null ? task.dueDate() : task.createdAt();
+    }
+
+    private boolean isOwnedPartition(ExecutableTask task, TaskAcquisitionCriteria criteria) {
+        return criteria == null || !criteria.hasPartitions()
+                || task.partition() == null || criteria.partitions().contains(task.partition());
+    }
+
+    private boolean isServedTopic(ExecutableTask task, TaskAcquisitionCriteria criteria) {
+        return criteria == null || !criteria.hasIncludedTopics()
+                || task.topic() == null || criteria.includedTopics().contains(task.topic());
+    }
+
     private boolean isDuePending(ExecutableTask task, Instant now) {
         return task.status() == ExecutableTaskStatus.PENDING
                 && (task.dueDate() == null || !task.dueDate().isAfter(now));
@@ -612,6 +906,7 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
         Map<String, ProcessVariable> merged = new HashMap<>(stored.variables() != null ? stored.variables() : Map.of());
         merged.putAll(variables);
 
+        // Versão avançada como em commitWork: uma continuação que leu a instância antes conflita no commit.
         ProcessInstance updated = ProcessInstance.builder()
                 .id(stored.id())
                 .businessKey(stored.businessKey())
@@ -623,7 +918,7 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
                 .startedAt(stored.startedAt())
                 .endedAt(stored.endedAt())
                 .origin(stored.origin())
-                .version(stored.version())
+                .version(stored.version() + 1)
                 .parentInstanceId(stored.parentInstanceId())
                 .callerTaskId(stored.callerTaskId())
                 .callerBranchId(stored.callerBranchId())
@@ -659,7 +954,7 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
                 .startedAt(stored.startedAt())
                 .endedAt(stored.endedAt())
                 .origin(stored.origin())
-                .version(stored.version())
+                .version(stored.version() + 1)
                 .parentInstanceId(stored.parentInstanceId())
                 .callerTaskId(stored.callerTaskId())
                 .callerBranchId(stored.callerBranchId())
@@ -706,6 +1001,16 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<ExternalTask> findExternalTasksByCorrelationKeys(Collection<String> correlationKeys, String tenantId) {
+        Set<String> keys = new HashSet<>(correlationKeys);
+        return externalTaskCollection.values().stream()
+                .filter(t -> t.correlationKey() != null && keys.contains(t.correlationKey())
+                        && Objects.equals(tenantId, t.tenantId())
+                        && t.status() == ExternalTaskStatus.CREATED)
+                .toList();
+    }
+
     @Override
     public boolean resolveCorrelationChild(String childTaskId, String parentTaskId, MatchPolicy matchPolicy) {
         ExternalTask child = externalTaskCollection.get(childTaskId);
@@ -755,7 +1060,7 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
     }
 
     @Override
-    public void deleteProcessInstanceById(String processInstanceId) {
+    public synchronized void deleteProcessInstanceById(String processInstanceId) {
         removeInstanceAndTasks(processInstanceId);
         // Mesma decisão consciente de MongoKikwiEngineRepository.deleteProcessInstanceById: incidentes e
         // eventos de outbox não são apagados.
@@ -886,6 +1191,16 @@ public class InMemoryKikwiEngineRepository implements KikwiEngineRepository {
                 .toList();
     }
 
+    @Override
+    public List<LoopElementChunk> findLoopElementChunks(String coordinatorTaskId, int fromIndex, int count) {
+        int toIndex = fromIndex + count - 1;
+        return loopElementChunkCollection.values().stream()
+                .filter(chunk -> coordinatorTaskId.equals(chunk.coordinatorTaskId()))
+                .filter(chunk -> chunk.lastIndex() >= fromIndex && chunk.firstIndex() <= toIndex)
+                .sorted(Comparator.comparingInt(LoopElementChunk::firstIndex))
+                .toList();
+    }
+
     @Override
     public List<OutboxEventEntity> findEventHistoryByProcessInstanceId(String processInstanceId) {
         return eventHistory.stream()
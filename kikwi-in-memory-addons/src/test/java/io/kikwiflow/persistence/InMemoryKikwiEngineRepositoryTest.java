@@ -18,10 +18,13 @@
 package io.kikwiflow.persistence;
 
 import io.kikwiflow.model.definition.process.ProcessDefinition;
+import io.kikwiflow.model.event.CriticalEventType;
+import io.kikwiflow.model.event.FlowNodeFinished;
 import io.kikwiflow.model.event.OutboxEventEntity;
 import io.kikwiflow.model.execution.BranchPullIntention;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.execution.ProcessInstanceSummary;
+import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
 import io.kikwiflow.model.execution.enumerated.ExecutableTaskType;
 import io.kikwiflow.model.execution.enumerated.ExternalTaskStatus;
@@ -32,7 +35,13 @@ import io.kikwiflow.model.execution.node.AttachedTaskType;
 import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.model.shared.PageResult;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionOrder;
+import io.kikwiflow.persistence.api.data.TaskLease;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
+import io.kikwiflow.persistence.api.exception.InstanceVersionConflictException;
+import io.kikwiflow.persistence.api.exception.LockOwnershipLostException;
 import io.kikwiflow.persistence.api.exception.OptimisticLockingFailureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -40,9 +49,15 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -172,6 +187,91 @@ class InMemoryKikwiEngineRepositoryTest {
         assertTrue(locked.stream().allMatch(t -> t.status() == ExecutableTaskStatus.LOCKED && "worker-1".equals(t.executorId())));
     }
 
+    @Test
+    void findAndLockDueTasksWithIncludedTopicsSkipsTopicsTheNodeDoesNotServe() {
+        ExecutableTask served = ExecutableTask.builder()
+                .id("task-served").taskDefinitionId("NODE_A").processInstanceId("proc-instance-1")
+                .status(ExecutableTaskStatus.PENDING).executor("ioHandler").topic("ioHandler").build();
+
+        ExecutableTask otherPool = ExecutableTask.builder()
+                .id("task-other-pool").taskDefinitionId("NODE_B").processInstanceId("proc-instance-1")
+                .status(ExecutableTaskStatus.PENDING).executor("renderHandler").topic("cpu-heavy").build();
+
+        ExecutableTask timer = ExecutableTask.builder()
+                .id("task-timer").taskDefinitionId("TIMER").processInstanceId("proc-instance-1")
+                .type(ExecutableTaskType.TIMER_TASK).status(ExecutableTaskStatus.PENDING).build();
+
+        repository.commitWork(new UnitOfWork(null, null, null,
+                List.of(served, otherPool, timer), null, null, null, null, null, null, null, null, null, null, null));
+
+        List<ExecutableTask> locked = repository.findAndLockDueTasks(Instant.now(), 10, "worker-1", 1000L,
+                new TaskAcquisitionCriteria(Set.of(), Set.of("ioHandler")));
+
+        assertEquals(Set.of("task-served", "task-timer"), locked.stream().map(ExecutableTask::id).collect(Collectors.toSet()));
+        assertEquals(ExecutableTaskStatus.PENDING, repository.findExecutableTaskById("task-other-pool").orElseThrow().status());
+    }
+
+    @Test
+    void findAndLockDueTasksInPriorityOrderTakesAgedTasksFirstThenHighestPriority() {
+        Instant now = Instant.now();
+        ExecutableTask lowValue = ExecutableTask.builder()
+                .id("task-low").taskDefinitionId("NODE_A").processInstanceId("proc-instance-1")
+                .status(ExecutableTaskStatus.PENDING).priority(10L).createdAt(now.minusSeconds(5)).build();
+
+        ExecutableTask highValue = ExecutableTask.builder()
+                .id("task-high").taskDefinitionId("NODE_A").processInstanceId("proc-instance-2")
+                .status(ExecutableTaskStatus.PENDING).priority(300L).createdAt(now).build();
+
+        ExecutableTask starved = ExecutableTask.builder()
+                .id("task-starved").taskDefinitionId("NODE_A").processInstanceId("proc-instance-3")
+                .status(ExecutableTaskStatus.PENDING).priority(0L).createdAt(now.minusSeconds(600)).build();
+
+        repository.commitWork(new UnitOfWork(null, null, null,
+                List.of(lowValue, highValue, starved), null, null, null, null, null, null, null, null, null, null, null));
+
+        List<ExecutableTask> locked = repository.findAndLockDueTasks(now, 2, "worker-1", 1000L,
+                new TaskAcquisitionCriteria(Set.of(), null, TaskAcquisitionOrder.PRIORITY, 60_000L));
+
+        assertEquals(List.of("task-starved", "task-high"), locked.stream().map(ExecutableTask::id).toList());
+        assertEquals(ExecutableTaskStatus.PENDING, repository.findExecutableTaskById("task-low").orElseThrow().status());
+    }
+
+    @Test
+    void findAndLockDueTasksWithPartitionsSkipsPartitionsOwnedByOtherNodes() {
+        ExecutableTask owned = ExecutableTask.builder()
+                .id("task-owned").taskDefinitionId("NODE_A").processInstanceId("proc-instance-1")
+                .status(ExecutableTaskStatus.PENDING).partition(3).build();
+
+        ExecutableTask foreign = ExecutableTask.builder()
+                .id("task-foreign").taskDefinitionId("NODE_A").processInstanceId("proc-instance-2")
+                .status(ExecutableTaskStatus.PENDING).partition(5).build();
+
+        ExecutableTask legacy = ExecutableTask.builder()
+                .id("task-legacy").taskDefinitionId("NODE_A").processInstanceId("proc-instance-3")
+                .status(ExecutableTaskStatus.PENDING).build();
+
+        repository.commitWork(new UnitOfWork(null, null, null,
+                List.of(owned, foreign, legacy), null, null, null, null, null, null, null, null, null, null, null));
+
+        List<ExecutableTask> locked = repository.findAndLockDueTasks(Instant.now(), 10, "worker-1", 1000L,
+                new TaskAcquisitionCriteria(Set.of(), null, TaskAcquisitionOrder.DUE_DATE, 0L, Set.of(3)));
+
+        assertEquals(Set.of("task-owned", "task-legacy"), locked.stream().map(ExecutableTask::id).collect(Collectors.toSet()));
+        assertEquals(ExecutableTaskStatus.PENDING, repository.findExecutableTaskById("task-foreign").orElseThrow().status());
+    }
+
+    @Test
+    void heartbeatAcquisitionMemberDropsMembersWithoutRecentHeartbeat() {
+        Instant now = Instant.now();
+        repository.heartbeatAcquisitionMember("node-a", now.minusSeconds(60), 15_000L);
+        repository.heartbeatAcquisitionMember("node-b", now.minusSeconds(5), 15_000L);
+
+        assertEquals(List.of("node-b", "node-c"), repository.heartbeatAcquisitionMember("node-c", now, 15_000L));
+
+        repository.removeAcquisitionMember("node-b");
+        assertEquals(List.of("node-c"), repository.heartbeatAcquisitionMember("node-c", now, 15_000L));
+    }
+
     @Test
     void processInstanceQueryFiltersAndPaginates() {
         seedInstance("pi-1", "tenant-a", ProcessInstanceStatus.ACTIVE);
@@ -439,6 +539,404 @@ class InMemoryKikwiEngineRepositoryTest {
         }
     }
 
+    /**
+     * Cobre o heartbeat de lease ({@code renewLocks}) e a verificação de posse do lock em {@code commitWork}
+     * ({@code UnitOfWork.taskLease}): um worker cujo lock expirou e foi roubado não consegue commitar.
+     */
+    @Nested
+    class TaskLeaseOwnership {
+
+        private ExecutableTask lockDueTask(String workerId) {
+            ExecutableTask pending = ExecutableTask.builder()
+                    .id("leased-1").taskDefinitionId("NODE_A").processInstanceId("proc-1")
+                    .status(ExecutableTaskStatus.PENDING).build();
+
+            repository.commitWork(new UnitOfWork(null, null, null,
+                    List.of(pending), null, null, null, null, null, null, null, null, null, null, null));
+
+            return repository.findAndLockDueTasks(Instant.now(), 1, workerId, 1000L).get(0);
+        }
+
+        @Test
+        void renewLocksAdvancesAcquiredAtOnlyForTasksStillOwnedByTheWorker() {
+            lockDueTask("worker-1");
+            Instant renewedAt = Instant.now().plusSeconds(30);
+
+            assertEquals(1, repository.renewLocks(List.of("leased-1", "unknown"), "worker-1", renewedAt));
+            assertEquals(0, repository.renewLocks(List.of("leased-1"), "worker-2", Instant.now()));
+            assertEquals(renewedAt, repository.findExecutableTaskById("leased-1").orElseThrow().acquiredAt());
+        }
+
+        @Test
+        void renewedLeaseIsNotReclaimedAsStuck() {
+            lockDueTask("worker-1");
+            repository.renewLocks(List.of("leased-1"), "worker-1", Instant.now().plusSeconds(5));
+
+            assertTrue(repository.findAndLockDueTasks(Instant.now().plusSeconds(2), 10, "worker-2", 1000L).isEmpty());
+        }
+
+        @Test
+        void releaseLocksHandsUnstartedTasksBackOnlyForTheOwningWorker() {
+            lockDueTask("worker-1");
+
+            assertEquals(0, repository.releaseLocks(List.of("leased-1"), "worker-2"));
+            assertEquals(1, repository.releaseLocks(List.of("leased-1", "unknown"), "worker-1"));
+
+            ExecutableTask released = repository.findExecutableTaskById("leased-1").orElseThrow();
+            assertEquals(ExecutableTaskStatus.PENDING, released.status());
+            assertEquals(null, released.executorId());
+            assertEquals(1, repository.findAndLockDueTasks(Instant.now(), 10, "worker-2", 60_000L).size());
+        }
+
+        @Test
+        void commitFromWorkerThatLostTheLockThrowsAndAppliesNothing() {
+            ExecutableTask lockedByFirst = lockDueTask("worker-1");
+            // Lock expirou e worker-2 readquiriu a mesma tarefa.
+            repository.findAndLockDueTasks(Instant.now().plusSeconds(60), 10, "worker-2", 1000L);
+
+            ExecutableTask bystanderTask = ExecutableTask.builder()
+                    .id("bystander-1").processInstanceId("proc-1").taskDefinitionId("NODE_B")
+                    .status(ExecutableTaskStatus.PENDING).build();
+
+            UnitOfWork staleCommit = new UnitOfWork(null, null, null,
+                    List.of(bystanderTask), null, List.of("leased-1"), null, null, null, null, null, null,
+                    null, null, null, null, null, TaskLease.of(lockedByFirst));
+
+            assertThrows(LockOwnershipLostException.class, () -> repository.commitWork(staleCommit));
+            assertTrue(repository.findExecutableTaskById("bystander-1").isEmpty());
+            assertEquals("worker-2", repository.findExecutableTaskById("leased-1").orElseThrow().executorId());
+        }
+
+        @Test
+        void commitFromCurrentOwnerSucceeds() {
+            ExecutableTask locked = lockDueTask("worker-1");
+
+            repository.commitWork(new UnitOfWork(null, null, null,
+                    null, null, List.of("leased-1"), null, null, null, null, null, null,
+                    null, null, null, null, null, TaskLease.of(locked)));
+
+            assertTrue(repository.findExecutableTaskById("leased-1").isEmpty());
+        }
+    }
+
+    /**
+     * Cobre a verificação de versão em {@code commitWork}: a unidade carrega a versão lida em
+     * {@code instanceToUpdate}/{@code instanceToDelete}, e só grava se ninguém gravou a instância desde então.
+     */
+    @Nested
+    class InstanceVersionCheck {
+
+        private UnitOfWork updateFrom(ProcessInstance read, String taskId) {
+            ExecutableTask task = ExecutableTask.builder()
+                    .id(taskId).processInstanceId(read.id()).taskDefinitionId("NODE_" + taskId)
+                    .status(ExecutableTaskStatus.PENDING).build();
+            return new UnitOfWork(null, read, null,
+                    List.of(task), null, null, null, null, null, null, null, null, null, null, null);
+        }
+
+        @Test
+        void staleVersionThrowsTypedConflictAndAppliesNothing() {
+            seedInstance("versioned-1", null, ProcessInstanceStatus.ACTIVE);
+            ProcessInstance read = repository.findProcessInstanceById("versioned-1").orElseThrow();
+
+            repository.commitWork(updateFrom(read, "winner"));
+
+            InstanceVersionConflictException conflict = assertThrows(InstanceVersionConflictException.class,
+                    () -> repository.commitWork(updateFrom(read, "loser")));
+            assertEquals(read.version(), conflict.getExpectedVersion());
+            assertTrue(repository.findExecutableTaskById("loser").isEmpty(),
+                    "O conflito é detectado antes de qualquer escrita da unidade perdedora.");
+            assertEquals(read.version() + 1, repository.findProcessInstanceById("versioned-1").orElseThrow().version());
+        }
+
+        @Test
+        void updateOnlyUnitWritesTheInstanceAndItsOutboxEventsTogether() {
+            ArrayDeque<OutboxEventEntity> outbox = new ArrayDeque<>();
+            repository = new InMemoryKikwiEngineRepository(outbox);
+            seedInstance("versioned-4", null, ProcessInstanceStatus.ACTIVE);
+            ProcessInstance read = repository.findProcessInstanceById("versioned-4").orElseThrow();
+            OutboxEventEntity winnerEvent = new OutboxEventEntity(CriticalEventType.FLOW_NODE_FINISHED,
+                    FlowNodeFinished.builder().processInstanceId(read.id()).build());
+            OutboxEventEntity loserEvent = new OutboxEventEntity(CriticalEventType.FLOW_NODE_FINISHED,
+                    FlowNodeFinished.builder().processInstanceId(read.id()).build());
+            UnitOfWork winner = new UnitOfWork(null, read, null,
+                    null, null, null, null, null, List.of(winnerEvent), null, null, null, null, null, null);
+            UnitOfWork loser = new UnitOfWork(null, read, null,
+                    null, null, null, null, null, List.of(loserEvent), null, null, null, null, null, null);
+            assertTrue(winner.isInstanceUpdateOnly());
+
+            repository.commitWork(winner);
+            assertThrows(InstanceVersionConflictException.class, () -> repository.commitWork(loser));
+
+            assertEquals(read.version() + 1, repository.findProcessInstanceById("versioned-4").orElseThrow().version());
+            assertEquals(List.of(winnerEvent.getId()), outbox.stream().map(OutboxEventEntity::getId).toList(),
+                    "O evento da unidade perdedora não pode chegar ao outbox sem a escrita da instância.");
+        }
+
+        @Test
+        void staleDeleteThrowsTypedConflictAndKeepsTheInstance() {
+            seedInstance("versioned-2", null, ProcessInstanceStatus.ACTIVE);
+            ProcessInstance read = repository.findProcessInstanceById("versioned-2").orElseThrow();
+            repository.commitWork(updateFrom(read, "concurrent"));
+
+            assertThrows(InstanceVersionConflictException.class, () -> repository.commitWork(new UnitOfWork(null, null, read,
+                    null, null, null, null, null, null, null, null, null, null, null, null)));
+            assertTrue(repository.findProcessInstanceById("versioned-2").isPresent());
+        }
+
+        @Test
+        void concurrentCommitsOnTheSameVersionHaveExactlyOneWinner() throws Exception {
+            seedInstance("versioned-3", null, ProcessInstanceStatus.ACTIVE);
+            ProcessInstance read = repository.findProcessInstanceById("versioned-3").orElseThrow();
+            int writers = 16;
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger winners = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String taskId = "writer-" + i;
+                threads.add(Thread.ofVirtual().start(() -> {
+                    try {
+                        start.await();
+                        repository.commitWork(updateFrom(read, taskId));
+                        winners.incrementAndGet();
+                    } catch (InstanceVersionConflictException e) {
+                        conflicts.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1, winners.get());
+            assertEquals(writers - 1, conflicts.get());
+            ProcessInstance stored = repository.findProcessInstanceById("versioned-3").orElseThrow();
+            assertEquals(read.version() + 1, stored.version());
+            assertEquals(1, stored.activeNodes().values().stream().mapToInt(Integer::intValue).sum(),
+                    "Só as tarefas da unidade vencedora contam em activeNodes.");
+        }
+    }
+
+    @Nested
+    class ArrivalCounterJoin {
+
+        private static final int BRANCHES = 100;
+
+        private List<String> seedJoin(InMemoryKikwiEngineRepository target, String joinId) {
+            List<String> branchIds = new ArrayList<>();
+            for (int i = 0; i < BRANCHES; i++) {
+                branchIds.add(joinId + "-branch-" + i);
+            }
+            ExecutableTask join = ExecutableTask.builder()
+                    .id(joinId)
+                    .taskDefinitionId("JOIN_GATEWAY_A")
+                    .processInstanceId("proc-instance-1")
+                    .type(ExecutableTaskType.JOIN_GATEWAY)
+                    .status(ExecutableTaskStatus.AWAITING_BRANCHES)
+                    .pendingBranchIds(new ArrayList<>(branchIds))
+                    .build();
+            target.commitWork(new UnitOfWork(null, null, null,
+                    List.of(join), null, null, null, null, null, null, null, null, null, null, null));
+            return branchIds;
+        }
+
+        private UnitOfWork pull(String joinId, String branchId) {
+            return new UnitOfWork(null, null, null,
+                    null, null, null, null, null, null, null, null, null, null,
+                    List.of(new BranchPullIntention(joinId, branchId)), null);
+        }
+
+        /**
+         * Cada branch chega duas vezes (reentrega), todas ao mesmo tempo; a junção só pode ser liberada depois da
+         * última chegada distinta.
+         */
+        private void arriveConcurrently(InMemoryKikwiEngineRepository target, String joinId, List<String> branchIds)
+                throws InterruptedException {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (String branchId : branchIds) {
+                for (int copy = 0; copy < 2; copy++) {
+                    threads.add(Thread.ofVirtual().start(() -> {
+                        try {
+                            start.await();
+                            target.commitWork(pull(joinId, branchId));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }));
+                }
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        @Test
+        void hundredConcurrentBranchesReleaseTheJoinOnceWithCounter() throws Exception {
+            InMemoryKikwiEngineRepository counterRepository =
+                    new InMemoryKikwiEngineRepository(new ArrayDeque<>(), true, true);
+            List<String> branchIds = seedJoin(counterRepository, "join-counter");
+
+            arriveConcurrently(counterRepository, "join-counter", branchIds.subList(0, BRANCHES - 1));
+            ExecutableTask beforeLast = counterRepository.findExecutableTaskById("join-counter").orElseThrow();
+            assertEquals(ExecutableTaskStatus.AWAITING_BRANCHES, beforeLast.status());
+            assertEquals(branchIds, beforeLast.pendingBranchIds(), "O conjunto esperado não é reescrito.");
+
+            arriveConcurrently(counterRepository, "join-counter", branchIds.subList(BRANCHES - 1, BRANCHES));
+            assertEquals(ExecutableTaskStatus.PENDING,
+                    counterRepository.findExecutableTaskById("join-counter").orElseThrow().status());
+        }
+
+        @Test
+        void unknownTokenDoesNotCountAsArrival() {
+            InMemoryKikwiEngineRepository counterRepository =
+                    new InMemoryKikwiEngineRepository(new ArrayDeque<>(), true, true);
+            List<String> branchIds = seedJoin(counterRepository, "join-unknown");
+
+            for (int i = 0; i < BRANCHES - 1; i++) {
+                counterRepository.commitWork(pull("join-unknown", branchIds.get(i)));
+            }
+            counterRepository.commitWork(pull("join-unknown", "not-a-branch-of-this-join"));
+
+            assertEquals(ExecutableTaskStatus.AWAITING_BRANCHES,
+                    counterRepository.findExecutableTaskById("join-unknown").orElseThrow().status());
+        }
+
+        @Test
+        void arrivalsOfADeletedJoinAreForgotten() {
+            InMemoryKikwiEngineRepository counterRepository =
+                    new InMemoryKikwiEngineRepository(new ArrayDeque<>(), true, true);
+            List<String> branchIds = seedJoin(counterRepository, "join-deleted");
+            counterRepository.commitWork(pull("join-deleted", branchIds.get(0)));
+            assertEquals(1, counterRepository.joinsWithTrackedArrivals());
+
+            counterRepository.commitWork(new UnitOfWork(null, null, null,
+                    null, null, List.of("join-deleted"), null, null, null, null, null, null, null, null, null));
+
+            assertEquals(0, counterRepository.joinsWithTrackedArrivals());
+        }
+
+        @Test
+        void arrivalsOfADeletedInstanceAreForgotten() {
+            InMemoryKikwiEngineRepository counterRepository =
+                    new InMemoryKikwiEngineRepository(new ArrayDeque<>(), true, true);
+            List<String> branchIds = seedJoin(counterRepository, "join-of-deleted-instance");
+            counterRepository.commitWork(pull("join-of-deleted-instance", branchIds.get(0)));
+            assertEquals(1, counterRepository.joinsWithTrackedArrivals());
+
+            counterRepository.deleteProcessInstanceById("proc-instance-1");
+
+            assertEquals(0, counterRepository.joinsWithTrackedArrivals());
+        }
+
+        @Test
+        void hundredConcurrentBranchesReleaseTheJoinWithPendingArray() throws Exception {
+            List<String> branchIds = seedJoin(repository, "join-array");
+
+            arriveConcurrently(repository, "join-array", branchIds);
+
+            ExecutableTask join = repository.findExecutableTaskById("join-array").orElseThrow();
+            assertEquals(ExecutableTaskStatus.PENDING, join.status());
+            assertTrue(join.pendingBranchIds().isEmpty());
+        }
+    }
+
+    @Nested
+    class SlidingCallActivityWindow {
+
+        private static final int ELEMENTS = 10;
+
+        /**
+         * Coordenadora com maxConcurrency=2 e os índices 0 e 1 já em voo; os índices 2..9 ficam em blocos de 3.
+         */
+        private void seedCoordinator(InMemoryKikwiEngineRepository target) {
+            ExecutableTask coordinator = ExecutableTask.builder()
+                    .id("coord-1")
+                    .processDefinitionId("parent-def")
+                    .taskDefinitionId("CALL_CHILD")
+                    .processInstanceId("proc-instance-1")
+                    .type(ExecutableTaskType.CALL_ACTIVITY_COORDINATOR)
+                    .status(ExecutableTaskStatus.AWAITING_BRANCHES)
+                    .pendingBranchIds(List.of("coord-1:0", "coord-1:1"))
+                    .loopIndex(1)
+                    .retries(3L)
+                    .build();
+            List<LoopElementChunk> chunks = new ArrayList<>();
+            for (int first = 2; first < ELEMENTS; first += 3) {
+                List<ProcessVariable> elements = new ArrayList<>();
+                for (int index = first; index < Math.min(first + 3, ELEMENTS); index++) {
+                    elements.add(new ProcessVariable("document", "doc-" + index));
+                }
+                chunks.add(new LoopElementChunk(LoopElementChunk.idOf("coord-1", first), "coord-1", "proc-instance-1",
+                        first, elements));
+            }
+            target.commitWork(new UnitOfWork(null, null, null,
+                    List.of(coordinator), null, null, null, null, null, null, null, null, null, null, null,
+                    null, null, null, chunks, null));
+        }
+
+        private UnitOfWork pull(String branchId) {
+            return new UnitOfWork(null, null, null,
+                    null, null, null, null, null, null, null, null, null, null,
+                    List.of(new BranchPullIntention("coord-1", branchId)), null);
+        }
+
+        private void finishEveryChild(InMemoryKikwiEngineRepository target) {
+            List<Integer> started = new ArrayList<>(List.of(0, 1));
+            Set<String> finished = new HashSet<>();
+            ExecutableTask coordinator = target.findExecutableTaskById("coord-1").orElseThrow();
+            while (!coordinator.pendingBranchIds().isEmpty()) {
+                String branchId = coordinator.pendingBranchIds().get(0);
+                // Reentrega: a segunda cópia do mesmo pull não pode reivindicar outro elemento.
+                target.commitWork(pull(branchId));
+                target.commitWork(pull(branchId));
+                finished.add(branchId);
+
+                target.findExecutableTasksByProcessInstanceId("proc-instance-1").stream()
+                        .filter(t -> t.type() == ExecutableTaskType.CALL_ACTIVITY_STARTER)
+                        .filter(t -> !started.contains(t.loopIndex()))
+                        .forEach(t -> {
+                            assertEquals("doc-" + t.loopIndex(), t.loopElement().value());
+                            assertEquals(3L, t.retries());
+                            started.add(t.loopIndex());
+                        });
+
+                coordinator = target.findExecutableTaskById("coord-1").orElseThrow();
+                assertTrue(coordinator.pendingBranchIds().size() <= 2, "Nunca mais que maxConcurrency filhos em voo.");
+            }
+
+            assertEquals(ELEMENTS, finished.size());
+            assertEquals(ELEMENTS, started.size(), "Cada elemento é iniciado exatamente uma vez.");
+            assertEquals(ExecutableTaskStatus.PENDING, coordinator.status());
+            assertEquals(ELEMENTS - 1, coordinator.loopIndex());
+            assertTrue(target.findLoopElementChunks("coord-1", 0, ELEMENTS).isEmpty(),
+                    "Cada bloco é apagado quando o seu último índice é reivindicado.");
+        }
+
+        @Test
+        void eachFinishedChildStartsTheNextElementWithPendingArray() {
+            seedCoordinator(repository);
+
+            finishEveryChild(repository);
+        }
+
+        @Test
+        void eachFinishedChildStartsTheNextElementWithArrivalCounter() {
+            InMemoryKikwiEngineRepository counterRepository =
+                    new InMemoryKikwiEngineRepository(new ArrayDeque<>(), true, true);
+            seedCoordinator(counterRepository);
+
+            finishEveryChild(counterRepository);
+            assertEquals(0, counterRepository.joinsWithTrackedArrivals());
+        }
+    }
+
     private void seedInstance(String id, String tenantId, ProcessInstanceStatus status) {
         ProcessInstance instance = ProcessInstance.builder()
                 .id(id)
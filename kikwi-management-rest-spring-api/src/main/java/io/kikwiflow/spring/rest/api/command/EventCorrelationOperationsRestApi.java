@@ -18,7 +18,9 @@
 package io.kikwiflow.spring.rest.api.command;
 
 import io.kikwiflow.api.command.EventCorrelationOperationsApi;
+import io.kikwiflow.api.dto.BatchCorrelateEventRequest;
 import io.kikwiflow.api.dto.CorrelateEventRequest;
+import io.kikwiflow.model.execution.CorrelationBatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 import org.springframework.http.HttpStatus;
@@ -37,4 +39,10 @@ public interface EventCorrelationOperationsRestApi extends EventCorrelationOpera
     ProcessInstance correlateEvent(@PathVariable(value = "correlationKey") String correlationKey,
                                     @RequestBody CorrelateEventRequest correlateEventRequest,
                                     IdentityContext identityContext);
+
+    @Override
+    @PostMapping("correlate-batch")
+    @ResponseStatus(HttpStatus.OK)
+    CorrelationBatchResult correlateEvents(@RequestBody BatchCorrelateEventRequest batchCorrelateEventRequest,
+                                           IdentityContext identityContext);
 }
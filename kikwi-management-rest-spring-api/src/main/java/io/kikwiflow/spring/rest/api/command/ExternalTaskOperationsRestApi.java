@@ -18,7 +18,9 @@
 package io.kikwiflow.spring.rest.api.command;
 
 import io.kikwiflow.api.command.ExternalTaskOperationsApi;
+import io.kikwiflow.api.dto.BulkCompleteExternalTasksRequest;
 import io.kikwiflow.api.dto.CompleteExternalTaskRequest;
+import io.kikwiflow.model.execution.BatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 import org.springframework.http.HttpStatus;
@@ -47,4 +49,9 @@ public interface ExternalTaskOperationsRestApi extends ExternalTaskOperationsApi
     @ResponseStatus(HttpStatus.ACCEPTED)
     ProcessInstance completeExternalTask(@PathVariable(value = "id") String id, @RequestBody CompleteExternalTaskRequest completeExternalTaskRequest, IdentityContext identityContext);
 
+    @Override
+    @PostMapping("complete-batch")
+    @ResponseStatus(HttpStatus.OK)
+    BatchResult completeExternalTasks(@RequestBody BulkCompleteExternalTasksRequest bulkCompleteExternalTasksRequest, IdentityContext identityContext);
+
 }
@@ -18,9 +18,11 @@
 package io.kikwiflow.spring.rest.api.command;
 
 import io.kikwiflow.api.command.ProcessInstanceOperationsApi;
+import io.kikwiflow.api.dto.BulkProcessInstanceStartRequest;
 import io.kikwiflow.api.dto.ProcessInstanceStartRequest;
 import io.kikwiflow.api.dto.SetVariablesRequest;
 import io.kikwiflow.api.dto.UnsetVariablesRequest;
+import io.kikwiflow.model.execution.BatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 import org.springframework.http.HttpStatus;
@@ -39,6 +41,11 @@ public interface ProcessInstanceOperationsRestApi extends ProcessInstanceOperati
     @ResponseStatus(HttpStatus.CREATED)
     ProcessInstance start(@RequestBody ProcessInstanceStartRequest processInstanceStartRequest, IdentityContext identityContext);
 
+    @Override
+    @PostMapping("batch")
+    @ResponseStatus(HttpStatus.OK)
+    BatchResult startBatch(@RequestBody BulkProcessInstanceStartRequest bulkProcessInstanceStartRequest, IdentityContext identityContext);
+
     @Override
     @PutMapping("{id}/variables")
     @ResponseStatus(HttpStatus.OK)
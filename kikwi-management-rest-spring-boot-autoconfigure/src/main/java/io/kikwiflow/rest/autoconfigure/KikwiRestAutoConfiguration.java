@@ -17,14 +17,18 @@
 
 package io.kikwiflow.rest.autoconfigure;
 
+import io.kikwiflow.management.controller.event.EventCorrelationAsyncCommandController;
 import io.kikwiflow.management.controller.event.EventCorrelationCommandController;
+import io.kikwiflow.management.controller.externaltask.ExternalTaskAsyncCommandController;
 import io.kikwiflow.management.controller.externaltask.ExternalTaskCommandController;
 import io.kikwiflow.management.controller.externaltask.ExternalTaskQueryController;
 import io.kikwiflow.management.controller.history.EventHistoryQueryController;
+import io.kikwiflow.management.controller.incidents.IncidentsAsyncCommandController;
 import io.kikwiflow.management.controller.incidents.IncidentsCommandController;
 import io.kikwiflow.management.controller.incidents.IncidentsQueryController;
 import io.kikwiflow.management.controller.processdefinition.ProcessDefinitionCommandController;
 import io.kikwiflow.management.controller.processdefinition.ProcessDefinitionQueryController;
+import io.kikwiflow.management.controller.processinstance.ProcessInstanceAsyncCommandController;
 import io.kikwiflow.management.controller.processinstance.ProcessInstanceCommandController;
 import io.kikwiflow.management.controller.processinstance.ProcessInstanceQueryController;
 import io.kikwiflow.management.controller.stats.StatsQueryController;
@@ -71,7 +75,11 @@ import java.util.concurrent.ScheduledExecutorService;
         ProcessDefinitionCommandController.class,
         ProcessInstanceCommandController.class,
         ExternalTaskCommandController.class,
-        EventCorrelationCommandController.class
+        EventCorrelationCommandController.class,
+        IncidentsAsyncCommandController.class,
+        ProcessInstanceAsyncCommandController.class,
+        ExternalTaskAsyncCommandController.class,
+        EventCorrelationAsyncCommandController.class
 })
 public class KikwiRestAutoConfiguration {
 
@@ -25,10 +25,18 @@ public class KikwiflowRestProperties {
 
     private String basePath = "/kikwiflow/api/v1";
     private final Cors cors = new Cors();
+    /**
+     * Quando {@code true}, os controllers de comando devolvem {@code CompletableFuture} da fachada
+     * {@code KikwiflowEngine.async()} em vez de bloquear a thread da requisição.
+     */
+    private boolean asyncCommands = false;
 
     public String getBasePath() { return basePath; }
     public void setBasePath(String basePath) { this.basePath = basePath; }
 
+    public boolean isAsyncCommands() { return asyncCommands; }
+    public void setAsyncCommands(boolean asyncCommands) { this.asyncCommands = asyncCommands; }
+
 
     public Cors getCors() {
         return cors;
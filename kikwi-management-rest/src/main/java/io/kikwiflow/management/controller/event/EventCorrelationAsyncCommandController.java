@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.management.controller.event;
+
+import io.kikwiflow.AsyncKikwiflowEngine;
+import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.api.dto.BatchCorrelateEventRequest;
+import io.kikwiflow.api.dto.CorrelateEventRequest;
+import io.kikwiflow.management.annotation.KikwiRestController;
+import io.kikwiflow.model.execution.CorrelationBatchResult;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.security.IdentityContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante assíncrona de {@link EventCorrelationCommandController} (ver {@code kikwiflow.rest.async-commands}).
+ */
+@KikwiRestController
+@ConditionalOnBean(AsyncKikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "true")
+@RequestMapping("/events")
+public class EventCorrelationAsyncCommandController {
+
+    private final AsyncKikwiflowEngine engine;
+
+    public EventCorrelationAsyncCommandController(AsyncKikwiflowEngine engine) {
+        this.engine = engine;
+    }
+
+    @PostMapping("correlate/{correlationKey}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CompletableFuture<ProcessInstance> correlateEvent(@PathVariable(value = "correlationKey") String correlationKey,
+                                                             @RequestBody CorrelateEventRequest correlateEventRequest,
+                                                             IdentityContext identityContext) {
+        return engine.correlateMessage(correlationKey, correlateEventRequest.variables(), identityContext);
+    }
+
+    @PostMapping("correlate-batch")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<CorrelationBatchResult> correlateEvents(@RequestBody BatchCorrelateEventRequest batchCorrelateEventRequest,
+                                                                     IdentityContext identityContext) {
+        KikwiflowEngine.BatchMessageCorrelator correlator = engine.engine().correlateMessages(identityContext);
+
+        if (batchCorrelateEventRequest.chunkSize() != null) {
+            correlator.chunkSize(batchCorrelateEventRequest.chunkSize());
+        }
+
+        if (batchCorrelateEventRequest.items() != null) {
+            for (BatchCorrelateEventRequest.Item item : batchCorrelateEventRequest.items()) {
+                correlator.add(item.correlationKey(), item.variables());
+            }
+        }
+
+        return engine.submit(correlator::execute);
+    }
+}
@@ -18,12 +18,15 @@
 package io.kikwiflow.management.controller.event;
 
 import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.api.dto.BatchCorrelateEventRequest;
 import io.kikwiflow.api.dto.CorrelateEventRequest;
 import io.kikwiflow.management.annotation.KikwiRestController;
+import io.kikwiflow.model.execution.CorrelationBatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 import io.kikwiflow.spring.rest.api.command.EventCorrelationOperationsRestApi;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 /**
  * Expõe {@code KikwiflowEngine.correlateMessage} via REST — o ponto de entrada para um webhook/sistema externo
@@ -33,6 +36,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
  */
 @KikwiRestController
 @ConditionalOnBean(KikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "false", matchIfMissing = true)
 public class EventCorrelationCommandController implements EventCorrelationOperationsRestApi {
 
     private final KikwiflowEngine engine;
@@ -45,4 +49,21 @@ public class EventCorrelationCommandController implements EventCorrelationOperat
     public ProcessInstance correlateEvent(String correlationKey, CorrelateEventRequest correlateEventRequest, IdentityContext identityContext) {
         return engine.correlateMessage(correlationKey, correlateEventRequest.variables(), identityContext);
     }
+
+    @Override
+    public CorrelationBatchResult correlateEvents(BatchCorrelateEventRequest batchCorrelateEventRequest, IdentityContext identityContext) {
+        KikwiflowEngine.BatchMessageCorrelator correlator = engine.correlateMessages(identityContext);
+
+        if (batchCorrelateEventRequest.chunkSize() != null) {
+            correlator.chunkSize(batchCorrelateEventRequest.chunkSize());
+        }
+
+        if (batchCorrelateEventRequest.items() != null) {
+            for (BatchCorrelateEventRequest.Item item : batchCorrelateEventRequest.items()) {
+                correlator.add(item.correlationKey(), item.variables());
+            }
+        }
+
+        return correlator.execute();
+    }
 }
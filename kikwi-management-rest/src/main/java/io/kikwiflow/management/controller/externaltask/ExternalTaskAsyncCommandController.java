@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.management.controller.externaltask;
+
+import io.kikwiflow.AsyncKikwiflowEngine;
+import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.api.dto.BulkCompleteExternalTasksRequest;
+import io.kikwiflow.api.dto.CompleteExternalTaskRequest;
+import io.kikwiflow.management.annotation.KikwiRestController;
+import io.kikwiflow.model.execution.BatchResult;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.security.IdentityContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante assíncrona de {@link ExternalTaskCommandController} (ver {@code kikwiflow.rest.async-commands}).
+ */
+@KikwiRestController
+@ConditionalOnBean(AsyncKikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "true")
+@RequestMapping("/external-tasks")
+public class ExternalTaskAsyncCommandController {
+
+    private final AsyncKikwiflowEngine engine;
+
+    public ExternalTaskAsyncCommandController(AsyncKikwiflowEngine engine) {
+        this.engine = engine;
+    }
+
+    @PutMapping("{id}/claim/{assignee}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public CompletableFuture<Void> claim(@PathVariable(value = "id") String id, @PathVariable(value = "assignee") String assignee, IdentityContext identityContext) {
+        return engine.claim(id, assignee, identityContext);
+    }
+
+    @PutMapping("{id}/unclaim")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public CompletableFuture<Void> unclaim(@PathVariable(value = "id") String id, IdentityContext identityContext) {
+        return engine.unclaim(id, identityContext);
+    }
+
+    @PostMapping("{id}/complete")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CompletableFuture<ProcessInstance> completeExternalTask(@PathVariable(value = "id") String id, @RequestBody CompleteExternalTaskRequest completeExternalTaskRequest, IdentityContext identityContext) {
+        return engine.completeExternalTask(id, completeExternalTaskRequest.variables(), identityContext);
+    }
+
+    @PostMapping("complete-batch")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<BatchResult> completeExternalTasks(@RequestBody BulkCompleteExternalTasksRequest bulkCompleteExternalTasksRequest, IdentityContext identityContext) {
+        KikwiflowEngine.BulkExternalTaskCompleter completer = engine.engine().completeExternalTasks(identityContext);
+
+        if (bulkCompleteExternalTasksRequest.chunkSize() != null) {
+            completer.chunkSize(bulkCompleteExternalTasksRequest.chunkSize());
+        }
+
+        if (bulkCompleteExternalTasksRequest.maxConcurrency() != null) {
+            completer.maxConcurrency(bulkCompleteExternalTasksRequest.maxConcurrency());
+        }
+
+        if (bulkCompleteExternalTasksRequest.items() != null) {
+            for (BulkCompleteExternalTasksRequest.Item item : bulkCompleteExternalTasksRequest.items()) {
+                completer.add(item.externalTaskId(), item.variables());
+            }
+        }
+
+        return engine.submit(completer::execute);
+    }
+}
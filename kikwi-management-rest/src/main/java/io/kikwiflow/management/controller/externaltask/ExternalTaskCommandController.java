@@ -18,15 +18,19 @@
 package io.kikwiflow.management.controller.externaltask;
 
 import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.api.dto.BulkCompleteExternalTasksRequest;
 import io.kikwiflow.api.dto.CompleteExternalTaskRequest;
 import io.kikwiflow.management.annotation.KikwiRestController;
+import io.kikwiflow.model.execution.BatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 import io.kikwiflow.spring.rest.api.command.ExternalTaskOperationsRestApi;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 @KikwiRestController
 @ConditionalOnBean(KikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "false", matchIfMissing = true)
 public class ExternalTaskCommandController implements ExternalTaskOperationsRestApi {
 
     private final KikwiflowEngine engine;
@@ -51,4 +55,25 @@ public class ExternalTaskCommandController implements ExternalTaskOperationsRest
                 completeExternalTaskRequest.variables(),
                 identityContext);
     }
+
+    @Override
+    public BatchResult completeExternalTasks(BulkCompleteExternalTasksRequest bulkCompleteExternalTasksRequest, IdentityContext identityContext) {
+        KikwiflowEngine.BulkExternalTaskCompleter completer = engine.completeExternalTasks(identityContext);
+
+        if (bulkCompleteExternalTasksRequest.chunkSize() != null) {
+            completer.chunkSize(bulkCompleteExternalTasksRequest.chunkSize());
+        }
+
+        if (bulkCompleteExternalTasksRequest.maxConcurrency() != null) {
+            completer.maxConcurrency(bulkCompleteExternalTasksRequest.maxConcurrency());
+        }
+
+        if (bulkCompleteExternalTasksRequest.items() != null) {
+            for (BulkCompleteExternalTasksRequest.Item item : bulkCompleteExternalTasksRequest.items()) {
+                completer.add(item.externalTaskId(), item.variables());
+            }
+        }
+
+        return completer.execute();
+    }
 }
@@ -21,6 +21,7 @@ import io.kikwiflow.KikwiflowEngine;
 import io.kikwiflow.management.annotation.KikwiRestController;
 import io.kikwiflow.model.security.IdentityContext;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @KikwiRestController
 @ConditionalOnBean(KikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "false", matchIfMissing = true)
 @RequestMapping("/incidents")
 public class IncidentsCommandController {
 
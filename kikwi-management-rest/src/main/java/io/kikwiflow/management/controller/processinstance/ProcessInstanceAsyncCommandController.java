@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.management.controller.processinstance;
+
+import io.kikwiflow.AsyncKikwiflowEngine;
+import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.api.dto.BulkProcessInstanceStartRequest;
+import io.kikwiflow.api.dto.ProcessInstanceStartRequest;
+import io.kikwiflow.api.dto.SetVariablesRequest;
+import io.kikwiflow.api.dto.UnsetVariablesRequest;
+import io.kikwiflow.management.annotation.KikwiRestController;
+import io.kikwiflow.model.execution.BatchResult;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.security.IdentityContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Mesmos endpoints de {@link ProcessInstanceCommandController}, mas cada comando roda na fachada
+ * {@link AsyncKikwiflowEngine} e o controller devolve o {@link CompletableFuture}: a thread da requisição é
+ * liberada durante o I/O com o banco. Ativo com {@code kikwiflow.rest.async-commands=true}.
+ */
+@KikwiRestController
+@ConditionalOnBean(AsyncKikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "true")
+@RequestMapping("/process-instances")
+public class ProcessInstanceAsyncCommandController {
+
+    private final AsyncKikwiflowEngine engine;
+
+    public ProcessInstanceAsyncCommandController(AsyncKikwiflowEngine engine) {
+        this.engine = engine;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<ProcessInstance> start(@RequestBody ProcessInstanceStartRequest processInstanceStartRequest, IdentityContext identityContext) {
+        return engine.engine().startProcess()
+                .byKey(processInstanceStartRequest.processDefinitionKey())
+                .from(processInstanceStartRequest.origin())
+                .onTenant(processInstanceStartRequest.tenant())
+                .withBusinessKey(processInstanceStartRequest.businessKey())
+                .withVariables(processInstanceStartRequest.variables())
+                .withBusinessValue(processInstanceStartRequest.businessValue())
+                .executeAsync();
+    }
+
+    @PostMapping("batch")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<BatchResult> startBatch(@RequestBody BulkProcessInstanceStartRequest bulkProcessInstanceStartRequest, IdentityContext identityContext) {
+        KikwiflowEngine.BulkProcessStarter starter = engine.engine().startProcesses()
+                .byKey(bulkProcessInstanceStartRequest.processDefinitionKey())
+                .from(bulkProcessInstanceStartRequest.origin())
+                .byActor(identityContext != null ? identityContext.actorId() : null);
+
+        if (bulkProcessInstanceStartRequest.chunkSize() != null) {
+            starter.chunkSize(bulkProcessInstanceStartRequest.chunkSize());
+        }
+
+        if (bulkProcessInstanceStartRequest.items() != null) {
+            for (BulkProcessInstanceStartRequest.Item item : bulkProcessInstanceStartRequest.items()) {
+                starter.add(item.businessKey(), item.variables(), item.tenant(), item.businessValue());
+            }
+        }
+
+        return engine.submit(starter::execute);
+    }
+
+    @PutMapping("{id}/variables")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ProcessInstance> setVariables(@PathVariable(value = "id") String id, @RequestBody SetVariablesRequest setVariablesRequest, IdentityContext identityContext) {
+        return engine.setVariables(id, setVariablesRequest.variables(), identityContext);
+    }
+
+    @PutMapping("{id}/variables/unset")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<ProcessInstance> unsetVariables(@PathVariable(value = "id") String id, @RequestBody UnsetVariablesRequest unsetVariablesRequest, IdentityContext identityContext) {
+        return engine.unsetVariables(id, unsetVariablesRequest.variableNames(), identityContext);
+    }
+
+    @PutMapping("{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public CompletableFuture<Void> deleteInstance(@PathVariable(value = "id") String processInstanceId, IdentityContext identityContext) {
+        return engine.deleteInstance(processInstanceId, identityContext);
+    }
+}
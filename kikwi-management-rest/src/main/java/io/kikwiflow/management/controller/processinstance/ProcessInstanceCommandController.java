@@ -18,17 +18,21 @@
 package io.kikwiflow.management.controller.processinstance;
 
 import io.kikwiflow.KikwiflowEngine;
+import io.kikwiflow.api.dto.BulkProcessInstanceStartRequest;
 import io.kikwiflow.api.dto.ProcessInstanceStartRequest;
 import io.kikwiflow.api.dto.SetVariablesRequest;
 import io.kikwiflow.api.dto.UnsetVariablesRequest;
 import io.kikwiflow.management.annotation.KikwiRestController;
+import io.kikwiflow.model.execution.BatchResult;
 import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.security.IdentityContext;
 import io.kikwiflow.spring.rest.api.command.ProcessInstanceOperationsRestApi;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
 @KikwiRestController
 @ConditionalOnBean(KikwiflowEngine.class)
+@ConditionalOnProperty(prefix = "kikwiflow.rest", name = "async-commands", havingValue = "false", matchIfMissing = true)
 public class ProcessInstanceCommandController implements ProcessInstanceOperationsRestApi {
 
     private final KikwiflowEngine engine;
@@ -51,6 +55,26 @@ public class ProcessInstanceCommandController implements ProcessInstanceOperatio
                 .execute();
     }
 
+    @Override
+    public BatchResult startBatch(BulkProcessInstanceStartRequest bulkProcessInstanceStartRequest, IdentityContext identityContext) {
+        KikwiflowEngine.BulkProcessStarter starter = engine.startProcesses()
+                .byKey(bulkProcessInstanceStartRequest.processDefinitionKey())
+                .from(bulkProcessInstanceStartRequest.origin())
+                .byActor(identityContext != null ? identityContext.actorId() : null);
+
+        if (bulkProcessInstanceStartRequest.chunkSize() != null) {
+            starter.chunkSize(bulkProcessInstanceStartRequest.chunkSize());
+        }
+
+        if (bulkProcessInstanceStartRequest.items() != null) {
+            for (BulkProcessInstanceStartRequest.Item item : bulkProcessInstanceStartRequest.items()) {
+                starter.add(item.businessKey(), item.variables(), item.tenant(), item.businessValue());
+            }
+        }
+
+        return starter.execute();
+    }
+
     @Override
     public ProcessInstance setVariables(String id, SetVariablesRequest setVariablesRequest, IdentityContext identityContext) {
         return engine.setVariables(id, setVariablesRequest.variables(), identityContext);
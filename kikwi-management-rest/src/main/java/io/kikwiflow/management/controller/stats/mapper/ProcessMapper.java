@@ -440,6 +440,7 @@ public class ProcessMapper {
                 callActivity.collectionVariable(),
                 callActivity.elementVariable(),
                 callActivity.iterationMode(),
+                callActivity.maxConcurrency(),
                 callActivity.extensionProperties(),
                 mapLayout(callActivity.layout()));
     }
@@ -37,6 +37,7 @@ public record KKFCallActivityDefinition(String id,
                                         String collectionVariable,
                                         String elementVariable,
                                         CallActivityIterationMode iterationMode,
+                                        Integer maxConcurrency,
                                         Map<String, String> extensionProperties,
                                         KKFLayoutCoordinates layout) implements KKFFlowNodeDefinition {
 
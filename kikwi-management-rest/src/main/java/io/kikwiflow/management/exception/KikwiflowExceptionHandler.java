@@ -24,6 +24,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @RestControllerAdvice(annotations = KikwiRestController.class)
 public class KikwiflowExceptionHandler {
 
@@ -62,5 +65,13 @@ public class KikwiflowExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    // Prazo de kikwiflow.execution.async-command-timeout-millis estourado num controller de comando assíncrono
+    // (kikwiflow.rest.async-commands=true); fila cheia do executor cai no mesmo caso.
+    @ExceptionHandler({TimeoutException.class, RejectedExecutionException.class})
+    public ResponseEntity<ErrorResponse> handleCommandTimeout(Exception ex) {
+        var error = new ErrorResponse("SERVICE_UNAVAILABLE", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     public record ErrorResponse(String code, String message) {}
 }
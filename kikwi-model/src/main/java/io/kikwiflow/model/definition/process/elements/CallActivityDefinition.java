@@ -31,6 +31,16 @@ import java.util.Map;
  * retomada da própria coordenadora (após {@code pendingBranchIds} esvaziar) segue pelo caminho genérico de
  * {@code ProcessExecutionManager}/{@code Navigator} sem executar handler nenhum — mesmo motivo de
  * {@code TimerTaskDefinition} não ser {@code WaitState} (ver seu Javadoc).
+ *
+ * <p>{@code maxConcurrency} (só modo PARALLEL) limita quantos filhos ficam em voo: o fan-out cria só as
+ * primeiras {@code maxConcurrency} iniciadoras e grava o resto da coleção em blocos fora da coordenadora
+ * ({@code UnitOfWork.loopElementChunksToCreate}); cada filho que conclui libera a sua vaga, e o repositório
+ * inicia o próximo elemento no mesmo commit do pull do branch (cursor em {@code loopIndex} da coordenadora).
+ * {@code null} mantém o fan-out completo de antes.
+ *
+ * <p>Com {@code collectionVariable}, cada filho recebe o seu elemento em {@code elementVariable} junto com as
+ * variáveis do pai. Com {@code maxConcurrency}, a coleção em si não é copiada para os filhos e cada um recebe o
+ * seu índice na coleção em {@link #LOOP_INDEX_VARIABLE}; sem ele, os filhos recebem a coleção como antes.
  */
 public record CallActivityDefinition(String id,
                                      String name,
@@ -45,7 +55,14 @@ public record CallActivityDefinition(String id,
                                      String calledElement,
                                      String collectionVariable,
                                      String elementVariable,
-                                     CallActivityIterationMode iterationMode) implements FlowNodeDefinition {
+                                     CallActivityIterationMode iterationMode,
+                                     Integer maxConcurrency) implements FlowNodeDefinition {
+
+    /**
+     * Variável com o índice (base 0) do elemento de cada filho de uma call activity com {@code collectionVariable}
+     * e {@code maxConcurrency}.
+     */
+    public static final String LOOP_INDEX_VARIABLE = "loopIndex";
 
 
     public static Builder builder() {
@@ -67,6 +84,7 @@ public record CallActivityDefinition(String id,
         private String collectionVariable;
         private String elementVariable;
         private CallActivityIterationMode iterationMode;
+        private Integer maxConcurrency;
 
         private Builder() {}
 
@@ -95,6 +113,11 @@ public record CallActivityDefinition(String id,
             return this;
         }
 
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         public Builder layout(LayoutCoordinates layout) {
             this.layout = layout;
             return this;
@@ -154,7 +177,8 @@ public record CallActivityDefinition(String id,
                     calledElement,
                     collectionVariable,
                     elementVariable,
-                    iterationMode);
+                    iterationMode,
+                    maxConcurrency);
         }
     }
 }
@@ -38,6 +38,25 @@ public record ExecutableTaskDefinition(String id,
                                        LayoutCoordinates layout,
                                        RetryPolicy retryPolicy) implements FlowNodeDefinition, Executable {
 
+    /**
+     * Extension property que fixa o tópico de roteamento do nó (ex.: "cpu-heavy"), permitindo agrupar
+     * handlers diferentes no mesmo pool de nós.
+     */
+    public static final String TOPIC_PROPERTY = "topic";
+
+    /**
+     * Tópico de roteamento das ExecutableTasks geradas por este nó: a extension property {@value #TOPIC_PROPERTY}
+     * quando presente, senão o próprio {@code executor}.
+     */
+    public String topic() {
+        if (extensionProperties != null) {
+            String explicitTopic = extensionProperties.get(TOPIC_PROPERTY);
+            if (explicitTopic != null && !explicitTopic.isBlank()) {
+                return explicitTopic;
+            }
+        }
+        return executor;
+    }
 
     public static Builder builder() {
         return new Builder();
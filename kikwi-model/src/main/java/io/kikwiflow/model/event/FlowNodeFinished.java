@@ -18,9 +18,12 @@
 package io.kikwiflow.model.event;
 
 
+import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.NodeExecutionStatus;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
 public class FlowNodeFinished implements CriticalEvent {
 
@@ -39,6 +42,28 @@ public class FlowNodeFinished implements CriticalEvent {
     private String errorType;
     private String errorMessage;
     private String errorStackTrace;
+    /**
+     * Só preenchidos no nível {@code VARIABLE_DIFF}: variáveis persistentes escritas pelo nó e nomes das
+     * removidas por ele. {@code null} nos demais níveis.
+     */
+    private Map<String, ProcessVariable> changedVariables;
+    private List<String> removedVariables;
+
+    public Map<String, ProcessVariable> getChangedVariables() {
+        return changedVariables;
+    }
+
+    public void setChangedVariables(Map<String, ProcessVariable> changedVariables) {
+        this.changedVariables = changedVariables;
+    }
+
+    public List<String> getRemovedVariables() {
+        return removedVariables;
+    }
+
+    public void setRemovedVariables(List<String> removedVariables) {
+        this.removedVariables = removedVariables;
+    }
 
     public String getFlowNodeName() {
         return flowNodeName;
@@ -191,6 +216,8 @@ public class FlowNodeFinished implements CriticalEvent {
         private String errorType;
         private String errorMessage;
         private String errorStackTrace;
+        private Map<String, ProcessVariable> changedVariables;
+        private List<String> removedVariables;
 
         private Builder() {}
 
@@ -269,6 +296,16 @@ public class FlowNodeFinished implements CriticalEvent {
             return this;
         }
 
+        public Builder changedVariables(Map<String, ProcessVariable> changedVariables) {
+            this.changedVariables = changedVariables;
+            return this;
+        }
+
+        public Builder removedVariables(List<String> removedVariables) {
+            this.removedVariables = removedVariables;
+            return this;
+        }
+
         public FlowNodeFinished build() {
             FlowNodeFinished event = new FlowNodeFinished();
             event.setFlowNodeDefinitionId(this.flowNodeDefinitionId);
@@ -286,6 +323,8 @@ public class FlowNodeFinished implements CriticalEvent {
             event.setErrorType(this.errorType);
             event.setErrorMessage(this.errorMessage);
             event.setErrorStackTrace(this.errorStackTrace);
+            event.setChangedVariables(this.changedVariables);
+            event.setRemovedVariables(this.removedVariables);
             return event;
         }
     }
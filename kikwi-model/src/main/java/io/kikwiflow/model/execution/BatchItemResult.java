@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.model.execution;
+
+/**
+ * Resultado de um item de uma operação em lote (ver {@link BatchResult}). {@code key} identifica o item do
+ * jeito que quem chamou o conhece — a business key num início em lote, por exemplo — e {@code index} é a posição
+ * do item na requisição. Um item com falha traz o tipo e a mensagem da exceção; os demais itens do lote seguem
+ * independentes dele.
+ */
+public record BatchItemResult(
+        int index,
+        String key,
+        String processInstanceId,
+        boolean succeeded,
+        String errorType,
+        String errorMessage
+) {
+
+    public static BatchItemResult success(int index, String key, String processInstanceId) {
+        return new BatchItemResult(index, key, processInstanceId, true, null, null);
+    }
+
+    public static BatchItemResult failure(int index, String key, Throwable error) {
+        return new BatchItemResult(index, key, null, false, error.getClass().getName(), error.getMessage());
+    }
+}
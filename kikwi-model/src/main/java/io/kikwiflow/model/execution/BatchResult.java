@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.model.execution;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote: um {@link BatchItemResult} por item, na ordem da requisição, e os totais.
+ */
+public record BatchResult(
+        int succeeded,
+        int failed,
+        List<BatchItemResult> items
+) {
+
+    public static BatchResult of(List<BatchItemResult> items) {
+        int succeeded = (int) items.stream().filter(BatchItemResult::succeeded).count();
+        return new BatchResult(succeeded, items.size() - succeeded, List.copyOf(items));
+    }
+}
@@ -22,5 +22,14 @@ package io.kikwiflow.model.execution;
  */
 public record BranchPullIntention(
         String joinTaskId,
-        String branchId
-) {}
+        String branchId,
+        /**
+         * Instância dona do join, para quem agrupa commits por instância sem ler a tarefa. Pode ser {@code null}.
+         */
+        String processInstanceId
+) {
+
+    public BranchPullIntention(String joinTaskId, String branchId) {
+        this(joinTaskId, branchId, null);
+    }
+}
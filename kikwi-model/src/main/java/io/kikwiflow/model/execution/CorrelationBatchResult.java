@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.model.execution;
+
+import io.kikwiflow.model.execution.enumerated.CorrelationOutcome;
+
+import java.util.List;
+
+/**
+ * Resultado de uma correlação em lote: um {@link CorrelationItemResult} por chave, na ordem da requisição, e os
+ * totais por desfecho.
+ */
+public record CorrelationBatchResult(
+        int matched,
+        int pending,
+        int notFound,
+        int failed,
+        List<CorrelationItemResult> items
+) {
+
+    public static CorrelationBatchResult of(List<CorrelationItemResult> items) {
+        return new CorrelationBatchResult(
+                count(items, CorrelationOutcome.MATCHED),
+                count(items, CorrelationOutcome.PENDING),
+                count(items, CorrelationOutcome.NOT_FOUND),
+                count(items, CorrelationOutcome.FAILED),
+                List.copyOf(items));
+    }
+
+    private static int count(List<CorrelationItemResult> items, CorrelationOutcome outcome) {
+        return (int) items.stream().filter(item -> item.outcome() == outcome).count();
+    }
+}
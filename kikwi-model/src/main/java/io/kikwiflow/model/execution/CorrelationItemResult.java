@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.model.execution;
+
+import io.kikwiflow.model.execution.enumerated.CorrelationOutcome;
+
+/**
+ * Resultado de uma chave numa correlação em lote. {@code processInstanceId} é preenchido sempre que a chave foi
+ * encontrada; {@code errorType}/{@code errorMessage} só em {@link CorrelationOutcome#FAILED}.
+ */
+public record CorrelationItemResult(
+        int index,
+        String correlationKey,
+        CorrelationOutcome outcome,
+        String processInstanceId,
+        String errorType,
+        String errorMessage
+) {
+
+    public static CorrelationItemResult of(int index, String correlationKey, CorrelationOutcome outcome, String processInstanceId) {
+        return new CorrelationItemResult(index, correlationKey, outcome, processInstanceId, null, null);
+    }
+
+    public static CorrelationItemResult notFound(int index, String correlationKey) {
+        return of(index, correlationKey, CorrelationOutcome.NOT_FOUND, null);
+    }
+
+    public static CorrelationItemResult failure(int index, String correlationKey, String processInstanceId, Throwable error) {
+        return new CorrelationItemResult(index, correlationKey, CorrelationOutcome.FAILED, processInstanceId,
+                error.getClass().getName(), error.getMessage());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.model.execution.enumerated;
+
+/**
+ * Desfecho de uma chave numa correlação em lote.
+ * <ul>
+ *     <li>{@code MATCHED}: a tarefa aguardando a chave foi completada e o fluxo seguiu;</li>
+ *     <li>{@code PENDING}: a chave resolveu uma filha de um grupo cuja {@code matchPolicy} ainda não foi
+ *     satisfeita — só as variáveis foram gravadas;</li>
+ *     <li>{@code NOT_FOUND}: nenhum EVENT_CATCHER ativo aguardava a chave (inclui entregas duplicadas);</li>
+ *     <li>{@code FAILED}: a chave foi encontrada, mas a continuação falhou.</li>
+ * </ul>
+ */
+public enum CorrelationOutcome {
+    MATCHED,
+    PENDING,
+    NOT_FOUND,
+    FAILED
+}
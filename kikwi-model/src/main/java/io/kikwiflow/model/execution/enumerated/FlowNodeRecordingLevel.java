@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.model.execution.enumerated;
+
+/**
+ * Quanto do resultado de cada nó vai para o evento {@code FLOW_NODE_FINISHED} do outbox.
+ * <ul>
+ *     <li>{@code NONE}: o evento não é emitido para o nó;</li>
+ *     <li>{@code SUMMARY}: identificação do nó e da instância, status, tempos e erro (padrão);</li>
+ *     <li>{@code VARIABLE_DIFF}: como {@code SUMMARY}, mais as variáveis persistentes que o nó escreveu ou removeu.</li>
+ * </ul>
+ */
+public enum FlowNodeRecordingLevel {
+    NONE,
+    SUMMARY,
+    VARIABLE_DIFF
+}
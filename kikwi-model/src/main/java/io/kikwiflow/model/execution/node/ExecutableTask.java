@@ -55,7 +55,23 @@ public record ExecutableTask (String id,
                                // (ver ContinuationService) para que TimerDueDateEvaluator.calculateNextSchedule
                                // saiba comparar contra SchedulePolicy.maxOccurrences. Null para todo outro tipo
                                // de task, que não tem noção de "ciclo".
-                               Integer occurrence){
+                               Integer occurrence,
+                               // Nome do bean TaskHandler (ExecutableTaskDefinition.executor) que executa esta
+                               // task — não confundir com executorId (o worker que detém o lock). Materializado na
+                               // criação para que a aquisição filtre por handler (bulkheads) sem consultar a
+                               // ProcessDefinition. Null para tipos sem handler (timers, joins, call activity...).
+                               String executor,
+                               // Tópico de roteamento usado na aquisição: a extension property "topic" do nó ou, na
+                               // ausência dela, o próprio executor. Só nós que servem o tópico adquirem a tarefa
+                               // (ver TaskAcquisitionCriteria.includedTopics); null = qualquer nó.
+                               String topic,
+                               // Score de prioridade materializado na criação (business value da instância, proximidade
+                               // do SLA e extension property "priority" do nó) — maior primeiro no modo de aquisição
+                               // PRIORITY. Null em tarefas anteriores ao campo, tratadas como a menor prioridade.
+                               Long priority,
+                               // Partição de aquisição (hash do processInstanceId mod número de partições) quando o modo
+                               // particionado está ligado: cada nó só adquire das partições que detém. Null = qualquer nó.
+                               Integer partition){
 
     public static Builder builder() {
         return new Builder();
@@ -89,7 +105,11 @@ public record ExecutableTask (String id,
                 .loopIndex(this.loopIndex)
                 .loopElement(this.loopElement)
                 .pendingLoopElements(this.pendingLoopElements)
-                .occurrence(this.occurrence);
+                .occurrence(this.occurrence)
+                .executor(this.executor)
+                .topic(this.topic)
+                .priority(this.priority)
+                .partition(this.partition);
     }
 
     public static class Builder {
@@ -120,6 +140,10 @@ public record ExecutableTask (String id,
         private io.kikwiflow.model.execution.ProcessVariable loopElement;
         private List<io.kikwiflow.model.execution.ProcessVariable> pendingLoopElements;
         private Integer occurrence;
+        private String executor;
+        private String topic;
+        private Long priority;
+        private Integer partition;
 
         private Builder() {}
 
@@ -151,6 +175,10 @@ public record ExecutableTask (String id,
         public Builder loopElement(io.kikwiflow.model.execution.ProcessVariable loopElement) { this.loopElement = loopElement; return this; }
         public Builder pendingLoopElements(List<io.kikwiflow.model.execution.ProcessVariable> pendingLoopElements) { this.pendingLoopElements = pendingLoopElements; return this; }
         public Builder occurrence(Integer occurrence) { this.occurrence = occurrence; return this; }
+        public Builder executor(String executor) { this.executor = executor; return this; }
+        public Builder topic(String topic) { this.topic = topic; return this; }
+        public Builder priority(Long priority) { this.priority = priority; return this; }
+        public Builder partition(Integer partition) { this.partition = partition; return this; }
 
         public ExecutableTask build() {
             return new ExecutableTask(
@@ -180,7 +208,11 @@ public record ExecutableTask (String id,
                 this.loopIndex,
                 this.loopElement,
                 this.pendingLoopElements,
-                this.occurrence
+                this.occurrence,
+                this.executor,
+                this.topic,
+                this.priority,
+                this.partition
             );
         }
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.data;
+
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
+import io.kikwiflow.model.execution.enumerated.ExecutableTaskType;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bloco de elementos ainda não iniciados de uma {@code CALL_ACTIVITY_COORDINATOR} PARALLEL com
+ * {@code maxConcurrency}: o resto da coleção fica fora do documento da coordenadora, em blocos de tamanho fixo
+ * ({@code callActivityLoopElementChunkSize}). Cada filho que conclui reivindica, junto com a sua
+ * {@code BranchPullIntention}, o próximo índice da coordenadora e a iniciadora desse índice é criada a partir do
+ * bloco que o cobre (ver {@link #starterAt}). Cada item é o {@code loopElement} da futura iniciadora ({@code null}
+ * quando o nó não declara {@code elementVariable}).
+ *
+ * @param firstIndex índice, na coleção resolvida, do primeiro item de {@code elements}
+ */
+public record LoopElementChunk(
+        String id,
+        String coordinatorTaskId,
+        String processInstanceId,
+        int firstIndex,
+        List<ProcessVariable> elements
+) {
+
+    public static String idOf(String coordinatorTaskId, int firstIndex) {
+        return coordinatorTaskId + ":elements:" + firstIndex;
+    }
+
+    /**
+     * Índice, na coleção resolvida, do último item do bloco.
+     */
+    public int lastIndex() {
+        return firstIndex + elements.size() - 1;
+    }
+
+    /**
+     * Iniciadora ({@code CALL_ACTIVITY_STARTER}) do elemento {@code index} deste bloco — mesmo formato das
+     * iniciadoras criadas pelo fan-out em {@code ContinuationService}, com o {@code branchId} determinístico
+     * {@code coordinatorTaskId + ":" + index}. Usada pelos repositórios ao reivindicar o próximo índice da
+     * coordenadora dentro do pull do branch que acabou de concluir.
+     */
+    public ExecutableTask starterAt(int index, String processDefinitionId, String taskDefinitionId, Long retries) {
+        return ExecutableTask.builder()
+                .id(UUID.randomUUID().toString())
+                .processDefinitionId(processDefinitionId)
+                .taskDefinitionId(taskDefinitionId)
+                .processInstanceId(processInstanceId)
+                .type(ExecutableTaskType.CALL_ACTIVITY_STARTER)
+                .status(ExecutableTaskStatus.PENDING)
+                .joinTaskId(coordinatorTaskId)
+                .branchId(coordinatorTaskId + ":" + index)
+                .loopIndex(index)
+                .loopElement(elements.get(index - firstIndex))
+                .retries(retries)
+                .build();
+    }
+}
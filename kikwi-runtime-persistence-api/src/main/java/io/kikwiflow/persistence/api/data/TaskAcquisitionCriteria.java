@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.data;
+
+import java.util.Set;
+
+/**
+ * Restrições adicionais de {@code findAndLockDueTasks} além de "vencida ou com lock expirado", decididas pelo
+ * nó que está adquirindo.
+ *
+ * @param excludedExecutors handlers ({@code ExecutableTask.executor}) cujo bulkhead local está cheio neste
+ *                          poll — tarefas deles ficam no banco para outro nó (ou o próximo poll) em vez de
+ *                          serem travadas só para esperar capacidade aqui. Tarefas sem {@code executor}
+ *                          nunca são excluídas.
+ * @param includedTopics    tópicos ({@code ExecutableTask.topic}) que este nó sabe executar. Quando não nulo,
+ *                          só tarefas desses tópicos — ou sem tópico (timers, joins...) — são adquiridas; null
+ *                          desliga o roteamento e o nó adquire qualquer tarefa.
+ * @param order             ordem de escolha entre as tarefas adquiríveis; null equivale a
+ *                          {@link TaskAcquisitionOrder#DUE_DATE}.
+ * @param priorityAgingMillis com {@link TaskAcquisitionOrder#PRIORITY}, tempo de espera (desde o
+ *                          {@code dueDate}, ou {@code createdAt} sem ele) a partir do qual a tarefa é adquirida
+ *                          antes das demais, independentemente da prioridade.
+ * @param partitions        partições de aquisição ({@code ExecutableTask.partition}) detidas pelo nó no modo
+ *                          particionado; só tarefas dessas partições — ou sem partição — são adquiridas. Null
+ *                          desliga o filtro.
+ */
+public record TaskAcquisitionCriteria(
+        Set<String> excludedExecutors,
+        Set<String> includedTopics,
+        TaskAcquisitionOrder order,
+        long priorityAgingMillis,
+        Set<Integer> partitions
+) {
+
+    private static final TaskAcquisitionCriteria NONE = new TaskAcquisitionCriteria(Set.of(), null);
+
+    public TaskAcquisitionCriteria(Set<String> excludedExecutors) {
+        this(excludedExecutors, null);
+    }
+
+    public TaskAcquisitionCriteria(Set<String> excludedExecutors, Set<String> includedTopics) {
+        this(excludedExecutors, includedTopics, TaskAcquisitionOrder.DUE_DATE, 0L);
+    }
+
+    public TaskAcquisitionCriteria(Set<String> excludedExecutors, Set<String> includedTopics,
+                                   TaskAcquisitionOrder order, long priorityAgingMillis) {
+        this(excludedExecutors, includedTopics, order, priorityAgingMillis, null);
+    }
+
+    public static TaskAcquisitionCriteria none() {
+        return NONE;
+    }
+
+    public boolean hasIncludedTopics() {
+        return includedTopics != null;
+    }
+
+    public boolean hasExcludedExecutors() {
+        return excludedExecutors != null && !excludedExecutors.isEmpty();
+    }
+
+    public boolean hasPartitions() {
+        return partitions != null;
+    }
+
+    public boolean isPriorityOrdered() {
+        return order == TaskAcquisitionOrder.PRIORITY;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.data;
+
+/**
+ * Modos de aquisição ligados no engine que dependem de índice próprio no repositório — usado por
+ * {@code KikwiEngineRepository.ensureIndexes(TaskAcquisitionFeatures)} para criar só os índices que
+ * {@code findAndLockDueTasks} vai de fato usar, em vez de pagar na escrita de toda ExecutableTask por índices
+ * que nenhuma consulta lê.
+ *
+ * @param topicRouting  roteamento por tópico ({@link TaskAcquisitionCriteria#includedTopics()}) ligado
+ * @param priorityOrder aquisição em {@link TaskAcquisitionOrder#PRIORITY}
+ * @param partitioned   aquisição particionada ({@link TaskAcquisitionCriteria#partitions()}) ligada
+ */
+public record TaskAcquisitionFeatures(boolean topicRouting, boolean priorityOrder, boolean partitioned) {
+
+    private static final TaskAcquisitionFeatures NONE = new TaskAcquisitionFeatures(false, false, false);
+
+    /**
+     * Nenhum modo opcional ligado: só a aquisição padrão por {@code dueDate}.
+     */
+    public static TaskAcquisitionFeatures none() {
+        return NONE;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.data;
+
+/**
+ * Ordem em que {@code findAndLockDueTasks} escolhe entre as tarefas adquiríveis.
+ */
+public enum TaskAcquisitionOrder {
+    /** Mais antigas primeiro, por {@code dueDate} — comportamento histórico. */
+    DUE_DATE,
+    /**
+     * Maior {@code ExecutableTask.priority} primeiro, desempatando por {@code dueDate}. Tarefas que esperam há
+     * mais de {@link TaskAcquisitionCriteria#priorityAgingMillis()} passam à frente de qualquer prioridade
+     * (envelhecimento), para que as de baixo valor não fiquem famintas sob backlog contínuo.
+     */
+    PRIORITY
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.data;
+
+import io.kikwiflow.model.execution.enumerated.ExecutableTaskStatus;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+
+/**
+ * Posse do lock de uma {@code ExecutableTask} adquirida por {@code findAndLockDueTasks}: o commit que conclui
+ * (ou falha) a tarefa só prossegue se ela ainda estiver travada pelo mesmo {@code executorId}. Sem isso, um
+ * worker cujo lock expirou — e cuja tarefa já foi roubada por outro nó — sobrescreveria o trabalho do novo dono.
+ */
+public record TaskLease(
+        String taskId,
+        String executorId,
+        /**
+         * Instância dona da tarefa, para quem agrupa commits por instância sem ler a tarefa. Pode ser {@code null}.
+         */
+        String processInstanceId
+) {
+
+    public TaskLease(String taskId, String executorId) {
+        this(taskId, executorId, null);
+    }
+
+    /**
+     * {@code null} quando a tarefa não veio de uma aquisição (ex.: testes/reprocessamento manual dirigindo
+     * {@code executeFromTask} direto com uma tarefa PENDING) — nesse caso não há posse a verificar.
+     */
+    public static TaskLease of(ExecutableTask task) {
+        if (task == null || task.executorId() == null || task.status() != ExecutableTaskStatus.LOCKED) {
+            return null;
+        }
+        return new TaskLease(task.id(), task.executorId(), task.processInstanceId());
+    }
+}
@@ -22,10 +22,12 @@ import io.kikwiflow.model.event.OutboxEventEntity;
 import io.kikwiflow.model.execution.BranchPullIntention;
 import io.kikwiflow.model.execution.Incident;
 import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.node.AttachedTaskType;
 import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,9 +59,84 @@ public record UnitOfWork(
          * primeiro apagar esta linha específica pode prosseguir com a continuação; o perdedor não escreve nada.
          */
         String finalizingNodeId,
-        AttachedTaskType finalizingNodeType
+        AttachedTaskType finalizingNodeType,
+        /**
+         * Posse do lock da {@code ExecutableTask} que originou este commit, quando ela veio de
+         * {@code findAndLockDueTasks}. {@code commitWork} verifica — antes de qualquer outra escrita — que a
+         * tarefa continua {@code LOCKED} pelo mesmo {@code executorId} e aborta com
+         * {@code LockOwnershipLostException} caso contrário. {@code null} desliga a verificação.
+         */
+        TaskLease taskLease,
+        /**
+         * Blocos com o resto da coleção de uma call activity PARALLEL com {@code maxConcurrency}, gravados fora do
+         * documento da coordenadora no mesmo commit que a cria (ver {@link LoopElementChunk}).
+         */
+        List<LoopElementChunk> loopElementChunksToCreate,
+        /**
+         * IDs de blocos a apagar neste commit. O bloco cujo último índice é reivindicado pela janela deslizante
+         * é apagado pelo próprio repositório, no pull do branch que o reivindicou.
+         */
+        List<String> loopElementChunksToDelete
         ) {
 
+    /**
+     * Compatibilidade com código anterior aos blocos de elementos de call activity: equivalente a não criar nem
+     * apagar bloco nenhum.
+     */
+    public UnitOfWork(
+            ProcessInstance instanceToCreate,
+            ProcessInstance instanceToUpdate,
+            ProcessInstance instanceToDelete,
+            List<ExecutableTask> executableTasksToCreate,
+            List<ExternalTask> externalTasksToCreate,
+            List<String> executableTasksToDelete,
+            List<ExecutableTask> executableTasksToUpdate,
+            List<String> externalTasksToDelete,
+            List<OutboxEventEntity> events,
+            List<Incident> incidentsToCreate,
+            List<Incident> incidentsToUpdate,
+            List<String> incidentsToResolve,
+            List<String> finishedNodeDefinitions,
+            List<BranchPullIntention> branchPullIntentions,
+            Map<String, VariableOperation> variableOperations,
+            String finalizingNodeId,
+            AttachedTaskType finalizingNodeType,
+            TaskLease taskLease
+    ) {
+        this(instanceToCreate, instanceToUpdate, instanceToDelete, executableTasksToCreate, externalTasksToCreate,
+                executableTasksToDelete, executableTasksToUpdate, externalTasksToDelete, events, incidentsToCreate,
+                incidentsToUpdate, incidentsToResolve, finishedNodeDefinitions, branchPullIntentions,
+                variableOperations, finalizingNodeId, finalizingNodeType, taskLease, null, null);
+    }
+
+    /**
+     * Compatibilidade com código anterior à verificação de posse do lock: equivalente a {@code taskLease=null}.
+     */
+    public UnitOfWork(
+            ProcessInstance instanceToCreate,
+            ProcessInstance instanceToUpdate,
+            ProcessInstance instanceToDelete,
+            List<ExecutableTask> executableTasksToCreate,
+            List<ExternalTask> externalTasksToCreate,
+            List<String> executableTasksToDelete,
+            List<ExecutableTask> executableTasksToUpdate,
+            List<String> externalTasksToDelete,
+            List<OutboxEventEntity> events,
+            List<Incident> incidentsToCreate,
+            List<Incident> incidentsToUpdate,
+            List<String> incidentsToResolve,
+            List<String> finishedNodeDefinitions,
+            List<BranchPullIntention> branchPullIntentions,
+            Map<String, VariableOperation> variableOperations,
+            String finalizingNodeId,
+            AttachedTaskType finalizingNodeType
+    ) {
+        this(instanceToCreate, instanceToUpdate, instanceToDelete, executableTasksToCreate, externalTasksToCreate,
+                executableTasksToDelete, executableTasksToUpdate, externalTasksToDelete, events, incidentsToCreate,
+                incidentsToUpdate, incidentsToResolve, finishedNodeDefinitions, branchPullIntentions,
+                variableOperations, finalizingNodeId, finalizingNodeType, null, null, null);
+    }
+
     /**
      * Compatibilidade com todo código anterior ao guard de finalização: equivalente a passar
      * {@code finalizingNodeId=null}, ou seja, nenhum guard é aplicado — o mesmo comportamento de hoje.
@@ -84,6 +161,117 @@ public record UnitOfWork(
         this(instanceToCreate, instanceToUpdate, instanceToDelete, executableTasksToCreate, externalTasksToCreate,
                 executableTasksToDelete, executableTasksToUpdate, externalTasksToDelete, events, incidentsToCreate,
                 incidentsToUpdate, incidentsToResolve, finishedNodeDefinitions, branchPullIntentions,
-                variableOperations, null, null);
+                variableOperations, null, null, null, null, null);
+    }
+
+    /**
+     * Unidade que só cria — instância nova, tarefas e eventos — sem atualizar, apagar, puxar branch de join,
+     * exigir lease ou guard de finalização. É o formato do primeiro commit de uma instância iniciada do zero e o
+     * único aceito por {@code CommandRepository.commitNewInstances}, que pode então agrupar as inserções.
+     */
+    public boolean isCreationOnly() {
+        return instanceToUpdate == null
+                && instanceToDelete == null
+                && isEmpty(executableTasksToDelete)
+                && isEmpty(executableTasksToUpdate)
+                && isEmpty(externalTasksToDelete)
+                && isEmpty(incidentsToCreate)
+                && isEmpty(incidentsToUpdate)
+                && isEmpty(incidentsToResolve)
+                && isEmpty(branchPullIntentions)
+                && isEmpty(loopElementChunksToDelete)
+                && finalizingNodeId == null
+                && taskLease == null;
+    }
+
+    /**
+     * Unidade que não escreve nada — nem instância, nem tarefas, incidentes, pulls de branch ou eventos, e sem
+     * lease ou guard a verificar. {@code commitWork} pode descartá-la sem abrir sessão.
+     */
+    public boolean isEmpty() {
+        return instanceToCreate == null
+                && instanceToUpdate == null
+                && isEmpty(events)
+                && isEmpty(executableTasksToCreate)
+                && isEmpty(externalTasksToCreate)
+                && isEmpty(loopElementChunksToCreate)
+                && isCreationOnly();
+    }
+
+    /**
+     * Unidade que só atualiza o documento da própria instância (variáveis, status, contadores de nós
+     * finalizados) — sem tarefas, incidentes, pulls de branch, lease ou guard. Os {@code events} não entram
+     * nesta conta: cabe ao repositório decidir se o outbox é mais um documento a gravar. Com um único documento,
+     * a escrita já é atômica por si e dispensa a transação multi-documento.
+     */
+    public boolean isInstanceUpdateOnly() {
+        return instanceToUpdate != null
+                && instanceToCreate == null
+                && instanceToDelete == null
+                && isEmpty(executableTasksToCreate)
+                && isEmpty(externalTasksToCreate)
+                && isEmpty(executableTasksToDelete)
+                && isEmpty(executableTasksToUpdate)
+                && isEmpty(externalTasksToDelete)
+                && isEmpty(incidentsToCreate)
+                && isEmpty(incidentsToUpdate)
+                && isEmpty(incidentsToResolve)
+                && isEmpty(branchPullIntentions)
+                && isEmpty(loopElementChunksToCreate)
+                && isEmpty(loopElementChunksToDelete)
+                && finalizingNodeId == null
+                && taskLease == null;
+    }
+
+    /**
+     * A mesma unidade refeita sobre {@code current} — a instância relida depois de um
+     * {@code InstanceVersionConflictException}. {@code instanceToUpdate}/{@code instanceToDelete} passam a carregar
+     * a versão e os campos de {@code current}, com as {@code variableOperations} desta unidade aplicadas por cima
+     * e o status, fim e valor de negócio que ela definiu. O resto (tarefas, eventos, pulls de branch, lease) segue
+     * igual: nada da unidade rejeitada chegou a ser gravado.
+     */
+    public UnitOfWork rebasedOn(ProcessInstance current) {
+        return new UnitOfWork(instanceToCreate,
+                instanceToUpdate != null ? rebase(instanceToUpdate, current) : null,
+                instanceToDelete != null ? rebase(instanceToDelete, current) : null,
+                executableTasksToCreate, externalTasksToCreate, executableTasksToDelete, executableTasksToUpdate,
+                externalTasksToDelete, events, incidentsToCreate, incidentsToUpdate, incidentsToResolve,
+                finishedNodeDefinitions, branchPullIntentions, variableOperations, finalizingNodeId, finalizingNodeType,
+                taskLease, loopElementChunksToCreate, loopElementChunksToDelete);
+    }
+
+    private ProcessInstance rebase(ProcessInstance rejected, ProcessInstance current) {
+        Map<String, ProcessVariable> variables = new HashMap<>(current.variables() != null ? current.variables() : Map.of());
+        if (variableOperations != null) {
+            variableOperations.forEach((name, operation) -> {
+                if (operation.type() == VariableOpType.SET) {
+                    variables.put(name, operation.value());
+                } else if (operation.type() == VariableOpType.UNSET) {
+                    variables.remove(name);
+                }
+            });
+        }
+
+        return ProcessInstance.builder()
+                .id(current.id())
+                .businessKey(current.businessKey())
+                .businessValue(rejected.businessValue() != null ? rejected.businessValue() : current.businessValue())
+                .tenantId(current.tenantId())
+                .status(rejected.status() != null ? rejected.status() : current.status())
+                .processDefinitionId(current.processDefinitionId())
+                .variables(variables)
+                .startedAt(current.startedAt())
+                .endedAt(rejected.endedAt() != null ? rejected.endedAt() : current.endedAt())
+                .origin(current.origin())
+                .version(current.version())
+                .parentInstanceId(current.parentInstanceId())
+                .callerTaskId(current.callerTaskId())
+                .callerBranchId(current.callerBranchId())
+                .activeNodes(current.activeNodes())
+                .build();
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
     }
-}
\ No newline at end of file
+}
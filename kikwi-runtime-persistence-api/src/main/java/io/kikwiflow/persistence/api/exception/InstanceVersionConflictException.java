@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.exception;
+
+/**
+ * O commit de uma {@code UnitOfWork} foi rejeitado porque a instância mudou desde que foi lida: a versão
+ * gravada não é mais a {@code expectedVersion} que a unidade carrega em {@code instanceToUpdate}/
+ * {@code instanceToDelete}. Nada da unidade foi aplicado — quem chamou pode recarregar a instância e refazer a
+ * continuação.
+ */
+public class InstanceVersionConflictException extends OptimisticLockingFailureException {
+
+    private final String processInstanceId;
+    private final int expectedVersion;
+
+    public InstanceVersionConflictException(String processInstanceId, int expectedVersion) {
+        super("A instância " + processInstanceId + " foi alterada concorrentemente (versão esperada: " + expectedVersion + ").");
+        this.processInstanceId = processInstanceId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public int getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.exception;
+
+/**
+ * O commit de uma tarefa foi rejeitado porque o worker não detém mais o lock dela: o lease expirou e outro nó
+ * a readquiriu (ou ela já foi concluída por ele). O trabalho deste worker deve ser descartado — não é uma falha
+ * da tarefa e não deve gerar retry nem incidente.
+ */
+public class LockOwnershipLostException extends OptimisticLockingFailureException {
+    public LockOwnershipLostException(String message) {
+        super(message);
+    }
+}
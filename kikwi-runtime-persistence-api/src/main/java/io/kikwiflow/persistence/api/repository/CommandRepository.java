@@ -7,9 +7,11 @@ import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.MatchPolicy;
 import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
 import io.kikwiflow.persistence.api.data.UnitOfWork;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,7 +23,66 @@ public interface CommandRepository {
 
     void commitWork(UnitOfWork unitOfWork);
 
-    List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis);
+    /**
+     * Persiste, numa única transação, várias unidades que só criam (ver {@link UnitOfWork#isCreationOnly()}) — o
+     * início em lote de instâncias. A implementação pode agrupar as inserções por coleção em vez de repetir o
+     * {@link #commitWork} unidade a unidade. Tudo ou nada: se a transação falhar, nenhuma unidade do lote fica
+     * persistida, e cabe a quem chamou isolar o item com problema.
+     *
+     * @throws IllegalArgumentException se alguma unidade não for só de criação.
+     */
+    void commitNewInstances(List<UnitOfWork> unitsOfWork);
+
+    /**
+     * Persiste várias unidades de trabalho quaisquer numa única transação, aplicando cada uma exatamente como
+     * {@link #commitWork} (guards, lease, pulls de branch) — usado pela correlação em lote. Tudo ou nada: se
+     * qualquer unidade falhar, nada do lote fica persistido. As unidades devem tocar instâncias distintas.
+     */
+    void commitWorkBatch(List<UnitOfWork> unitsOfWork);
+
+    default List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis) {
+        return findAndLockDueTasks(now, limit, workerId, lockTimeoutMillis, TaskAcquisitionCriteria.none());
+    }
+
+    /**
+     * Trava até {@code limit} tarefas vencidas (ou com lock expirado) para {@code workerId}, respeitando as
+     * restrições de {@code criteria} (ver {@link TaskAcquisitionCriteria}).
+     */
+    List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis,
+                                             TaskAcquisitionCriteria criteria);
+
+    /**
+     * Renova o lease de todas as tarefas em execução no nó numa única escrita: avança {@code acquiredAt} para
+     * {@code acquiredAt} informado nas tarefas de {@code taskIds} que continuam {@code LOCKED} por
+     * {@code workerId}. Tarefas já concluídas ou readquiridas por outro nó são ignoradas.
+     *
+     * @return quantas tarefas tiveram o lease renovado.
+     */
+    long renewLocks(List<String> taskIds, String workerId, Instant acquiredAt);
+
+    /**
+     * Devolve ao pool, numa única escrita, tarefas travadas por {@code workerId} que não chegaram a executar
+     * (drain do shutdown): voltam a {@code PENDING}, sem {@code executorId}/{@code acquiredAt}, e ficam
+     * imediatamente adquiríveis por outro nó em vez de esperar o lockTimeout. Tarefas que já não estão
+     * {@code LOCKED} por este worker são ignoradas.
+     *
+     * @return quantas tarefas foram liberadas.
+     */
+    long releaseLocks(List<String> taskIds, String workerId);
+
+    /**
+     * Heartbeat de membresia do modo de aquisição particionado: registra {@code memberId} como vivo em
+     * {@code now} e retorna, ordenados, todos os membros com heartbeat mais recente que
+     * {@code now - memberTtlMillis} (incluindo o próprio). Cada nó deriva dessa lista, de forma determinística,
+     * as partições que detém — não há eleição nem lock distribuído.
+     */
+    List<String> heartbeatAcquisitionMember(String memberId, Instant now, long memberTtlMillis);
+
+    /**
+     * Remove {@code memberId} da membresia (shutdown), para que as partições dele sejam redistribuídas no
+     * próximo heartbeat dos demais em vez de esperar o TTL.
+     */
+    void removeAcquisitionMember(String memberId);
 
     /**
      * @param events critical events já construídos pelo chamador (ex.: {@code PROCESS_VARIABLE_CHANGED}) para
@@ -56,6 +117,12 @@ public interface CommandRepository {
      */
     Optional<ExternalTask> findExternalTaskByCorrelationKey(String correlationKey, String tenantId);
 
+    /**
+     * Versão em lote de {@link #findExternalTaskByCorrelationKey}: todas as tarefas ativas aguardando alguma das
+     * chaves informadas, numa única consulta. Chaves sem tarefa simplesmente não aparecem no resultado.
+     */
+    List<ExternalTask> findExternalTasksByCorrelationKeys(Collection<String> correlationKeys, String tenantId);
+
     /**
      * Apaga atomicamente a tarefa-filha {@code childTaskId} e resolve a pendência na tarefa-mãe
      * {@code parentTaskId} de acordo com a {@code matchPolicy} (ALL: remove a chave da lista de pendências e
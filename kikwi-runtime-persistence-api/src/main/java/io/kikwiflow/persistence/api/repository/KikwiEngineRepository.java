@@ -16,6 +16,16 @@
  */
 package io.kikwiflow.persistence.api.repository;
 
+import io.kikwiflow.persistence.api.data.TaskAcquisitionFeatures;
+
 public interface KikwiEngineRepository extends QueryRepository, CommandRepository {
     void ensureIndexes();
+
+    /**
+     * Como {@link #ensureIndexes()}, incluindo os índices dos modos de aquisição ligados em {@code features}.
+     * Repositórios sem índices por modo de aquisição ignoram o parâmetro.
+     */
+    default void ensureIndexes(TaskAcquisitionFeatures features) {
+        ensureIndexes();
+    }
 }
@@ -24,6 +24,7 @@ import io.kikwiflow.model.execution.ProcessInstance;
 import io.kikwiflow.model.execution.node.ExecutableTask;
 import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.model.stats.KKFMetrics;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
 import io.kikwiflow.persistence.api.query.ExternalTaskQuery;
 import io.kikwiflow.persistence.api.query.ProcessInstanceQuery;
 
@@ -51,6 +52,8 @@ public interface QueryRepository {
 
     List<ProcessInstance> findProcessInstancesByIdIn(List<String> ids);
 
+    List<ExternalTask> findExternalTasksByIdIn(List<String> ids);
+
     List<ExternalTask> findExternalTasksByProcessInstanceId(String processInstanceId);
 
     Optional<ProcessDefinition> findProcessDefinitionByKey(String processDefinitionKey);
@@ -85,6 +88,13 @@ public interface QueryRepository {
 
     List<ExecutableTask> findExecutableTasksByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Blocos de elementos da coordenadora {@code coordinatorTaskId} que cobrem algum índice em
+     * {@code [fromIndex, fromIndex + count)}, em ordem de {@code firstIndex} — os elementos ainda não iniciados de
+     * uma call activity PARALLEL com {@code maxConcurrency}. Lista vazia quando não resta elemento a iniciar.
+     */
+    List<LoopElementChunk> findLoopElementChunks(String coordinatorTaskId, int fromIndex, int count);
+
     /**
      * Retorna o histórico de eventos críticos ({@link OutboxEventEntity}) registrados para uma instância de
      * processo, ordenado por {@code timestamp} ascendente — permite reconstruir por quais nós a instância
@@ -0,0 +1,399 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.api.data;
+
+import io.kikwiflow.model.event.CriticalEventType;
+import io.kikwiflow.model.event.FlowNodeFinished;
+import io.kikwiflow.model.event.OutboxEventEntity;
+import io.kikwiflow.model.execution.BranchPullIntention;
+import io.kikwiflow.model.execution.Incident;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.model.execution.node.AttachedTaskType;
+import io.kikwiflow.model.execution.node.ExecutableTask;
+import io.kikwiflow.model.execution.node.ExternalTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cada teste liga um único campo sobre a unidade de referência: os classificadores decidem se o repositório
+ * pode pular a sessão ou a transação, então qualquer campo esquecido vira escrita perdida.
+ */
+@DisplayName("UnitOfWork")
+class UnitOfWorkTest {
+
+    private static final String INSTANCE_ID = "instance-1";
+
+    @Nested
+    @DisplayName("isEmpty")
+    class IsEmpty {
+
+        @Test
+        void unitWithNothingSetIsEmpty() {
+            assertTrue(unit(u -> {}).isEmpty());
+        }
+
+        @Test
+        void unitWithOnlyEmptyListsIsEmpty() {
+            assertTrue(unit(Fields::emptyLists).isEmpty());
+        }
+
+        @Test
+        void instanceToCreateIsNotEmpty() {
+            assertFalse(unit(u -> u.instanceToCreate = instance()).isEmpty());
+        }
+
+        @Test
+        void instanceToUpdateIsNotEmpty() {
+            assertFalse(unit(u -> u.instanceToUpdate = instance()).isEmpty());
+        }
+
+        @Test
+        void instanceToDeleteIsNotEmpty() {
+            assertFalse(unit(u -> u.instanceToDelete = instance()).isEmpty());
+        }
+
+        @Test
+        void executableTasksToCreateIsNotEmpty() {
+            assertFalse(unit(u -> u.executableTasksToCreate = List.of(executableTask())).isEmpty());
+        }
+
+        @Test
+        void externalTasksToCreateIsNotEmpty() {
+            assertFalse(unit(u -> u.externalTasksToCreate = List.of(externalTask())).isEmpty());
+        }
+
+        @Test
+        void executableTasksToDeleteIsNotEmpty() {
+            assertFalse(unit(u -> u.executableTasksToDelete = List.of("task-1")).isEmpty());
+        }
+
+        @Test
+        void executableTasksToUpdateIsNotEmpty() {
+            assertFalse(unit(u -> u.executableTasksToUpdate = List.of(executableTask())).isEmpty());
+        }
+
+        @Test
+        void externalTasksToDeleteIsNotEmpty() {
+            assertFalse(unit(u -> u.externalTasksToDelete = List.of("external-1")).isEmpty());
+        }
+
+        @Test
+        void eventsOnlyIsNotEmpty() {
+            assertFalse(unit(u -> u.events = List.of(event())).isEmpty());
+        }
+
+        @Test
+        void incidentsToCreateIsNotEmpty() {
+            assertFalse(unit(u -> u.incidentsToCreate = List.of(incident())).isEmpty());
+        }
+
+        @Test
+        void incidentsToUpdateIsNotEmpty() {
+            assertFalse(unit(u -> u.incidentsToUpdate = List.of(incident())).isEmpty());
+        }
+
+        @Test
+        void incidentsToResolveIsNotEmpty() {
+            assertFalse(unit(u -> u.incidentsToResolve = List.of("incident-1")).isEmpty());
+        }
+
+        @Test
+        void branchPullIntentionsIsNotEmpty() {
+            assertFalse(unit(u -> u.branchPullIntentions = List.of(branchPull())).isEmpty());
+        }
+
+        @Test
+        void finalizingNodeIdIsNotEmpty() {
+            assertFalse(unit(u -> {
+                u.finalizingNodeId = "task-1";
+                u.finalizingNodeType = AttachedTaskType.EXECUTABLE_TASK;
+            }).isEmpty());
+        }
+
+        @Test
+        void leaseOnlyIsNotEmpty() {
+            assertFalse(unit(u -> u.taskLease = lease()).isEmpty());
+        }
+
+        @Test
+        void loopElementChunksToCreateIsNotEmpty() {
+            assertFalse(unit(u -> u.loopElementChunksToCreate = List.of(chunk())).isEmpty());
+        }
+
+        @Test
+        void loopElementChunksToDeleteOnlyIsNotEmpty() {
+            assertFalse(unit(u -> u.loopElementChunksToDelete = List.of("chunk-1")).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("isInstanceUpdateOnly")
+    class IsInstanceUpdateOnly {
+
+        @Test
+        void instanceUpdateWithVariablesFinishedNodesAndEventsIsUpdateOnly() {
+            assertTrue(updateOnly(u -> {
+                u.variableOperations = Map.of("approved", new VariableOperation(new ProcessVariable("approved", true), VariableOpType.SET));
+                u.finishedNodeDefinitions = List.of("NODE_A");
+                u.events = List.of(event());
+            }).isInstanceUpdateOnly(), "Eventos não desqualificam: o repositório decide se o outbox é mais um documento.");
+        }
+
+        @Test
+        void instanceUpdateWithOnlyEmptyListsIsUpdateOnly() {
+            assertTrue(updateOnly(Fields::emptyLists).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void unitWithoutInstanceToUpdateIsNotUpdateOnly() {
+            assertFalse(unit(u -> u.events = List.of(event())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void instanceToCreateDisqualifies() {
+            assertFalse(updateOnly(u -> u.instanceToCreate = instance()).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void instanceToDeleteDisqualifies() {
+            assertFalse(updateOnly(u -> u.instanceToDelete = instance()).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void executableTasksToCreateDisqualifies() {
+            assertFalse(updateOnly(u -> u.executableTasksToCreate = List.of(executableTask())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void externalTasksToCreateDisqualifies() {
+            assertFalse(updateOnly(u -> u.externalTasksToCreate = List.of(externalTask())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void executableTasksToDeleteDisqualifies() {
+            assertFalse(updateOnly(u -> u.executableTasksToDelete = List.of("task-1")).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void executableTasksToUpdateDisqualifies() {
+            assertFalse(updateOnly(u -> u.executableTasksToUpdate = List.of(executableTask())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void externalTasksToDeleteDisqualifies() {
+            assertFalse(updateOnly(u -> u.externalTasksToDelete = List.of("external-1")).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void incidentsToCreateDisqualifies() {
+            assertFalse(updateOnly(u -> u.incidentsToCreate = List.of(incident())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void incidentsToUpdateDisqualifies() {
+            assertFalse(updateOnly(u -> u.incidentsToUpdate = List.of(incident())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void incidentsToResolveDisqualifies() {
+            assertFalse(updateOnly(u -> u.incidentsToResolve = List.of("incident-1")).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void branchPullIntentionsDisqualifies() {
+            assertFalse(updateOnly(u -> u.branchPullIntentions = List.of(branchPull())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void finalizingNodeIdDisqualifies() {
+            assertFalse(updateOnly(u -> {
+                u.finalizingNodeId = "task-1";
+                u.finalizingNodeType = AttachedTaskType.EXECUTABLE_TASK;
+            }).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void leaseDisqualifies() {
+            assertFalse(updateOnly(u -> u.taskLease = lease()).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void loopElementChunksToCreateDisqualifies() {
+            assertFalse(updateOnly(u -> u.loopElementChunksToCreate = List.of(chunk())).isInstanceUpdateOnly());
+        }
+
+        @Test
+        void loopElementChunksToDeleteDisqualifies() {
+            assertFalse(updateOnly(u -> u.loopElementChunksToDelete = List.of("chunk-1")).isInstanceUpdateOnly());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebasedOn")
+    class RebasedOn {
+
+        @Test
+        void instanceToUpdateTakesTheCurrentVersionAndVariablesWithItsOwnOperationsOnTop() {
+            UnitOfWork rejected = updateOnly(u -> u.variableOperations = Map.of(
+                    "approved", new VariableOperation(new ProcessVariable("approved", true), VariableOpType.SET),
+                    "draft", new VariableOperation(null, VariableOpType.UNSET)));
+            ProcessInstance current = ProcessInstance.builder().id(INSTANCE_ID).processDefinitionId("def-v1").version(4)
+                    .variables(Map.of(
+                            "auditedBy", new ProcessVariable("auditedBy", "auditor-1"),
+                            "draft", new ProcessVariable("draft", "x")))
+                    .build();
+
+            ProcessInstance rebased = rejected.rebasedOn(current).instanceToUpdate();
+
+            assertEquals(4, rebased.version());
+            assertEquals(Map.of(
+                    "auditedBy", new ProcessVariable("auditedBy", "auditor-1"),
+                    "approved", new ProcessVariable("approved", true)), rebased.variables());
+        }
+
+        @Test
+        void instanceToDeleteTakesTheCurrentVersion() {
+            UnitOfWork rejected = unit(u -> u.instanceToDelete = instance());
+            ProcessInstance current = ProcessInstance.builder().id(INSTANCE_ID).processDefinitionId("def-v1").version(2).build();
+
+            assertEquals(2, rejected.rebasedOn(current).instanceToDelete().version());
+        }
+
+        @Test
+        void everythingButTheInstanceIsKept() {
+            UnitOfWork rejected = updateOnly(u -> {
+                u.executableTasksToCreate = List.of(executableTask());
+                u.branchPullIntentions = List.of(branchPull());
+                u.taskLease = lease();
+            });
+
+            UnitOfWork rebased = rejected.rebasedOn(instance());
+
+            assertEquals(rejected.executableTasksToCreate(), rebased.executableTasksToCreate());
+            assertEquals(rejected.branchPullIntentions(), rebased.branchPullIntentions());
+            assertEquals(rejected.taskLease(), rebased.taskLease());
+        }
+    }
+
+    private static UnitOfWork unit(Consumer<Fields> customizer) {
+        Fields fields = new Fields();
+        customizer.accept(fields);
+        return fields.build();
+    }
+
+    private static UnitOfWork updateOnly(Consumer<Fields> customizer) {
+        return unit(fields -> {
+            fields.instanceToUpdate = instance();
+            customizer.accept(fields);
+        });
+    }
+
+    private static ProcessInstance instance() {
+        return ProcessInstance.builder().id(INSTANCE_ID).processDefinitionId("def-v1").variables(Map.of()).build();
+    }
+
+    private static ExecutableTask executableTask() {
+        return ExecutableTask.builder().id("task-1").processInstanceId(INSTANCE_ID).taskDefinitionId("NODE_A").build();
+    }
+
+    private static ExternalTask externalTask() {
+        return ExternalTask.builder().id("external-1").processInstanceId(INSTANCE_ID).taskDefinitionId("NODE_B").build();
+    }
+
+    private static OutboxEventEntity event() {
+        return new OutboxEventEntity(CriticalEventType.FLOW_NODE_FINISHED,
+                FlowNodeFinished.builder().processInstanceId(INSTANCE_ID).build());
+    }
+
+    private static Incident incident() {
+        return new Incident("incident-1", "HANDLER_ERROR", "falhou", null, "def-v1", INSTANCE_ID, null, null, null, "NODE_A");
+    }
+
+    private static BranchPullIntention branchPull() {
+        return new BranchPullIntention("join-1", "branch-a", INSTANCE_ID);
+    }
+
+    private static TaskLease lease() {
+        return new TaskLease("task-1", "executor-1", INSTANCE_ID);
+    }
+
+    private static LoopElementChunk chunk() {
+        return new LoopElementChunk(LoopElementChunk.idOf("coordinator-1", 0), "coordinator-1", INSTANCE_ID, 0, List.of());
+    }
+
+    /**
+     * Todos os campos da unidade, {@code null} por padrão, para montar o construtor canônico ligando um de cada vez.
+     */
+    private static final class Fields {
+        private ProcessInstance instanceToCreate;
+        private ProcessInstance instanceToUpdate;
+        private ProcessInstance instanceToDelete;
+        private List<ExecutableTask> executableTasksToCreate;
+        private List<ExternalTask> externalTasksToCreate;
+        private List<String> executableTasksToDelete;
+        private List<ExecutableTask> executableTasksToUpdate;
+        private List<String> externalTasksToDelete;
+        private List<OutboxEventEntity> events;
+        private List<Incident> incidentsToCreate;
+        private List<Incident> incidentsToUpdate;
+        private List<String> incidentsToResolve;
+        private List<String> finishedNodeDefinitions;
+        private List<BranchPullIntention> branchPullIntentions;
+        private Map<String, VariableOperation> variableOperations;
+        private String finalizingNodeId;
+        private AttachedTaskType finalizingNodeType;
+        private TaskLease taskLease;
+        private List<LoopElementChunk> loopElementChunksToCreate;
+        private List<String> loopElementChunksToDelete;
+
+        private void emptyLists() {
+            executableTasksToCreate = List.of();
+            externalTasksToCreate = List.of();
+            executableTasksToDelete = List.of();
+            executableTasksToUpdate = List.of();
+            externalTasksToDelete = List.of();
+            events = List.of();
+            incidentsToCreate = List.of();
+            incidentsToUpdate = List.of();
+            incidentsToResolve = List.of();
+            finishedNodeDefinitions = List.of();
+            branchPullIntentions = List.of();
+            variableOperations = Map.of();
+            loopElementChunksToCreate = List.of();
+            loopElementChunksToDelete = List.of();
+        }
+
+        private UnitOfWork build() {
+            return new UnitOfWork(instanceToCreate, instanceToUpdate, instanceToDelete, executableTasksToCreate,
+                    externalTasksToCreate, executableTasksToDelete, executableTasksToUpdate, externalTasksToDelete,
+                    events, incidentsToCreate, incidentsToUpdate, incidentsToResolve, finishedNodeDefinitions,
+                    branchPullIntentions, variableOperations, finalizingNodeId, finalizingNodeType, taskLease,
+                    loopElementChunksToCreate, loopElementChunksToDelete);
+        }
+    }
+}
@@ -18,9 +18,13 @@
 package io.kikwiflow.persistence.mongodb.autoconfigure;
 
 import com.mongodb.client.MongoClient;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionFeatures;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
+import io.kikwiflow.persistence.mongodb.autoconfigure.properties.KikwiflowMongoAcquisitionProperties;
+import io.kikwiflow.persistence.mongodb.autoconfigure.properties.KikwiflowMongoJoinProperties;
 import io.kikwiflow.persistence.mongodb.autoconfigure.properties.KikwiflowOutboxProperties;
 import io.kikwiflow.persistence.mongodb.repository.MongoKikwiEngineRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -38,22 +42,35 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration
 @ConditionalOnClass(MongoClient.class)
-@EnableConfigurationProperties(KikwiflowOutboxProperties.class)
+@EnableConfigurationProperties({KikwiflowOutboxProperties.class, KikwiflowMongoAcquisitionProperties.class,
+        KikwiflowMongoJoinProperties.class})
 public class MongoDbPersistenceAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(KikwiEngineRepository.class)
     public KikwiEngineRepository kikwiEngineRepository(MongoClient mongoClient, MongoProperties mongoProperties,
-                                                         KikwiflowOutboxProperties outboxProperties) {
+                                                         KikwiflowOutboxProperties outboxProperties,
+                                                         KikwiflowMongoAcquisitionProperties acquisitionProperties,
+                                                         KikwiflowMongoJoinProperties joinProperties) {
         String databaseName = mongoProperties.getDatabase();
         return new MongoKikwiEngineRepository(mongoClient, databaseName, outboxProperties.eventsEnabled(),
-                outboxProperties.ttlSeconds());
+                outboxProperties.ttlSeconds(), acquisitionProperties.batchLockEnabled(),
+                joinProperties.arrivalCounterEnabled());
     }
 
+    /**
+     * Sem o bean {@link TaskAcquisitionFeatures} do engine, cria só os índices da aquisição padrão. Antes,
+     * recusa subir com o fan-in por contador desligado e junções dele em voo (ver
+     * {@link MongoKikwiEngineRepository#verifyJoinStrategy()}).
+     */
     @Bean
-    public ApplicationRunner indexCreator(KikwiEngineRepository kikwiEngineRepository){
+    public ApplicationRunner indexCreator(KikwiEngineRepository kikwiEngineRepository,
+                                          ObjectProvider<TaskAcquisitionFeatures> taskAcquisitionFeatures){
         return args -> {
-            kikwiEngineRepository.ensureIndexes();
+            if (kikwiEngineRepository instanceof MongoKikwiEngineRepository mongoRepository) {
+                mongoRepository.verifyJoinStrategy();
+            }
+            kikwiEngineRepository.ensureIndexes(taskAcquisitionFeatures.getIfAvailable(TaskAcquisitionFeatures::none));
         };
     }
 }
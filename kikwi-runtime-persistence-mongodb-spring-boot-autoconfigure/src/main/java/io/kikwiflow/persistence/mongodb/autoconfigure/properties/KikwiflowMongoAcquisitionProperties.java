@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.mongodb.autoconfigure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Estratégia de aquisição de tarefas do {@code MongoKikwiEngineRepository}. Com {@code batch-lock-enabled}
+ * ligado, cada poll trava o lote inteiro com um único {@code updateMany} em vez de um
+ * {@code findOneAndUpdate} por tarefa — o custo do poll deixa de crescer com
+ * {@code kikwiflow.execution.task-acquisition-max-tasks}.
+ */
+@ConfigurationProperties(prefix = "kikwiflow.mongodb.acquisition")
+public record KikwiflowMongoAcquisitionProperties(
+        @DefaultValue("false") boolean batchLockEnabled
+) {
+}
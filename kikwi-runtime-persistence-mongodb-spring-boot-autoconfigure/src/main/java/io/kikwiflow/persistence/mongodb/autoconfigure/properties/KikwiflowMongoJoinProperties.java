@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.mongodb.autoconfigure.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Estratégia de fan-in das junções ({@code JOIN_GATEWAY} e coordenadoras de call activity) no
+ * {@code MongoKikwiEngineRepository}. Com {@code arrival-counter-enabled} ligado, cada branch que chega grava só o
+ * seu documento em {@code join_arrivals}, a prontidão é uma contagem delas e só a última chegada escreve na junção,
+ * virando-a para {@code PENDING} — em vez de reescrever {@code pendingBranchIds} com um update em pipeline a cada
+ * branch. Desligar o contador com junções dele em voo é recusado na subida.
+ */
+@ConfigurationProperties(prefix = "kikwiflow.mongodb.join")
+public record KikwiflowMongoJoinProperties(
+        @DefaultValue("false") boolean arrivalCounterEnabled
+) {
+}
@@ -57,6 +57,10 @@ public final class ExecutableTaskMapper {
                 .append("pendingBranchIds", task.pendingBranchIds() != null ? task.pendingBranchIds() : null)
                 .append("loopIndex", task.loopIndex())
                 .append("occurrence", task.occurrence())
+                .append("executor", task.executor())
+                .append("topic", task.topic())
+                .append("priority", task.priority())
+                .append("partition", task.partition())
                 .append("loopElement", ProcessVariableMapper.toDocument(task.loopElement()))
                 .append("pendingLoopElements", task.pendingLoopElements() != null ?
                         task.pendingLoopElements().stream().map(ProcessVariableMapper::toDocument).toList() :
@@ -135,6 +139,10 @@ public final class ExecutableTaskMapper {
                 .pendingBranchIds(pendingBranches)
                 .loopIndex(doc.getInteger("loopIndex"))
                 .occurrence(doc.getInteger("occurrence"))
+                .executor(doc.getString("executor"))
+                .topic(doc.getString("topic"))
+                .priority(doc.getLong("priority"))
+                .partition(doc.getInteger("partition"))
                 .loopElement(ProcessVariableMapper.fromDocumentToVariable(doc.get("loopElement", Document.class)))
                 .pendingLoopElements(pendingLoopElements)
                 .branchId(doc.getString("branchId"))
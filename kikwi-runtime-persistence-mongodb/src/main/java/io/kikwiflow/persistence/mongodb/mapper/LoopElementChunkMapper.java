@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.mongodb.mapper;
+
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import org.bson.Document;
+
+import java.util.Collections;
+import java.util.List;
+
+public class LoopElementChunkMapper {
+
+    public static Document toDocument(LoopElementChunk chunk) {
+        return new Document("_id", chunk.id())
+                .append("coordinatorTaskId", chunk.coordinatorTaskId())
+                .append("processInstanceId", chunk.processInstanceId())
+                .append("firstIndex", chunk.firstIndex())
+                .append("lastIndex", chunk.lastIndex())
+                .append("elements", chunk.elements().stream().map(ProcessVariableMapper::toDocument).toList());
+    }
+
+    public static LoopElementChunk fromDocument(Document doc) {
+        List<ProcessVariable> elements = doc.getList("elements", Document.class, Collections.emptyList()).stream()
+                .map(ProcessVariableMapper::fromDocumentToVariable)
+                .toList();
+
+        return new LoopElementChunk(
+                doc.getString("_id"),
+                doc.getString("coordinatorTaskId"),
+                doc.getString("processInstanceId"),
+                doc.getInteger("firstIndex"),
+                elements);
+    }
+}
@@ -46,6 +46,7 @@ public class CallActivityDefinitionMapper {
                 .collectionVariable(doc.getString("collectionVariable"))
                 .elementVariable(doc.getString("elementVariable"))
                 .iterationMode(iterationModeStr != null ? CallActivityIterationMode.valueOf(iterationModeStr) : null)
+                .maxConcurrency(doc.getInteger("maxConcurrency"))
                 .extensionProperties(ExtensionPropertiesMapper.mapToDefinition(doc.get("extensionProperties", Document.class)))
                 .outgoing(SequenceFlowMapper.mapToDefinitionList(doc))
                 .boundaryEventIds(doc.getList("boundaryEventIds", String.class))
@@ -58,6 +59,7 @@ public class CallActivityDefinitionMapper {
         doc.append("collectionVariable", ca.collectionVariable());
         doc.append("elementVariable", ca.elementVariable());
         doc.append("iterationMode", ca.iterationMode() != null ? ca.iterationMode().name() : null);
+        doc.append("maxConcurrency", ca.maxConcurrency());
 
         if (ca.boundaryEventIds() != null) {
             doc.append("boundaryEventIds", ca.boundaryEventIds());
@@ -18,16 +18,23 @@
 package io.kikwiflow.persistence.mongodb.mapper.event;
 
 import io.kikwiflow.model.event.FlowNodeFinished;
+import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.NodeExecutionStatus;
 import io.kikwiflow.persistence.mongodb.mapper.InstantMapper;
+import io.kikwiflow.persistence.mongodb.mapper.ProcessVariableMapper;
+import io.kikwiflow.persistence.mongodb.util.MongoKeyEncoder;
 import org.bson.Document;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public final class FlowNodeFinishedMapper {
 
     private FlowNodeFinishedMapper() {}
 
     public static Document toDocument(FlowNodeFinished event) {
-        return new Document("flowNodeDefinitionId", event.getFlowNodeDefinitionId())
+        Document doc = new Document("flowNodeDefinitionId", event.getFlowNodeDefinitionId())
                 .append("flowNodeType", event.getFlowNodeType())
                 .append("flowNodeName", event.getFlowNodeName())
                 .append("flowNodeDescription", event.getFlowNodeDescription())
@@ -42,9 +49,32 @@ public final class FlowNodeFinishedMapper {
                 .append("errorType", event.getErrorType())
                 .append("errorMessage", event.getErrorMessage())
                 .append("errorStackTrace", event.getErrorStackTrace());
+
+        if (event.getChangedVariables() != null) {
+            Document changedDoc = new Document();
+            event.getChangedVariables().forEach((key, variable) ->
+                    changedDoc.put(MongoKeyEncoder.encode(key), ProcessVariableMapper.toDocument(variable)));
+            doc.append("changedVariables", changedDoc);
+        }
+        if (event.getRemovedVariables() != null) {
+            doc.append("removedVariables", event.getRemovedVariables());
+        }
+
+        return doc;
     }
 
     public static FlowNodeFinished fromDocument(Document doc) {
+        Map<String, ProcessVariable> changedVariables = null;
+        Document changedDoc = doc.get("changedVariables", Document.class);
+        if (changedDoc != null) {
+            changedVariables = changedDoc.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            entry -> MongoKeyEncoder.decode(entry.getKey()),
+                            entry -> ProcessVariableMapper.fromDocumentToVariable((Document) entry.getValue())
+                    ));
+        }
+        List<String> removedVariables = doc.getList("removedVariables", String.class);
+
         return FlowNodeFinished.builder()
                 .flowNodeDefinitionId(doc.getString("flowNodeDefinitionId"))
                 .flowNodeType(doc.getString("flowNodeType"))
@@ -63,6 +93,8 @@ public final class FlowNodeFinishedMapper {
                 .errorType(doc.getString("errorType"))
                 .errorMessage(doc.getString("errorMessage"))
                 .errorStackTrace(doc.getString("errorStackTrace"))
+                .changedVariables(changedVariables)
+                .removedVariables(removedVariables)
                 .build();
     }
 }
@@ -36,6 +36,7 @@ import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
@@ -61,8 +62,13 @@ import io.kikwiflow.model.execution.node.ExternalTask;
 import io.kikwiflow.model.shared.PageResult;
 import io.kikwiflow.model.stats.KKFMetrics;
 import io.kikwiflow.persistence.api.data. UnitOfWork;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionCriteria;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionFeatures;
 import io.kikwiflow.persistence.api.data.VariableOpType;
 import io.kikwiflow.persistence.api.data.VariableOperation;
+import io.kikwiflow.persistence.api.exception.InstanceVersionConflictException;
+import io.kikwiflow.persistence.api.exception.LockOwnershipLostException;
 import io.kikwiflow.persistence.api.exception.OptimisticLockingFailureException;
 import io.kikwiflow.persistence.api.query.ExternalTaskQuery;
 import io.kikwiflow.persistence.api.query.ProcessInstanceQuery;
@@ -71,6 +77,7 @@ import io.kikwiflow.persistence.mongodb.mapper.ExecutableTaskMapper;
 import io.kikwiflow.persistence.mongodb.mapper.ExternalTaskMapper;
 import io.kikwiflow.persistence.mongodb.mapper.IncidentMapper;
 import io.kikwiflow.persistence.mongodb.mapper.InstantMapper;
+import io.kikwiflow.persistence.mongodb.mapper.LoopElementChunkMapper;
 import io.kikwiflow.persistence.mongodb.mapper.definition.ProcessDefinitionMapper;
 import io.kikwiflow.persistence.mongodb.mapper.ProcessInstanceMapper;
 import io.kikwiflow.persistence.mongodb.mapper.ProcessVariableMapper;
@@ -80,6 +87,7 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -88,13 +96,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.gte;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lte;
 import static com.mongodb.client.model.Filters.ne;
+import static com.mongodb.client.model.Filters.nin;
 import static com.mongodb.client.model.Filters.or;
 
 public class MongoKikwiEngineRepository implements KikwiEngineRepository {
@@ -105,25 +118,53 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
     private final String EXECUTABLE_TASK_COLLECTION = "executable_tasks";
     private final String INCIDENTS_COLLECTION = "incidents";
     private final String OUTBOX_EVENTS_COLLECTION = "outbox_events";
+    private final String ACQUISITION_MEMBERS_COLLECTION = "acquisition_members";
+    private final String LOOP_ELEMENT_CHUNKS_COLLECTION = "call_activity_loop_elements";
+    private final String JOIN_ARRIVALS_COLLECTION = "join_arrivals";
 
     // Documentado como máximo em docs/apis/process-instances/search/api-guide.md — antes desta constante, nada
     // no código impedia um `size` maior que este.
     private static final int MAX_PAGE_SIZE = 100;
 
+    // Ordens de findAndLockDueTasks (ver TaskAcquisitionOrder); a de prioridade é servida por
+    // status_priority_duedate_idx, criado só com TaskAcquisitionFeatures.priorityOrder.
+    private static final Bson DUE_DATE_ACQUISITION_ORDER = Sorts.ascending("dueDate");
+    private static final Bson PRIORITY_ACQUISITION_ORDER = Sorts.orderBy(Sorts.descending("priority"), Sorts.ascending("dueDate"));
+    private static final Bson AGED_ACQUISITION_ORDER = Sorts.ascending("dueDate", "createdAt");
+
     private final MongoClient mongoClient;
     private final String databaseName;
     private final boolean outboxPersistenceEnabled;
     private final long outboxTtlSeconds;
+    // Modo de aquisição de findAndLockDueTasks: false mantém um findOneAndUpdate por tarefa (N round-trips);
+    // true trava o lote inteiro com um único updateMany (ver findAndLockDueTasksInBatch).
+    private final boolean batchAcquisitionEnabled;
+    // Estratégia de fan-in das junções: false filtra pendingBranchIds a cada branch que chega; true conta as
+    // chegadas com um contador atômico na junção e um documento por chegada em join_arrivals (ver arriveAtJoin).
+    private final boolean arrivalCounterJoinEnabled;
 
     public MongoKikwiEngineRepository(MongoClient mongoClient, String databaseName, boolean outboxPersistenceEnabled) {
         this(mongoClient, databaseName, outboxPersistenceEnabled, 0L);
     }
 
     public MongoKikwiEngineRepository(MongoClient mongoClient, String databaseName, boolean outboxPersistenceEnabled, long outboxTtlSeconds) {
+        this(mongoClient, databaseName, outboxPersistenceEnabled, outboxTtlSeconds, false);
+    }
+
+    public MongoKikwiEngineRepository(MongoClient mongoClient, String databaseName, boolean outboxPersistenceEnabled,
+                                      long outboxTtlSeconds, boolean batchAcquisitionEnabled) {
+        this(mongoClient, databaseName, outboxPersistenceEnabled, outboxTtlSeconds, batchAcquisitionEnabled, false);
+    }
+
+    public MongoKikwiEngineRepository(MongoClient mongoClient, String databaseName, boolean outboxPersistenceEnabled,
+                                      long outboxTtlSeconds, boolean batchAcquisitionEnabled,
+                                      boolean arrivalCounterJoinEnabled) {
         this.mongoClient = mongoClient;
         this.databaseName = databaseName;
         this.outboxPersistenceEnabled = outboxPersistenceEnabled;
         this.outboxTtlSeconds = outboxTtlSeconds;
+        this.batchAcquisitionEnabled = batchAcquisitionEnabled;
+        this.arrivalCounterJoinEnabled = arrivalCounterJoinEnabled;
     }
 
     private MongoDatabase getDatabase() {
@@ -230,288 +271,693 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
     }
 
 
+    /**
+     * Classifica a unidade antes de abrir sessão: unidade vazia não grava nada, e a que só toca o documento da
+     * instância (ver {@link #isSingleDocument}) vira um único {@code updateOne} condicionado à versão, atômico
+     * por si no Mongo — a transação multi-documento, o maior custo de CPU do banco, fica só para o resto.
+     */
     @Override
     public void commitWork(UnitOfWork unitOfWork) {
+        if (unitOfWork.isEmpty()) {
+            return;
+        }
+        if (isSingleDocument(unitOfWork)) {
+            updateInstanceWithoutTransaction(unitOfWork);
+            return;
+        }
+        Map<String, Integer> arrivalRechecks = new HashMap<>();
         try (ClientSession clientSession = mongoClient.startSession()) {
             clientSession.withTransaction(() -> {
-                MongoCollection<Document> processInstances = getDatabase().getCollection(PROCESS_INSTANCE_COLLECTION);
-                MongoCollection<Document> externalTasks = getDatabase().getCollection(EXTERNAL_TASK_COLLECTION);
-                MongoCollection<Document> executableTasks = getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION);
-                MongoCollection<Document> incidents = getDatabase().getCollection(INCIDENTS_COLLECTION);
-
-                // Guard de finalização (ver Javadoc de UnitOfWork.finalizingNodeId) — roda antes de qualquer
-                // outra escrita desta transação. Cobre tanto "pai concluiu normalmente enquanto um boundary
-                // event disparava" quanto "dois boundary events interruptivos (timer + catch event) dispararam
-                // ao mesmo tempo": um `deleteOne` por _id é atômico por natureza no Mongo, então só quem
-                // primeiro apagar esta linha específica vence e prossegue — a outra transação, ao tentar a
-                // mesma operação, apaga zero documentos, e abortamos ela inteira sem escrever nada. A cascata
-                // dos irmãos (attachedToRefId) só roda no caminho vencedor, depois do guard.
-                // cancelledChildEvents é preenchido abaixo, só quando o nó finalizado é um EXECUTABLE_TASK —
-                // única forma de ser um CALL_ACTIVITY_COORDINATOR (ver justificativa de performance no Javadoc
-                // de cancelActiveChildSubtrees). Declarado aqui porque precisa estar em escopo para o merge em
-                // allEvents mais abaixo, mas populado dentro do guard, não do bloco de executableTasksToDelete
-                // (que roda em praticamente toda conclusão de tarefa do motor — gatilho errado para isto).
-                List<OutboxEventEntity> cancelledChildEvents = new ArrayList<>();
-
-                if (unitOfWork.finalizingNodeId() != null) {
-                    MongoCollection<Document> guardedCollection = unitOfWork.finalizingNodeType() == AttachedTaskType.EXECUTABLE_TASK
-                            ? executableTasks : externalTasks;
-
-                    DeleteResult guardResult = guardedCollection.deleteOne(clientSession, eq("_id", unitOfWork.finalizingNodeId()));
-
-                    if (guardResult.getDeletedCount() == 0) {
-                        throw new OptimisticLockingFailureException(
-                                "O nó " + unitOfWork.finalizingNodeId() + " já foi finalizado por um evento concorrente (boundary event ou conclusão normal).");
-                    }
-
-                    executableTasks.deleteMany(clientSession, eq("attachedToRefId", unitOfWork.finalizingNodeId()));
-                    externalTasks.deleteMany(clientSession, eq("attachedToRefId", unitOfWork.finalizingNodeId()));
+                arrivalRechecks.clear();
+                applyUnitOfWork(clientSession, unitOfWork, arrivalRechecks);
+                return "Transaction committed";
+            });
+        }
+        recheckJoinArrivals(arrivalRechecks);
+    }
 
-                    // Cancelamento recursivo de instâncias filhas já iniciadas — só pode ser relevante quando o
-                    // nó finalizado é um EXECUTABLE_TASK (todo CALL_ACTIVITY_COORDINATOR é um; um EXTERNAL_TASK
-                    // nunca é). Ver docs/engine/20-subprocessos-call-activity-especificacao.md, §5.
-                    if (unitOfWork.finalizingNodeType() == AttachedTaskType.EXECUTABLE_TASK) {
-                        cancelledChildEvents.addAll(cancelActiveChildSubtrees(
-                                clientSession, processInstances, executableTasks, externalTasks,
-                                unitOfWork.finalizingNodeId()));
-                    }
+    /**
+     * Correlação em lote: as unidades são aplicadas em sequência por {@link #applyUnitOfWork}, dentro de uma
+     * única transação — qualquer guard/lease que falhe aborta o lote inteiro.
+     */
+    @Override
+    public void commitWorkBatch(List<UnitOfWork> unitsOfWork) {
+        List<UnitOfWork> nonEmpty = unitsOfWork.stream().filter(unitOfWork -> !unitOfWork.isEmpty()).toList();
+        if (nonEmpty.isEmpty()) {
+            return;
+        }
+        if (nonEmpty.size() == 1) {
+            commitWork(nonEmpty.get(0));
+            return;
+        }
+        Map<String, Integer> arrivalRechecks = new HashMap<>();
+        try (ClientSession clientSession = mongoClient.startSession()) {
+            clientSession.withTransaction(() -> {
+                arrivalRechecks.clear();
+                for (UnitOfWork unitOfWork : nonEmpty) {
+                    applyUnitOfWork(clientSession, unitOfWork, arrivalRechecks);
                 }
+                return "Transaction committed";
+            });
+        }
+        recheckJoinArrivals(arrivalRechecks);
+    }
 
-                if (unitOfWork.instanceToCreate() != null) {
-                    Document instanceDoc = ProcessInstanceMapper.toDocument(unitOfWork.instanceToCreate());
-                    Document initialActiveNodes = new Document();
+    /**
+     * Só o documento da instância é escrito: {@link UnitOfWork#isInstanceUpdateOnly()} e, com o outbox ligado,
+     * nenhum evento a gravar junto.
+     */
+    private boolean isSingleDocument(UnitOfWork unitOfWork) {
+        return unitOfWork.isInstanceUpdateOnly()
+                && (!outboxPersistenceEnabled || unitOfWork.events() == null || unitOfWork.events().isEmpty());
+    }
 
-                    if (unitOfWork.executableTasksToCreate() != null) {
-                        for (ExecutableTask t : unitOfWork.executableTasksToCreate()) {
-                            String definitionId = t.taskDefinitionId();
-                            initialActiveNodes.put(definitionId, initialActiveNodes.getInteger(definitionId, 0) + 1);
-                        }
-                    }
+    private void updateInstanceWithoutTransaction(UnitOfWork unitOfWork) {
+        MongoCollection<Document> processInstances = getDatabase().getCollection(PROCESS_INSTANCE_COLLECTION);
+        ProcessInstance instance = unitOfWork.instanceToUpdate();
 
-                    if (unitOfWork.externalTasksToCreate() != null) {
-                        for (ExternalTask t : unitOfWork.externalTasksToCreate()) {
-                            String definitionId = t.taskDefinitionId();
-                            initialActiveNodes.put(definitionId, initialActiveNodes.getInteger(definitionId, 0) + 1);
-                        }
-                    }
+        UpdateResult result = processInstances.updateOne(versionFilter(instance), instanceUpdate(unitOfWork));
 
-                    if (!initialActiveNodes.isEmpty()) {
-                        instanceDoc.put("activeNodes", initialActiveNodes);
-                    }
+        if (result.getMatchedCount() == 0) {
+            throw instanceUpdateMiss(instance, processInstances.countDocuments(eq("_id", instance.id())) > 0);
+        }
+    }
 
-                    processInstances.insertOne(clientSession, instanceDoc);
-                }
+    /**
+     * {@code _id} + a versão lida pelo engine: o commit só casa com a instância se ninguém a gravou desde a
+     * leitura. Documento anterior ao campo {@code version} conta como versão 0 (mesmo default do mapper).
+     */
+    private static Bson versionFilter(ProcessInstance instance) {
+        Bson version = instance.version() == 0
+                ? or(eq("version", 0), exists("version", false))
+                : eq("version", instance.version());
+        return and(eq("_id", instance.id()), version);
+    }
 
-                if (unitOfWork.instanceToDelete() != null) {
-                    String instanceId = unitOfWork.instanceToDelete().id();
-                    externalTasks.deleteMany(clientSession, eq("processInstanceId", instanceId));
-                    executableTasks.deleteMany(clientSession, eq("processInstanceId", instanceId));
-                    incidents.deleteMany(clientSession, eq("processInstanceId", instanceId));
-                    processInstances.deleteOne(clientSession, eq("_id", instanceId));
-                }
+    /**
+     * Update do documento da instância: incrementa a versão, ajusta {@code activeNodes} pelos nós finalizados e
+     * pelas tarefas criadas, e aplica status, fim, valor de negócio e operações de variável.
+     */
+    private static Bson instanceUpdate(UnitOfWork unitOfWork) {
+        ProcessInstance instance = unitOfWork.instanceToUpdate();
 
-                if (unitOfWork.instanceToUpdate() != null) {
-                    ProcessInstance instance = unitOfWork.instanceToUpdate();
+        List<Bson> updates = new ArrayList<>();
+        updates.add(Updates.inc("version", 1));
 
-                    List<Bson> updates = new ArrayList<>();
-                    updates.add(Updates.inc("version", 1));
+        Map<String, Integer> nodeDeltas = new java.util.HashMap<>();
 
-                    Map<String, Integer> nodeDeltas = new java.util.HashMap<>();
+        if (unitOfWork.finishedNodeDefinitions() != null) {
+            for (String nodeId : unitOfWork.finishedNodeDefinitions()) {
+                nodeDeltas.put(nodeId, nodeDeltas.getOrDefault(nodeId, 0) - 1);
+            }
+        }
 
-                    if (unitOfWork.finishedNodeDefinitions() != null) {
-                        for (String nodeId : unitOfWork.finishedNodeDefinitions()) {
-                            nodeDeltas.put(nodeId, nodeDeltas.getOrDefault(nodeId, 0) - 1);
-                        }
-                    }
+        if (unitOfWork.executableTasksToCreate() != null) {
+            for (ExecutableTask t : unitOfWork.executableTasksToCreate()) {
+                nodeDeltas.put(t.taskDefinitionId(), nodeDeltas.getOrDefault(t.taskDefinitionId(), 0) + 1);
+            }
+        }
 
-                    if (unitOfWork.executableTasksToCreate() != null) {
-                        for (ExecutableTask t : unitOfWork.executableTasksToCreate()) {
-                            nodeDeltas.put(t.taskDefinitionId(), nodeDeltas.getOrDefault(t.taskDefinitionId(), 0) + 1);
-                        }
-                    }
+        if (unitOfWork.externalTasksToCreate() != null) {
+            for (ExternalTask t : unitOfWork.externalTasksToCreate()) {
+                nodeDeltas.put(t.taskDefinitionId(), nodeDeltas.getOrDefault(t.taskDefinitionId(), 0) + 1);
+            }
+        }
 
-                    if (unitOfWork.externalTasksToCreate() != null) {
-                        for (ExternalTask t : unitOfWork.externalTasksToCreate()) {
-                            nodeDeltas.put(t.taskDefinitionId(), nodeDeltas.getOrDefault(t.taskDefinitionId(), 0) + 1);
-                        }
-                    }
+        nodeDeltas.forEach((nodeId, delta) -> {
+            if (delta != 0) {
+                updates.add(Updates.inc("activeNodes." + nodeId, delta));
+            }
+        });
 
-                    nodeDeltas.forEach((nodeId, delta) -> {
-                        if (delta != 0) {
-                            updates.add(Updates.inc("activeNodes." + nodeId, delta));
-                        }
-                    });
+        if (instance.status() != null) {
+            updates.add(Updates.set("status", instance.status().name()));
+        }
+        if (instance.endedAt() != null) {
+            updates.add(Updates.set("endedAt", instance.endedAt()));
+        }
+        if (instance.businessValue() != null) {
+            updates.add(Updates.set("businessValue", new org.bson.types.Decimal128(instance.businessValue())));
+        }
 
-                    if (instance.status() != null) {
-                        updates.add(Updates.set("status", instance.status().name()));
-                    }
-                    if (instance.endedAt() != null) {
-                        updates.add(Updates.set("endedAt", instance.endedAt()));
+        if (instance.variables() != null) {
+            Map<String, VariableOperation> variableOps = unitOfWork.variableOperations();
+
+            if (variableOps != null && !variableOps.isEmpty()) {
+                variableOps.forEach((key, operation) -> {
+                    String fieldPath = "variables." + MongoKeyEncoder.encode(key);
+
+                    if (operation.type() == VariableOpType.SET) {
+                        updates.add(Updates.set(fieldPath, ProcessVariableMapper.toDocument(operation.value())));
                     }
-                    if (instance.businessValue() != null) {
-                        updates.add(Updates.set("businessValue", new org.bson.types.Decimal128(instance.businessValue())));
+                    else if (operation.type() == VariableOpType.UNSET) {
+                        updates.add(Updates.unset(fieldPath));
                     }
+                });
+            }
+        }
 
-                    if (instance.variables() != null) {
-                        Map<String, VariableOperation> variableOps = unitOfWork.variableOperations();
+        return Updates.combine(updates);
+    }
 
-                        if (variableOps != null && !variableOps.isEmpty()) {
-                            variableOps.forEach((key, operation) -> {
-                                String fieldPath = "variables." + MongoKeyEncoder.encode(key);
+    /**
+     * Update da instância que casou zero documentos: conflito de versão se ela ainda existe, senão sumiu.
+     */
+    private static OptimisticLockingFailureException instanceUpdateMiss(ProcessInstance instance, boolean stillExists) {
+        if (stillExists) {
+            return new InstanceVersionConflictException(instance.id(), instance.version());
+        }
+        return new OptimisticLockingFailureException("The instance " + instance.id() + " was not found for update.");
+    }
 
-                                if (operation.type() == VariableOpType.SET) {
-                                    updates.add(Updates.set(fieldPath, ProcessVariableMapper.toDocument(operation.value())));
-                                }
-                                else if (operation.type() == VariableOpType.UNSET) {
-                                    updates.add(Updates.unset(fieldPath));
-                                }
-                            });
-                        }
-                    }
+    /**
+     * Escritas de uma {@link UnitOfWork}, na sessão/transação corrente de quem chamou.
+     */
+    private void applyUnitOfWork(ClientSession clientSession, UnitOfWork unitOfWork,
+                                 Map<String, Integer> arrivalRechecks) {
+        MongoCollection<Document> processInstances = getDatabase().getCollection(PROCESS_INSTANCE_COLLECTION);
+        MongoCollection<Document> externalTasks = getDatabase().getCollection(EXTERNAL_TASK_COLLECTION);
+        MongoCollection<Document> executableTasks = getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION);
+        MongoCollection<Document> incidents = getDatabase().getCollection(INCIDENTS_COLLECTION);
+
+        // Guard de finalização (ver Javadoc de UnitOfWork.finalizingNodeId) — roda antes de qualquer
+        // outra escrita desta transação. Cobre tanto "pai concluiu normalmente enquanto um boundary
+        // event disparava" quanto "dois boundary events interruptivos (timer + catch event) dispararam
+        // ao mesmo tempo": um `deleteOne` por _id é atômico por natureza no Mongo, então só quem
+        // primeiro apagar esta linha específica vence e prossegue — a outra transação, ao tentar a
+        // mesma operação, apaga zero documentos, e abortamos ela inteira sem escrever nada. A cascata
+        // dos irmãos (attachedToRefId) só roda no caminho vencedor, depois do guard.
+        // cancelledChildEvents é preenchido abaixo, só quando o nó finalizado é um EXECUTABLE_TASK —
+        // única forma de ser um CALL_ACTIVITY_COORDINATOR (ver justificativa de performance no Javadoc
+        // de cancelActiveChildSubtrees). Declarado aqui porque precisa estar em escopo para o merge em
+        // allEvents mais abaixo, mas populado dentro do guard, não do bloco de executableTasksToDelete
+        // (que roda em praticamente toda conclusão de tarefa do motor — gatilho errado para isto).
+        List<OutboxEventEntity> cancelledChildEvents = new ArrayList<>();
+
+        // Posse do lock (ver Javadoc de UnitOfWork.taskLease): um $set real de acquiredAt, não só uma
+        // leitura — a escrita faz esta transação conflitar com um findAndLockDueTasks concorrente que
+        // tente roubar a mesma tarefa, em vez de ambos seguirem achando que são donos.
+        if (unitOfWork.taskLease() != null) {
+            UpdateResult leaseResult = executableTasks.updateOne(clientSession,
+                    and(
+                            eq("_id", unitOfWork.taskLease().taskId()),
+                            eq("status", ExecutableTaskStatus.LOCKED.name()),
+                            eq("executorId", unitOfWork.taskLease().executorId())
+                    ),
+                    Updates.set("acquiredAt", java.util.Date.from(Instant.now())));
+
+            if (leaseResult.getMatchedCount() == 0) {
+                throw new LockOwnershipLostException(
+                        "A tarefa " + unitOfWork.taskLease().taskId() + " não está mais travada por " + unitOfWork.taskLease().executorId() + ".");
+            }
+        }
 
-                    Bson filter = eq("_id", instance.id());
-                    UpdateResult result = processInstances.updateOne(clientSession, filter, Updates.combine(updates));
+        if (unitOfWork.finalizingNodeId() != null) {
+            MongoCollection<Document> guardedCollection = unitOfWork.finalizingNodeType() == AttachedTaskType.EXECUTABLE_TASK
+                    ? executableTasks : externalTasks;
 
-                    if (result.getMatchedCount() == 0) {
-                        throw new OptimisticLockingFailureException("The instance " + instance.id() + " was not found for update.");
-                    }
-                }
+            DeleteResult guardResult = guardedCollection.deleteOne(clientSession, eq("_id", unitOfWork.finalizingNodeId()));
 
+            if (guardResult.getDeletedCount() == 0) {
+                throw new OptimisticLockingFailureException(
+                        "O nó " + unitOfWork.finalizingNodeId() + " já foi finalizado por um evento concorrente (boundary event ou conclusão normal).");
+            }
 
-                if (unitOfWork.incidentsToCreate() != null && !unitOfWork.incidentsToCreate().isEmpty()) {
-                    List<InsertOneModel<Document>> writes = new ArrayList<>();
-                    unitOfWork.incidentsToCreate().forEach(inc ->
-                            writes.add(new InsertOneModel<>(IncidentMapper.toDocument(inc)))
-                    );
-                    incidents.bulkWrite(clientSession, writes);
-                }
+            executableTasks.deleteMany(clientSession, eq("attachedToRefId", unitOfWork.finalizingNodeId()));
+            externalTasks.deleteMany(clientSession, eq("attachedToRefId", unitOfWork.finalizingNodeId()));
 
-                if (unitOfWork.incidentsToUpdate() != null && !unitOfWork.incidentsToUpdate().isEmpty()) {
-                    List<WriteModel<Document>> incidentUpdates = new ArrayList<>();
-                    unitOfWork.incidentsToUpdate().forEach(inc -> {
-                        Document incDoc = IncidentMapper.toDocument(inc);
-                        incidentUpdates.add(new ReplaceOneModel<>(eq("_id", inc.id()), incDoc));
-                    });
-                    incidents.bulkWrite(clientSession, incidentUpdates);
-                }
+            // Cancelamento recursivo de instâncias filhas já iniciadas — só pode ser relevante quando o
+            // nó finalizado é um EXECUTABLE_TASK (todo CALL_ACTIVITY_COORDINATOR é um; um EXTERNAL_TASK
+            // nunca é). Ver docs/engine/20-subprocessos-call-activity-especificacao.md, §5.
+            if (unitOfWork.finalizingNodeType() == AttachedTaskType.EXECUTABLE_TASK) {
+                cancelledChildEvents.addAll(cancelActiveChildSubtrees(
+                        clientSession, processInstances, executableTasks, externalTasks,
+                        unitOfWork.finalizingNodeId()));
+            }
+        }
 
+        if (unitOfWork.instanceToCreate() != null) {
+            processInstances.insertOne(clientSession, newInstanceDocument(unitOfWork));
+        }
 
-                List<WriteModel<Document>> externalTaskWrites = new ArrayList<>();
-                if (unitOfWork.externalTasksToCreate() != null && !unitOfWork.externalTasksToCreate().isEmpty()) {
-                    unitOfWork.externalTasksToCreate().forEach(task ->
-                            externalTaskWrites.add(new InsertOneModel<>(ExternalTaskMapper.toDocument(task)))
-                    );
-                }
-                
-                if (unitOfWork.externalTasksToDelete() != null && !unitOfWork.externalTasksToDelete().isEmpty()) {
-                    externalTaskWrites.add(new DeleteManyModel<>(in("_id", unitOfWork.externalTasksToDelete())));
-                }
-                
-                if (!externalTaskWrites.isEmpty()) {
-                    externalTasks.bulkWrite(clientSession, externalTaskWrites);
-                }
+        if (unitOfWork.instanceToDelete() != null) {
+            ProcessInstance instance = unitOfWork.instanceToDelete();
+            String instanceId = instance.id();
+            DeleteResult deleted = processInstances.deleteOne(clientSession, versionFilter(instance));
+            if (deleted.getDeletedCount() == 0 && processInstances.countDocuments(clientSession, eq("_id", instanceId)) > 0) {
+                throw new InstanceVersionConflictException(instanceId, instance.version());
+            }
+            externalTasks.deleteMany(clientSession, eq("processInstanceId", instanceId));
+            executableTasks.deleteMany(clientSession, eq("processInstanceId", instanceId));
+            incidents.deleteMany(clientSession, eq("processInstanceId", instanceId));
+            getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION).deleteMany(clientSession, eq("processInstanceId", instanceId));
+            deleteJoinArrivals(clientSession, eq("processInstanceId", instanceId));
+        }
 
-                if (unitOfWork.externalTasksToDelete() != null && !unitOfWork.externalTasksToDelete().isEmpty()) {
-                    // Cascata genérica: qualquer ExternalTask filha (EVENT_CATCHER GROUP) cujo coordinatorTaskId
-                    // aponte para uma tarefa apagada nesta mesma transação também é removida — cobre timeout de
-                    // boundary timer na mãe e limpeza de irmãs remanescentes na política ANY, sem lógica
-                    // específica de EVENT_CATCHER em ContinuationService.
-                    externalTasks.deleteMany(clientSession, in("coordinatorTaskId", unitOfWork.externalTasksToDelete()));
-                }
+        if (unitOfWork.instanceToUpdate() != null) {
+            ProcessInstance instance = unitOfWork.instanceToUpdate();
 
-                List<WriteModel<Document>> executableTaskWrites = new ArrayList<>();
-                if (unitOfWork.executableTasksToCreate() != null && !unitOfWork.executableTasksToCreate().isEmpty()) {
-                    unitOfWork.executableTasksToCreate().forEach(task ->
-                            executableTaskWrites.add(new InsertOneModel<>(ExecutableTaskMapper.toDocument(task)))
-                    );
-                }
-                if (unitOfWork.executableTasksToDelete() != null && !unitOfWork.executableTasksToDelete().isEmpty()) {
-                    executableTaskWrites.add(new DeleteManyModel<>(in("_id", unitOfWork.executableTasksToDelete())));
-                    // Cascata análoga à de ExternalTask/coordinatorTaskId acima, mas para CALL_ACTIVITY_STARTER:
-                    // quando a coordenadora é apagada (timeout do boundary event na coordenadora — ver
-                    // docs/engine/20-subprocessos-call-activity-especificacao.md, §5), qualquer iniciadora
-                    // ainda pendente (que aponta para a coordenadora via joinTaskId) também é removida. Escopo
-                    // restrito ao tipo CALL_ACTIVITY_STARTER (não um cascade genérico por joinTaskId) para não
-                    // arriscar tocar ramificações de PARALLEL_GATEWAY/JOIN_GATEWAY ainda em andamento.
-                    executableTaskWrites.add(new DeleteManyModel<>(and(
-                            in("joinTaskId", unitOfWork.executableTasksToDelete()),
-                            eq("type", ExecutableTaskType.CALL_ACTIVITY_STARTER.name()))));
-                }
+            UpdateResult result = processInstances.updateOne(clientSession, versionFilter(instance), instanceUpdate(unitOfWork));
 
-                if (unitOfWork.executableTasksToUpdate() != null && !unitOfWork.executableTasksToUpdate().isEmpty()) {
-                    unitOfWork.executableTasksToUpdate().forEach(task -> {
-                        Document taskDoc = ExecutableTaskMapper.toDocument(task);
-                        executableTaskWrites.add(new ReplaceOneModel<>(eq("_id", task.id()), taskDoc));
-                    });
-                }
+            if (result.getMatchedCount() == 0) {
+                throw instanceUpdateMiss(instance, processInstances.countDocuments(clientSession, eq("_id", instance.id())) > 0);
+            }
+        }
 
-                if (!executableTaskWrites.isEmpty()) {
-                    executableTasks.bulkWrite(clientSession, executableTaskWrites);
-                }
 
-                List<OutboxEventEntity> orphanEvents = new ArrayList<>();
-                if (unitOfWork.branchPullIntentions() != null && !unitOfWork.branchPullIntentions().isEmpty()) {
-                    for (BranchPullIntention intention : unitOfWork.branchPullIntentions()) {
-                        org.bson.conversions.Bson filter = com.mongodb.client.model.Filters.eq("_id", intention.joinTaskId());
-
-                        List<org.bson.conversions.Bson> updatePipeline = List.of(
-                                new Document("$set", new Document("pendingBranchIds",
-                                        new Document("$filter", new Document("input", "$pendingBranchIds")
-                                                .append("as", "b")
-                                                .append("cond", new Document("$ne", List.of("$$b", intention.branchId())))))),
-
-                                new Document("$set", new Document("status",
-                                        new Document("$cond", new Document("if", new Document("$eq", List.of(new Document("$size", "$pendingBranchIds"), 0)))
-                                                .append("then", "PENDING")
-                                                .append("else", "$status"))))
-                        );
-
-                        UpdateResult result = executableTasks.updateOne(clientSession, filter, updatePipeline);
-
-                        // Ver docs/engine/20-subprocessos-call-activity-especificacao.md, §4.4: se a
-                        // coordenadora já não existe mais (timeout do boundary event apagou-a antes), o
-                        // updateOne casa zero documentos sem erro — em vez de deixar passar silencioso,
-                        // registra ORPHANED_CHILD_COMPLETION. A identidade da instância filha vem do próprio
-                        // unitOfWork (é o commit da sua própria conclusão).
-                        if (result.getMatchedCount() == 0) {
-                            ProcessInstance childInstance = unitOfWork.instanceToDelete() != null
-                                    ? unitOfWork.instanceToDelete()
-                                    : unitOfWork.instanceToUpdate();
-
-                            orphanEvents.add(new OutboxEventEntity(CriticalEventType.ORPHANED_CHILD_COMPLETION,
-                                    new OrphanedChildCompletion(
-                                            childInstance != null ? childInstance.id() : null,
-                                            childInstance != null ? childInstance.processDefinitionId() : null,
-                                            childInstance != null ? childInstance.tenantId() : null,
-                                            childInstance != null ? childInstance.parentInstanceId() : null,
-                                            intention.joinTaskId(),
-                                            intention.branchId(),
-                                            Instant.now())));
-                        }
-                    }
+        if (unitOfWork.incidentsToCreate() != null && !unitOfWork.incidentsToCreate().isEmpty()) {
+            List<InsertOneModel<Document>> writes = new ArrayList<>();
+            unitOfWork.incidentsToCreate().forEach(inc ->
+                    writes.add(new InsertOneModel<>(IncidentMapper.toDocument(inc)))
+            );
+            incidents.bulkWrite(clientSession, writes);
+        }
+
+        if (unitOfWork.incidentsToUpdate() != null && !unitOfWork.incidentsToUpdate().isEmpty()) {
+            List<WriteModel<Document>> incidentUpdates = new ArrayList<>();
+            unitOfWork.incidentsToUpdate().forEach(inc -> {
+                Document incDoc = IncidentMapper.toDocument(inc);
+                incidentUpdates.add(new ReplaceOneModel<>(eq("_id", inc.id()), incDoc));
+            });
+            incidents.bulkWrite(clientSession, incidentUpdates);
+        }
+
+
+        List<WriteModel<Document>> externalTaskWrites = new ArrayList<>();
+        if (unitOfWork.externalTasksToCreate() != null && !unitOfWork.externalTasksToCreate().isEmpty()) {
+            unitOfWork.externalTasksToCreate().forEach(task ->
+                    externalTaskWrites.add(new InsertOneModel<>(ExternalTaskMapper.toDocument(task)))
+            );
+        }
+        
+        if (unitOfWork.externalTasksToDelete() != null && !unitOfWork.externalTasksToDelete().isEmpty()) {
+            externalTaskWrites.add(new DeleteManyModel<>(in("_id", unitOfWork.externalTasksToDelete())));
+        }
+        
+        if (!externalTaskWrites.isEmpty()) {
+            externalTasks.bulkWrite(clientSession, externalTaskWrites);
+        }
+
+        if (unitOfWork.externalTasksToDelete() != null && !unitOfWork.externalTasksToDelete().isEmpty()) {
+            // Cascata genérica: qualquer ExternalTask filha (EVENT_CATCHER GROUP) cujo coordinatorTaskId
+            // aponte para uma tarefa apagada nesta mesma transação também é removida — cobre timeout de
+            // boundary timer na mãe e limpeza de irmãs remanescentes na política ANY, sem lógica
+            // específica de EVENT_CATCHER em ContinuationService.
+            externalTasks.deleteMany(clientSession, in("coordinatorTaskId", unitOfWork.externalTasksToDelete()));
+        }
+
+        List<WriteModel<Document>> executableTaskWrites = new ArrayList<>();
+        if (unitOfWork.executableTasksToCreate() != null && !unitOfWork.executableTasksToCreate().isEmpty()) {
+            unitOfWork.executableTasksToCreate().forEach(task ->
+                    executableTaskWrites.add(new InsertOneModel<>(ExecutableTaskMapper.toDocument(task)))
+            );
+        }
+        if (unitOfWork.executableTasksToDelete() != null && !unitOfWork.executableTasksToDelete().isEmpty()) {
+            executableTaskWrites.add(new DeleteManyModel<>(in("_id", unitOfWork.executableTasksToDelete())));
+            // Cascata análoga à de ExternalTask/coordinatorTaskId acima, mas para CALL_ACTIVITY_STARTER:
+            // quando a coordenadora é apagada (timeout do boundary event na coordenadora — ver
+            // docs/engine/20-subprocessos-call-activity-especificacao.md, §5), qualquer iniciadora
+            // ainda pendente (que aponta para a coordenadora via joinTaskId) também é removida. Escopo
+            // restrito ao tipo CALL_ACTIVITY_STARTER (não um cascade genérico por joinTaskId) para não
+            // arriscar tocar ramificações de PARALLEL_GATEWAY/JOIN_GATEWAY ainda em andamento.
+            executableTaskWrites.add(new DeleteManyModel<>(and(
+                    in("joinTaskId", unitOfWork.executableTasksToDelete()),
+                    eq("type", ExecutableTaskType.CALL_ACTIVITY_STARTER.name()))));
+            deleteJoinArrivals(clientSession, in("joinTaskId", unitOfWork.executableTasksToDelete()));
+        }
+
+        if (unitOfWork.executableTasksToUpdate() != null && !unitOfWork.executableTasksToUpdate().isEmpty()) {
+            unitOfWork.executableTasksToUpdate().forEach(task -> {
+                Document taskDoc = ExecutableTaskMapper.toDocument(task);
+                executableTaskWrites.add(new ReplaceOneModel<>(eq("_id", task.id()), taskDoc));
+            });
+        }
+
+        if (!executableTaskWrites.isEmpty()) {
+            executableTasks.bulkWrite(clientSession, executableTaskWrites);
+        }
+
+        List<WriteModel<Document>> loopElementChunkWrites = new ArrayList<>();
+        if (unitOfWork.loopElementChunksToCreate() != null) {
+            unitOfWork.loopElementChunksToCreate().forEach(chunk ->
+                    loopElementChunkWrites.add(new InsertOneModel<>(LoopElementChunkMapper.toDocument(chunk))));
+        }
+        if (unitOfWork.loopElementChunksToDelete() != null && !unitOfWork.loopElementChunksToDelete().isEmpty()) {
+            loopElementChunkWrites.add(new DeleteManyModel<>(in("_id", unitOfWork.loopElementChunksToDelete())));
+        }
+        if (!loopElementChunkWrites.isEmpty()) {
+            getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION).bulkWrite(clientSession, loopElementChunkWrites);
+        }
+
+        List<OutboxEventEntity> orphanEvents = new ArrayList<>();
+        if (unitOfWork.branchPullIntentions() != null && !unitOfWork.branchPullIntentions().isEmpty()) {
+            for (BranchPullIntention intention : unitOfWork.branchPullIntentions()) {
+                MongoCollection<Document> loopElementChunks = getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION);
+                boolean joinFound = arrivalCounterJoinEnabled
+                        ? arriveAtJoin(clientSession, executableTasks, getDatabase().getCollection(JOIN_ARRIVALS_COLLECTION),
+                                loopElementChunks, intention, arrivalRechecks)
+                        : pullPendingBranch(clientSession, executableTasks, loopElementChunks, intention);
+
+                // Ver docs/engine/20-subprocessos-call-activity-especificacao.md, §4.4: se a
+                // coordenadora já não existe mais (timeout do boundary event apagou-a antes), o
+                // pull não encontra a junção e não falha — em vez de deixar passar silencioso,
+                // registra ORPHANED_CHILD_COMPLETION. A identidade da instância filha vem do próprio
+                // unitOfWork (é o commit da sua própria conclusão).
+                if (!joinFound) {
+                    ProcessInstance childInstance = unitOfWork.instanceToDelete() != null
+                            ? unitOfWork.instanceToDelete()
+                            : unitOfWork.instanceToUpdate();
+
+                    orphanEvents.add(new OutboxEventEntity(CriticalEventType.ORPHANED_CHILD_COMPLETION,
+                            new OrphanedChildCompletion(
+                                    childInstance != null ? childInstance.id() : null,
+                                    childInstance != null ? childInstance.processDefinitionId() : null,
+                                    childInstance != null ? childInstance.tenantId() : null,
+                                    childInstance != null ? childInstance.parentInstanceId() : null,
+                                    intention.joinTaskId(),
+                                    intention.branchId(),
+                                    Instant.now())));
                 }
+            }
+        }
+
+        List<OutboxEventEntity> allEvents = new ArrayList<>();
+        if (unitOfWork.events() != null) {
+            allEvents.addAll(unitOfWork.events());
+        }
+        allEvents.addAll(orphanEvents);
+        allEvents.addAll(cancelledChildEvents);
+
+        if (outboxPersistenceEnabled && !allEvents.isEmpty()) {
+            MongoCollection<Document> outboxEvents = getDatabase().getCollection(OUTBOX_EVENTS_COLLECTION);
+            List<InsertOneModel<Document>> eventWrites = allEvents.stream()
+                    .map(OutboxEventMapper::toDocument)
+                    .map(InsertOneModel::new)
+                    .toList();
+            outboxEvents.bulkWrite(clientSession, eventWrites);
+        }
+    }
+
+    /**
+     * Fan-in pelo array: tira {@code branchId} de {@code pendingBranchIds} com um update em pipeline e vira a
+     * junção para {@code PENDING} quando o array esvazia. Cada chegada reescreve o array inteiro.
+     *
+     * <p>O update devolve o documento de antes, projetado só no que a janela deslizante precisa: se o token
+     * estava no array e a junção é uma coordenadora com cursor ({@code loopIndex}), o próximo elemento é
+     * reivindicado na mesma transação (ver {@link #claimNextLoopElement}).
+     *
+     * @return {@code false} se a junção não existe mais
+     */
+    private static boolean pullPendingBranch(ClientSession clientSession, MongoCollection<Document> executableTasks,
+                                             MongoCollection<Document> loopElementChunks, BranchPullIntention intention) {
+        Bson filter = eq("_id", intention.joinTaskId());
+
+        List<Bson> updatePipeline = List.of(
+                new Document("$set", new Document("pendingBranchIds",
+                        new Document("$filter", new Document("input", "$pendingBranchIds")
+                                .append("as", "b")
+                                .append("cond", new Document("$ne", List.of("$$b", intention.branchId())))))),
+
+                new Document("$set", new Document("status",
+                        new Document("$cond", new Document("if", new Document("$eq", List.of(new Document("$size", "$pendingBranchIds"), 0)))
+                                .append("then", "PENDING")
+                                .append("else", "$status"))))
+        );
+
+        Document before = executableTasks.findOneAndUpdate(clientSession, filter, updatePipeline,
+                new FindOneAndUpdateOptions()
+                        .returnDocument(ReturnDocument.BEFORE)
+                        .projection(new Document("type", 1)
+                                .append("processDefinitionId", 1)
+                                .append("taskDefinitionId", 1)
+                                .append("retries", 1)
+                                .append("loopIndex", 1)
+                                .append("pulled", new Document("$in", List.of(intention.branchId(),
+                                        new Document("$ifNull", List.of("$pendingBranchIds", List.of())))))
+                                .append("pendingLoopElementCount", new Document("$size",
+                                        new Document("$ifNull", List.of("$pendingLoopElements", List.of()))))));
+
+        if (before == null) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(before.getBoolean("pulled"))) {
+            claimNextLoopElement(clientSession, executableTasks, loopElementChunks, before);
+        }
+        return true;
+    }
+
+    /**
+     * Janela deslizante de uma coordenadora PARALLEL com {@code maxConcurrency}: o branch que acabou de sair de
+     * {@code pendingBranchIds} libera uma vaga, e o próximo índice depois do cursor ({@code loopIndex}) é
+     * reivindicado na mesma transação — a iniciadora dele é inserida a partir do bloco de
+     * {@code call_activity_loop_elements} que o cobre, o token entra em {@code pendingBranchIds}, o cursor avança
+     * e a coordenadora continua em {@code AWAITING_BRANCHES}. O bloco é apagado quando o seu último índice é
+     * reivindicado. Duas conclusões concorrentes escrevem o mesmo documento da coordenadora, então a segunda
+     * transação conflita e é refeita por {@code withTransaction} já com o cursor novo.
+     *
+     * <p>Sem bloco para o próximo índice (coleção esgotada, ou coordenadora SEQUENTIAL na última iteração) não
+     * há nada a reivindicar e o pull fica como está.
+     */
+    private static void claimNextLoopElement(ClientSession clientSession, MongoCollection<Document> executableTasks,
+                                             MongoCollection<Document> loopElementChunks, Document coordinator) {
+        Integer loopIndex = coordinator.getInteger("loopIndex");
+        if (!ExecutableTaskType.CALL_ACTIVITY_COORDINATOR.name().equals(coordinator.getString("type"))
+                || loopIndex == null
+                || coordinator.get("pendingLoopElementCount", Number.class).intValue() > 0) {
+            return;
+        }
+
+        int nextIndex = loopIndex + 1;
+        Document chunkDoc = loopElementChunks.find(clientSession, and(
+                        eq("coordinatorTaskId", coordinator.getString("_id")),
+                        lte("firstIndex", nextIndex),
+                        gte("lastIndex", nextIndex)))
+                .first();
+        if (chunkDoc == null) {
+            return;
+        }
+
+        LoopElementChunk chunk = LoopElementChunkMapper.fromDocument(chunkDoc);
+        ExecutableTask starter = chunk.starterAt(nextIndex, coordinator.getString("processDefinitionId"),
+                coordinator.getString("taskDefinitionId"), coordinator.get("retries", Number.class) != null
+                        ? coordinator.get("retries", Number.class).longValue() : null);
+
+        executableTasks.insertOne(clientSession, ExecutableTaskMapper.toDocument(starter));
+        executableTasks.updateOne(clientSession, eq("_id", chunk.coordinatorTaskId()), Updates.combine(
+                Updates.set("loopIndex", nextIndex),
+                Updates.set("status", ExecutableTaskStatus.AWAITING_BRANCHES.name()),
+                Updates.push("pendingBranchIds", starter.branchId())));
+        if (nextIndex == chunk.lastIndex()) {
+            loopElementChunks.deleteOne(clientSession, eq("_id", chunk.id()));
+        }
+    }
+
+    /**
+     * Fan-in por contador ({@code kikwiflow.mongodb.join.arrival-counter-enabled}): a chegada não escreve no
+     * documento da junção. {@code pendingBranchIds} fica imutável como o conjunto de tokens esperados e cada
+     * branch grava só o seu documento em {@code join_arrivals}, de {@code _id} único ({@link #arrivalKey}) — o
+     * upsert barra a reentrega e, com chaves distintas, branches concorrentes não conflitam entre si. A chegada
+     * é gravada na transação do branch, então só conta se o branch de fato commitar.
+     *
+     * <p>A prontidão é uma contagem das chegadas da junção. Na transação, a contagem vê as já commitadas mais
+     * a própria: a chegada que completa o conjunto vira a junção para {@code PENDING} ali mesmo, e é a única
+     * que toca o documento da junção. Duas últimas chegadas concorrentes não se veem e contam uma a menos; por
+     * isso quem não completou a contagem fica em {@code arrivalRechecks} e é recontado depois do commit (ver
+     * {@link #recheckJoinArrivals}) — a última a commitar vê todas.
+     *
+     * <p>Coordenadoras de call activity com cursor ({@code loopIndex}: SEQUENTIAL e PARALLEL com
+     * {@code maxConcurrency}) e tokens que não são da junção caem em {@link #pullPendingBranch}, porque o
+     * {@code pendingBranchIds} das coordenadoras muda a cada elemento iniciado. As chegadas são apagadas junto
+     * com a junção ou com a instância (ver {@link #deleteJoinArrivals}).
+     *
+     * @return {@code false} se a junção não existe mais
+     */
+    private static boolean arriveAtJoin(ClientSession clientSession, MongoCollection<Document> executableTasks,
+                                        MongoCollection<Document> joinArrivals, MongoCollection<Document> loopElementChunks,
+                                        BranchPullIntention intention, Map<String, Integer> arrivalRechecks) {
+        Document join = executableTasks.find(clientSession, eq("_id", intention.joinTaskId()))
+                .projection(new Document("loopIndex", 1)
+                        .append("expected", new Document("$in", List.of(intention.branchId(),
+                                new Document("$ifNull", List.of("$pendingBranchIds", List.of())))))
+                        .append("expectedBranchCount", new Document("$size",
+                                new Document("$ifNull", List.of("$pendingBranchIds", List.of())))))
+                .first();
 
-                List<OutboxEventEntity> allEvents = new ArrayList<>();
-                if (unitOfWork.events() != null) {
-                    allEvents.addAll(unitOfWork.events());
+        if (join == null) {
+            return false;
+        }
+        if (join.get("loopIndex") != null || !Boolean.TRUE.equals(join.getBoolean("expected"))) {
+            return pullPendingBranch(clientSession, executableTasks, loopElementChunks, intention);
+        }
+
+        // Reentrega (upsert sem inserir) também reconta: a chegada original pode ter commitado sem liberar a junção.
+        joinArrivals.updateOne(clientSession,
+                eq("_id", arrivalKey(intention)),
+                Updates.combine(
+                        Updates.setOnInsert("joinTaskId", intention.joinTaskId()),
+                        Updates.setOnInsert("processInstanceId", intention.processInstanceId())
+                ),
+                new UpdateOptions().upsert(true));
+
+        int expected = join.get("expectedBranchCount", Number.class).intValue();
+        long arrived = joinArrivals.countDocuments(clientSession, eq("joinTaskId", intention.joinTaskId()));
+        if (arrived >= expected) {
+            releaseJoin(clientSession, executableTasks, intention.joinTaskId());
+        } else {
+            arrivalRechecks.put(intention.joinTaskId(), expected);
+        }
+        return true;
+    }
+
+    /**
+     * Recontagem, fora da transação e depois do commit, das junções que {@link #arriveAtJoin} deixou
+     * incompletas: se as chegadas commitadas já completam o conjunto, a junção vira {@code PENDING}. O update é
+     * condicionado a {@code AWAITING_BRANCHES}, então liberar de novo uma junção já liberada (ou já apagada)
+     * não faz nada.
+     */
+    private void recheckJoinArrivals(Map<String, Integer> arrivalRechecks) {
+        if (arrivalRechecks.isEmpty()) {
+            return;
+        }
+        MongoCollection<Document> joinArrivals = getDatabase().getCollection(JOIN_ARRIVALS_COLLECTION);
+        MongoCollection<Document> executableTasks = getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION);
+        arrivalRechecks.forEach((joinTaskId, expected) -> {
+            if (joinArrivals.countDocuments(eq("joinTaskId", joinTaskId)) >= expected) {
+                executableTasks.updateOne(awaitingJoin(joinTaskId), Updates.set("status", ExecutableTaskStatus.PENDING.name()));
+            }
+        });
+    }
+
+    private static void releaseJoin(ClientSession clientSession, MongoCollection<Document> executableTasks,
+                                    String joinTaskId) {
+        executableTasks.updateOne(clientSession, awaitingJoin(joinTaskId), Updates.set("status", ExecutableTaskStatus.PENDING.name()));
+    }
+
+    private static Bson awaitingJoin(String joinTaskId) {
+        return and(eq("_id", joinTaskId), eq("status", ExecutableTaskStatus.AWAITING_BRANCHES.name()));
+    }
+
+    private static String arrivalKey(BranchPullIntention intention) {
+        return intention.joinTaskId() + ":arrival:" + intention.branchId();
+    }
+
+    /**
+     * Recusa desligar o fan-in por contador com junções dele em voo. Essas junções nunca tiram tokens de
+     * {@code pendingBranchIds} — as chegadas delas só existem em {@code join_arrivals} —, então o pull pelo array
+     * não as liberaria mais. Qualquer documento em {@code join_arrivals} é de uma junção ainda viva (as chegadas
+     * saem junto com ela), e uma junção sem nenhuma chegada tem o array intacto, que o pull resolve. Ligar o
+     * contador com junções do array em voo é seguro: o array já sem os tokens puxados é o conjunto esperado.
+     *
+     * @throws IllegalStateException com o contador desligado e chegadas registradas em {@code join_arrivals}
+     */
+    public void verifyJoinStrategy() {
+        if (arrivalCounterJoinEnabled) {
+            return;
+        }
+        Document arrival = getDatabase().getCollection(JOIN_ARRIVALS_COLLECTION).find()
+                .projection(new Document("joinTaskId", 1))
+                .first();
+        if (arrival != null) {
+            throw new IllegalStateException("kikwiflow.mongodb.join.arrival-counter-enabled está desligado, mas há "
+                    + "junções com chegadas registradas pelo contador (ex.: " + arrival.getString("joinTaskId")
+                    + "); religue o contador até que elas terminem");
+        }
+    }
+
+    /**
+     * Limpa as chegadas registradas por {@link #arriveAtJoin} das junções apagadas ou das instâncias apagadas.
+     * No-op com o fan-in por contador desligado.
+     */
+    private void deleteJoinArrivals(ClientSession clientSession, Bson filter) {
+        if (arrivalCounterJoinEnabled) {
+            getDatabase().getCollection(JOIN_ARRIVALS_COLLECTION).deleteMany(clientSession, filter);
+        }
+    }
+
+    /**
+     * Início em lote: as unidades só criam (ver {@link UnitOfWork#isCreationOnly()}), então não há guard, lease,
+     * update ou pull de branch a aplicar — cada coleção recebe um único {@code insertMany} com os documentos de
+     * todas as unidades, numa transação só. O chamador define o tamanho do lote (limite de tamanho de transação
+     * do Mongo).
+     */
+    @Override
+    public void commitNewInstances(List<UnitOfWork> unitsOfWork) {
+        List<Document> instanceDocs = new ArrayList<>();
+        List<Document> executableTaskDocs = new ArrayList<>();
+        List<Document> externalTaskDocs = new ArrayList<>();
+        List<Document> eventDocs = new ArrayList<>();
+        List<Document> loopElementChunkDocs = new ArrayList<>();
+
+        for (UnitOfWork unitOfWork : unitsOfWork) {
+            if (!unitOfWork.isCreationOnly()) {
+                throw new IllegalArgumentException("commitNewInstances só aceita unidades de trabalho que apenas criam.");
+            }
+            if (unitOfWork.instanceToCreate() != null) {
+                instanceDocs.add(newInstanceDocument(unitOfWork));
+            }
+            if (unitOfWork.executableTasksToCreate() != null) {
+                unitOfWork.executableTasksToCreate().forEach(task -> executableTaskDocs.add(ExecutableTaskMapper.toDocument(task)));
+            }
+            if (unitOfWork.externalTasksToCreate() != null) {
+                unitOfWork.externalTasksToCreate().forEach(task -> externalTaskDocs.add(ExternalTaskMapper.toDocument(task)));
+            }
+            if (outboxPersistenceEnabled && unitOfWork.events() != null) {
+                unitOfWork.events().forEach(event -> eventDocs.add(OutboxEventMapper.toDocument(event)));
+            }
+            if (unitOfWork.loopElementChunksToCreate() != null) {
+                unitOfWork.loopElementChunksToCreate().forEach(chunk -> loopElementChunkDocs.add(LoopElementChunkMapper.toDocument(chunk)));
+            }
+        }
+
+        try (ClientSession clientSession = mongoClient.startSession()) {
+            clientSession.withTransaction(() -> {
+                if (!instanceDocs.isEmpty()) {
+                    getDatabase().getCollection(PROCESS_INSTANCE_COLLECTION).insertMany(clientSession, instanceDocs);
                 }
-                allEvents.addAll(orphanEvents);
-                allEvents.addAll(cancelledChildEvents);
-
-                if (outboxPersistenceEnabled && !allEvents.isEmpty()) {
-                    MongoCollection<Document> outboxEvents = getDatabase().getCollection(OUTBOX_EVENTS_COLLECTION);
-                    List<InsertOneModel<Document>> eventWrites = allEvents.stream()
-                            .map(OutboxEventMapper::toDocument)
-                            .map(InsertOneModel::new)
-                            .toList();
-                    outboxEvents.bulkWrite(clientSession, eventWrites);
+                if (!executableTaskDocs.isEmpty()) {
+                    getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).insertMany(clientSession, executableTaskDocs);
+                }
+                if (!externalTaskDocs.isEmpty()) {
+                    getDatabase().getCollection(EXTERNAL_TASK_COLLECTION).insertMany(clientSession, externalTaskDocs);
+                }
+                if (!eventDocs.isEmpty()) {
+                    getDatabase().getCollection(OUTBOX_EVENTS_COLLECTION).insertMany(clientSession, eventDocs);
+                }
+                if (!loopElementChunkDocs.isEmpty()) {
+                    getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION).insertMany(clientSession, loopElementChunkDocs);
                 }
-
                 return "Transaction committed";
             });
         }
     }
 
+    /**
+     * Documento de uma instância nova, com {@code activeNodes} já contando as tarefas criadas no mesmo commit.
+     */
+    private Document newInstanceDocument(UnitOfWork unitOfWork) {
+        Document instanceDoc = ProcessInstanceMapper.toDocument(unitOfWork.instanceToCreate());
+        Document initialActiveNodes = new Document();
+
+        if (unitOfWork.executableTasksToCreate() != null) {
+            for (ExecutableTask t : unitOfWork.executableTasksToCreate()) {
+                String definitionId = t.taskDefinitionId();
+                initialActiveNodes.put(definitionId, initialActiveNodes.getInteger(definitionId, 0) + 1);
+            }
+        }
+
+        if (unitOfWork.externalTasksToCreate() != null) {
+            for (ExternalTask t : unitOfWork.externalTasksToCreate()) {
+                String definitionId = t.taskDefinitionId();
+                initialActiveNodes.put(definitionId, initialActiveNodes.getInteger(definitionId, 0) + 1);
+            }
+        }
+
+        if (!initialActiveNodes.isEmpty()) {
+            instanceDoc.put("activeNodes", initialActiveNodes);
+        }
+        return instanceDoc;
+    }
+
     /**
      * Cancelamento recursivo de subárvore(s) de {@code ProcessInstance} spawnada(s) por uma coordenadora
      * {@code CALL_ACTIVITY_COORDINATOR} apagada nesta transação via o guard de finalização (ver
@@ -556,6 +1002,8 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
 
             executableTasks.deleteMany(clientSession, in("processInstanceId", currentIds));
             externalTasks.deleteMany(clientSession, in("processInstanceId", currentIds));
+            getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION).deleteMany(clientSession, in("processInstanceId", currentIds));
+            deleteJoinArrivals(clientSession, in("processInstanceId", currentIds));
             processInstances.deleteMany(clientSession, in("_id", currentIds));
 
             currentLevel.forEach(doc ->
@@ -591,9 +1039,9 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
     }
 
     @Override
-    public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis) {
+    public List<ExecutableTask> findAndLockDueTasks(Instant now, int limit, String workerId, long lockTimeoutMillis,
+                                                    TaskAcquisitionCriteria criteria) {
         MongoCollection<Document> collection = getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION);
-        List<ExecutableTask> lockedTasks = new ArrayList<>();
 
         Instant lockExpirationThreshold = now.minusMillis(lockTimeoutMillis);
 
@@ -601,33 +1049,44 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         java.util.Date thresholdDate = java.util.Date.from(lockExpirationThreshold);
         java.util.Date acquiredAtDate = java.util.Date.from(Instant.now());
 
-        for (int i = 0; i < limit; i++) {
-            Bson pendingFilter = and(
-                    eq("status", ExecutableTaskStatus.PENDING.name()),
-                    or(
-                            eq("dueDate", null),
-                            lte("dueDate", nowDate)
-                    )
-            );
-
-            Bson stuckLockedFilter = and(
-                    eq("status", ExecutableTaskStatus.LOCKED.name()),
-                    lte("acquiredAt", thresholdDate)
-            );
+        Bson acquirableFilter = acquirableTasksFilter(nowDate, thresholdDate, criteria);
+        boolean priorityOrdered = criteria != null && criteria.isPriorityOrdered();
+        Bson acquisitionOrder = priorityOrdered ? PRIORITY_ACQUISITION_ORDER : DUE_DATE_ACQUISITION_ORDER;
+        // Envelhecimento do modo PRIORITY: tarefas esperando além de priorityAgingMillis são consumidas antes,
+        // por antiguidade, e só então o restante do lote segue a ordem de prioridade.
+        Bson agedFilter = priorityOrdered
+                ? and(acquirableFilter, agedTasksFilter(java.util.Date.from(now.minusMillis(criteria.priorityAgingMillis()))))
+                : null;
+
+        if (batchAcquisitionEnabled) {
+            return findAndLockDueTasksInBatch(collection, acquirableFilter, agedFilter, acquisitionOrder, limit, workerId, acquiredAtDate);
+        }
 
-            Bson finalFilter = or(pendingFilter, stuckLockedFilter);
+        List<ExecutableTask> lockedTasks = new ArrayList<>();
 
-            Bson update = Updates.combine(
-                    Updates.set("status", ExecutableTaskStatus.LOCKED.name()),
-                    Updates.set("executorId", workerId),
-                    Updates.set("acquiredAt", acquiredAtDate)
-            );
+        Bson update = Updates.combine(
+                Updates.set("status", ExecutableTaskStatus.LOCKED.name()),
+                Updates.set("executorId", workerId),
+                Updates.set("acquiredAt", acquiredAtDate)
+        );
 
-            FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
-                    .returnDocument(ReturnDocument.AFTER)
-                    .sort(Sorts.ascending("dueDate"));
+        for (int i = 0; i < limit; i++) {
+            Document lockedDoc = null;
+
+            if (agedFilter != null) {
+                lockedDoc = collection.findOneAndUpdate(agedFilter, update, new FindOneAndUpdateOptions()
+                        .returnDocument(ReturnDocument.AFTER)
+                        .sort(AGED_ACQUISITION_ORDER));
+                if (lockedDoc == null) {
+                    agedFilter = null;
+                }
+            }
 
-            Document lockedDoc = collection.findOneAndUpdate(finalFilter, update, options);
+            if (lockedDoc == null) {
+                lockedDoc = collection.findOneAndUpdate(acquirableFilter, update, new FindOneAndUpdateOptions()
+                        .returnDocument(ReturnDocument.AFTER)
+                        .sort(acquisitionOrder));
+            }
 
             if (lockedDoc == null) {
                 break;
@@ -639,6 +1098,185 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         return lockedTasks;
     }
 
+    @Override
+    public long renewLocks(List<String> taskIds, String workerId, Instant acquiredAt) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return 0L;
+        }
+
+        UpdateResult result = getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).updateMany(
+                and(
+                        in("_id", taskIds),
+                        eq("status", ExecutableTaskStatus.LOCKED.name()),
+                        eq("executorId", workerId)
+                ),
+                Updates.set("acquiredAt", java.util.Date.from(acquiredAt)));
+
+        return result.getModifiedCount();
+    }
+
+    @Override
+    public List<String> heartbeatAcquisitionMember(String memberId, Instant now, long memberTtlMillis) {
+        MongoCollection<Document> members = getDatabase().getCollection(ACQUISITION_MEMBERS_COLLECTION);
+
+        members.updateOne(
+                eq("_id", memberId),
+                Updates.combine(
+                        Updates.set("heartbeatAt", java.util.Date.from(now)),
+                        // Só para o índice TTL limpar membros mortos; a decisão de "vivo" usa heartbeatAt.
+                        Updates.set("expiresAt", java.util.Date.from(now.plusMillis(memberTtlMillis)))
+                ),
+                new UpdateOptions().upsert(true));
+
+        return members.find(gt("heartbeatAt", java.util.Date.from(now.minusMillis(memberTtlMillis))))
+                .sort(Sorts.ascending("_id"))
+                .projection(Projections.include("_id"))
+                .map(doc -> doc.getString("_id"))
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public void removeAcquisitionMember(String memberId) {
+        getDatabase().getCollection(ACQUISITION_MEMBERS_COLLECTION).deleteOne(eq("_id", memberId));
+    }
+
+    @Override
+    public long releaseLocks(List<String> taskIds, String workerId) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return 0L;
+        }
+
+        UpdateResult result = getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).updateMany(
+                and(
+                        in("_id", taskIds),
+                        eq("status", ExecutableTaskStatus.LOCKED.name()),
+                        eq("executorId", workerId)
+                ),
+                Updates.combine(
+                        Updates.set("status", ExecutableTaskStatus.PENDING.name()),
+                        Updates.unset("executorId"),
+                        Updates.unset("acquiredAt"),
+                        Updates.unset("lockToken")
+                ));
+
+        return result.getModifiedCount();
+    }
+
+    /**
+     * Tarefas cuja espera já passou do limite de envelhecimento: referência é o {@code dueDate} ou, sem ele, o
+     * {@code createdAt}. Sem nenhum dos dois (tarefas anteriores ao campo), conta como envelhecida — nunca fica
+     * atrás das novas por falta de prioridade materializada.
+     */
+    private Bson agedTasksFilter(java.util.Date agedBeforeDate) {
+        return or(
+                lte("dueDate", agedBeforeDate),
+                and(eq("dueDate", null), or(eq("createdAt", null), lte("createdAt", agedBeforeDate)))
+        );
+    }
+
+    /**
+     * Tarefas que podem ser adquiridas agora: PENDING já vencidas (ou sem dueDate) e LOCKED cujo lock expirou.
+     * Reaplicado como guarda no {@code updateMany} do modo em lote — um candidato travado por outro nó entre o
+     * {@code find} e o update simplesmente deixa de casar, sem precisar de transação.
+     */
+    private Bson acquirableTasksFilter(java.util.Date nowDate, java.util.Date thresholdDate, TaskAcquisitionCriteria criteria) {
+        Bson pendingFilter = and(
+                eq("status", ExecutableTaskStatus.PENDING.name()),
+                or(
+                        eq("dueDate", null),
+                        lte("dueDate", nowDate)
+                )
+        );
+
+        Bson stuckLockedFilter = and(
+                eq("status", ExecutableTaskStatus.LOCKED.name()),
+                lte("acquiredAt", thresholdDate)
+        );
+
+        Bson dueFilter = or(pendingFilter, stuckLockedFilter);
+
+        if (criteria == null) {
+            return dueFilter;
+        }
+
+        List<Bson> filters = new ArrayList<>();
+        filters.add(dueFilter);
+
+        if (criteria.hasExcludedExecutors()) {
+            // $nin também casa documentos sem o campo — tarefas sem handler (timers, joins) nunca são excluídas.
+            filters.add(nin("executor", criteria.excludedExecutors()));
+        }
+
+        if (criteria.hasIncludedTopics()) {
+            // eq(null) casa tanto topic nulo quanto ausente (documentos anteriores ao roteamento).
+            filters.add(or(in("topic", criteria.includedTopics()), eq("topic", null)));
+        }
+
+        if (criteria.hasPartitions()) {
+            filters.add(or(in("partition", criteria.partitions()), eq("partition", null)));
+        }
+
+        return filters.size() == 1 ? dueFilter : and(filters);
+    }
+
+    /**
+     * Aquisição em três round-trips fixos, independente de {@code limit}: seleciona os ids candidatos, trava
+     * todos com um único {@code updateMany} carimbando um {@code lockToken} exclusivo desta chamada e relê só
+     * o que de fato ficou com o token. Candidatos perdidos para outro nó na corrida são descartados pela guarda
+     * de status do update — quem volta é exatamente o que este worker travou.
+     */
+    private List<ExecutableTask> findAndLockDueTasksInBatch(MongoCollection<Document> collection, Bson acquirableFilter,
+                                                            Bson agedFilter, Bson acquisitionOrder, int limit,
+                                                            String workerId, java.util.Date acquiredAtDate) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<Object> candidateIds = new ArrayList<>();
+        if (agedFilter != null) {
+            collection.find(agedFilter)
+                    .sort(AGED_ACQUISITION_ORDER)
+                    .limit(limit)
+                    .projection(Projections.include("_id"))
+                    .map(doc -> doc.get("_id"))
+                    .into(candidateIds);
+        }
+
+        if (candidateIds.size() < limit) {
+            Bson remainingFilter = candidateIds.isEmpty() ? acquirableFilter : and(acquirableFilter, nin("_id", candidateIds));
+            collection.find(remainingFilter)
+                    .sort(acquisitionOrder)
+                    .limit(limit - candidateIds.size())
+                    .projection(Projections.include("_id"))
+                    .map(doc -> doc.get("_id"))
+                    .into(candidateIds);
+        }
+
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        String lockToken = UUID.randomUUID().toString();
+
+        UpdateResult result = collection.updateMany(
+                and(in("_id", candidateIds), acquirableFilter),
+                Updates.combine(
+                        Updates.set("status", ExecutableTaskStatus.LOCKED.name()),
+                        Updates.set("executorId", workerId),
+                        Updates.set("acquiredAt", acquiredAtDate),
+                        Updates.set("lockToken", lockToken)
+                ));
+
+        if (result.getModifiedCount() == 0) {
+            return List.of();
+        }
+
+        return collection.find(and(in("_id", candidateIds), eq("lockToken", lockToken)))
+                .sort(acquisitionOrder)
+                .map(ExecutableTaskMapper::fromDocument)
+                .into(new ArrayList<>());
+    }
+
     @Override
     public ProcessInstance addVariables(String processInstanceId, Map<String, ProcessVariable> variables, List<OutboxEventEntity> events) {
         if (variables == null || variables.isEmpty()) {
@@ -652,6 +1290,9 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
             String fieldPath = "variables." + MongoKeyEncoder.encode(entry.getKey());
             updates.add(Updates.set(fieldPath, ProcessVariableMapper.toDocument(entry.getValue())));
         }
+        // Avança a versão como applyUnitOfWork: uma continuação em voo que leu a instância antes desta escrita
+        // conflita no commit em vez de sobrescrever as variáveis em silêncio.
+        updates.add(Updates.inc("version", 1));
 
         if (outboxPersistenceEnabled && events != null && !events.isEmpty()) {
             try (ClientSession clientSession = mongoClient.startSession()) {
@@ -684,6 +1325,7 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         for (String variableName : variableNames) {
             updates.add(Updates.unset("variables." + MongoKeyEncoder.encode(variableName)));
         }
+        updates.add(Updates.inc("version", 1));
 
         if (outboxPersistenceEnabled && events != null && !events.isEmpty()) {
             try (ClientSession clientSession = mongoClient.startSession()) {
@@ -764,6 +1406,11 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
                 getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION)
                         .deleteMany(clientSession, eq("processInstanceId", processInstanceId));
 
+                getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION)
+                        .deleteMany(clientSession, eq("processInstanceId", processInstanceId));
+
+                deleteJoinArrivals(clientSession, eq("processInstanceId", processInstanceId));
+
                 getDatabase().getCollection(PROCESS_INSTANCE_COLLECTION)
                         .deleteOne(clientSession, eq("_id", processInstanceId));
 
@@ -830,6 +1477,22 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         return instances;
     }
 
+    @Override
+    public List<ExternalTask> findExternalTasksByIdIn(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        MongoCollection<Document> collection = getDatabase().getCollection(EXTERNAL_TASK_COLLECTION);
+        List<ExternalTask> tasks = new ArrayList<>();
+
+        collection.find(in("_id", ids))
+                .map(ExternalTaskMapper::fromDocument)
+                .into(tasks);
+
+        return tasks;
+    }
+
     @Override
     public List<ExternalTask> findExternalTasksByProcessInstanceId(String processInstanceId) {
 
@@ -885,6 +1548,26 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         return Optional.ofNullable(doc).map(ExternalTaskMapper::fromDocument);
     }
 
+    @Override
+    public List<ExternalTask> findExternalTasksByCorrelationKeys(Collection<String> correlationKeys, String tenantId) {
+        if (correlationKeys.isEmpty()) {
+            return List.of();
+        }
+
+        MongoCollection<Document> collection = getDatabase().getCollection(EXTERNAL_TASK_COLLECTION);
+
+        // Mesmo filtro de findExternalTaskByCorrelationKey, com $in no lugar do eq — uma ida ao banco para o
+        // lote inteiro, servida pelo mesmo índice de correlationKey.
+        List<ExternalTask> tasks = new ArrayList<>();
+        collection.find(and(
+                in("correlationKey", correlationKeys),
+                eq("tenantId", tenantId),
+                eq("status", ExternalTaskStatus.CREATED.name())
+        )).forEach(doc -> tasks.add(ExternalTaskMapper.fromDocument(doc)));
+
+        return tasks;
+    }
+
     @Override
     public boolean resolveCorrelationChild(String childTaskId, String parentTaskId, MatchPolicy matchPolicy) {
         MongoCollection<Document> externalTasks = getDatabase().getCollection(EXTERNAL_TASK_COLLECTION);
@@ -1016,8 +1699,16 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         return externalTasks;
     }
 
+    /**
+     * Índices base, sem os dos modos de aquisição opcionais (todos desligados por padrão no engine).
+     */
+    @Override
     public void ensureIndexes() {
+        ensureIndexes(TaskAcquisitionFeatures.none());
+    }
 
+    @Override
+    public void ensureIndexes(TaskAcquisitionFeatures features) {
 
         getDatabase().getCollection(PROCESS_DEFINITION_COLLECTION).createIndex(
                 Indexes.compoundIndex(Indexes.ascending("key"), Indexes.descending("version")),
@@ -1034,6 +1725,36 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
                 new IndexOptions().name("status_duedate_idx")
         );
 
+        // aquisição com roteamento por tópico (TaskAcquisitionCriteria.includedTopics): igualdade em status e
+        // topic antes do range em dueDate, para que cada nó percorra só a fatia dos tópicos que serve.
+        if (features.topicRouting()) {
+            getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).createIndex(
+                    Indexes.compoundIndex(Indexes.ascending("status"), Indexes.ascending("topic"), Indexes.ascending("dueDate")),
+                    new IndexOptions().name("status_topic_duedate_idx")
+            );
+        }
+
+        // aquisição particionada: cada nó varre só a fatia das partições que detém.
+        if (features.partitioned()) {
+            getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).createIndex(
+                    Indexes.compoundIndex(Indexes.ascending("status"), Indexes.ascending("partition"), Indexes.ascending("dueDate")),
+                    new IndexOptions().name("status_partition_duedate_idx")
+            );
+        }
+
+        getDatabase().getCollection(ACQUISITION_MEMBERS_COLLECTION).createIndex(
+                Indexes.ascending("expiresAt"),
+                new IndexOptions().name("acq_member_ttl_idx").expireAfter(0L, TimeUnit.SECONDS)
+        );
+
+        // aquisição em modo PRIORITY: PRIORITY_ACQUISITION_ORDER sem sort em memória.
+        if (features.priorityOrder()) {
+            getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).createIndex(
+                    Indexes.compoundIndex(Indexes.ascending("status"), Indexes.descending("priority"), Indexes.ascending("dueDate")),
+                    new IndexOptions().name("status_priority_duedate_idx")
+            );
+        }
+
         getDatabase().getCollection(EXECUTABLE_TASK_COLLECTION).createIndex(
                 Indexes.ascending("processInstanceId"),
                 new IndexOptions().name("exec_task_proc_inst_idx")
@@ -1051,6 +1772,27 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
                 new IndexOptions().name("inc_proc_inst_idx")
         );
 
+        // próximo elemento da janela deslizante de call activity com maxConcurrency (claimNextLoopElement,
+        // findLoopElementChunks) e limpeza por instância.
+        getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION).createIndex(
+                Indexes.compoundIndex(Indexes.ascending("coordinatorTaskId"), Indexes.ascending("firstIndex")),
+                new IndexOptions().name("loop_chunk_coordinator_idx")
+        );
+        getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION).createIndex(
+                Indexes.ascending("processInstanceId"),
+                new IndexOptions().name("loop_chunk_proc_inst_idx")
+        );
+
+        // limpeza das chegadas do fan-in por contador (arriveAtJoin) junto com a junção ou a instância.
+        getDatabase().getCollection(JOIN_ARRIVALS_COLLECTION).createIndex(
+                Indexes.ascending("joinTaskId"),
+                new IndexOptions().name("join_arrival_join_idx")
+        );
+        getDatabase().getCollection(JOIN_ARRIVALS_COLLECTION).createIndex(
+                Indexes.ascending("processInstanceId"),
+                new IndexOptions().name("join_arrival_proc_inst_idx")
+        );
+
 
         // indice de tarefas externas por process instance id
         MongoCollection<Document> externalTaskCollection = getDatabase().getCollection(EXTERNAL_TASK_COLLECTION);
@@ -1283,6 +2025,21 @@ public class MongoKikwiEngineRepository implements KikwiEngineRepository {
         return tasks;
     }
 
+    @Override
+    public List<LoopElementChunk> findLoopElementChunks(String coordinatorTaskId, int fromIndex, int count) {
+        MongoCollection<Document> collection = getDatabase().getCollection(LOOP_ELEMENT_CHUNKS_COLLECTION);
+        List<LoopElementChunk> chunks = new ArrayList<>();
+        collection.find(and(
+                        eq("coordinatorTaskId", coordinatorTaskId),
+                        gte("lastIndex", fromIndex),
+                        lte("firstIndex", fromIndex + count - 1)))
+                .sort(Sorts.ascending("firstIndex"))
+                .map(LoopElementChunkMapper::fromDocument)
+                .into(chunks);
+
+        return chunks;
+    }
+
     @Override
     public List<OutboxEventEntity> findEventHistoryByProcessInstanceId(String processInstanceId) {
         MongoCollection<Document> collection = getDatabase().getCollection(OUTBOX_EVENTS_COLLECTION);
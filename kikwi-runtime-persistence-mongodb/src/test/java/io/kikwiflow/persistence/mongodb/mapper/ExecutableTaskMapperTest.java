@@ -50,6 +50,8 @@ class ExecutableTaskMapperTest {
                 .processDefinitionId("def-1")
                 .type(ExecutableTaskType.STANDARD)
                 .status(ExecutableTaskStatus.PENDING)
+                .executor("processDataHandler")
+                .topic("io-bound")
                 .createdAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
                 .build();
 
@@ -57,6 +59,8 @@ class ExecutableTaskMapperTest {
 
         assertEquals(ExecutableTaskType.STANDARD, restored.type());
         assertEquals(ExecutableTaskStatus.PENDING, restored.status());
+        assertEquals("processDataHandler", restored.executor());
+        assertEquals("io-bound", restored.topic());
         assertEquals(original.createdAt(), restored.createdAt());
     }
 
@@ -18,14 +18,18 @@
 package io.kikwiflow.persistence.mongodb.mapper.event;
 
 import io.kikwiflow.model.event.FlowNodeFinished;
+import io.kikwiflow.model.execution.ProcessVariable;
 import io.kikwiflow.model.execution.enumerated.NodeExecutionStatus;
 import org.bson.Document;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class FlowNodeFinishedMapperTest {
 
@@ -96,4 +100,33 @@ class FlowNodeFinishedMapperTest {
 
         assertEquals("proc-instance-42", doc.getString("processInstanceId"));
     }
+
+    @Test
+    void roundTripsVariableDiffWhenRecordedAtVariableDiffLevel() {
+        FlowNodeFinished original = FlowNodeFinished.builder()
+                .flowNodeDefinitionId("CALCULATE_CUSTOMER_RISK_ST")
+                .processInstanceId("proc-instance-3")
+                .nodeExecutionStatus(NodeExecutionStatus.SUCCESS)
+                .changedVariables(Map.of("risk.score", new ProcessVariable("risk.score", "HIGH")))
+                .removedVariables(List.of("draft"))
+                .build();
+
+        FlowNodeFinished restored = FlowNodeFinishedMapper.fromDocument(FlowNodeFinishedMapper.toDocument(original));
+
+        assertEquals("HIGH", restored.getChangedVariables().get("risk.score").value());
+        assertEquals(List.of("draft"), restored.getRemovedVariables());
+    }
+
+    @Test
+    void omitsVariableDiffAtSummaryLevel() {
+        FlowNodeFinished event = FlowNodeFinished.builder()
+                .processInstanceId("proc-instance-4")
+                .nodeExecutionStatus(NodeExecutionStatus.SUCCESS)
+                .build();
+
+        FlowNodeFinished restored = FlowNodeFinishedMapper.fromDocument(FlowNodeFinishedMapper.toDocument(event));
+
+        assertNull(restored.getChangedVariables());
+        assertNull(restored.getRemovedVariables());
+    }
 }
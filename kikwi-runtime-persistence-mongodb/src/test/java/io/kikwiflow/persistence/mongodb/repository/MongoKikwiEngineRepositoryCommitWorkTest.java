@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.mongodb.repository;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.TransactionBody;
+import com.mongodb.client.result.UpdateResult;
+import io.kikwiflow.model.event.CriticalEventType;
+import io.kikwiflow.model.event.FlowNodeFinished;
+import io.kikwiflow.model.event.OutboxEventEntity;
+import io.kikwiflow.model.execution.ProcessInstance;
+import io.kikwiflow.model.execution.enumerated.ProcessInstanceStatus;
+import io.kikwiflow.persistence.api.data.UnitOfWork;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sem Mongo real no build: os mocks do driver só registram em que sessão cada escrita foi feita, o que basta para
+ * provar qual caminho do {@code commitWork} a unidade tomou.
+ */
+class MongoKikwiEngineRepositoryCommitWorkTest {
+
+    private final Map<String, MongoCollection<Document>> collections = new HashMap<>();
+    private MongoClient mongoClient;
+    private ClientSession clientSession;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoClient = mock(MongoClient.class);
+        clientSession = mock(ClientSession.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(mongoClient.getDatabase(anyString())).thenReturn(database);
+        when(mongoClient.startSession()).thenReturn(clientSession);
+        when(clientSession.withTransaction(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionBody.class).execute());
+        when(database.getCollection(anyString())).thenAnswer(invocation ->
+                collections.computeIfAbsent(invocation.getArgument(0), name -> {
+                    MongoCollection<Document> collection = mock(MongoCollection.class);
+                    when(collection.updateOne(any(Bson.class), any(Bson.class)))
+                            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+                    when(collection.updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class)))
+                            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+                    return collection;
+                }));
+    }
+
+    @Test
+    void updateOnlyUnitWithOutboxEventsWritesInstanceAndEventsInOneTransaction() {
+        MongoKikwiEngineRepository repository = new MongoKikwiEngineRepository(mongoClient, "kikwiflow", true);
+
+        repository.commitWork(updateOnlyUnit(List.of(event())));
+
+        verify(clientSession).withTransaction(any());
+        verify(collection("process_instances")).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class));
+        verify(collection("process_instances"), never()).updateOne(any(Bson.class), any(Bson.class));
+        verify(collection("outbox_events")).bulkWrite(any(ClientSession.class), anyList());
+    }
+
+    @Test
+    void updateOnlyUnitWithoutEventsSkipsTheTransaction() {
+        MongoKikwiEngineRepository repository = new MongoKikwiEngineRepository(mongoClient, "kikwiflow", true);
+
+        repository.commitWork(updateOnlyUnit(List.of()));
+
+        verify(mongoClient, never()).startSession();
+        verify(collection("process_instances")).updateOne(any(Bson.class), any(Bson.class));
+    }
+
+    @Test
+    void updateOnlyUnitWithEventsSkipsTheTransactionWhenTheOutboxIsDisabled() {
+        MongoKikwiEngineRepository repository = new MongoKikwiEngineRepository(mongoClient, "kikwiflow", false);
+
+        repository.commitWork(updateOnlyUnit(List.of(event())));
+
+        verify(mongoClient, never()).startSession();
+        verify(collection("process_instances")).updateOne(any(Bson.class), any(Bson.class));
+    }
+
+    @Test
+    void emptyUnitOpensNoSession() {
+        MongoKikwiEngineRepository repository = new MongoKikwiEngineRepository(mongoClient, "kikwiflow", true);
+
+        repository.commitWork(new UnitOfWork(null, null, null, List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), Map.of()));
+
+        verify(mongoClient, never()).startSession();
+        verify(mongoClient, never()).getDatabase(anyString());
+    }
+
+    private MongoCollection<Document> collection(String name) {
+        return collections.get(name);
+    }
+
+    private static UnitOfWork updateOnlyUnit(List<OutboxEventEntity> events) {
+        ProcessInstance instance = ProcessInstance.builder()
+                .id("instance-1")
+                .processDefinitionId("def-v1")
+                .status(ProcessInstanceStatus.ACTIVE)
+                .variables(Map.of())
+                .version(3)
+                .build();
+        return new UnitOfWork(null, instance, null, List.of(), List.of(), List.of(), List.of(), List.of(),
+                events, List.of(), List.of(), List.of(), List.of("NODE_A"), List.of(), Map.of());
+    }
+
+    private static OutboxEventEntity event() {
+        return new OutboxEventEntity(CriticalEventType.FLOW_NODE_FINISHED,
+                FlowNodeFinished.builder().processInstanceId("instance-1").build());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.mongodb.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionFeatures;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cada índice de um modo de aquisição opcional custa em toda escrita de ExecutableTask: só existe quando o modo
+ * está ligado. Os mocks do driver só registram o nome de cada índice pedido.
+ */
+class MongoKikwiEngineRepositoryIndexesTest {
+
+    private final List<String> createdIndexes = new CopyOnWriteArrayList<>();
+    private MongoKikwiEngineRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoClient mongoClient = mock(MongoClient.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(mongoClient.getDatabase(anyString())).thenReturn(database);
+        when(database.getCollection(anyString())).thenAnswer(invocation -> {
+            MongoCollection<Document> collection = mock(MongoCollection.class);
+            when(collection.createIndex(any(Bson.class), any(IndexOptions.class))).thenAnswer(createIndex -> {
+                String name = createIndex.getArgument(1, IndexOptions.class).getName();
+                createdIndexes.add(name);
+                return name;
+            });
+            return collection;
+        });
+        repository = new MongoKikwiEngineRepository(mongoClient, "kikwiflow", false);
+    }
+
+    @Test
+    void defaultAcquisitionCreatesNoOptionalAcquisitionIndex() {
+        repository.ensureIndexes();
+
+        assertTrue(createdIndexes.contains("status_duedate_idx"));
+        assertFalse(createdIndexes.contains("status_topic_duedate_idx"));
+        assertFalse(createdIndexes.contains("status_priority_duedate_idx"));
+        assertFalse(createdIndexes.contains("status_partition_duedate_idx"));
+    }
+
+    @Test
+    void topicRoutingCreatesTheTopicIndex() {
+        repository.ensureIndexes(new TaskAcquisitionFeatures(true, false, false));
+
+        assertTrue(createdIndexes.containsAll(Set.of("status_duedate_idx", "status_topic_duedate_idx")));
+        assertFalse(createdIndexes.contains("status_priority_duedate_idx"));
+    }
+
+    @Test
+    void priorityOrderCreatesThePriorityIndex() {
+        repository.ensureIndexes(new TaskAcquisitionFeatures(false, true, false));
+
+        assertTrue(createdIndexes.containsAll(Set.of("status_duedate_idx", "status_priority_duedate_idx")));
+        assertFalse(createdIndexes.contains("status_topic_duedate_idx"));
+    }
+
+    @Test
+    void partitionedAcquisitionCreatesThePartitionIndex() {
+        repository.ensureIndexes(new TaskAcquisitionFeatures(false, false, true));
+
+        assertTrue(createdIndexes.containsAll(Set.of("status_duedate_idx", "status_partition_duedate_idx")));
+        assertFalse(createdIndexes.contains("status_topic_duedate_idx"));
+        assertFalse(createdIndexes.contains("status_priority_duedate_idx"));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.kikwiflow.persistence.mongodb.repository;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.TransactionBody;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.UpdateOptions;
+import io.kikwiflow.model.execution.BranchPullIntention;
+import io.kikwiflow.persistence.api.data.UnitOfWork;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fan-in por contador sobre mocks do driver: a chegada só grava em {@code join_arrivals}, e o documento da
+ * junção só é escrito pela chegada que completa a contagem.
+ */
+class MongoKikwiEngineRepositoryJoinArrivalTest {
+
+    private final Map<String, MongoCollection<Document>> collections = new HashMap<>();
+    private MongoClient mongoClient;
+    private ClientSession clientSession;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoClient = mock(MongoClient.class);
+        clientSession = mock(ClientSession.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(mongoClient.getDatabase(anyString())).thenReturn(database);
+        when(mongoClient.startSession()).thenReturn(clientSession);
+        when(clientSession.withTransaction(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionBody.class).execute());
+        when(database.getCollection(anyString())).thenAnswer(invocation ->
+                collections.computeIfAbsent(invocation.getArgument(0), name -> mock(MongoCollection.class)));
+    }
+
+    @Test
+    void arrivalThatDoesNotCompleteTheJoinDoesNotWriteIt() {
+        joinExpecting("join-1", 2);
+        when(collection("join_arrivals").countDocuments(any(ClientSession.class), any(Bson.class))).thenReturn(1L);
+        when(collection("join_arrivals").countDocuments(any(Bson.class))).thenReturn(1L);
+
+        repository(true).commitWork(pull("join-1", "branch-a"));
+
+        verify(collection("join_arrivals")).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class),
+                any(UpdateOptions.class));
+        verify(collection("executable_tasks"), never()).findOneAndUpdate(any(ClientSession.class), any(Bson.class),
+                any(Bson.class), any(FindOneAndUpdateOptions.class));
+        verify(collection("executable_tasks"), never()).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class));
+        verify(collection("executable_tasks"), never()).updateOne(any(Bson.class), any(Bson.class));
+    }
+
+    @Test
+    void lastArrivalReleasesTheJoinInTheTransaction() {
+        joinExpecting("join-1", 2);
+        when(collection("join_arrivals").countDocuments(any(ClientSession.class), any(Bson.class))).thenReturn(2L);
+
+        repository(true).commitWork(pull("join-1", "branch-b"));
+
+        ArgumentCaptor<Bson> joinUpdate = ArgumentCaptor.forClass(Bson.class);
+        verify(collection("executable_tasks")).updateOne(any(ClientSession.class), any(Bson.class), joinUpdate.capture());
+        assertEquals("PENDING", joinUpdate.getValue().toBsonDocument().getDocument("$set").getString("status").getValue());
+        verify(collection("join_arrivals"), never()).countDocuments(any(Bson.class));
+    }
+
+    @Test
+    void concurrentLastArrivalIsReleasedByTheRecountAfterCommit() {
+        joinExpecting("join-1", 2);
+        // na transação a outra última chegada ainda não commitou; depois do commit, as duas estão lá
+        when(collection("join_arrivals").countDocuments(any(ClientSession.class), any(Bson.class))).thenReturn(1L);
+        when(collection("join_arrivals").countDocuments(any(Bson.class))).thenReturn(2L);
+
+        repository(true).commitWork(pull("join-1", "branch-b"));
+
+        verify(collection("executable_tasks"), never()).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class));
+        ArgumentCaptor<Bson> joinUpdate = ArgumentCaptor.forClass(Bson.class);
+        verify(collection("executable_tasks")).updateOne(any(Bson.class), joinUpdate.capture());
+        assertEquals("PENDING", joinUpdate.getValue().toBsonDocument().getDocument("$set").getString("status").getValue());
+    }
+
+    @Test
+    void arrivalAtAMissingJoinIsNotRecorded() {
+        FindIterable<Document> notFound = found(null);
+        when(collection("executable_tasks").find(any(ClientSession.class), any(Bson.class))).thenReturn(notFound);
+
+        repository(true).commitWork(pull("join-gone", "branch-a"));
+
+        verify(collection("join_arrivals"), never()).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class),
+                any(UpdateOptions.class));
+    }
+
+    @Test
+    void deletingTheJoinDeletesItsArrivals() {
+        repository(true).commitWork(new UnitOfWork(null, null, null, null, null, List.of("join-1"), null, null,
+                null, null, null, null, null, null, null));
+
+        verify(collection("join_arrivals")).deleteMany(any(ClientSession.class), any(Bson.class));
+    }
+
+    @Test
+    void switchingTheCounterOffWithArrivalsInFlightIsRefused() {
+        FindIterable<Document> arrivals = found(new Document("joinTaskId", "join-1"));
+        when(collection("join_arrivals").find()).thenReturn(arrivals);
+
+        assertThrows(IllegalStateException.class, () -> repository(false).verifyJoinStrategy());
+    }
+
+    @Test
+    void switchingTheCounterOffWithoutArrivalsIsAllowed() {
+        FindIterable<Document> arrivals = found(null);
+        when(collection("join_arrivals").find()).thenReturn(arrivals);
+
+        assertDoesNotThrow(() -> repository(false).verifyJoinStrategy());
+    }
+
+    private void joinExpecting(String joinId, int expectedBranchCount) {
+        FindIterable<Document> join = found(new Document("_id", joinId).append("expected", true)
+                .append("expectedBranchCount", expectedBranchCount));
+        when(collection("executable_tasks").find(any(ClientSession.class), any(Bson.class))).thenReturn(join);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FindIterable<Document> found(Document document) {
+        FindIterable<Document> found = mock(FindIterable.class);
+        when(found.projection(any(Bson.class))).thenReturn(found);
+        when(found.first()).thenReturn(document);
+        return found;
+    }
+
+    private MongoKikwiEngineRepository repository(boolean arrivalCounterJoinEnabled) {
+        return new MongoKikwiEngineRepository(mongoClient, "kikwiflow", true, 0L, false, arrivalCounterJoinEnabled);
+    }
+
+    private MongoCollection<Document> collection(String name) {
+        return mongoClient.getDatabase("kikwiflow").getCollection(name);
+    }
+
+    private static UnitOfWork pull(String joinId, String branchId) {
+        return new UnitOfWork(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                List.of(new BranchPullIntention(joinId, branchId, "instance-1")), null);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Atoxfy and/or licensed to Atoxfy
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Atoxfy licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kikwiflow.persistence.mongodb.repository;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.TransactionBody;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.UpdateOptions;
+import io.kikwiflow.model.execution.BranchPullIntention;
+import io.kikwiflow.model.execution.ProcessVariable;
+import io.kikwiflow.persistence.api.data.LoopElementChunk;
+import io.kikwiflow.persistence.api.data.UnitOfWork;
+import io.kikwiflow.persistence.mongodb.mapper.LoopElementChunkMapper;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Janela deslizante de call activity com {@code maxConcurrency} sobre mocks do driver: o pull do branch de um filho
+ * concluído reivindica o próximo elemento da coordenadora na mesma transação.
+ */
+class MongoKikwiEngineRepositoryLoopWindowTest {
+
+    private final Map<String, MongoCollection<Document>> collections = new HashMap<>();
+    private MongoClient mongoClient;
+    private ClientSession clientSession;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoClient = mock(MongoClient.class);
+        clientSession = mock(ClientSession.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(mongoClient.getDatabase(anyString())).thenReturn(database);
+        when(mongoClient.startSession()).thenReturn(clientSession);
+        when(clientSession.withTransaction(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionBody.class).execute());
+        when(database.getCollection(anyString())).thenAnswer(invocation ->
+                collections.computeIfAbsent(invocation.getArgument(0), name -> mock(MongoCollection.class)));
+    }
+
+    @Test
+    void pulledBranchStartsTheNextElementOfTheCoordinator() {
+        coordinatorBeforePull(true, 1);
+        chunkCovering(new LoopElementChunk("coord-1:elements:2", "coord-1", "instance-1", 2,
+                List.of(new ProcessVariable("document", "doc-3.pdf"), new ProcessVariable("document", "doc-4.pdf"))));
+
+        repository().commitWork(pull("coord-1", "coord-1:0"));
+
+        ArgumentCaptor<Document> starter = ArgumentCaptor.forClass(Document.class);
+        verify(collection("executable_tasks")).insertOne(any(ClientSession.class), starter.capture());
+        assertEquals("CALL_ACTIVITY_STARTER", starter.getValue().getString("type"));
+        assertEquals("coord-1", starter.getValue().getString("joinTaskId"));
+        assertEquals("coord-1:2", starter.getValue().getString("branchId"));
+        assertEquals(2, starter.getValue().getInteger("loopIndex"));
+        assertEquals(3L, starter.getValue().getLong("retries"));
+        assertEquals("doc-3.pdf", starter.getValue().get("loopElement", Document.class).get("value"));
+
+        ArgumentCaptor<Bson> cursorUpdate = ArgumentCaptor.forClass(Bson.class);
+        verify(collection("executable_tasks")).updateOne(any(ClientSession.class), any(Bson.class), cursorUpdate.capture());
+        Document update = Document.parse(cursorUpdate.getValue().toBsonDocument().toJson());
+        assertEquals(2, update.get("$set", Document.class).getInteger("loopIndex"));
+        assertEquals("AWAITING_BRANCHES", update.get("$set", Document.class).getString("status"));
+        assertEquals("coord-1:2", update.get("$push", Document.class).getString("pendingBranchIds"));
+
+        verify(collection("call_activity_loop_elements"), never()).deleteOne(any(ClientSession.class), any(Bson.class));
+    }
+
+    @Test
+    void claimingTheLastIndexOfAChunkDeletesIt() {
+        coordinatorBeforePull(true, 3);
+        chunkCovering(new LoopElementChunk("coord-1:elements:4", "coord-1", "instance-1", 4,
+                List.of(new ProcessVariable("document", "doc-5.pdf"))));
+
+        repository().commitWork(pull("coord-1", "coord-1:2"));
+
+        verify(collection("executable_tasks")).insertOne(any(ClientSession.class), any(Document.class));
+        verify(collection("call_activity_loop_elements")).deleteOne(any(ClientSession.class), any(Bson.class));
+    }
+
+    @Test
+    void redeliveredPullDoesNotClaimAnotherElement() {
+        coordinatorBeforePull(false, 2);
+
+        repository().commitWork(pull("coord-1", "coord-1:0"));
+
+        verify(collection("call_activity_loop_elements"), never()).find(any(ClientSession.class), any(Bson.class));
+        verify(collection("executable_tasks"), never()).insertOne(any(ClientSession.class), any(Document.class));
+    }
+
+    @Test
+    void exhaustedCollectionLeavesThePullAsIs() {
+        coordinatorBeforePull(true, 4);
+        chunkCovering(null);
+
+        repository().commitWork(pull("coord-1", "coord-1:4"));
+
+        verify(collection("executable_tasks"), never()).insertOne(any(ClientSession.class), any(Document.class));
+        verify(collection("executable_tasks"), never()).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class));
+    }
+
+    @Test
+    void pullOfAPlainJoinNeverLooksForChunks() {
+        when(collection("executable_tasks").findOneAndUpdate(any(ClientSession.class), any(Bson.class), anyList(),
+                any(FindOneAndUpdateOptions.class)))
+                .thenReturn(new Document("_id", "join-1").append("type", "JOIN_GATEWAY")
+                        .append("pulled", true).append("pendingLoopElementCount", 0));
+
+        repository().commitWork(pull("join-1", "branch-a"));
+
+        verify(collection("call_activity_loop_elements"), never()).find(any(ClientSession.class), any(Bson.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void windowedCoordinatorSkipsTheArrivalCounter() {
+        coordinatorBeforePull(true, 1);
+        chunkCovering(null);
+        FindIterable<Document> join = mock(FindIterable.class);
+        when(join.projection(any(Bson.class))).thenReturn(join);
+        when(join.first()).thenReturn(new Document("_id", "coord-1").append("loopIndex", 1).append("expected", true)
+                .append("expectedBranchCount", 1));
+        when(collection("executable_tasks").find(any(ClientSession.class), any(Bson.class))).thenReturn(join);
+
+        new MongoKikwiEngineRepository(mongoClient, "kikwiflow", true, 0L, false, true)
+                .commitWork(pull("coord-1", "coord-1:0"));
+
+        verify(collection("join_arrivals"), never()).updateOne(any(ClientSession.class), any(Bson.class), any(Bson.class),
+                any(UpdateOptions.class));
+        verify(collection("executable_tasks")).findOneAndUpdate(any(ClientSession.class), any(Bson.class), anyList(),
+                any(FindOneAndUpdateOptions.class));
+    }
+
+    private void coordinatorBeforePull(boolean pulled, int loopIndex) {
+        when(collection("executable_tasks").findOneAndUpdate(any(ClientSession.class), any(Bson.class), anyList(),
+                any(FindOneAndUpdateOptions.class)))
+                .thenReturn(new Document("_id", "coord-1")
+                        .append("type", "CALL_ACTIVITY_COORDINATOR")
+                        .append("processDefinitionId", "parent-def")
+                        .append("taskDefinitionId", "CALL_CHILD")
+                        .append("retries", 3L)
+                        .append("loopIndex", loopIndex)
+                        .append("pulled", pulled)
+                        .append("pendingLoopElementCount", 0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void chunkCovering(LoopElementChunk chunk) {
+        FindIterable<Document> found = mock(FindIterable.class);
+        when(found.first()).thenReturn(chunk != null ? LoopElementChunkMapper.toDocument(chunk) : null);
+        when(collection("call_activity_loop_elements").find(any(ClientSession.class), any(Bson.class))).thenReturn(found);
+    }
+
+    private MongoKikwiEngineRepository repository() {
+        return new MongoKikwiEngineRepository(mongoClient, "kikwiflow", true, 0L, false, false);
+    }
+
+    private MongoCollection<Document> collection(String name) {
+        return mongoClient.getDatabase("kikwiflow").getCollection(name);
+    }
+
+    private static UnitOfWork pull(String joinId, String branchId) {
+        return new UnitOfWork(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                List.of(new BranchPullIntention(joinId, branchId, "instance-1")), null);
+    }
+}
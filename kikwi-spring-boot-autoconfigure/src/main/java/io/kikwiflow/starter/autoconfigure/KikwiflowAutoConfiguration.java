@@ -17,6 +17,7 @@
 package io.kikwiflow.starter.autoconfigure;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kikwiflow.AsyncKikwiflowEngine;
 import io.kikwiflow.KikwiflowEngine;
 import io.kikwiflow.config.KikwiflowConfig;
 import io.kikwiflow.event.AsynchronousEventPublisher;
@@ -31,6 +32,7 @@ import io.kikwiflow.execution.TaskAcquirer;
 import io.kikwiflow.execution.TaskExecutor;
 import io.kikwiflow.execution.TaskHandlerResolver;
 import io.kikwiflow.execution.api.parser.ProcessDefinitionParser;
+import io.kikwiflow.execution.binding.HandlerRegistry;
 import io.kikwiflow.execution.api.resolver.AnswerProviderResolver;
 import io.kikwiflow.execution.api.resolver.CorrelationKeysProviderResolver;
 import io.kikwiflow.execution.api.resolver.DueDateProviderResolver;
@@ -38,10 +40,12 @@ import io.kikwiflow.execution.api.retry.RetryPolicyEvaluator;
 import io.kikwiflow.execution.evaluator.CorrelationKeyResolver;
 import io.kikwiflow.execution.evaluator.TimerDueDateEvaluator;
 import io.kikwiflow.execution.policy.DefaultRetryPolicyEvaluator;
+import io.kikwiflow.navigation.ExecutionPlanRegistry;
 import io.kikwiflow.navigation.Navigator;
 import io.kikwiflow.navigation.ProcessDefinitionService;
 import io.kikwiflow.parser.jackson.JacksonProcessDefinitionParser;
 import io.kikwiflow.parser.jackson.KikwiflowJacksonModule;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionFeatures;
 import io.kikwiflow.persistence.api.repository.KikwiEngineRepository;
 import io.kikwiflow.security.DefaultDeploymentSecurityManager;
 import io.kikwiflow.security.DefaultVariableSecurityPolicyManager;
@@ -58,8 +62,10 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
 import java.util.Collections;
@@ -83,13 +89,38 @@ public class KikwiflowAutoConfiguration {
         if (properties.getOutbox().isEventsEnabled()) {
             config.outboxEventsEnabled();
         }
+        config.setFlowNodeRecordingLevel(properties.getOutbox().getFlowNodeRecordingLevel());
 
         if(properties.getExecution() != null){
             config.setTaskAcquisitionMaxTasks(properties.getExecution().getTaskAcquisitionMaxTasks());
             config.setTaskAcquisitionIntervalMillis(properties.getExecution().getTaskAcquisitionIntervalMillis());
+            config.setTaskAcquisitionMaxBackoffMillis(properties.getExecution().getTaskAcquisitionMaxBackoffMillis());
+            config.setTimerLookAheadMillis(properties.getExecution().getTimerLookAheadMillis());
+            config.setTimingWheelTickMillis(properties.getExecution().getTimingWheelTickMillis());
             config.setMaxConcurrentTasks(properties.getExecution().getMaxConcurrentTasks());
+            config.setExecutorConcurrencyLimits(properties.getExecution().getBulkheads());
+            config.setTopicRoutingEnabled(properties.getExecution().isTopicRoutingEnabled());
+            config.setServedTopics(properties.getExecution().getTopics());
+            config.setTaskAcquisitionOrder(properties.getExecution().getTaskAcquisitionOrder());
+            config.setPriorityAgingMillis(properties.getExecution().getPriorityAgingMillis());
+            config.setAcquisitionPartitions(properties.getExecution().getAcquisitionPartitions());
+            config.setPartitionMemberTtlMillis(properties.getExecution().getPartitionMemberTtlMillis());
+            config.setInlineParallelBranchesEnabled(properties.getExecution().isInlineParallelBranchesEnabled());
+            config.setAsyncCommandMaxConcurrency(properties.getExecution().getAsyncCommandMaxConcurrency());
+            config.setAsyncCommandTimeoutMillis(properties.getExecution().getAsyncCommandTimeoutMillis());
+            config.setInstanceCommandMailboxEnabled(properties.getExecution().isInstanceCommandMailboxEnabled());
+            config.setInstanceVersionConflictMaxRetries(properties.getExecution().getInstanceVersionConflictMaxRetries());
+            config.setGroupCommitEnabled(properties.getExecution().isGroupCommitEnabled());
+            config.setGroupCommitWindowMillis(properties.getExecution().getGroupCommitWindowMillis());
+            config.setGroupCommitMaxBatchSize(properties.getExecution().getGroupCommitMaxBatchSize());
+            config.setCallActivityLoopElementChunkSize(properties.getExecution().getCallActivityLoopElementChunkSize());
+            config.setAdaptiveConcurrencyEnabled(properties.getExecution().isAdaptiveConcurrencyEnabled());
+            config.setAdaptiveConcurrencyMinLimit(properties.getExecution().getAdaptiveConcurrencyMinLimit());
+            config.setAdaptiveConcurrencyMaxLimit(properties.getExecution().getAdaptiveConcurrencyMaxLimit());
+            config.setAdaptiveConcurrencyLatencyTolerance(properties.getExecution().getAdaptiveConcurrencyLatencyTolerance());
             config.setShutdownGracePeriodSeconds(properties.getExecution().getShutdownGracePeriodSeconds());
             config.setLockTimeoutMillis(properties.getExecution().getLockTimeoutMillis());
+            config.setLeaseRenewalEnabled(properties.getExecution().isLeaseRenewalEnabled());
         }
 
         if (properties.getRetry() != null ){
@@ -111,6 +142,16 @@ public class KikwiflowAutoConfiguration {
         return config;
     }
 
+    /**
+     * Lido pela criação de índices do repositório (ex.: {@code MongoDbPersistenceAutoConfiguration}), que não
+     * depende do core: só os índices dos modos de aquisição ligados aqui são criados.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskAcquisitionFeatures taskAcquisitionFeatures(KikwiflowConfig kikwiflowConfig) {
+        return kikwiflowConfig.getTaskAcquisitionFeatures();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public DeployValidator deployValidator(TaskHandlerResolver taskHandlerResolver, AnswerProviderResolver answerProviderResolver,
@@ -150,8 +191,30 @@ public class KikwiflowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public ProcessDefinitionService processDefinitionService(ProcessDefinitionParser parser, KikwiEngineRepository repository, DeployValidator deployValidator, DeploymentSecurityManager deploymentSecurityManager) {
-        return new ProcessDefinitionService(parser, repository, deployValidator, deploymentSecurityManager);
+    public ExecutionPlanRegistry executionPlanRegistry() {
+        return new ExecutionPlanRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HandlerRegistry handlerRegistry(TaskHandlerResolver taskHandlerResolver, AnswerProviderResolver answerProviderResolver,
+            DueDateProviderResolver dueDateProviderResolver, CorrelationKeysProviderResolver correlationKeysProviderResolver) {
+        return new HandlerRegistry(taskHandlerResolver, answerProviderResolver, dueDateProviderResolver, correlationKeysProviderResolver);
+    }
+
+    /**
+     * Os beans guardados no {@link HandlerRegistry} podem ter sido recriados num refresh do contexto.
+     */
+    @Bean
+    public ApplicationListener<ContextRefreshedEvent> kikwiflowHandlerRegistryInvalidator(HandlerRegistry handlerRegistry) {
+        return event -> handlerRegistry.invalidate();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ProcessDefinitionService processDefinitionService(ProcessDefinitionParser parser, KikwiEngineRepository repository, DeployValidator deployValidator,
+            DeploymentSecurityManager deploymentSecurityManager, ExecutionPlanRegistry executionPlanRegistry, HandlerRegistry handlerRegistry) {
+        return new ProcessDefinitionService(parser, repository, deployValidator, deploymentSecurityManager, executionPlanRegistry, handlerRegistry);
     }
 
 
@@ -171,8 +234,8 @@ public class KikwiflowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public Navigator navigator(AnswerProviderResolver answerProviderResolver) {
-        return new Navigator(answerProviderResolver);
+    public Navigator navigator(HandlerRegistry handlerRegistry, ExecutionPlanRegistry executionPlanRegistry) {
+        return new Navigator(handlerRegistry.answerProviderResolver(), executionPlanRegistry);
     }
 
     @Bean
@@ -189,9 +252,10 @@ public class KikwiflowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public ProcessExecutionManager processExecutionManager(TaskHandlerResolver taskHandlerResolver, Navigator navigator,
-            CriticalEventRecorder criticalEventRecorder, EventThrowExecutor eventThrowExecutor) {
-        return new ProcessExecutionManager(new FlowNodeExecutor(new TaskExecutor(taskHandlerResolver), eventThrowExecutor), navigator, criticalEventRecorder);
+    public ProcessExecutionManager processExecutionManager(HandlerRegistry handlerRegistry, Navigator navigator,
+            CriticalEventRecorder criticalEventRecorder, EventThrowExecutor eventThrowExecutor, KikwiflowConfig config) {
+        return new ProcessExecutionManager(new FlowNodeExecutor(new TaskExecutor(handlerRegistry.taskHandlerResolver()), eventThrowExecutor),
+                navigator, criticalEventRecorder, config);
     }
 
     @Bean
@@ -210,8 +274,8 @@ public class KikwiflowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public CorrelationKeyResolver correlationKeyResolver(CorrelationKeysProviderResolver correlationKeysProviderResolver) {
-        return new CorrelationKeyResolver(correlationKeysProviderResolver);
+    public CorrelationKeyResolver correlationKeyResolver(HandlerRegistry handlerRegistry) {
+        return new CorrelationKeyResolver(handlerRegistry.correlationKeysProviderResolver());
     }
 
     @Bean
@@ -240,8 +304,8 @@ public class KikwiflowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public TimerDueDateEvaluator timerDueDateResolver(DueDateProviderResolver dueDateProviderResolver) {
-        return new TimerDueDateEvaluator(dueDateProviderResolver);
+    public TimerDueDateEvaluator timerDueDateResolver(HandlerRegistry handlerRegistry) {
+        return new TimerDueDateEvaluator(handlerRegistry.dueDateProviderResolver());
     }
 
     @Bean
@@ -261,8 +325,9 @@ public class KikwiflowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public TaskAcquirer taskAcquirer(KikwiEngineRepository repository, KikwiflowConfig config) {
-        return new TaskAcquirer(repository, config);
+    public TaskAcquirer taskAcquirer(KikwiEngineRepository repository, KikwiflowConfig config,
+                                     TaskHandlerResolver taskHandlerResolver) {
+        return new TaskAcquirer(repository, config, taskHandlerResolver);
     }
 
     @Bean(initMethod = "start", destroyMethod = "stop")
@@ -300,4 +365,15 @@ public class KikwiflowAutoConfiguration {
 
         return engine;
     }
+
+    /**
+     * Fachada {@code CompletableFuture} do engine (ver {@link KikwiflowEngine#async()}), exposta como bean para
+     * os controllers de comando assíncronos e para a aplicação. O ciclo de vida é do engine ({@code stop()}),
+     * por isso sem {@code destroyMethod} inferido.
+     */
+    @Bean(destroyMethod = "")
+    @ConditionalOnMissingBean
+    public AsyncKikwiflowEngine asyncKikwiflowEngine(KikwiflowEngine engine) {
+        return engine.async();
+    }
 }
\ No newline at end of file
@@ -17,10 +17,16 @@
 package io.kikwiflow.starter.autoconfigure;
 
 import org.springframework.beans.factory.annotation.Value;
+import io.kikwiflow.model.execution.enumerated.FlowNodeRecordingLevel;
+import io.kikwiflow.persistence.api.data.TaskAcquisitionOrder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @ConfigurationProperties(prefix = "kikwiflow")
 public class KikwiflowProperties {
@@ -83,9 +89,12 @@ public class KikwiflowProperties {
 
     public static class Outbox {
         private boolean eventsEnabled = false;
+        private FlowNodeRecordingLevel flowNodeRecordingLevel = FlowNodeRecordingLevel.SUMMARY;
 
         public boolean isEventsEnabled() { return eventsEnabled; }
         public void setEventsEnabled(boolean eventsEnabled) { this.eventsEnabled = eventsEnabled; }
+        public FlowNodeRecordingLevel getFlowNodeRecordingLevel() { return flowNodeRecordingLevel; }
+        public void setFlowNodeRecordingLevel(FlowNodeRecordingLevel flowNodeRecordingLevel) { this.flowNodeRecordingLevel = flowNodeRecordingLevel; }
     }
 
     /**
@@ -138,18 +147,54 @@ public class KikwiflowProperties {
 
     public static class Execution {
         private long taskAcquisitionIntervalMillis = 5000L;
+        private long taskAcquisitionMaxBackoffMillis = 0L;
         private int taskAcquisitionMaxTasks = 10;
+        private long timerLookAheadMillis = 0L;
+        private long timingWheelTickMillis = 1L;
         private int maxConcurrentTasks = 200;
+        private Map<String, Integer> bulkheads = new HashMap<>();
+        private boolean topicRoutingEnabled = false;
+        private Set<String> topics = new HashSet<>();
+        private TaskAcquisitionOrder taskAcquisitionOrder = TaskAcquisitionOrder.DUE_DATE;
+        private long priorityAgingMillis = 300000L;
+        private int acquisitionPartitions = 0;
+        private long partitionMemberTtlMillis = 15000L;
+        private boolean inlineParallelBranchesEnabled = false;
+        private int asyncCommandMaxConcurrency = 0;
+        private long asyncCommandTimeoutMillis = 0L;
+        private boolean instanceCommandMailboxEnabled = false;
+        private int instanceVersionConflictMaxRetries = 3;
+        private boolean groupCommitEnabled = false;
+        private long groupCommitWindowMillis = 2L;
+        private int groupCommitMaxBatchSize = 64;
+        private int callActivityLoopElementChunkSize = 500;
+        private boolean adaptiveConcurrencyEnabled = false;
+        private int adaptiveConcurrencyMinLimit = 1;
+        private int adaptiveConcurrencyMaxLimit = 1000;
+        private double adaptiveConcurrencyLatencyTolerance = 2.0;
         private int shutdownGracePeriodSeconds = 20;
         // Antes 12 (quase certamente pensado como "12 segundos" e nunca corrigido) — um lock que expira em
         // 12ms é inútil contra dois workers na mesma tarefa. Realinhado com o default de fábrica que
         // KikwiflowConfig já usa quando não há Spring Boot no caminho (kikwi-core, sem este módulo).
         private long lockTimeoutMillis = 5000;
+        private boolean leaseRenewalEnabled = true;
 
         public void setTaskAcquisitionIntervalMillis(long taskAcquisitionIntervalMillis) {
             this.taskAcquisitionIntervalMillis = taskAcquisitionIntervalMillis;
         }
 
+        public void setTaskAcquisitionMaxBackoffMillis(long taskAcquisitionMaxBackoffMillis) {
+            this.taskAcquisitionMaxBackoffMillis = taskAcquisitionMaxBackoffMillis;
+        }
+
+        public void setTimerLookAheadMillis(long timerLookAheadMillis) {
+            this.timerLookAheadMillis = timerLookAheadMillis;
+        }
+
+        public void setTimingWheelTickMillis(long timingWheelTickMillis) {
+            this.timingWheelTickMillis = timingWheelTickMillis;
+        }
+
         public void setTaskAcquisitionMaxTasks(int taskAcquisitionMaxTasks) {
             this.taskAcquisitionMaxTasks = taskAcquisitionMaxTasks;
         }
@@ -170,6 +215,18 @@ public class KikwiflowProperties {
             return taskAcquisitionIntervalMillis;
         }
 
+        public long getTaskAcquisitionMaxBackoffMillis() {
+            return taskAcquisitionMaxBackoffMillis;
+        }
+
+        public long getTimerLookAheadMillis() {
+            return timerLookAheadMillis;
+        }
+
+        public long getTimingWheelTickMillis() {
+            return timingWheelTickMillis;
+        }
+
         public int getTaskAcquisitionMaxTasks() {
             return taskAcquisitionMaxTasks;
         }
@@ -178,12 +235,180 @@ public class KikwiflowProperties {
             return lockTimeoutMillis;
         }
 
+        public boolean isLeaseRenewalEnabled() {
+            return leaseRenewalEnabled;
+        }
+
+        public void setLeaseRenewalEnabled(boolean leaseRenewalEnabled) {
+            this.leaseRenewalEnabled = leaseRenewalEnabled;
+        }
+
         public int getMaxConcurrentTasks() {
             return maxConcurrentTasks;
         }
 
+        public Map<String, Integer> getBulkheads() {
+            return bulkheads;
+        }
+
+        public void setBulkheads(Map<String, Integer> bulkheads) {
+            this.bulkheads = bulkheads;
+        }
+
         public int getShutdownGracePeriodSeconds() {
             return shutdownGracePeriodSeconds;
         }
+
+        public boolean isTopicRoutingEnabled() {
+            return topicRoutingEnabled;
+        }
+
+        public void setTopicRoutingEnabled(boolean topicRoutingEnabled) {
+            this.topicRoutingEnabled = topicRoutingEnabled;
+        }
+
+        public Set<String> getTopics() {
+            return topics;
+        }
+
+        public void setTopics(Set<String> topics) {
+            this.topics = topics;
+        }
+
+        public TaskAcquisitionOrder getTaskAcquisitionOrder() {
+            return taskAcquisitionOrder;
+        }
+
+        public void setTaskAcquisitionOrder(TaskAcquisitionOrder taskAcquisitionOrder) {
+            this.taskAcquisitionOrder = taskAcquisitionOrder;
+        }
+
+        public long getPriorityAgingMillis() {
+            return priorityAgingMillis;
+        }
+
+        public void setPriorityAgingMillis(long priorityAgingMillis) {
+            this.priorityAgingMillis = priorityAgingMillis;
+        }
+
+        public int getAcquisitionPartitions() {
+            return acquisitionPartitions;
+        }
+
+        public void setAcquisitionPartitions(int acquisitionPartitions) {
+            this.acquisitionPartitions = acquisitionPartitions;
+        }
+
+        public boolean isInlineParallelBranchesEnabled() {
+            return inlineParallelBranchesEnabled;
+        }
+
+        public void setInlineParallelBranchesEnabled(boolean inlineParallelBranchesEnabled) {
+            this.inlineParallelBranchesEnabled = inlineParallelBranchesEnabled;
+        }
+
+        public int getAsyncCommandMaxConcurrency() {
+            return asyncCommandMaxConcurrency;
+        }
+
+        public void setAsyncCommandMaxConcurrency(int asyncCommandMaxConcurrency) {
+            this.asyncCommandMaxConcurrency = asyncCommandMaxConcurrency;
+        }
+
+        public long getAsyncCommandTimeoutMillis() {
+            return asyncCommandTimeoutMillis;
+        }
+
+        public void setAsyncCommandTimeoutMillis(long asyncCommandTimeoutMillis) {
+            this.asyncCommandTimeoutMillis = asyncCommandTimeoutMillis;
+        }
+
+        public boolean isInstanceCommandMailboxEnabled() {
+            return instanceCommandMailboxEnabled;
+        }
+
+        public void setInstanceCommandMailboxEnabled(boolean instanceCommandMailboxEnabled) {
+            this.instanceCommandMailboxEnabled = instanceCommandMailboxEnabled;
+        }
+
+        public int getInstanceVersionConflictMaxRetries() {
+            return instanceVersionConflictMaxRetries;
+        }
+
+        public void setInstanceVersionConflictMaxRetries(int instanceVersionConflictMaxRetries) {
+            this.instanceVersionConflictMaxRetries = instanceVersionConflictMaxRetries;
+        }
+
+        public boolean isGroupCommitEnabled() {
+            return groupCommitEnabled;
+        }
+
+        public void setGroupCommitEnabled(boolean groupCommitEnabled) {
+            this.groupCommitEnabled = groupCommitEnabled;
+        }
+
+        public long getGroupCommitWindowMillis() {
+            return groupCommitWindowMillis;
+        }
+
+        public void setGroupCommitWindowMillis(long groupCommitWindowMillis) {
+            this.groupCommitWindowMillis = groupCommitWindowMillis;
+        }
+
+        public int getGroupCommitMaxBatchSize() {
+            return groupCommitMaxBatchSize;
+        }
+
+        public void setGroupCommitMaxBatchSize(int groupCommitMaxBatchSize) {
+            this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
+        }
+
+        public int getCallActivityLoopElementChunkSize() {
+            return callActivityLoopElementChunkSize;
+        }
+
+        public void setCallActivityLoopElementChunkSize(int callActivityLoopElementChunkSize) {
+            this.callActivityLoopElementChunkSize = callActivityLoopElementChunkSize;
+        }
+
+        public long getPartitionMemberTtlMillis() {
+            return partitionMemberTtlMillis;
+        }
+
+        public void setPartitionMemberTtlMillis(long partitionMemberTtlMillis) {
+            this.partitionMemberTtlMillis = partitionMemberTtlMillis;
+        }
+
+        public boolean isAdaptiveConcurrencyEnabled() {
+            return adaptiveConcurrencyEnabled;
+        }
+
+        public void setAdaptiveConcurrencyEnabled(boolean adaptiveConcurrencyEnabled) {
+            this.adaptiveConcurrencyEnabled = adaptiveConcurrencyEnabled;
+        }
+
+        public int getAdaptiveConcurrencyMinLimit() {
+            return adaptiveConcurrencyMinLimit;
+        }
+
+        public void setAdaptiveConcurrencyMinLimit(int adaptiveConcurrencyMinLimit) {
+            this.adaptiveConcurrencyMinLimit = adaptiveConcurrencyMinLimit;
+        }
+
+        public int getAdaptiveConcurrencyMaxLimit() {
+            return adaptiveConcurrencyMaxLimit;
+        }
+
+        public void setAdaptiveConcurrencyMaxLimit(int adaptiveConcurrencyMaxLimit) {
+            this.adaptiveConcurrencyMaxLimit = adaptiveConcurrencyMaxLimit;
+        }
+
+        public double getAdaptiveConcurrencyLatencyTolerance() {
+            return adaptiveConcurrencyLatencyTolerance;
+        }
+
+        public void setAdaptiveConcurrencyLatencyTolerance(double adaptiveConcurrencyLatencyTolerance) {
+            this.adaptiveConcurrencyLatencyTolerance = adaptiveConcurrencyLatencyTolerance;
+        }
     }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 
 import java.util.Optional;
+import java.util.Set;
 
 public class SpringTaskHandlerResolver implements TaskHandlerResolver {
 
@@ -39,4 +40,9 @@ public class SpringTaskHandlerResolver implements TaskHandlerResolver {
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<Set<String>> availableHandlers() {
+        return Optional.of(Set.of(applicationContext.getBeanNamesForType(TaskHandler.class)));
+    }
+}